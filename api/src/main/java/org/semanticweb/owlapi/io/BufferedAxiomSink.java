@@ -0,0 +1,122 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.semanticweb.owlapi.io;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+/** Collects the axioms produced by a parser and adds them to the ontology in
+ * batches through {@link OWLOntologyManager#addAxioms(OWLOntology, Set)}, so
+ * that change listeners and change checks run once per batch rather than
+ * once per axiom. Parsers must call {@link #flush()} when they are done.
+ * Axioms are added in the order in which they were first parsed.
+ * 
+ * @author ignazio */
+public class BufferedAxiomSink {
+    private final OWLOntology ontology;
+    private final int batchSize;
+    private Set<OWLAxiom> axioms = new LinkedHashSet<OWLAxiom>();
+
+    /** @param ontology
+     *            the ontology to add the axioms to
+     * @param batchSize
+     *            number of axioms to add at once; values lower than 2 mean
+     *            that each axiom is added as soon as it is received */
+    public BufferedAxiomSink(OWLOntology ontology, int batchSize) {
+        this.ontology = ontology;
+        this.batchSize = batchSize;
+    }
+
+    /** @param ontology
+     *            the ontology to add the axioms to
+     * @param configuration
+     *            the configuration providing the batch size */
+    public BufferedAxiomSink(OWLOntology ontology,
+            OWLOntologyLoaderConfiguration configuration) {
+        this(ontology, configuration.getAxiomBatchSize());
+    }
+
+    /** @param axiom
+     *            the axiom to add to the ontology */
+    public void add(OWLAxiom axiom) {
+        if (batchSize < 2) {
+            ontology.getOWLOntologyManager().addAxiom(ontology, axiom);
+            return;
+        }
+        axioms.add(axiom);
+        if (axioms.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /** @param toAdd
+     *            the axioms to add to the ontology */
+    public void addAll(Collection<? extends OWLAxiom> toAdd) {
+        for (OWLAxiom ax : toAdd) {
+            add(ax);
+        }
+    }
+
+    /** Adds the buffered axioms to the ontology. */
+    public void flush() {
+        if (axioms.isEmpty()) {
+            return;
+        }
+        Set<OWLAxiom> batch = axioms;
+        // the manager may keep the set, e.g. in the changes it broadcasts
+        axioms = new LinkedHashSet<OWLAxiom>();
+        ontology.getOWLOntologyManager().addAxioms(ontology, batch);
+    }
+
+    /** @return the number of axioms waiting to be added */
+    public int size() {
+        return axioms.size();
+    }
+
+    /** @return the ontology the axioms are added to */
+    public OWLOntology getOntology() {
+        return ontology;
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.semanticweb.owlapi.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
+
+/** The first characters of an ontology document, together with its document
+ * IRI; used by {@link SniffingOWLParserFactory} implementations to recognise
+ * the syntax of a document without parsing it.
+ * 
+ * @author ignazio */
+public class DocumentStart {
+    private static final Logger logger = Logger.getLogger(DocumentStart.class
+            .getName());
+    /** number of characters to read from the start of a document */
+    public static final int SIZE = 4096;
+    private final String content;
+    private final IRI documentIRI;
+
+    /** @param content
+     *            the first characters of the document; null if the content
+     *            is not available
+     * @param documentIRI
+     *            the document IRI */
+    public DocumentStart(String content, IRI documentIRI) {
+        if (content != null && content.length() > 0 && content.charAt(0) == '\uFEFF') {
+            // byte order mark
+            this.content = content.substring(1);
+        } else {
+            this.content = content;
+        }
+        this.documentIRI = documentIRI;
+    }
+
+    /** Reads the first characters of a document. The content is not available
+     * if the document source offers neither a reader nor an input stream, or
+     * if reading fails; the parsers will then report the problem.
+     * {@link StreamingDocumentSource} instances are not consumed.
+     * 
+     * @param documentSource
+     *            the document source
+     * @return the start of the document */
+    public static DocumentStart read(OWLOntologyDocumentSource documentSource) {
+        String content = null;
+        try {
+            if (documentSource instanceof StreamingDocumentSource) {
+                content = ((StreamingDocumentSource) documentSource).peek(SIZE);
+            } else if (documentSource.isReaderAvailable()) {
+                Reader reader = documentSource.getReader();
+                try {
+                    char[] buffer = new char[SIZE];
+                    content = new String(buffer, 0, fill(reader, buffer));
+                } finally {
+                    reader.close();
+                }
+            } else if (documentSource.isInputStreamAvailable()) {
+                InputStream in = documentSource.getInputStream();
+                try {
+                    byte[] buffer = new byte[SIZE];
+                    content = decode(buffer, fill(in, buffer));
+                } finally {
+                    in.close();
+                }
+            }
+        } catch (IOException e) {
+            logger.fine("Cannot read the start of " + documentSource.getDocumentIRI()
+                    + ": " + e.getMessage());
+        } catch (OWLRuntimeException e) {
+            logger.fine("Cannot read the start of " + documentSource.getDocumentIRI()
+                    + ": " + e.getMessage());
+        }
+        return new DocumentStart(content, documentSource.getDocumentIRI());
+    }
+
+    /** reads until the buffer is full or the input ends
+     * 
+     * @return the number of characters read */
+    static int fill(Reader reader, char[] buffer) throws IOException {
+        int length = 0;
+        int read = 0;
+        while (length < buffer.length
+                && (read = reader.read(buffer, length, buffer.length - length)) > -1) {
+            length += read;
+        }
+        return length;
+    }
+
+    /** reads until the buffer is full or the input ends
+     * 
+     * @return the number of bytes read */
+    static int fill(InputStream in, byte[] buffer) throws IOException {
+        int length = 0;
+        int read = 0;
+        while (length < buffer.length
+                && (read = in.read(buffer, length, buffer.length - length)) > -1) {
+            length += read;
+        }
+        return length;
+    }
+
+    /** decodes the bytes as UTF-16 if they start with a UTF-16 byte order
+     * mark, as UTF-8 otherwise; a character cut at the end of the buffer is
+     * replaced, which does not matter for recognising the syntax */
+    static String decode(byte[] bytes, int length) {
+        try {
+            if (length > 1
+                    && (bytes[0] == (byte) 0xFE && bytes[1] == (byte) 0xFF || bytes[0] == (byte) 0xFF
+                            && bytes[1] == (byte) 0xFE)) {
+                return new String(bytes, 0, length, "UTF-16");
+            }
+            return new String(bytes, 0, length, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new OWLRuntimeException("Unsupported encoding: broken JVM", e);
+        }
+    }
+
+    /** @return true if the start of the document content is available */
+    public boolean isContentAvailable() {
+        return content != null;
+    }
+
+    /** @return the start of the document content, or null if not available */
+    public String getContent() {
+        return content;
+    }
+
+    /** @return the document IRI */
+    public IRI getDocumentIRI() {
+        return documentIRI;
+    }
+
+    /** @return the extension of the last segment of the document IRI path,
+     *         lower case and without the dot, or null if there is none */
+    public String getExtension() {
+        if (documentIRI == null) {
+            return null;
+        }
+        String path = documentIRI.toURI().getPath();
+        if (path == null) {
+            return null;
+        }
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        if (dot <= slash || dot == path.length() - 1) {
+            return null;
+        }
+        return path.substring(dot + 1).toLowerCase(Locale.ENGLISH);
+    }
+
+    /** @return the qualified name of the root element, if the content looks
+     *         like an XML document; null otherwise, or if the root element is
+     *         beyond the available content */
+    public String getXMLRootElement() {
+        if (content == null) {
+            return null;
+        }
+        int i = skipWhitespace(0);
+        while (i < content.length()) {
+            if (content.startsWith("<?", i)) {
+                i = skipPast(i, "?>");
+            } else if (content.startsWith("<!--", i)) {
+                i = skipPast(i, "-->");
+            } else if (content.startsWith("<!", i)) {
+                // DOCTYPE declaration, possibly with an internal subset
+                i = skipDoctype(i);
+            } else if (content.charAt(i) == '<') {
+                int end = ++i;
+                while (end < content.length() && isNameChar(content.charAt(end))) {
+                    end++;
+                }
+                if (end == i || end == content.length()) {
+                    return null;
+                }
+                return content.substring(i, end);
+            } else {
+                return null;
+            }
+            i = skipWhitespace(i);
+        }
+        return null;
+    }
+
+    /** @return the local name of the root element, if the content looks like
+     *         an XML document; null otherwise */
+    public String getXMLRootElementLocalName() {
+        String name = getXMLRootElement();
+        if (name == null) {
+            return null;
+        }
+        return name.substring(name.indexOf(':') + 1);
+    }
+
+    /** @param commentStart
+     *            the character that starts a line comment in the syntax, e.g.,
+     *            '#'
+     * @return the content after leading whitespace and line comments; null if
+     *         the content is not available */
+    public String getFirstStatement(char commentStart) {
+        if (content == null) {
+            return null;
+        }
+        int i = skipWhitespace(0);
+        while (i < content.length() && content.charAt(i) == commentStart) {
+            int end = content.indexOf('\n', i);
+            if (end < 0) {
+                return "";
+            }
+            i = skipWhitespace(end);
+        }
+        return content.substring(i);
+    }
+
+    /** @param statement
+     *            text to check
+     * @param keyword
+     *            keyword to look for
+     * @param separator
+     *            character expected after the keyword, optionally preceded by
+     *            whitespace
+     * @return true if the statement starts with the keyword followed by the
+     *         separator */
+    public static boolean startsWith(String statement, String keyword, char separator) {
+        if (statement == null || !statement.startsWith(keyword)) {
+            return false;
+        }
+        int i = keyword.length();
+        while (i < statement.length() && Character.isWhitespace(statement.charAt(i))) {
+            i++;
+        }
+        return i < statement.length() && statement.charAt(i) == separator;
+    }
+
+    private int skipWhitespace(int i) {
+        while (i < content.length() && Character.isWhitespace(content.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private int skipPast(int i, String end) {
+        int index = content.indexOf(end, i);
+        if (index < 0) {
+            return content.length();
+        }
+        return index + end.length();
+    }
+
+    private int skipDoctype(int i) {
+        int depth = 0;
+        for (; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                depth--;
+            } else if (c == '>' && depth == 0) {
+                return i + 1;
+            }
+        }
+        return i;
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == ':' || c == '_' || c == '-'
+                || c == '.';
+    }
+}
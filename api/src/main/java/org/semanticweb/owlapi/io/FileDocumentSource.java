@@ -58,6 +58,8 @@ import org.semanticweb.owlapi.model.IRI;
  * <br>
  *
  * A convenience class which will prepare an input source from a file.
+ * Files compressed with gzip, or zip archives, are decompressed while they are
+ * read.
  */
 public class FileDocumentSource implements OWLOntologyDocumentSource {
 	private final File file;
@@ -86,7 +88,8 @@ public class FileDocumentSource implements OWLOntologyDocumentSource {
     @Override
     public InputStream getInputStream() {
 		try {
-			return new BufferedInputStream(new FileInputStream(file));
+			return StreamingDocumentSource.decompress(new BufferedInputStream(
+					new FileInputStream(file)));
 		} catch (FileNotFoundException e) {
 			throw new OWLOntologyInputSourceException(e);
 		}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.semanticweb.owlapi.io;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/** A file document source which memory maps the file and decodes it in large
+ * chunks, rather than reading it through a buffered stream and an
+ * {@link java.io.InputStreamReader}. This is faster for large documents in
+ * the text based syntaxes (functional syntax, Turtle, KRSS, DL syntax, OBO),
+ * whose parsers read from {@link #getReader()}. The file must be encoded in
+ * UTF-8; compressed files are decompressed as in {@link FileDocumentSource},
+ * without memory mapping.
+ * 
+ * @author ignazio */
+public class MappedFileDocumentSource extends FileDocumentSource {
+    private final File file;
+
+    /** @param file
+     *            The file from which a concrete representation of an ontology
+     *            will be obtained. */
+    public MappedFileDocumentSource(File file) {
+        super(file);
+        this.file = file;
+    }
+
+    @Override
+    public Reader getReader() {
+        if (isCompressed()) {
+            return super.getReader();
+        }
+        try {
+            return new MappedFileReader(file);
+        } catch (IOException e) {
+            throw new OWLOntologyInputSourceException(e);
+        }
+    }
+
+    private boolean isCompressed() {
+        InputStream in = null;
+        try {
+            in = new FileInputStream(file);
+            byte[] magic = new byte[4];
+            int length = 0;
+            int read = 0;
+            while (length < magic.length
+                    && (read = in.read(magic, length, magic.length - length)) > -1) {
+                length += read;
+            }
+            if (length < magic.length) {
+                return false;
+            }
+            // gzip, zip, bzip2 and xz signatures; the last two are rejected
+            // by the superclass
+            return magic[0] == (byte) 0x1f && magic[1] == (byte) 0x8b
+                    || magic[0] == 'P' && magic[1] == 'K' && magic[2] == 3
+                    && magic[3] == 4 || magic[0] == 'B' && magic[1] == 'Z'
+                    && magic[2] == 'h' || magic[0] == (byte) 0xfd && magic[1] == '7'
+                    && magic[2] == 'z' && magic[3] == 'X';
+        } catch (IOException e) {
+            throw new OWLOntologyInputSourceException(e);
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    // nothing to do on close
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.semanticweb.owlapi.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/** A reader which decodes a UTF-8 file by memory mapping it. The file is
+ * mapped in regions of a fixed size, so that files larger than 2GB can be
+ * read, and each read decodes as many characters as fit in the array passed
+ * to {@link #read(char[], int, int)}, without intermediate copies. Malformed
+ * input is replaced, as {@link java.io.InputStreamReader} does.
+ * 
+ * @author ignazio */
+public class MappedFileReader extends Reader {
+    /** default size of the mapped regions, 256MB */
+    public static final int DEFAULT_REGION_SIZE = 1 << 28;
+    private final FileChannel channel;
+    private final long size;
+    private final int regionSize;
+    private final CharsetDecoder decoder = Charset.forName("UTF-8").newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private MappedByteBuffer region;
+    private long regionStart = 0;
+    private boolean flushed = false;
+    /** holds the low surrogate of a pair when only one character was asked */
+    private final CharBuffer pending = CharBuffer.allocate(2);
+
+    /** @param file
+     *            the file to read
+     * @throws IOException
+     *             if the file cannot be opened */
+    public MappedFileReader(File file) throws IOException {
+        this(file, DEFAULT_REGION_SIZE);
+    }
+
+    /** @param file
+     *            the file to read
+     * @param regionSize
+     *            the size of the regions of the file mapped at once; must be
+     *            at least 4 bytes, so that any UTF-8 character fits in a region
+     * @throws IOException
+     *             if the file cannot be opened */
+    public MappedFileReader(File file, int regionSize) throws IOException {
+        if (regionSize < 4) {
+            throw new IllegalArgumentException("region size must be at least 4: "
+                    + regionSize);
+        }
+        channel = new RandomAccessFile(file, "r").getChannel();
+        size = channel.size();
+        this.regionSize = regionSize;
+        region = map(0);
+    }
+
+    private MappedByteBuffer map(long start) throws IOException {
+        regionStart = start;
+        return channel.map(FileChannel.MapMode.READ_ONLY, start,
+                Math.min(regionSize, size - start));
+    }
+
+    private boolean isLastRegion() {
+        return regionStart + region.limit() == size;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (region == null) {
+            throw new IOException("Reader closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (pending.position() > 0) {
+            pending.flip();
+            cbuf[off] = pending.get();
+            pending.compact();
+            return 1;
+        }
+        if (flushed) {
+            return -1;
+        }
+        CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+        while (out.position() == off) {
+            boolean last = isLastRegion();
+            CoderResult result = decoder.decode(region, out, last);
+            if (result.isOverflow()) {
+                if (out.position() == off) {
+                    // a surrogate pair does not fit in the requested length
+                    decoder.decode(region, pending, last);
+                    pending.flip();
+                    cbuf[off] = pending.get();
+                    pending.compact();
+                    return 1;
+                }
+                break;
+            }
+            if (last) {
+                // underflow at the end of the file
+                if (!flushed && decoder.flush(out).isUnderflow()) {
+                    flushed = true;
+                }
+                break;
+            }
+            // the region is exhausted, possibly in the middle of a character:
+            // the next region starts from the first byte not decoded
+            region = map(regionStart + region.position());
+        }
+        int read = out.position() - off;
+        return read == 0 ? -1 : read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        region = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.semanticweb.owlapi.io;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.xml.sax.SAXException;
+
+/** A per thread pool of namespace aware SAX parsers, so that loading many
+ * small XML documents does not pay for the creation of a parser each time.
+ * Parsers are confined to the thread that acquired them and are reset when
+ * they are released; a thread can hold more than one parser at a time, which
+ * happens when an import is loaded while the importing document is still
+ * being parsed.
+ * 
+ * @author ignazio */
+public final class SAXParserPool {
+    /** maximum number of idle parsers kept for each thread */
+    private static final int MAX_IDLE = 4;
+    private static final SAXParserFactory factory = SAXParserFactory.newInstance();
+    static {
+        factory.setNamespaceAware(true);
+    }
+    private static final ThreadLocal<List<SAXParser>> idle = new ThreadLocal<List<SAXParser>>() {
+        @Override
+        protected List<SAXParser> initialValue() {
+            return new ArrayList<SAXParser>(MAX_IDLE);
+        }
+    };
+
+    private SAXParserPool() {}
+
+    /** @return a parser for the exclusive use of the calling thread, until it
+     *         is passed to {@link #release(SAXParser)}
+     * @throws ParserConfigurationException
+     *             if no parser can be configured
+     * @throws SAXException
+     *             if the parser cannot be created */
+    public static SAXParser acquire() throws ParserConfigurationException, SAXException {
+        List<SAXParser> parsers = idle.get();
+        if (!parsers.isEmpty()) {
+            return parsers.remove(parsers.size() - 1);
+        }
+        // SAXParserFactory is not guaranteed to be thread safe
+        synchronized (factory) {
+            return factory.newSAXParser();
+        }
+    }
+
+    /** Resets a parser obtained from {@link #acquire()} on the same thread
+     * and makes it available again. Parsers which cannot be reset are
+     * dropped.
+     * 
+     * @param parser
+     *            the parser to release; null is ignored */
+    public static void release(SAXParser parser) {
+        if (parser == null) {
+            return;
+        }
+        List<SAXParser> parsers = idle.get();
+        if (parsers.size() >= MAX_IDLE) {
+            return;
+        }
+        try {
+            parser.reset();
+        } catch (UnsupportedOperationException e) {
+            return;
+        }
+        parsers.add(parser);
+    }
+}
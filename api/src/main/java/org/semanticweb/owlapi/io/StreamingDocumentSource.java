@@ -0,0 +1,224 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.semanticweb.owlapi.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.semanticweb.owlapi.model.IRI;
+
+/** An ontology document source that reads a stream or a reader in a single
+ * pass. Unlike {@link StreamDocumentSource} and {@link ReaderDocumentSource},
+ * the document is never held in memory as a whole, so the memory needed to
+ * load an ontology does not depend on the size of the document.<br>
+ * The input is consumed once: {@link #getInputStream()} or
+ * {@link #getReader()} can only be called once, therefore only one parser can
+ * attempt to parse the document. The first few kilobytes can be inspected
+ * with {@link #peek(int)} without consuming them, which is how the parser to
+ * use is chosen.<br>
+ * Streams compressed with gzip, or zip archives (the first file in the archive
+ * is read), are decompressed transparently.
+ * 
+ * @author ignazio */
+public class StreamingDocumentSource implements OWLOntologyDocumentSource {
+    private final IRI documentIRI;
+    private final InputStream stream;
+    private final BufferedReader reader;
+    private boolean consumed = false;
+
+    /** @param stream
+     *            the stream to read the ontology from */
+    public StreamingDocumentSource(InputStream stream) {
+        this(stream, StreamDocumentSource.getNextDocumentIRI());
+    }
+
+    /** @param stream
+     *            the stream to read the ontology from
+     * @param documentIRI
+     *            the document IRI */
+    public StreamingDocumentSource(InputStream stream, IRI documentIRI) {
+        this.documentIRI = documentIRI;
+        this.stream = decompress(stream);
+        reader = null;
+    }
+
+    /** @param reader
+     *            the reader to read the ontology from
+     * @param documentIRI
+     *            the document IRI */
+    public StreamingDocumentSource(Reader reader, IRI documentIRI) {
+        this.documentIRI = documentIRI;
+        this.reader = new BufferedReader(reader);
+        stream = null;
+    }
+
+    /** @param in
+     *            a stream, possibly compressed
+     * @return a buffered stream which decompresses the input if it starts with
+     *         a gzip or zip signature, or the input itself, buffered, if it
+     *         does not
+     * @throws OWLOntologyInputSourceException
+     *             if the input cannot be read or is compressed in an
+     *             unsupported format */
+    public static InputStream decompress(InputStream in) {
+        InputStream buffered = in.markSupported() ? in : new BufferedInputStream(in);
+        try {
+            buffered.mark(6);
+            byte[] magic = new byte[6];
+            int length = 0;
+            int read = 0;
+            while (length < magic.length
+                    && (read = buffered.read(magic, length, magic.length - length)) > -1) {
+                length += read;
+            }
+            buffered.reset();
+            if (length >= 2 && magic[0] == (byte) 0x1f && magic[1] == (byte) 0x8b) {
+                return new BufferedInputStream(new GZIPInputStream(buffered));
+            }
+            if (length >= 4 && magic[0] == 'P' && magic[1] == 'K' && magic[2] == 3
+                    && magic[3] == 4) {
+                ZipInputStream zip = new ZipInputStream(buffered);
+                ZipEntry entry = zip.getNextEntry();
+                while (entry != null && entry.isDirectory()) {
+                    entry = zip.getNextEntry();
+                }
+                return new BufferedInputStream(zip);
+            }
+            if (length >= 3 && magic[0] == 'B' && magic[1] == 'Z' && magic[2] == 'h'
+                    || length >= 6 && magic[0] == (byte) 0xfd && magic[1] == '7'
+                            && magic[2] == 'z' && magic[3] == 'X' && magic[4] == 'Z'
+                            && magic[5] == 0) {
+                throw new OWLOntologyInputSourceException(
+                        "bzip2 and xz compressed input is not supported; decompress the stream before loading it");
+            }
+            return buffered;
+        } catch (IOException e) {
+            throw new OWLOntologyInputSourceException(e);
+        }
+    }
+
+    /** Reads the start of the document without consuming it.
+     * 
+     * @param length
+     *            the maximum number of bytes, or characters if the source
+     *            reads from a reader, to read
+     * @return the start of the document
+     * @throws OWLOntologyInputSourceException
+     *             if the document has already been consumed or cannot be read */
+    public String peek(int length) {
+        if (consumed) {
+            throw new OWLOntologyInputSourceException(
+                    "The document has already been read: streaming document sources can only be read once");
+        }
+        try {
+            if (reader != null) {
+                reader.mark(length);
+                try {
+                    char[] buffer = new char[length];
+                    return new String(buffer, 0, DocumentStart.fill(reader, buffer));
+                } finally {
+                    reader.reset();
+                }
+            }
+            stream.mark(length);
+            try {
+                byte[] buffer = new byte[length];
+                return DocumentStart.decode(buffer, DocumentStart.fill(stream, buffer));
+            } finally {
+                stream.reset();
+            }
+        } catch (IOException e) {
+            throw new OWLOntologyInputSourceException(e);
+        }
+    }
+
+    /** @return true if the stream or reader has been handed to a parser */
+    public boolean isConsumed() {
+        return consumed;
+    }
+
+    @Override
+    public IRI getDocumentIRI() {
+        return documentIRI;
+    }
+
+    @Override
+    public boolean isInputStreamAvailable() {
+        return stream != null;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        if (stream == null) {
+            throw new OWLOntologyInputSourceException(
+                    "InputStream not available.  Check with StreamingDocumentSource.isInputStreamAvailable() first!");
+        }
+        consume();
+        return stream;
+    }
+
+    @Override
+    public boolean isReaderAvailable() {
+        return reader != null;
+    }
+
+    @Override
+    public Reader getReader() {
+        if (reader == null) {
+            throw new OWLOntologyInputSourceException(
+                    "Reader not available.  Check with StreamingDocumentSource.isReaderAvailable() first!");
+        }
+        consume();
+        return reader;
+    }
+
+    private synchronized void consume() {
+        if (consumed) {
+            throw new OWLOntologyInputSourceException(
+                    "The document has already been read: streaming document sources can only be read once");
+        }
+        consumed = true;
+    }
+}
@@ -41,6 +41,7 @@ package org.semanticweb.owlapi.model;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.semanticweb.owlapi.vocab.Namespaces;
 
@@ -89,12 +90,26 @@ public final class OWLOntologyLoaderConfiguration {
      */
     public static final MissingOntologyHeaderStrategy DEFAULT_MISSING_ONTOLOGY_HEADER_STRATEGY = MissingOntologyHeaderStrategy.INCLUDE_GRAPH;
 
+    /**
+     * default number of parsing threads; one thread means sequential parsing
+     */
+    public static final int DEFAULT_PARSING_THREADS = 1;
+
+    /**
+     * default number of axioms parsers add to the ontology at once
+     */
+    public static final int DEFAULT_AXIOM_BATCH_SIZE = 10000;
+
     private boolean loadAnnotations = DEFAULT_LOAD_ANNOTATIONS_FLAG_VALUE;
 
     private MissingOntologyHeaderStrategy missingOntologyHeaderStrategy = DEFAULT_MISSING_ONTOLOGY_HEADER_STRATEGY;
 
     private boolean strict = false;
     private boolean followRedirects = true;
+    private int parsingThreads = DEFAULT_PARSING_THREADS;
+    private boolean streamingRDF = false;
+    private int axiomBatchSize = DEFAULT_AXIOM_BATCH_SIZE;
+    private Executor importsLoadingExecutor = null;
 
     private MissingImportHandlingStrategy missingImportHandlingStrategy = MissingImportHandlingStrategy.THROW_EXCEPTION;
 
@@ -279,6 +294,108 @@ public final class OWLOntologyLoaderConfiguration {
         return copy;
     }
 
+    /** Parsers which can split a document into independent parts, such as the
+     * functional syntax parser, parse the parts on this many threads. By
+     * default parsing is sequential.
+     * 
+     * @return the number of threads used for parsing */
+    public int getParsingThreads() {
+        return parsingThreads;
+    }
+
+    /** @param threads
+     *            number of threads to use for parsing; values lower than 2
+     *            mean sequential parsing
+     * @return copy of the configuration with the new number of threads */
+    public OWLOntologyLoaderConfiguration setParsingThreads(int threads) {
+        // do not make copies if setting the same value
+        if (parsingThreads == threads) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration copy = copyConfiguration();
+        copy.parsingThreads = threads;
+        return copy;
+    }
+
+    /** Parsers buffer the axioms they parse and add them to the ontology this
+     * many at a time, so that listeners are notified and changes are checked
+     * once per batch rather than once per axiom.
+     * 
+     * @return the number of axioms added to the ontology at once */
+    public int getAxiomBatchSize() {
+        return axiomBatchSize;
+    }
+
+    /** @param size
+     *            number of axioms to add to the ontology at once; values
+     *            lower than 2 mean that each axiom is added as soon as it is
+     *            parsed
+     * @return copy of the configuration with the new batch size */
+    public OWLOntologyLoaderConfiguration setAxiomBatchSize(int size) {
+        // do not make copies if setting the same value
+        if (axiomBatchSize == size) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration copy = copyConfiguration();
+        copy.axiomBatchSize = size;
+        return copy;
+    }
+
+    /** In streaming mode, the RDF/XML parser translates the triples of each
+     * top level node element into axioms as soon as the element ends, instead
+     * of keeping them until the end of the document, and adds the axioms to
+     * the ontology in batches of {@link #getAxiomBatchSize()} while parsing.
+     * This keeps the memory used by the parser small. Triples that refer to entities not typed yet are kept
+     * until they can be translated, so the result is the same as in the
+     * default mode unless an IRI is typed as more than one kind of property.
+     * By default streaming is off.
+     * 
+     * @return true if RDF should be translated while parsing */
+    public boolean isStreamingRDF() {
+        return streamingRDF;
+    }
+
+    /** @param value
+     *            true if RDF should be translated while parsing
+     * @return copy of the configuration with the new streaming mode */
+    public OWLOntologyLoaderConfiguration setStreamingRDF(boolean value) {
+        // do not make copies if setting the same value
+        if (streamingRDF == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration copy = copyConfiguration();
+        copy.streamingRDF = value;
+        return copy;
+    }
+
+    /** If an executor is set, the manager loads the imports of an ontology on
+     * the executor while the ontology is being parsed, so that independent
+     * imports are loaded concurrently; the ontology load returns when its
+     * whole imports closure has been loaded. The ontologies and ontology IDs
+     * in the manager are the same as with sequential loading. Parsers which
+     * need the imported ontologies, such as the RDF parsers, wait for them
+     * only when they use them. By default imports are loaded sequentially.
+     * 
+     * @return the executor used to load imports, or null if imports are
+     *         loaded sequentially */
+    public Executor getImportsLoadingExecutor() {
+        return importsLoadingExecutor;
+    }
+
+    /** @param executor
+     *            executor to use to load imports; null means that imports are
+     *            loaded sequentially
+     * @return copy of the configuration with the new executor */
+    public OWLOntologyLoaderConfiguration setImportsLoadingExecutor(Executor executor) {
+        // do not make copies if setting the same value
+        if (importsLoadingExecutor == executor) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration copy = copyConfiguration();
+        copy.importsLoadingExecutor = executor;
+        return copy;
+    }
+
     /**
      * @param iri iri to check
      * @return true if iri should be ignored
@@ -348,6 +465,10 @@ public final class OWLOntologyLoaderConfiguration {
         copy.missingImportHandlingStrategy = missingImportHandlingStrategy;
         copy.missingOntologyHeaderStrategy = missingOntologyHeaderStrategy;
         copy.followRedirects = followRedirects;
+        copy.parsingThreads = parsingThreads;
+        copy.streamingRDF = streamingRDF;
+        copy.axiomBatchSize = axiomBatchSize;
+        copy.importsLoadingExecutor = importsLoadingExecutor;
         return copy;
     }
 
@@ -0,0 +1,183 @@
+package org.semanticweb.owlapi.util;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** A weakly (or softly) linked interning cache that can be used by multiple
+ * threads without a global lock; it offers the same operations as WeakCache.
+ * Since keys and values coincide, the map keys are references themselves;
+ * entries whose element has been garbage collected are removed, on the next
+ * access, by polling a reference queue.
+ * 
+ * @param <K> */
+public class ConcurrentWeakCache<K> implements Serializable {
+    private static final long serialVersionUID = 30402L;
+
+    /** a reference with the hashcode of its referent; equal to references to
+     * equal objects and to lookups for equal objects */
+    private interface Entry<K> {
+        K get();
+    }
+
+    private static final class WeakEntry<K> extends WeakReference<K> implements Entry<K> {
+        private final int hash;
+
+        WeakEntry(K k, ReferenceQueue<? super K> q) {
+            super(k, q);
+            hash = k.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return entryEquals(this, obj);
+        }
+    }
+
+    private static final class SoftEntry<K> extends SoftReference<K> implements Entry<K> {
+        private final int hash;
+
+        SoftEntry(K k, ReferenceQueue<? super K> q) {
+            super(k, q);
+            hash = k.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return entryEquals(this, obj);
+        }
+    }
+
+    /** a strong reference used for lookups, so that no reference object needs
+     * to be created if the element is already in the cache */
+    private static final class Lookup<K> implements Entry<K> {
+        private final K k;
+
+        Lookup(K k) {
+            this.k = k;
+        }
+
+        @Override
+        public K get() {
+            return k;
+        }
+
+        @Override
+        public int hashCode() {
+            return k.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return entryEquals(this, obj);
+        }
+    }
+
+    static boolean entryEquals(Entry<?> e, Object obj) {
+        if (e == obj) {
+            return true;
+        }
+        if (!(obj instanceof Entry)) {
+            return false;
+        }
+        Object k = e.get();
+        // a cleared reference is only equal to itself
+        return k != null && k.equals(((Entry<?>) obj).get());
+    }
+
+    private final boolean soft;
+    private transient ConcurrentHashMap<Entry<K>, Entry<K>> prefixCache = CollectionFactory
+            .createSyncMap();
+    private transient ReferenceQueue<K> queue = new ReferenceQueue<K>();
+
+    /** creates a cache with weak references */
+    public ConcurrentWeakCache() {
+        this(false);
+    }
+
+    /** @param soft
+     *            true if elements should be softly referenced, i.e., only
+     *            collected when memory is low, rather than weakly referenced */
+    public ConcurrentWeakCache(boolean soft) {
+        this.soft = soft;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException,
+            ClassNotFoundException {
+        in.defaultReadObject();
+        prefixCache = CollectionFactory.createSyncMap();
+        queue = new ReferenceQueue<K>();
+    }
+
+    private void expunge() {
+        Reference<? extends K> r;
+        while ((r = queue.poll()) != null) {
+            prefixCache.remove(r);
+        }
+    }
+
+    /** @param s
+     *            the value to cache
+     * @return the cached value; if an equal value was already cached, by this
+     *         or another thread, that value is returned instead of s */
+    public K cache(K s) {
+        expunge();
+        Entry<K> lookup = new Lookup<K>(s);
+        while (true) {
+            Entry<K> w = prefixCache.get(lookup);
+            if (w != null) {
+                K toReturn = w.get();
+                if (toReturn != null) {
+                    return toReturn;
+                }
+                // collected between the lookup and now; it will be expunged
+                // through the queue, but remove it now to avoid spinning
+                prefixCache.remove(w, w);
+                continue;
+            }
+            Entry<K> newEntry = soft ? new SoftEntry<K>(s, queue) : new WeakEntry<K>(s,
+                    queue);
+            if (prefixCache.putIfAbsent(newEntry, newEntry) == null) {
+                return s;
+            }
+        }
+    }
+
+    /** @param k
+     *            the key to check
+     * @return true if the cache contains k as a key; note that, due to the
+     *         nature of this cache, by the time the method returns the key may
+     *         no longer be in the map. */
+    public boolean contains(K k) {
+        Entry<K> w = prefixCache.get(new Lookup<K>(k));
+        return w != null && w.get() != null;
+    }
+
+    /** @return the number of entries in the cache, including entries whose
+     *         values have been collected but not yet removed */
+    public int size() {
+        expunge();
+        return prefixCache.size();
+    }
+
+    /** empty the cache */
+    public void clear() {
+        prefixCache.clear();
+        expunge();
+    }
+}
@@ -0,0 +1,165 @@
+package org.semanticweb.owlapi.util;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** A weakly (or softly) linked cache that can be used by multiple threads
+ * without a global lock; it offers the same operations as WeakIndexCache. Keys
+ * are held strongly and values through weak or soft references; entries whose
+ * value has been garbage collected are removed, on the next access, by polling
+ * a reference queue.
+ * 
+ * @param <K>
+ * @param <V> */
+public class ConcurrentWeakIndexCache<K, V> implements Serializable {
+    private static final long serialVersionUID = 30402L;
+
+    /** a reference that remembers the key it is stored under */
+    private interface KeyedReference<K> {
+        K getKey();
+    }
+
+    private static final class WeakValue<K, V> extends WeakReference<V> implements
+            KeyedReference<K> {
+        private final K key;
+
+        WeakValue(K key, V value, ReferenceQueue<? super V> q) {
+            super(value, q);
+            this.key = key;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+    }
+
+    private static final class SoftValue<K, V> extends SoftReference<V> implements
+            KeyedReference<K> {
+        private final K key;
+
+        SoftValue(K key, V value, ReferenceQueue<? super V> q) {
+            super(value, q);
+            this.key = key;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+    }
+
+    private final boolean soft;
+    private transient ConcurrentHashMap<K, Reference<V>> prefixCache = CollectionFactory
+            .createSyncMap();
+    private transient ReferenceQueue<V> queue = new ReferenceQueue<V>();
+
+    /** creates a cache with weak values */
+    public ConcurrentWeakIndexCache() {
+        this(false);
+    }
+
+    /** @param soft
+     *            true if values should be softly referenced, i.e., only
+     *            collected when memory is low, rather than weakly referenced */
+    public ConcurrentWeakIndexCache(boolean soft) {
+        this.soft = soft;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException,
+            ClassNotFoundException {
+        in.defaultReadObject();
+        prefixCache = CollectionFactory.createSyncMap();
+        queue = new ReferenceQueue<V>();
+    }
+
+    private Reference<V> reference(K k, V v) {
+        if (soft) {
+            return new SoftValue<K, V>(k, v, queue);
+        }
+        return new WeakValue<K, V>(k, v, queue);
+    }
+
+    /** removes the entries whose values have been collected */
+    @SuppressWarnings("unchecked")
+    private void expunge() {
+        Reference<? extends V> r;
+        while ((r = queue.poll()) != null) {
+            prefixCache.remove(((KeyedReference<K>) r).getKey(), r);
+        }
+    }
+
+    /** @param s
+     *            the cache key
+     * @param v
+     *            the cache value
+     * @return the cached value; if another value was cached for the same key,
+     *         by this or another thread, that value is returned instead of v */
+    public V cache(K s, V v) {
+        expunge();
+        Reference<V> w = prefixCache.get(s);
+        if (w != null) {
+            V toReturn = w.get();
+            if (toReturn != null) {
+                return toReturn;
+            }
+        }
+        Reference<V> newRef = reference(s, v);
+        while (true) {
+            if (w == null) {
+                w = prefixCache.putIfAbsent(s, newRef);
+                if (w == null) {
+                    return v;
+                }
+            }
+            V toReturn = w.get();
+            if (toReturn != null) {
+                return toReturn;
+            }
+            // stale entry: replace it, unless another thread has done so
+            if (prefixCache.replace(s, w, newRef)) {
+                return v;
+            }
+            w = prefixCache.get(s);
+        }
+    }
+
+    /** @param k
+     *            the key
+     * @return the value */
+    public V get(K k) {
+        Reference<V> w = prefixCache.get(k);
+        if (w != null) {
+            return w.get();
+        }
+        return null;
+    }
+
+    /** @param k
+     *            the key to check
+     * @return true if the cache contains k as a key; note that, due to the
+     *         nature of this cache, by the time the method returns the key may
+     *         no longer be in the map. */
+    public boolean contains(K k) {
+        return get(k) != null;
+    }
+
+    /** @return the number of entries in the cache, including entries whose
+     *         values have been collected but not yet removed */
+    public int size() {
+        expunge();
+        return prefixCache.size();
+    }
+
+    /** empty the cache */
+    public void clear() {
+        prefixCache.clear();
+        expunge();
+    }
+}
@@ -133,6 +133,9 @@ import org.semanticweb.owlapi.model.SWRLVariable;
  * The University Of Manchester<br>
  * Bio-Health Informatics Group<br>
  * Date: 03-Jan-2007<br><br>
+ * The hash code of an axiom is always combined with the hash code of its
+ * annotations last, so an implementation can recover the hash code of the
+ * axiom without annotations by subtracting the hash code of its annotations.
  */
 public class HashCode implements OWLObjectVisitor, SWRLObjectVisitor {
 
@@ -664,6 +667,7 @@ public class HashCode implements OWLObjectVisitor, SWRLObjectVisitor {
         hashCode = 631;
         hashCode = hashCode * MULT + rule.getBody().hashCode();
         hashCode = hashCode * MULT + rule.getHead().hashCode();
+        hashCode = hashCode * MULT + rule.getAnnotations().hashCode();
     }
 
 
@@ -750,6 +754,7 @@ public class HashCode implements OWLObjectVisitor, SWRLObjectVisitor {
         hashCode = 821;
         hashCode = hashCode * MULT + axiom.getClassExpression().hashCode();
         hashCode = hashCode * MULT + axiom.getPropertyExpressions().hashCode();
+        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
     }
 
     @Override
@@ -757,6 +762,7 @@ public class HashCode implements OWLObjectVisitor, SWRLObjectVisitor {
         hashCode = 823;
         hashCode = hashCode * MULT + axiom.getProperty().hashCode();
         hashCode = hashCode * MULT + axiom.getDomain().hashCode();
+        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
     }
 
     @Override
@@ -764,6 +770,7 @@ public class HashCode implements OWLObjectVisitor, SWRLObjectVisitor {
         hashCode = 827;
         hashCode = hashCode * MULT + axiom.getProperty().hashCode();
         hashCode = hashCode * MULT + axiom.getRange().hashCode();
+        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
     }
 
     @Override
@@ -771,6 +778,7 @@ public class HashCode implements OWLObjectVisitor, SWRLObjectVisitor {
         hashCode = 829;
         hashCode = hashCode * MULT + axiom.getSubProperty().hashCode();
         hashCode = hashCode * MULT + axiom.getSuperProperty().hashCode();
+        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
     }
 
     @Override
@@ -816,5 +824,6 @@ public class HashCode implements OWLObjectVisitor, SWRLObjectVisitor {
         hashCode = 897;
         hashCode = hashCode * MULT + axiom.getDatatype().hashCode();
         hashCode = hashCode * MULT + axiom.getDataRange().hashCode();
+        hashCode = hashCode * MULT + axiom.getAnnotations().hashCode();
     }
 }
@@ -44,6 +44,7 @@ import org.coode.owlapi.functionalparser.OWLFunctionalSyntaxParserFactory;
 import org.coode.owlapi.functionalrenderer.OWLFunctionalSyntaxOntologyStorer;
 import org.coode.owlapi.latex.LatexOntologyStorer;
 import org.coode.owlapi.manchesterowlsyntax.ManchesterOWLSyntaxParserFactory;
+import org.coode.owlapi.ntriples.NTriplesParserFactory;
 import org.coode.owlapi.obo.parser.OBOParserFactory;
 import org.coode.owlapi.obo.renderer.OBOFlatFileOntologyStorer;
 import org.coode.owlapi.owlxml.renderer.OWLXMLOntologyStorer;
@@ -83,6 +84,7 @@ public class OWLManager implements OWLOntologyManagerFactory {
         registry.registerParserFactory(new ManchesterOWLSyntaxParserFactory());
         registry.registerParserFactory(new KRSS2OWLParserFactory());
         registry.registerParserFactory(new OBOParserFactory());
+        registry.registerParserFactory(new NTriplesParserFactory());
         registry.registerParserFactory(new TurtleOntologyParserFactory());
         registry.registerParserFactory(new OWLFunctionalSyntaxParserFactory());
         registry.registerParserFactory(new OWLXMLParserFactory());
@@ -127,6 +129,22 @@ public class OWLManager implements OWLOntologyManagerFactory {
      * @return The manager.
      */
     public static OWLOntologyManager createOWLOntologyManager(OWLDataFactory dataFactory) {
+        return createOWLOntologyManager(dataFactory, false);
+    }
+
+    /**
+     * Creates an OWL ontology manager that is configured with standard parsers,
+     * storeres etc. The ontologies created or loaded by this manager can be
+     * queried and changed from multiple threads at the same time.
+     *
+     * @return The new manager.
+     */
+    public static OWLOntologyManager createConcurrentOWLOntologyManager() {
+        return createOWLOntologyManager(getOWLDataFactory(), true);
+    }
+
+    private static OWLOntologyManager createOWLOntologyManager(OWLDataFactory dataFactory,
+            boolean concurrent) {
         // Create the ontology manager and add ontology factories, mappers and storers
         OWLOntologyManager ontologyManager = new OWLOntologyManagerImpl(dataFactory);
         ontologyManager.addOntologyStorer(new RDFXMLOntologyStorer());
@@ -140,8 +158,8 @@ public class OWLManager implements OWLOntologyManagerFactory {
 
         ontologyManager.addIRIMapper(new NonMappingOntologyIRIMapper());
 
-        ontologyManager.addOntologyFactory(new EmptyInMemOWLOntologyFactory());
-        ontologyManager.addOntologyFactory(new ParsableOWLOntologyFactory());
+        ontologyManager.addOntologyFactory(new EmptyInMemOWLOntologyFactory(concurrent));
+        ontologyManager.addOntologyFactory(new ParsableOWLOntologyFactory(concurrent));
 
         return ontologyManager;
     }
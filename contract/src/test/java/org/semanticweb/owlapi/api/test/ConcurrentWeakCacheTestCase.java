@@ -0,0 +1,77 @@
+package org.semanticweb.owlapi.api.test;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.util.ConcurrentWeakCache;
+import org.semanticweb.owlapi.util.ConcurrentWeakIndexCache;
+
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+@SuppressWarnings("javadoc")
+public class ConcurrentWeakCacheTestCase {
+    @Test
+    public void shouldReturnFirstCachedValue() {
+        ConcurrentWeakIndexCache<String, String> cache = new ConcurrentWeakIndexCache<String, String>();
+        String first = new String("value");
+        String second = new String("value");
+        assertSame(first, cache.cache("key", first));
+        assertSame(first, cache.cache("key", second));
+        assertSame(first, cache.get("key"));
+        assertTrue(cache.contains("key"));
+        cache.clear();
+        assertFalse(cache.contains("key"));
+        ConcurrentWeakCache<String> interner = new ConcurrentWeakCache<String>(true);
+        assertSame(first, interner.cache(first));
+        assertSame(first, interner.cache(second));
+        assertTrue(interner.contains(second));
+    }
+
+    @Test
+    public void shouldInternAcrossThreads() throws Exception {
+        final OWLDataFactory df = new OWLDataFactoryImpl(true, false);
+        ExecutorService exec = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object[]>> results = new ArrayList<Future<Object[]>>();
+            for (int t = 0; t < 4; t++) {
+                results.add(exec.submit(new Callable<Object[]>() {
+                    @Override
+                    public Object[] call() {
+                        Object[] toReturn = new Object[2000];
+                        for (int i = 0; i < 1000; i++) {
+                            toReturn[i] = df.getOWLClass(IRI
+                                    .create("http://www.semanticweb.org/owlapi/test#C"
+                                            + i));
+                            toReturn[1000 + i] = df.getOWLLiteral("l" + i,
+                                    df.getOWLDatatype(IRI
+                                            .create("http://www.semanticweb.org/owlapi/test#d")));
+                        }
+                        return toReturn;
+                    }
+                }));
+            }
+            Object[] first = results.get(0).get();
+            for (Future<Object[]> f : results) {
+                Object[] other = f.get();
+                for (int i = 0; i < first.length; i++) {
+                    assertSame(first[i], other[i]);
+                }
+            }
+            assertTrue(first[0] instanceof OWLClass);
+            assertTrue(first[1000] instanceof OWLLiteral);
+        } finally {
+            exec.shutdown();
+        }
+    }
+}
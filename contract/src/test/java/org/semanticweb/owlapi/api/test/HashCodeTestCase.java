@@ -0,0 +1,152 @@
+package org.semanticweb.owlapi.api.test;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDataRange;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLIndividual;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
+import org.semanticweb.owlapi.model.OWLPropertyExpression;
+import org.semanticweb.owlapi.model.SWRLAtom;
+import org.semanticweb.owlapi.model.SWRLDArgument;
+import org.semanticweb.owlapi.model.SWRLIArgument;
+import org.semanticweb.owlapi.model.SWRLVariable;
+import org.semanticweb.owlapi.util.HashCode;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+import org.semanticweb.owlapi.vocab.OWLFacet;
+
+import uk.ac.manchester.cs.owl.owlapi.OWLAxiomImpl;
+
+/** the hash codes precomputed by the implementation classes must be the ones
+ * computed by HashCode */
+@SuppressWarnings("javadoc")
+public class HashCodeTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test#";
+    private final OWLDataFactory f = Factory.getFactory();
+
+    private IRI iri(String name) {
+        return IRI.create(NS + name);
+    }
+
+    private List<OWLObject> objects() {
+        OWLClass a = f.getOWLClass(iri("A"));
+        OWLClass b = f.getOWLClass(iri("B"));
+        OWLObjectProperty p = f.getOWLObjectProperty(iri("p"));
+        OWLObjectPropertyExpression inv = f.getOWLObjectInverseOf(p);
+        OWLDataProperty d = f.getOWLDataProperty(iri("d"));
+        OWLAnnotationProperty ap = f.getOWLAnnotationProperty(iri("ap"));
+        OWLNamedIndividual i = f.getOWLNamedIndividual(iri("i"));
+        OWLIndividual anon = f.getOWLAnonymousIndividual();
+        OWLLiteral lit = f.getOWLLiteral("value", "en");
+        OWLDatatype dt = f.getOWLDatatype(iri("dt"));
+        OWLDatatype integer = f.getOWLDatatype(OWL2Datatype.XSD_INTEGER.getIRI());
+        OWLDataRange restriction = f.getOWLDatatypeRestriction(integer,
+                f.getOWLFacetRestriction(OWLFacet.MIN_INCLUSIVE, 1),
+                f.getOWLFacetRestriction(OWLFacet.MAX_INCLUSIVE, 3));
+        OWLClassExpression and = f.getOWLObjectIntersectionOf(a, b);
+        Set<OWLAnnotation> annos = new HashSet<OWLAnnotation>(Arrays.asList(
+                f.getOWLAnnotation(ap, lit), f.getOWLAnnotation(f.getRDFSLabel(), iri("x"))));
+        List<OWLObject> objects = new ArrayList<OWLObject>();
+        objects.addAll(Arrays.asList(a, p, inv, d, ap, i, lit, dt, integer, restriction,
+                and, f.getOWLObjectUnionOf(a, b), f.getOWLObjectComplementOf(a),
+                f.getOWLObjectOneOf(i), f.getOWLObjectSomeValuesFrom(p, a),
+                f.getOWLObjectAllValuesFrom(inv, and), f.getOWLObjectHasValue(p, i),
+                f.getOWLObjectHasSelf(p), f.getOWLObjectMinCardinality(1, p, a),
+                f.getOWLObjectMaxCardinality(200, p, a),
+                f.getOWLObjectExactCardinality(2, p, b), f.getOWLDataSomeValuesFrom(d, dt),
+                f.getOWLDataAllValuesFrom(d, restriction), f.getOWLDataHasValue(d, lit),
+                f.getOWLDataMinCardinality(1, d, dt), f.getOWLDataMaxCardinality(2, d, dt),
+                f.getOWLDataExactCardinality(3, d, dt),
+                f.getOWLDataIntersectionOf(dt, restriction), f.getOWLDataUnionOf(dt, integer),
+                f.getOWLDataComplementOf(dt), f.getOWLDataOneOf(lit, f.getOWLLiteral(1)),
+                f.getOWLAnnotation(ap, lit, annos)));
+        Set<OWLPropertyExpression<?, ?>> keys = new HashSet<OWLPropertyExpression<?, ?>>();
+        keys.add(p);
+        keys.add(d);
+        List<OWLAxiom> axioms = Arrays.asList(f.getOWLDeclarationAxiom(a),
+                f.getOWLSubClassOfAxiom(a, and), f.getOWLEquivalentClassesAxiom(a, b, and),
+                f.getOWLDisjointClassesAxiom(a, b),
+                f.getOWLDisjointUnionAxiom(a, new HashSet<OWLClassExpression>(Arrays.asList(b, and))),
+                f.getOWLHasKeyAxiom(a, keys), f.getOWLSubObjectPropertyOfAxiom(p, inv),
+                f.getOWLSubPropertyChainOfAxiom(Arrays.asList(p, inv), p),
+                f.getOWLEquivalentObjectPropertiesAxiom(p, inv),
+                f.getOWLDisjointObjectPropertiesAxiom(p, inv),
+                f.getOWLInverseObjectPropertiesAxiom(p, inv),
+                f.getOWLObjectPropertyDomainAxiom(p, a), f.getOWLObjectPropertyRangeAxiom(p, b),
+                f.getOWLFunctionalObjectPropertyAxiom(p),
+                f.getOWLInverseFunctionalObjectPropertyAxiom(p),
+                f.getOWLReflexiveObjectPropertyAxiom(p), f.getOWLIrreflexiveObjectPropertyAxiom(p),
+                f.getOWLSymmetricObjectPropertyAxiom(p), f.getOWLAsymmetricObjectPropertyAxiom(p),
+                f.getOWLTransitiveObjectPropertyAxiom(p), f.getOWLSubDataPropertyOfAxiom(d, d),
+                f.getOWLEquivalentDataPropertiesAxiom(d, f.getOWLDataProperty(iri("e"))),
+                f.getOWLDisjointDataPropertiesAxiom(d, f.getOWLDataProperty(iri("e"))),
+                f.getOWLDataPropertyDomainAxiom(d, a), f.getOWLDataPropertyRangeAxiom(d, dt),
+                f.getOWLFunctionalDataPropertyAxiom(d),
+                f.getOWLDatatypeDefinitionAxiom(dt, restriction), f.getOWLClassAssertionAxiom(a, i),
+                f.getOWLSameIndividualAxiom(i, anon), f.getOWLDifferentIndividualsAxiom(i, anon),
+                f.getOWLObjectPropertyAssertionAxiom(p, i, anon),
+                f.getOWLNegativeObjectPropertyAssertionAxiom(p, i, anon),
+                f.getOWLDataPropertyAssertionAxiom(d, i, lit),
+                f.getOWLNegativeDataPropertyAssertionAxiom(d, i, lit),
+                f.getOWLAnnotationAssertionAxiom(ap, iri("A"), lit),
+                f.getOWLAnnotationPropertyDomainAxiom(ap, iri("A")),
+                f.getOWLAnnotationPropertyRangeAxiom(ap, iri("B")),
+                f.getOWLSubAnnotationPropertyOfAxiom(ap, f.getRDFSLabel()));
+        SWRLVariable x = f.getSWRLVariable(iri("x"));
+        SWRLVariable y = f.getSWRLVariable(iri("y"));
+        SWRLIArgument ind = f.getSWRLIndividualArgument(i);
+        SWRLDArgument value = f.getSWRLLiteralArgument(lit);
+        Set<SWRLAtom> body = new HashSet<SWRLAtom>(Arrays.asList(f.getSWRLClassAtom(a, x),
+                f.getSWRLObjectPropertyAtom(p, x, ind), f.getSWRLDataPropertyAtom(d, x, value),
+                f.getSWRLDataRangeAtom(dt, y), f.getSWRLSameIndividualAtom(x, ind),
+                f.getSWRLDifferentIndividualsAtom(x, ind),
+                f.getSWRLBuiltInAtom(iri("builtin"), Arrays.<SWRLDArgument> asList(y, value))));
+        objects.addAll(body);
+        objects.addAll(Arrays.asList(x, ind, value));
+        List<OWLAxiom> all = new ArrayList<OWLAxiom>(axioms);
+        all.add(f.getSWRLRule(body, Collections.singleton(f.getSWRLClassAtom(b, x))));
+        for (OWLAxiom ax : all) {
+            objects.add(ax);
+            objects.add(ax.getAnnotatedAxiom(annos));
+        }
+        return objects;
+    }
+
+    @Test
+    public void shouldMatchHashCodeVisitor() {
+        for (OWLObject o : objects()) {
+            assertEquals(o.toString(), HashCode.hashCode(o), o.hashCode());
+        }
+    }
+
+    @Test
+    public void shouldMatchForAnnotationFreeAxioms() {
+        for (OWLObject o : objects()) {
+            if (o instanceof OWLAxiom) {
+                OWLAxiom ax = (OWLAxiom) o;
+                assertEquals(o.toString(), ax.getAxiomWithoutAnnotations().hashCode(),
+                        ((OWLAxiomImpl) ax).hashCodeIgnoreAnnotations());
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.semanticweb.owlapi.api.test;
+
+import static org.junit.Assert.*;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectIntersectionOf;
+
+import uk.ac.manchester.cs.owl.owlapi.SortedArraySet;
+
+@SuppressWarnings("javadoc")
+public class SortedArraySetTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test#";
+
+    private static List<OWLClassExpression> expressions() {
+        List<OWLClassExpression> list = new ArrayList<OWLClassExpression>();
+        for (int i = 20; i > 0; i--) {
+            OWLClass c = Class(IRI.create(NS + "C" + i % 7));
+            list.add(c);
+            list.add(ObjectSomeValuesFrom(ObjectProperty(IRI.create(NS + "p")), c));
+        }
+        list.add(OWLThing());
+        return list;
+    }
+
+    @Test
+    public void shouldBehaveLikeTreeSet() {
+        List<OWLClassExpression> list = expressions();
+        Set<OWLClassExpression> expected = new TreeSet<OWLClassExpression>(list);
+        SortedArraySet<OWLClassExpression> set = SortedArraySet.create(list);
+        assertEquals(expected.size(), set.size());
+        assertEquals(new ArrayList<OWLClassExpression>(expected),
+                new ArrayList<OWLClassExpression>(set));
+        assertEquals(expected, set);
+        assertEquals(set, expected);
+        assertEquals(new HashSet<OWLClassExpression>(list), set);
+        assertEquals(expected.hashCode(), set.hashCode());
+        for (int i = 0; i < set.size(); i++) {
+            assertTrue(set.contains(set.get(i)));
+        }
+        assertFalse(set.contains(Class(IRI.create(NS + "C8"))));
+        assertFalse(set.contains(IRI.create(NS + "C1")));
+        assertFalse(set.contains(null));
+        assertSame(set, SortedArraySet.create(set));
+        assertTrue(SortedArraySet.create(new ArrayList<OWLObject>()).isEmpty());
+    }
+
+    @Test
+    public void shouldSortPairs() {
+        OWLClass a = Class(IRI.create(NS + "A"));
+        OWLClass b = Class(IRI.create(NS + "B"));
+        assertEquals(Arrays.asList(a, b),
+                new ArrayList<OWLClass>(SortedArraySet.create(b, a)));
+        assertEquals(1, SortedArraySet.create(a, a).size());
+    }
+
+    @Test
+    public void shouldSupportSortedSetViews() {
+        TreeSet<OWLClassExpression> expected = new TreeSet<OWLClassExpression>(expressions());
+        SortedArraySet<OWLClassExpression> set = SortedArraySet.create(expected);
+        OWLClassExpression from = set.get(3);
+        OWLClassExpression to = set.get(set.size() - 2);
+        assertEquals(expected.first(), set.first());
+        assertEquals(expected.last(), set.last());
+        assertEquals(expected.subSet(from, to), set.subSet(from, to));
+        assertEquals(expected.headSet(to), set.headSet(to));
+        assertEquals(expected.tailSet(from), set.tailSet(from));
+        OWLClass absent = Class(IRI.create(NS + "C3a"));
+        assertEquals(expected.headSet(absent), set.headSet(absent));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldBeImmutable() {
+        SortedArraySet.create(expressions()).add(OWLNothing());
+    }
+
+    @Test
+    public void shouldKeepReturnedSetsMutable() {
+        OWLClass a = Class(IRI.create(NS + "A"));
+        OWLClass b = Class(IRI.create(NS + "B"));
+        OWLObjectIntersectionOf and = ObjectIntersectionOf(a, b);
+        Set<OWLClassExpression> operands = and.getOperands();
+        operands.remove(a);
+        assertEquals(1, operands.size());
+        assertEquals(2, and.getOperands().size());
+        OWLAxiom axiom = SubClassOf(a, b, new HashSet<OWLAnnotation>(
+                Arrays.asList(Annotation(RDFSComment(), Literal("y")), Annotation(RDFSComment(),
+                        Literal("x")))));
+        assertEquals(2, axiom.getAnnotations().size());
+        axiom.getAnnotations().clear();
+        assertEquals(2, axiom.getAnnotations(RDFSComment()).size());
+        assertEquals(axiom, SubClassOf(a, b, axiom.getAnnotations()));
+    }
+}
@@ -42,6 +42,8 @@ import static org.junit.Assert.*;
 import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
 
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.junit.Test;
 import org.semanticweb.owlapi.api.test.Factory;
@@ -52,6 +54,8 @@ import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLOntology;
 
+import uk.ac.manchester.cs.owl.owlapi.OWLAxiomImpl;
+
 /** Author: Matthew Horridge<br>
  * The University of Manchester<br>
  * Information Management Group<br>
@@ -75,4 +79,78 @@ public class GetAxiomsIgnoringAnnotationsTestCase extends AbstractOWLAPITestCase
         assertFalse(ont.getAxiomsIgnoreAnnotations(axiom.getAxiomWithoutAnnotations())
                 .contains(axiom.getAxiomWithoutAnnotations()));
     }
+
+    @Test
+    public void testIndexFollowsChanges() {
+        OWLAnnotationProperty annoProp = AnnotationProperty(getIRI("annoProp"));
+        OWLAnnotation anno1 = Factory.getFactory().getOWLAnnotation(annoProp,
+                Literal("value1"));
+        OWLAnnotation anno2 = Factory.getFactory().getOWLAnnotation(annoProp,
+                Literal("value2"));
+        OWLAxiom plain = SubClassOf(Class(getIRI("A")), Class(getIRI("B")));
+        OWLAxiom axiom1 = plain.getAnnotatedAxiom(Collections.singleton(anno1));
+        OWLAxiom axiom2 = plain.getAnnotatedAxiom(Collections.singleton(anno2));
+        OWLOntology ont = getOWLOntology("testont");
+        getManager().addAxiom(ont, axiom1);
+        // the index is built here; later changes must update it
+        assertTrue(ont.containsAxiomIgnoreAnnotations(plain));
+        assertFalse(ont.containsAxiomIgnoreAnnotations(SubClassOf(Class(getIRI("B")),
+                Class(getIRI("A")))));
+        getManager().addAxiom(ont, axiom2);
+        assertEquals(2, ont.getAxiomsIgnoreAnnotations(plain).size());
+        getManager().removeAxiom(ont, axiom1);
+        assertEquals(Collections.singleton(axiom2), ont.getAxiomsIgnoreAnnotations(plain));
+        getManager().removeAxiom(ont, axiom2);
+        assertFalse(ont.containsAxiomIgnoreAnnotations(axiom1));
+        assertTrue(ont.getAxiomsIgnoreAnnotations(plain).isEmpty());
+    }
+
+    @Test
+    public void testEqualsIgnoreAnnotations() {
+        OWLAnnotationProperty annoProp = AnnotationProperty(getIRI("annoProp"));
+        Set<OWLAnnotation> annos = Collections.singleton(Factory.getFactory()
+                .getOWLAnnotation(annoProp, Literal("value")));
+        OWLAxiom[] plain = { SubClassOf(Class(getIRI("A")), Class(getIRI("B"))),
+                HasKey(Class(getIRI("A")), ObjectProperty(getIRI("p"))),
+                AnnotationPropertyDomain(annoProp, getIRI("A")),
+                EquivalentClasses(Class(getIRI("A")), Class(getIRI("B")), Class(getIRI("C"))) };
+        for (OWLAxiom ax : plain) {
+            OWLAxiom annotated = ax.getAnnotatedAxiom(annos);
+            assertFalse(ax.equals(annotated));
+            assertTrue(ax.equalsIgnoreAnnotations(annotated));
+            assertTrue(annotated.equalsIgnoreAnnotations(ax));
+            assertTrue(annotated.equalsIgnoreAnnotations(annotated));
+            assertEquals(ax.hashCode(),
+                    ((OWLAxiomImpl) annotated).hashCodeIgnoreAnnotations());
+            for (OWLAxiom other : plain) {
+                if (other != ax) {
+                    assertFalse(annotated.equalsIgnoreAnnotations(other));
+                }
+            }
+        }
+        assertFalse(plain[0].equalsIgnoreAnnotations(SubClassOf(Class(getIRI("B")),
+                Class(getIRI("A")))));
+    }
+
+    @Test
+    public void testGetAnnotationsByProperty() {
+        OWLAnnotationProperty p1 = AnnotationProperty(getIRI("p1"));
+        OWLAnnotationProperty p2 = AnnotationProperty(getIRI("p2"));
+        OWLAnnotationProperty p3 = AnnotationProperty(getIRI("p3"));
+        Set<OWLAnnotation> p2Annos = new HashSet<OWLAnnotation>();
+        p2Annos.add(Annotation(p2, Literal("a")));
+        p2Annos.add(Annotation(p2, Literal("b")));
+        Set<OWLAnnotation> annos = new HashSet<OWLAnnotation>(p2Annos);
+        annos.add(Annotation(p1, Literal("c")));
+        annos.add(Annotation(p3, Literal("d")));
+        OWLAxiom axiom = SubClassOf(Class(getIRI("A")), Class(getIRI("B")), annos);
+        assertEquals(p2Annos, axiom.getAnnotations(p2));
+        assertEquals(Collections.singleton(Annotation(p1, Literal("c"))),
+                axiom.getAnnotations(p1));
+        assertTrue(axiom.getAnnotations(AnnotationProperty(getIRI("p4"))).isEmpty());
+        // the returned set can still be modified by the caller
+        Set<OWLAnnotation> result = axiom.getAnnotations(p2);
+        result.clear();
+        assertEquals(p2Annos, axiom.getAnnotations(p2));
+    }
 }
@@ -0,0 +1,73 @@
+package org.semanticweb.owlapi.api.test.benchmarks;
+
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.io.File;
+
+import org.coode.owlapi.turtle.TurtleOntologyFormat;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.MappedFileDocumentSource;
+import org.semanticweb.owlapi.io.OWLFunctionalSyntaxOntologyFormat;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyFormat;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+/** Throughput benchmark for the text syntax parsers: loads the same functional
+ * syntax and Turtle documents from a {@link FileDocumentSource} and from a
+ * {@link MappedFileDocumentSource}, and reports MB/s. An existing file can be
+ * passed as the first argument instead of the generated ones. */
+@SuppressWarnings("javadoc")
+public class DocumentSourceThroughputBenchmark {
+    private static final String NS = "http://www.semanticweb.org/owlapi/benchmark#";
+    private static final int CLASSES = 100000;
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            compare(new File(args[0]));
+            return;
+        }
+        OWLOntologyManager m = OWLManager.createOWLOntologyManager();
+        OWLOntology o = m.createOntology(IRI.create(NS + "ontology"));
+        OWLClass top = Class(IRI.create(NS + "Top"));
+        for (int i = 0; i < CLASSES; i++) {
+            OWLClass c = Class(IRI.create(NS + "C" + i));
+            m.addAxiom(o, SubClassOf(c, top));
+            m.addAxiom(o, AnnotationAssertion(RDFSLabel(), c.getIRI(),
+                    Literal("label for class " + i, "en")));
+        }
+        compare(save(o, new OWLFunctionalSyntaxOntologyFormat(), ".ofn"));
+        compare(save(o, new TurtleOntologyFormat(), ".ttl"));
+    }
+
+    private static File save(OWLOntology o, OWLOntologyFormat format, String extension)
+            throws Exception {
+        File file = File.createTempFile("benchmark", extension);
+        file.deleteOnExit();
+        o.getOWLOntologyManager().saveOntology(o, format, IRI.create(file));
+        return file;
+    }
+
+    private static void compare(File file) throws Exception {
+        for (int i = 0; i < RUNS; i++) {
+            report(file, "FileDocumentSource", new FileDocumentSource(file));
+            report(file, "MappedFileDocumentSource", new MappedFileDocumentSource(file));
+        }
+    }
+
+    private static void report(File file, String name, OWLOntologyDocumentSource source)
+            throws Exception {
+        OWLOntologyManager m = OWLManager.createOWLOntologyManager();
+        long time = System.nanoTime();
+        OWLOntology o = m.loadOntologyFromOntologyDocument(source);
+        time = System.nanoTime() - time;
+        double mb = file.length() / (1024.0 * 1024.0);
+        System.out.println(file.getName() + "\t" + name + "\t" + o.getAxiomCount()
+                + " axioms\t" + time / 1000000 + " ms\t"
+                + String.format("%.1f", mb * 1000000000 / time) + " MB/s");
+    }
+}
@@ -0,0 +1,74 @@
+package org.semanticweb.owlapi.api.test.benchmarks;
+
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.io.File;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.OWLFunctionalSyntaxOntologyFormat;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+/** Retained heap benchmark for hash consing in OWLDataFactoryImpl: loads a
+ * generated document shaped like an OBO ontology, where most classes have
+ * {@code part_of some X} restrictions over a small set of fillers (or the
+ * file passed as the first argument), and reports the heap retained by the
+ * loaded ontology. -DhashConsing=true loads with a hash consing data factory. */
+@SuppressWarnings("javadoc")
+public class HashConsingMemoryBenchmark {
+    private static final String NS = "http://purl.obolibrary.org/obo/BENCH_";
+    private static final int CLASSES = 200000;
+    private static final int FILLERS = 2000;
+
+    public static void main(String[] args) throws Exception {
+        File file;
+        if (args.length > 0) {
+            file = new File(args[0]);
+        } else {
+            file = File.createTempFile("benchmark", ".ofn");
+            file.deleteOnExit();
+            OWLOntologyManager m = OWLManager.createOWLOntologyManager();
+            OWLOntology o = m.createOntology(IRI.create(NS + "ontology"));
+            OWLObjectProperty partOf = ObjectProperty(IRI.create(NS + "part_of"));
+            OWLObjectProperty hasPart = ObjectProperty(IRI.create(NS + "has_part"));
+            for (int i = 0; i < CLASSES; i++) {
+                OWLClass c = Class(IRI.create(NS + i));
+                OWLClass x = Class(IRI.create(NS + "X" + i % FILLERS));
+                OWLClass y = Class(IRI.create(NS + "X" + i * 7 % FILLERS));
+                m.addAxiom(o, SubClassOf(c, Class(IRI.create(NS + i / 10))));
+                m.addAxiom(o, SubClassOf(c, ObjectSomeValuesFrom(partOf, x)));
+                m.addAxiom(o, SubClassOf(c, ObjectSomeValuesFrom(hasPart, y)));
+                if (i % 4 == 0) {
+                    m.addAxiom(o, EquivalentClasses(c, ObjectIntersectionOf(y,
+                            ObjectSomeValuesFrom(partOf, x))));
+                }
+            }
+            m.saveOntology(o, new OWLFunctionalSyntaxOntologyFormat(), IRI.create(file));
+        }
+        boolean hashConsing = Boolean.getBoolean("hashConsing");
+        long before = usedAfterGC();
+        OWLOntologyManager m = OWLManager.createOWLOntologyManager(new OWLDataFactoryImpl(
+                true, false, false, hashConsing));
+        long time = System.nanoTime();
+        OWLOntology o = m.loadOntologyFromOntologyDocument(new FileDocumentSource(file));
+        time = System.nanoTime() - time;
+        long retained = usedAfterGC() - before;
+        System.out.println(file.getName() + "\thash consing " + hashConsing + "\t"
+                + o.getAxiomCount() + " axioms\t" + time / 1000000 + " ms\tretained "
+                + retained / (1024 * 1024) + " MB");
+    }
+
+    private static long usedAfterGC() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
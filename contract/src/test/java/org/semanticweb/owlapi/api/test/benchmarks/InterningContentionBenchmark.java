@@ -0,0 +1,100 @@
+package org.semanticweb.owlapi.api.test.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.util.ConcurrentWeakIndexCache;
+import org.semanticweb.owlapi.util.WeakIndexCache;
+
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+/** Contention benchmark for entity interning: a fixed pool of IRIs is interned
+ * by 1, 2, 4 and 8 threads, through the synchronized WeakIndexCache, through
+ * ConcurrentWeakIndexCache and through OWLDataFactory::getOWLClass. */
+@SuppressWarnings("javadoc")
+public class InterningContentionBenchmark {
+    private static final int IRIS = 10000;
+    private static final int OPS_PER_THREAD = 2000000;
+    private static final int[] THREADS = { 1, 2, 4, 8 };
+
+    interface Interner {
+        Object intern(IRI iri);
+    }
+
+    public static void main(String[] args) throws Exception {
+        final IRI[] iris = new IRI[IRIS];
+        for (int i = 0; i < IRIS; i++) {
+            iris[i] = IRI.create("http://www.semanticweb.org/owlapi/benchmark#C" + i);
+        }
+        final WeakIndexCache<IRI, Object> sync = new WeakIndexCache<IRI, Object>();
+        final ConcurrentWeakIndexCache<IRI, Object> concurrent = new ConcurrentWeakIndexCache<IRI, Object>();
+        final OWLDataFactory df = new OWLDataFactoryImpl(true, false);
+        Interner syncInterner = new Interner() {
+            @Override
+            public Object intern(IRI iri) {
+                return sync.cache(iri, iri);
+            }
+        };
+        Interner concurrentInterner = new Interner() {
+            @Override
+            public Object intern(IRI iri) {
+                return concurrent.cache(iri, iri);
+            }
+        };
+        Interner factoryInterner = new Interner() {
+            @Override
+            public Object intern(IRI iri) {
+                return df.getOWLClass(iri);
+            }
+        };
+        // warm up
+        run(syncInterner, iris, 2);
+        run(concurrentInterner, iris, 2);
+        run(factoryInterner, iris, 2);
+        System.out.println("threads\tWeakIndexCache\tConcurrentWeakIndexCache\tgetOWLClass (ops/ms)");
+        for (int t : THREADS) {
+            System.out.println(t + "\t" + run(syncInterner, iris, t) + "\t"
+                    + run(concurrentInterner, iris, t) + "\t"
+                    + run(factoryInterner, iris, t));
+        }
+    }
+
+    private static long run(final Interner interner, final IRI[] iris, int threads)
+            throws Exception {
+        ExecutorService exec = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+            for (int t = 0; t < threads; t++) {
+                final int offset = t * 7919;
+                results.add(exec.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws Exception {
+                        start.await();
+                        int sink = 0;
+                        for (int i = 0; i < OPS_PER_THREAD; i++) {
+                            sink += interner.intern(iris[(i + offset) % IRIS]).hashCode();
+                        }
+                        return sink;
+                    }
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<Integer> f : results) {
+                f.get();
+            }
+            long elapsed = Math.max(1, (System.nanoTime() - begin) / 1000000);
+            return (long) OPS_PER_THREAD * threads / elapsed;
+        } finally {
+            exec.shutdown();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.semanticweb.owlapi.api.test.benchmarks;
+
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyImpl;
+
+/** Allocation benchmark for ontology queries: compares the copy on request
+ * sets returned by getAxioms(AxiomType) and getReferencingAxioms() with the
+ * live views returned by getAxiomsView() and getReferencingAxiomsView(). Bytes
+ * allocated per call are measured with the HotSpot thread allocation counter. */
+@SuppressWarnings("javadoc")
+public class OntologyViewsAllocationBenchmark {
+    private static final String NS = "http://www.semanticweb.org/owlapi/benchmark#";
+    private static final int CLASSES = 20000;
+    private static final int CALLS = 2000;
+
+    interface Query {
+        int run(int i);
+    }
+
+    public static void main(String[] args) throws Exception {
+        OWLOntologyManager m = OWLManager.createOWLOntologyManager();
+        final OWLOntologyImpl o = (OWLOntologyImpl) m.createOntology(IRI.create(NS
+                + "ontology"));
+        final OWLClass top = Class(IRI.create(NS + "Top"));
+        final OWLClass[] classes = new OWLClass[CLASSES];
+        for (int i = 0; i < CLASSES; i++) {
+            classes[i] = Class(IRI.create(NS + "C" + i));
+            m.addAxiom(o, SubClassOf(classes[i], top));
+            m.addAxiom(o, SubClassOf(classes[i], classes[i / 2]));
+        }
+        report("getAxioms(SUBCLASS_OF)", new Query() {
+            @Override
+            public int run(int i) {
+                return count(o.getAxioms(AxiomType.SUBCLASS_OF));
+            }
+        });
+        report("getAxiomsView(SUBCLASS_OF)", new Query() {
+            @Override
+            public int run(int i) {
+                return count(o.getAxiomsView(AxiomType.SUBCLASS_OF));
+            }
+        });
+        report("getReferencingAxioms(Top)", new Query() {
+            @Override
+            public int run(int i) {
+                return count(o.getReferencingAxioms(top));
+            }
+        });
+        report("getReferencingAxiomsView(Top)", new Query() {
+            @Override
+            public int run(int i) {
+                return count(o.getReferencingAxiomsView(top));
+            }
+        });
+        report("getReferencingAxioms(Ci)", new Query() {
+            @Override
+            public int run(int i) {
+                return count(o.getReferencingAxioms(classes[i % CLASSES]));
+            }
+        });
+        report("getReferencingAxiomsView(Ci)", new Query() {
+            @Override
+            public int run(int i) {
+                return count(o.getReferencingAxiomsView(classes[i % CLASSES]));
+            }
+        });
+    }
+
+    static <T extends OWLAxiom> int count(Set<T> set) {
+        int n = 0;
+        for (T t : set) {
+            if (t instanceof OWLSubClassOfAxiom) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    private static void report(String name, Query q) {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        int sink = 0;
+        // warm up
+        for (int i = 0; i < CALLS; i++) {
+            sink += q.run(i);
+        }
+        long bytes = bean.getThreadAllocatedBytes(thread);
+        long time = System.nanoTime();
+        for (int i = 0; i < CALLS; i++) {
+            sink += q.run(i);
+        }
+        time = System.nanoTime() - time;
+        bytes = bean.getThreadAllocatedBytes(thread) - bytes;
+        System.out.println(name + "\t" + bytes / CALLS + " bytes/call\t" + time / CALLS
+                + " ns/call\t(" + sink + ")");
+    }
+}
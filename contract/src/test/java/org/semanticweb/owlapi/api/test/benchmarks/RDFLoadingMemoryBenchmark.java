@@ -0,0 +1,89 @@
+package org.semanticweb.owlapi.api.test.benchmarks;
+
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.RDFXMLOntologyFormat;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+/** Peak heap benchmark for the RDF/XML parser: loads a generated RDF/XML
+ * document (or the file passed as the first argument) and reports the peak
+ * heap use of the load next to the heap retained by the loaded ontology.
+ * -Dstreaming=true loads in streaming mode. */
+@SuppressWarnings("javadoc")
+public class RDFLoadingMemoryBenchmark {
+    private static final String NS = "http://www.semanticweb.org/owlapi/benchmark#";
+    private static final int CLASSES = 100000;
+
+    public static void main(String[] args) throws Exception {
+        File file;
+        if (args.length > 0) {
+            file = new File(args[0]);
+        } else {
+            file = File.createTempFile("benchmark", ".owl");
+            file.deleteOnExit();
+            OWLOntologyManager m = OWLManager.createOWLOntologyManager();
+            OWLOntology o = m.createOntology(IRI.create(NS + "ontology"));
+            OWLObjectProperty p = ObjectProperty(IRI.create(NS + "p"));
+            OWLDataProperty d = DataProperty(IRI.create(NS + "d"));
+            OWLClass top = Class(IRI.create(NS + "Top"));
+            for (int i = 0; i < CLASSES; i++) {
+                OWLClass c = Class(IRI.create(NS + "C" + i));
+                m.addAxiom(o, SubClassOf(c, top));
+                m.addAxiom(o, SubClassOf(c,
+                        ObjectSomeValuesFrom(p, Class(IRI.create(NS + "D" + i % 1000)))));
+                m.addAxiom(o, AnnotationAssertion(RDFSLabel(), c.getIRI(),
+                        Literal("label for class " + i, "en")));
+                // assertions are only translated at the end of parsing
+                OWLNamedIndividual x = NamedIndividual(IRI.create(NS + "i" + i));
+                m.addAxiom(o, ClassAssertion(c, x));
+                m.addAxiom(o, ObjectPropertyAssertion(p, x,
+                        NamedIndividual(IRI.create(NS + "i" + (i + 1) % CLASSES))));
+                m.addAxiom(o, DataPropertyAssertion(d, x, Literal(i)));
+            }
+            m.saveOntology(o, new RDFXMLOntologyFormat(), IRI.create(file));
+        }
+        long before = usedAfterGC();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            pool.resetPeakUsage();
+        }
+        OWLOntologyManager m = OWLManager.createOWLOntologyManager();
+        long time = System.nanoTime();
+        OWLOntologyLoaderConfiguration config = new OWLOntologyLoaderConfiguration()
+                .setStreamingRDF(Boolean.getBoolean("streaming"));
+        OWLOntology o = m.loadOntologyFromOntologyDocument(new FileDocumentSource(file),
+                config);
+        time = System.nanoTime() - time;
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        long retained = usedAfterGC() - before;
+        System.out.println(file.getName() + "\t" + o.getAxiomCount() + " axioms\t"
+                + time / 1000000 + " ms\tpeak " + (peak - before) / (1024 * 1024)
+                + " MB\tretained " + retained / (1024 * 1024) + " MB");
+    }
+
+    private static long usedAfterGC() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,102 @@
+package org.semanticweb.owlapi.api.test.benchmarks;
+
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+
+/** Random axioms and class expressions of five kinds, with nested class
+ * expressions, over a fixed vocabulary of classes, object properties and
+ * individuals. The same seed gives the same objects, but new instances, so
+ * that hash codes are never already cached. */
+class RandomAxioms {
+    private static final String NS = "http://www.semanticweb.org/owlapi/benchmark#";
+    private final OWLClass[] classes;
+    private final OWLObjectProperty[] properties = new OWLObjectProperty[100];
+    private final OWLNamedIndividual[] individuals;
+
+    /** @param entities
+     *            number of classes and of individuals in the vocabulary */
+    RandomAxioms(int entities) {
+        classes = new OWLClass[entities];
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = Class(IRI.create(NS + "C" + i));
+        }
+        for (int i = 0; i < properties.length; i++) {
+            properties[i] = ObjectProperty(IRI.create(NS + "p" + i));
+        }
+        individuals = new OWLNamedIndividual[entities];
+        for (int i = 0; i < individuals.length; i++) {
+            individuals[i] = NamedIndividual(IRI.create(NS + "i" + i));
+        }
+    }
+
+    List<OWLAxiom> axioms(int count, long seed) {
+        Random random = new Random(seed);
+        List<OWLAxiom> axioms = new ArrayList<OWLAxiom>(count);
+        for (int i = 0; i < count; i++) {
+            OWLClass a = classes[random.nextInt(classes.length)];
+            OWLClass b = classes[random.nextInt(classes.length)];
+            OWLObjectProperty p = properties[random.nextInt(properties.length)];
+            OWLNamedIndividual x = individuals[random.nextInt(individuals.length)];
+            switch (i % 5) {
+                case 0:
+                    axioms.add(SubClassOf(a, b));
+                    break;
+                case 1:
+                    axioms.add(SubClassOf(a, ObjectSomeValuesFrom(p, b)));
+                    break;
+                case 2:
+                    axioms.add(EquivalentClasses(a,
+                            ObjectIntersectionOf(b, ObjectSomeValuesFrom(p, a))));
+                    break;
+                case 3:
+                    axioms.add(ClassAssertion(ObjectAllValuesFrom(p, ObjectUnionOf(a, b)),
+                            x));
+                    break;
+                default:
+                    axioms.add(ObjectPropertyAssertion(p, x,
+                            individuals[random.nextInt(individuals.length)]));
+                    break;
+            }
+        }
+        return axioms;
+    }
+
+    List<OWLClassExpression> expressions(int count, long seed) {
+        Random random = new Random(seed);
+        List<OWLClassExpression> expressions = new ArrayList<OWLClassExpression>(count);
+        for (int i = 0; i < count; i++) {
+            OWLClass a = classes[random.nextInt(classes.length)];
+            OWLClass b = classes[random.nextInt(classes.length)];
+            OWLObjectProperty p = properties[random.nextInt(properties.length)];
+            switch (i % 5) {
+                case 0:
+                    expressions.add(a);
+                    break;
+                case 1:
+                    expressions.add(ObjectSomeValuesFrom(p, b));
+                    break;
+                case 2:
+                    expressions.add(ObjectIntersectionOf(a, ObjectSomeValuesFrom(p, b)));
+                    break;
+                case 3:
+                    expressions.add(ObjectUnionOf(a, b,
+                            ObjectComplementOf(ObjectSomeValuesFrom(p, b))));
+                    break;
+                default:
+                    expressions.add(ObjectAllValuesFrom(p, ObjectUnionOf(a, b)));
+                    break;
+            }
+        }
+        return expressions;
+    }
+}
@@ -0,0 +1,6 @@
+/** Benchmarks for the performance work on the API and its implementation. They
+ * are not unit tests: each is run with its {@code main} method, and the class
+ * names do not end in Test or TestCase, which keeps them out of the unit test
+ * run. Run them with a fixed heap (e.g. -Xmx2g); the benchmarks that measure
+ * heap use also need a single run per JVM. */
+package org.semanticweb.owlapi.api.test.benchmarks;
@@ -0,0 +1,65 @@
+package org.semanticweb.owlapi.api.test.classexpressions;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataRange;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.vocab.OWLFacet;
+
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+@SuppressWarnings("javadoc")
+public class HashConsingTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test#";
+    private final OWLDataFactory consing = new OWLDataFactoryImpl(true, false, false, true);
+    private final OWLDataFactory plain = new OWLDataFactoryImpl();
+
+    private OWLClassExpression partOfSome(OWLDataFactory df, String filler) {
+        OWLObjectProperty partOf = df.getOWLObjectProperty(IRI.create(NS + "part_of"));
+        OWLClass c = df.getOWLClass(IRI.create(NS + filler));
+        return df.getOWLObjectIntersectionOf(df.getOWLClass(IRI.create(NS + "A")),
+                df.getOWLObjectSomeValuesFrom(partOf, c));
+    }
+
+    private OWLDataRange range(OWLDataFactory df) {
+        return df.getOWLDataUnionOf(df.getOWLDatatypeRestriction(df.getIntegerOWLDatatype(),
+                OWLFacet.MIN_INCLUSIVE, df.getOWLLiteral(1)), df.getOWLDataOneOf(df
+                .getOWLLiteral("x")));
+    }
+
+    @Test
+    public void shouldShareEqualExpressions() {
+        assertTrue(((OWLDataFactoryImpl) consing).isHashConsing());
+        assertSame(partOfSome(consing, "B"), partOfSome(consing, "B"));
+        assertSame(range(consing), range(consing));
+        assertNotSame(partOfSome(consing, "B"), partOfSome(consing, "C"));
+        assertEquals(partOfSome(plain, "B"), partOfSome(consing, "B"));
+        assertEquals(new HashSet<Object>(Arrays.asList(range(plain))), new HashSet<Object>(
+                Arrays.asList(range(consing))));
+    }
+
+    @Test
+    public void shouldNotShareWithoutHashConsing() {
+        assertFalse(((OWLDataFactoryImpl) plain).isHashConsing());
+        assertNotSame(partOfSome(plain, "B"), partOfSome(plain, "B"));
+        assertEquals(partOfSome(plain, "B"), partOfSome(plain, "B"));
+    }
+
+    @Test
+    public void shouldNotShareAxioms() {
+        OWLClass a = consing.getOWLClass(IRI.create(NS + "A"));
+        OWLClassExpression sup = partOfSome(consing, "B");
+        assertNotSame(consing.getOWLSubClassOfAxiom(a, sup),
+                consing.getOWLSubClassOfAxiom(a, sup));
+        assertSame(consing.getOWLSubClassOfAxiom(a, sup).getSuperClass(), consing
+                .getOWLSubClassOfAxiom(a, partOfSome(consing, "B")).getSuperClass());
+    }
+}
@@ -0,0 +1,96 @@
+package org.semanticweb.owlapi.api.test.imports;
+
+import static org.junit.Assert.*;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.Factory;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLMutableOntology;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.RemoveAxiom;
+import org.semanticweb.owlapi.model.RemoveImport;
+
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyManagerImpl;
+
+@SuppressWarnings("javadoc")
+public class ImportsClosureIndexTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test#";
+
+    @Test
+    public void shouldAnswerClosureQueriesFromMergedIndex() throws Exception {
+        OWLOntologyManager m = Factory.getManager();
+        OWLOntology top = m.createOntology(IRI.create(NS + "top"));
+        OWLOntology left = m.createOntology(IRI.create(NS + "left"));
+        OWLOntology right = m.createOntology(IRI.create(NS + "right"));
+        OWLClass a = Class(IRI.create(NS + "A"));
+        OWLClass b = Class(IRI.create(NS + "B"));
+        OWLClass c = Class(IRI.create(NS + "C"));
+        OWLAxiom ab = SubClassOf(a, b);
+        OWLAnnotation note = Annotation(RDFSComment(), Literal("note"));
+        OWLAxiom annotatedAB = ab.getAnnotatedAxiom(Collections.singleton(note));
+        m.addAxiom(left, ab);
+        m.addAxiom(right, ab);
+        m.addAxiom(right, annotatedAB);
+        m.applyChange(new AddImport(top, ImportsDeclaration(left.getOntologyID()
+                .getOntologyIRI())));
+        AddImport importRight = new AddImport(top, ImportsDeclaration(right
+                .getOntologyID().getOntologyIRI()));
+        m.applyChange(importRight);
+        assertNotNull(((OWLOntologyManagerImpl) m).getImportsClosureIndex(top));
+        assertTrue(top.containsAxiom(ab, true));
+        assertFalse(top.containsAxiom(ab, false));
+        assertEquals(2, top.getAxiomsIgnoreAnnotations(ab, true).size());
+        assertTrue(top.getSignature(true).contains(RDFSComment()));
+        // the same axiom is still in the closure after removal from one
+        // ontology
+        m.removeAxiom(left, ab);
+        assertTrue(top.containsAxiom(ab, true));
+        m.removeAxiom(right, ab);
+        assertFalse(top.containsAxiom(ab, true));
+        assertTrue(top.containsAxiomIgnoreAnnotations(ab, true));
+        assertTrue(top.containsEntityInSignature(a, true));
+        m.removeAxiom(right, annotatedAB);
+        assertFalse(top.containsAxiomIgnoreAnnotations(ab, true));
+        assertFalse(top.containsEntityInSignature(a, true));
+        assertTrue(top.getSignature(true).isEmpty());
+        m.addAxiom(right, Declaration(c));
+        assertEquals(Collections.singleton(c), top.getSignature(true));
+        // removing an import changes the closure
+        m.applyChange(new RemoveImport(top, importRight.getImportDeclaration()));
+        assertFalse(top.containsEntityInSignature(c, true));
+    }
+
+    @Test
+    public void shouldSeeChangesAppliedDirectlyToImportedOntology() throws Exception {
+        OWLOntologyManager m = Factory.getManager();
+        OWLOntology root = m.createOntology(IRI.create(NS + "root"));
+        OWLOntology imported = m.createOntology(IRI.create(NS + "imported"));
+        m.applyChange(new AddImport(root, ImportsDeclaration(imported.getOntologyID()
+                .getOntologyIRI())));
+        OWLClass a = Class(IRI.create(NS + "A"));
+        OWLAxiom ax = SubClassOf(a, Class(IRI.create(NS + "B")));
+        // builds the index
+        assertFalse(root.containsAxiom(ax, true));
+        ((OWLMutableOntology) imported).applyChange(new AddAxiom(imported, ax));
+        assertTrue(root.containsAxiom(ax, true));
+        assertTrue(root.containsAxiomIgnoreAnnotations(ax, true));
+        assertTrue(root.containsEntityInSignature(a, true));
+        assertTrue(root.getSignature(true).contains(a));
+        ((OWLMutableOntology) imported).applyChanges(Collections
+                .<OWLOntologyChange> singletonList(new RemoveAxiom(imported, ax)));
+        assertFalse(root.containsAxiom(ax, true));
+        assertFalse(root.containsEntityInSignature(a, true));
+        ((OWLMutableOntology) imported).applyChange(new AddAxiom(imported, ax));
+        assertTrue(root.containsAxiom(ax, true));
+    }
+}
@@ -0,0 +1,199 @@
+package org.semanticweb.owlapi.api.test.imports;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.Factory;
+import org.semanticweb.owlapi.io.IRIDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.UnloadableImportException;
+import org.semanticweb.owlapi.util.SimpleIRIMapper;
+
+@SuppressWarnings("javadoc")
+public class ParallelImportsLoadingTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test/";
+    private static final int CHILDREN = 12;
+    private File dir;
+    private ExecutorService executor;
+    private final Map<IRI, IRI> documents = new HashMap<IRI, IRI>();
+
+    @Before
+    public void setUp() throws Exception {
+        dir = File.createTempFile("imports", "");
+        dir.delete();
+        dir.mkdir();
+        // fewer threads than imports, so that some imports are loaded by the
+        // threads that need them
+        executor = Executors.newFixedThreadPool(2);
+        write("shared", rdf("shared", "", "  <owl:ObjectProperty rdf:about=\"" + NS
+                + "shared#p\"/>\n"));
+        StringBuilder imports = new StringBuilder();
+        for (int i = 0; i < CHILDREN; i++) {
+            String name = "child" + i;
+            imports.append(NS).append(name).append(' ');
+            if (i % 3 == 0) {
+                // p is typed only in the imported ontology
+                write(name, rdf(name, NS + "shared", "  <rdf:Description rdf:about=\"#x"
+                        + i + "\"><s:p rdf:resource=\"#y" + i + "\"/></rdf:Description>\n"));
+            } else if (i == CHILDREN - 1) {
+                // imports the previous child, which imports this one
+                write(name, functional(name, NS + "shared " + NS + "child" + (i - 1), i));
+            } else if (i == CHILDREN - 2) {
+                write(name, functional(name, NS + "child" + (i + 1), i));
+            } else {
+                write(name, functional(name, NS + "shared", i));
+            }
+        }
+        write("root", functional("root", imports.toString().trim(), -1));
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+        for (File f : dir.listFiles()) {
+            f.delete();
+        }
+        dir.delete();
+    }
+
+    private void write(String name, String content) throws Exception {
+        File file = new File(dir, name + ".owl");
+        OutputStream out = new FileOutputStream(file);
+        out.write(content.getBytes("UTF-8"));
+        out.close();
+        documents.put(IRI.create(NS + name), IRI.create(file));
+    }
+
+    private static String rdf(String name, String imported, String body) {
+        return "<?xml version=\"1.0\"?>\n"
+                + "<rdf:RDF xml:base=\"" + NS + name + "\" xmlns:s=\"" + NS + "shared#\"\n"
+                + "  xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\"\n"
+                + "  xmlns:owl=\"http://www.w3.org/2002/07/owl#\">\n"
+                + "  <owl:Ontology rdf:about=\"" + NS + name + "\">"
+                + (imported.length() == 0 ? "" : "<owl:imports rdf:resource=\""
+                        + imported + "\"/>") + "</owl:Ontology>\n" + body + "</rdf:RDF>";
+    }
+
+    private static String functional(String name, String imported, int i) {
+        StringBuilder b = new StringBuilder("Prefix(:=<" + NS + name + "#>)\nOntology(<"
+                + NS + name + ">\n");
+        for (String iri : imported.split(" ")) {
+            b.append("Import(<").append(iri).append(">)\n");
+        }
+        if (i >= 0) {
+            b.append("SubClassOf(:C").append(i).append(" <").append(NS)
+                    .append("shared#S>)\n");
+        }
+        return b.append(")").toString();
+    }
+
+    private OWLOntologyManager createManager() {
+        OWLOntologyManager m = Factory.getManager();
+        for (Map.Entry<IRI, IRI> e : documents.entrySet()) {
+            m.addIRIMapper(new SimpleIRIMapper(e.getKey(), e.getValue()));
+        }
+        return m;
+    }
+
+    private Map<OWLOntologyID, Set<OWLAxiom>> load(OWLOntologyLoaderConfiguration config)
+            throws Exception {
+        OWLOntologyManager m = createManager();
+        OWLOntology root = m.loadOntologyFromOntologyDocument(new IRIDocumentSource(
+                documents.get(IRI.create(NS + "root"))), config);
+        assertEquals(CHILDREN + 2, m.getImportsClosure(root).size());
+        Map<OWLOntologyID, Set<OWLAxiom>> result = new HashMap<OWLOntologyID, Set<OWLAxiom>>();
+        for (OWLOntology o : m.getOntologies()) {
+            assertEquals(documents.get(o.getOntologyID().getOntologyIRI()),
+                    m.getOntologyDocumentIRI(o));
+            Set<OWLOntologyID> imports = new HashSet<OWLOntologyID>();
+            for (OWLOntology imported : m.getDirectImports(o)) {
+                imports.add(imported.getOntologyID());
+            }
+            assertEquals(o.getImportsDeclarations().size(), imports.size());
+            result.put(o.getOntologyID(), o.getAxioms());
+        }
+        return result;
+    }
+
+    @Test
+    public void shouldLoadLikeSequentialLoading() throws Exception {
+        Map<OWLOntologyID, Set<OWLAxiom>> expected = load(new OWLOntologyLoaderConfiguration());
+        assertEquals(CHILDREN + 2, expected.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(expected, load(new OWLOntologyLoaderConfiguration()
+                    .setImportsLoadingExecutor(executor)));
+        }
+    }
+
+    @Test
+    public void shouldReportUnloadableImport() throws Exception {
+        write("child3", functional("child3", "http://localhost:1/missing", 3));
+        OWLOntologyManager m = createManager();
+        try {
+            m.loadOntologyFromOntologyDocument(new IRIDocumentSource(documents.get(IRI
+                    .create(NS + "root"))), new OWLOntologyLoaderConfiguration()
+                    .setImportsLoadingExecutor(executor));
+            fail("child3 cannot be loaded");
+        } catch (UnloadableImportException e) {
+            assertEquals(IRI.create(NS + "child3"), e.getImportsDeclaration().getIRI());
+        }
+        assertFalse(m.contains(IRI.create(NS + "root")));
+    }
+
+    @Test
+    public void shouldWaitForImportsInCyclesWithRDFDocuments() throws Exception {
+        // cycleB is slow to parse, so that cycleC, which imports cycleB back
+        // and needs it when all its triples have been parsed, waits for
+        // cycleB before cycleB waits for cycleC; cycleC then still has most
+        // of its axioms to add when cycleB has been loaded
+        StringBuilder b = new StringBuilder();
+        StringBuilder c = new StringBuilder();
+        for (int i = 0; i < 200000; i++) {
+            b.append("SubClassOf(:B").append(i).append(" :B").append(i + 1).append(")\n");
+        }
+        for (int i = 0; i < 20000; i++) {
+            c.append("  <owl:Class rdf:about=\"#C").append(i)
+                    .append("\"><rdfs:subClassOf rdf:resource=\"#C").append(i + 1)
+                    .append("\"/></owl:Class>\n");
+        }
+        String functional = functional("cycleB", NS + "cycleC", -1);
+        write("cycleB", functional.substring(0, functional.length() - 1) + b + ")");
+        write("cycleC", rdf("cycleC", NS + "cycleB", c.toString()).replace("xmlns:owl=",
+                "xmlns:rdfs=\"http://www.w3.org/2000/01/rdf-schema#\" xmlns:owl="));
+        write("cycleRoot", functional("cycleRoot", NS + "cycleB", -1));
+        IRI cycleC = IRI.create(NS + "cycleC");
+        OWLOntologyManager sequential = createManager();
+        sequential.loadOntology(IRI.create(NS + "cycleRoot"));
+        int expected = sequential.getOntology(cycleC).getAxiomCount();
+        for (int i = 0; i < 3; i++) {
+            OWLOntologyManager m = createManager();
+            m.loadOntologyFromOntologyDocument(new IRIDocumentSource(documents.get(IRI
+                    .create(NS + "cycleRoot"))), new OWLOntologyLoaderConfiguration()
+                    .setImportsLoadingExecutor(executor));
+            // read without going through the manager, which would wait for
+            // an import still being loaded
+            for (OWLOntology o : m.getOntologies()) {
+                if (cycleC.equals(o.getOntologyID().getOntologyIRI())) {
+                    assertEquals(expected, o.getAxiomCount());
+                }
+            }
+        }
+    }
+}
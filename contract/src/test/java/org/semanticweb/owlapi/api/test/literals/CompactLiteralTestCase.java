@@ -0,0 +1,58 @@
+package org.semanticweb.owlapi.api.test.literals;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLLiteral;
+
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLLiteralImplPlain;
+
+@SuppressWarnings("javadoc")
+public class CompactLiteralTestCase {
+    private final OWLDataFactory compact = new OWLDataFactoryImpl(true, false, true);
+    private final OWLDataFactory plain = new OWLDataFactoryImpl(false, false);
+
+    @Test
+    public void shouldAgreeWithDefaultLiterals() {
+        String[] values = { "", "label", "200 \u00B5Liters \uD800\uDD92", "3" };
+        String[] langs = { null, "", "en", " EN-gb " };
+        for (String value : values) {
+            for (String lang : langs) {
+                OWLLiteral c = compact.getOWLLiteral(value, lang);
+                OWLLiteral p = plain.getOWLLiteral(value, lang);
+                assertTrue(c instanceof OWLLiteralImplPlain);
+                assertEquals(p, c);
+                assertEquals(c, p);
+                assertEquals(p.hashCode(), c.hashCode());
+                assertEquals(0, p.compareTo(c));
+                assertEquals(p.getLiteral(), c.getLiteral());
+                assertEquals(p.getLang(), c.getLang());
+                assertEquals(p.getDatatype(), c.getDatatype());
+                assertEquals(p.hasLang(), c.hasLang());
+                assertTrue(c.isRDFPlainLiteral());
+            }
+        }
+    }
+
+    @Test
+    public void shouldShareLiteralsAndLanguageTags() {
+        OWLLiteral a = compact.getOWLLiteral("label", "EN");
+        OWLLiteral b = compact.getOWLLiteral("label", "en");
+        assertSame(a, b);
+        OWLLiteral c = compact.getOWLLiteral("other", "en");
+        assertSame(a.getLang(), c.getLang());
+        OWLLiteral typed = compact.getOWLLiteral("label@en",
+                compact.getRDFPlainLiteral());
+        assertSame(a, typed);
+    }
+
+    @Test
+    public void shouldKeepOtherDatatypes() {
+        OWLLiteral s = compact.getOWLLiteral("label");
+        assertFalse(s instanceof OWLLiteralImplPlain);
+        assertTrue(s.getDatatype().isString());
+        assertEquals(plain.getOWLLiteral("label"), s);
+    }
+}
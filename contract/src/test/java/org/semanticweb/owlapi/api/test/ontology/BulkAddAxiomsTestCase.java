@@ -0,0 +1,54 @@
+package org.semanticweb.owlapi.api.test.ontology;
+
+import static org.junit.Assert.*;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.Factory;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLException;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+@SuppressWarnings("javadoc")
+public class BulkAddAxiomsTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test#";
+
+    @Test
+    public void shouldBroadcastOneBatchForAllAxioms() throws OWLException {
+        OWLOntologyManager m = Factory.getManager();
+        OWLOntology o = m.createOntology(IRI.create(NS + "bulk"));
+        OWLClass top = Class(IRI.create(NS + "Top"));
+        Set<OWLAxiom> axioms = new LinkedHashSet<OWLAxiom>();
+        for (int i = 0; i < 100; i++) {
+            OWLClass c = Class(IRI.create(NS + "C" + i));
+            axioms.add(Declaration(c));
+            axioms.add(SubClassOf(c, top));
+        }
+        m.addAxiom(o, SubClassOf(Class(IRI.create(NS + "C0")), top));
+        final List<List<? extends OWLOntologyChange>> batches = new ArrayList<List<? extends OWLOntologyChange>>();
+        m.addOntologyChangeListener(new OWLOntologyChangeListener() {
+            @Override
+            public void ontologiesChanged(List<? extends OWLOntologyChange> changes) {
+                batches.add(changes);
+            }
+        });
+        List<OWLOntologyChange> applied = m.addAxioms(o, axioms);
+        assertEquals(1, batches.size());
+        // the axiom already in the ontology is not reported as applied
+        assertEquals(axioms.size() - 1, applied.size());
+        assertEquals(applied, batches.get(0));
+        assertEquals(axioms, o.getAxioms());
+        assertEquals(100, o.getSubClassAxiomsForSuperClass(top).size());
+        assertEquals(101, o.getClassesInSignature().size());
+    }
+}
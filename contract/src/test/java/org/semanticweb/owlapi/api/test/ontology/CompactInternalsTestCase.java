@@ -0,0 +1,97 @@
+package org.semanticweb.owlapi.api.test.ontology;
+
+import static org.junit.Assert.*;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.Factory;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.RemoveAxiom;
+
+import uk.ac.manchester.cs.owl.owlapi.CompactInternalsImpl;
+import uk.ac.manchester.cs.owl.owlapi.InternalsImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyImpl;
+
+@SuppressWarnings("javadoc")
+public class CompactInternalsTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test#";
+
+    @Test
+    public void shouldAnswerLikeDefaultInternals() {
+        OWLOntologyManager m = Factory.getManager();
+        OWLOntologyImpl compact = new OWLOntologyImpl(m, new OWLOntologyID(
+                IRI.create(NS + "compact")), new CompactInternalsImpl());
+        OWLOntologyImpl plain = new OWLOntologyImpl(m, new OWLOntologyID(
+                IRI.create(NS + "plain")), new InternalsImpl());
+        OWLClass a = Class(IRI.create(NS + "A"));
+        OWLObjectProperty p = ObjectProperty(IRI.create(NS + "p"));
+        OWLNamedIndividual i = NamedIndividual(IRI.create(NS + "i"));
+        Set<OWLAxiom> axioms = new HashSet<OWLAxiom>();
+        for (int j = 0; j < 100; j++) {
+            OWLClass c = Class(IRI.create(NS + "C" + j));
+            axioms.add(Declaration(c));
+            axioms.add(SubClassOf(c, a));
+            axioms.add(SubClassOf(c, ObjectSomeValuesFrom(p, a)));
+            axioms.add(ClassAssertion(c, i));
+        }
+        for (OWLAxiom ax : axioms) {
+            compact.applyChange(new AddAxiom(compact, ax));
+            plain.applyChange(new AddAxiom(plain, ax));
+        }
+        // trigger a lazy index, then remove half of the axioms
+        assertEquals(plain.getClassAssertionAxioms(i), compact.getClassAssertionAxioms(i));
+        int j = 0;
+        for (OWLAxiom ax : axioms) {
+            if (j++ % 2 == 0) {
+                compact.applyChange(new RemoveAxiom(compact, ax));
+                plain.applyChange(new RemoveAxiom(plain, ax));
+            }
+        }
+        assertEquals(plain.getAxiomCount(), compact.getAxiomCount());
+        assertEquals(plain.getAxioms(), compact.getAxioms());
+        assertEquals(plain.getAxioms(AxiomType.SUBCLASS_OF),
+                compact.getAxioms(AxiomType.SUBCLASS_OF));
+        assertEquals(plain.getReferencingAxioms(a), compact.getReferencingAxioms(a));
+        assertEquals(plain.getReferencingAxioms(p), compact.getReferencingAxioms(p));
+        assertEquals(plain.getClassAssertionAxioms(i), compact.getClassAssertionAxioms(i));
+        assertEquals(plain.getSubClassAxiomsForSuperClass(a),
+                compact.getSubClassAxiomsForSuperClass(a));
+        assertEquals(plain.getSignature(), compact.getSignature());
+        for (OWLAxiom ax : axioms) {
+            assertEquals(plain.containsAxiom(ax), compact.containsAxiom(ax));
+        }
+    }
+
+    @Test
+    public void shouldReuseReleasedIds() {
+        OWLOntologyManager m = Factory.getManager();
+        CompactInternalsImpl internals = new CompactInternalsImpl();
+        OWLOntologyImpl compact = new OWLOntologyImpl(m, new OWLOntologyID(
+                IRI.create(NS + "churn")), internals);
+        OWLClass a = Class(IRI.create(NS + "A"));
+        OWLAxiom kept = Declaration(a);
+        compact.applyChange(new AddAxiom(compact, kept));
+        for (int j = 0; j < 100; j++) {
+            OWLAxiom ax = SubClassOf(Class(IRI.create(NS + "C" + j)), a);
+            compact.applyChange(new AddAxiom(compact, ax));
+            assertTrue(internals.getAxiomIdTable().getId(ax) < 2);
+            assertEquals(2, compact.getAxiomCount());
+            assertEquals(Collections.singleton(ax), compact.getAxioms(AxiomType.SUBCLASS_OF));
+            compact.applyChange(new RemoveAxiom(compact, ax));
+        }
+        assertEquals(Collections.singleton(kept), compact.getAxioms());
+        assertEquals(1, compact.getAxiomCount());
+    }
+}
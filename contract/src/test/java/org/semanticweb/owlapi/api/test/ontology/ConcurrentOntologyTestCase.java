@@ -0,0 +1,69 @@
+package org.semanticweb.owlapi.api.test.ontology;
+
+import static org.junit.Assert.*;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+@SuppressWarnings("javadoc")
+public class ConcurrentOntologyTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test#";
+    private static final int AXIOMS = 2000;
+
+    @Test
+    public void shouldQueryWhileChanging() throws Exception {
+        final OWLOntologyManager m = OWLManager.createConcurrentOWLOntologyManager();
+        final OWLOntology o = m.createOntology(IRI.create(NS + "concurrent"));
+        final OWLClass top = Class(IRI.create(NS + "Top"));
+        ExecutorService exec = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> readers = new ArrayList<Future<Integer>>();
+            Future<Integer> writer = exec.submit(new Callable<Integer>() {
+                @Override
+                public Integer call() {
+                    for (int i = 0; i < AXIOMS; i++) {
+                        m.addAxiom(o, SubClassOf(Class(IRI.create(NS + "C" + i)), top));
+                    }
+                    return AXIOMS;
+                }
+            });
+            for (int r = 0; r < 3; r++) {
+                readers.add(exec.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() {
+                        int last = 0;
+                        while (last < AXIOMS) {
+                            int count = o.getAxioms(AxiomType.SUBCLASS_OF).size();
+                            int refs = o.getReferencingAxioms(top).size();
+                            assertTrue(count >= last);
+                            assertTrue(refs >= last);
+                            last = count;
+                        }
+                        return last;
+                    }
+                }));
+            }
+            assertEquals(AXIOMS, writer.get().intValue());
+            for (Future<Integer> f : readers) {
+                assertEquals(AXIOMS, f.get().intValue());
+            }
+        } finally {
+            exec.shutdown();
+        }
+        assertEquals(AXIOMS, o.getSubClassAxiomsForSuperClass(top).size());
+        assertEquals(AXIOMS + 1, o.getClassesInSignature().size());
+    }
+}
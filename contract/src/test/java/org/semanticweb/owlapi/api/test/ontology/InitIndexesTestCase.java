@@ -0,0 +1,91 @@
+package org.semanticweb.owlapi.api.test.ontology;
+
+import static org.junit.Assert.*;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.Factory;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+import uk.ac.manchester.cs.owl.owlapi.ConcurrentInternalsImpl;
+import uk.ac.manchester.cs.owl.owlapi.InternalsImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyImpl;
+
+@SuppressWarnings("javadoc")
+public class InitIndexesTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test#";
+
+    private static OWLOntologyImpl createOntology(OWLOntologyManager m, String name,
+            InternalsImpl internals) {
+        OWLOntologyImpl o = new OWLOntologyImpl(m, new OWLOntologyID(IRI.create(NS
+                + name)), internals);
+        OWLClass a = Class(IRI.create(NS + "A"));
+        OWLObjectProperty p = ObjectProperty(IRI.create(NS + "p"));
+        OWLNamedIndividual i = NamedIndividual(IRI.create(NS + "i"));
+        Set<OWLAxiom> axioms = new HashSet<OWLAxiom>();
+        for (int j = 0; j < 100; j++) {
+            OWLClass c = Class(IRI.create(NS + "C" + j));
+            axioms.add(SubClassOf(c, a));
+            axioms.add(SubClassOf(c, ObjectSomeValuesFrom(p, a)));
+            axioms.add(ClassAssertion(c, i));
+            axioms.add(ObjectPropertyDomain(p, c));
+        }
+        for (OWLAxiom ax : axioms) {
+            o.applyChange(new AddAxiom(o, ax));
+        }
+        return o;
+    }
+
+    @Test
+    public void shouldBuildAllIndexes() {
+        OWLOntologyManager m = Factory.getManager();
+        InternalsImpl internals = new InternalsImpl();
+        OWLOntologyImpl warm = createOntology(m, "warm", internals);
+        OWLOntologyImpl cold = createOntology(m, "cold", new InternalsImpl());
+        assertFalse(internals.getSubClassAxiomsByRHS().isInitialized());
+        warm.initIndexes();
+        assertTrue(internals.getSubClassAxiomsByLHS().isInitialized());
+        assertTrue(internals.getSubClassAxiomsByRHS().isInitialized());
+        assertTrue(internals.getClassAssertionAxiomsByIndividual().isInitialized());
+        assertTrue(internals.getObjectPropertyDomainAxiomsByProperty().isInitialized());
+        assertTrue(internals.getAxiomsIgnoreAnnotations().isInitialized());
+        OWLClass a = Class(IRI.create(NS + "A"));
+        OWLNamedIndividual i = NamedIndividual(IRI.create(NS + "i"));
+        OWLObjectProperty p = ObjectProperty(IRI.create(NS + "p"));
+        assertEquals(cold.getSubClassAxiomsForSuperClass(a),
+                warm.getSubClassAxiomsForSuperClass(a));
+        assertEquals(cold.getClassAssertionAxioms(i), warm.getClassAssertionAxioms(i));
+        assertEquals(cold.getObjectPropertyDomainAxioms(p),
+                warm.getObjectPropertyDomainAxioms(p));
+        assertEquals(100, warm.getSubClassAxiomsForSuperClass(a).size());
+    }
+
+    @Test
+    public void shouldBuildAllIndexesWithLocks() {
+        OWLOntologyManager m = Factory.getManager();
+        ConcurrentInternalsImpl internals = new ConcurrentInternalsImpl();
+        OWLOntologyImpl o = createOntology(m, "concurrent", internals);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            o.initIndexes(executor);
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(internals.getSubClassAxiomsByRHS().isInitialized());
+        assertTrue(internals.getClassAssertionAxiomsByIndividual().isInitialized());
+        assertEquals(100,
+                o.getSubClassAxiomsForSuperClass(Class(IRI.create(NS + "A"))).size());
+    }
+}
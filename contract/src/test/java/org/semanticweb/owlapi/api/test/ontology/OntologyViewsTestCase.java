@@ -0,0 +1,86 @@
+package org.semanticweb.owlapi.api.test.ontology;
+
+import static org.junit.Assert.*;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.Factory;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyImpl;
+
+@SuppressWarnings("javadoc")
+public class OntologyViewsTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test#";
+
+    @Test
+    public void shouldReturnLiveUnmodifiableViews() throws Exception {
+        OWLOntologyManager m = Factory.getManager();
+        OWLOntologyImpl o = (OWLOntologyImpl) m.createOntology(IRI.create(NS + "views"));
+        OWLClass a = Class(IRI.create(NS + "A"));
+        OWLClass b = Class(IRI.create(NS + "B"));
+        OWLAxiom ab = SubClassOf(a, b);
+        m.addAxiom(o, ab);
+        Set<OWLSubClassOfAxiom> subClassAxioms = o.getAxiomsView(AxiomType.SUBCLASS_OF);
+        Set<OWLAxiom> referencing = o.getReferencingAxiomsView(a);
+        assertEquals(o.getAxioms(AxiomType.SUBCLASS_OF), subClassAxioms);
+        assertEquals(o.getReferencingAxioms(a), referencing);
+        assertEquals(o.getClassesInSignature(), o.getClassesInSignatureView());
+        OWLAxiom ba = SubClassOf(b, a);
+        m.addAxiom(o, ba);
+        assertEquals(2, subClassAxioms.size());
+        assertTrue(referencing.contains(ba));
+        try {
+            referencing.remove(ab);
+            fail("views should not be modifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        assertTrue(o.getAxiomsView(AxiomType.DECLARATION).isEmpty());
+        assertTrue(o.getReferencingAxiomsView(Class(IRI.create(NS + "C"))).isEmpty());
+    }
+
+    @Test
+    public void shouldTrackKeysWithNoValues() throws Exception {
+        OWLOntologyManager m = Factory.getManager();
+        OWLOntologyImpl o = (OWLOntologyImpl) m.createOntology(IRI.create(NS + "empty"));
+        OWLClass a = Class(IRI.create(NS + "A"));
+        OWLAxiom ab = SubClassOf(a, Class(IRI.create(NS + "B")));
+        Set<OWLSubClassOfAxiom> subClassAxioms = o.getAxiomsView(AxiomType.SUBCLASS_OF);
+        Set<OWLAxiom> referencing = o.getReferencingAxiomsView(a);
+        assertTrue(subClassAxioms.isEmpty());
+        assertTrue(referencing.isEmpty());
+        m.addAxiom(o, ab);
+        assertEquals(Collections.singleton(ab), subClassAxioms);
+        assertEquals(Collections.singleton(ab), referencing);
+    }
+
+    @Test
+    public void shouldTrackValuesAddedAfterLastRemoval() throws Exception {
+        OWLOntologyManager m = Factory.getManager();
+        OWLOntologyImpl o = (OWLOntologyImpl) m.createOntology(IRI.create(NS + "readd"));
+        OWLClass a = Class(IRI.create(NS + "A"));
+        OWLClass b = Class(IRI.create(NS + "B"));
+        OWLAxiom ab = SubClassOf(a, b);
+        m.addAxiom(o, ab);
+        Set<OWLSubClassOfAxiom> subClassAxioms = o.getAxiomsView(AxiomType.SUBCLASS_OF);
+        Set<OWLAxiom> referencing = o.getReferencingAxiomsView(a);
+        m.removeAxiom(o, ab);
+        assertTrue(subClassAxioms.isEmpty());
+        assertTrue(referencing.isEmpty());
+        OWLAxiom ba = SubClassOf(b, a);
+        m.addAxiom(o, ba);
+        assertEquals(Collections.singleton(ba), subClassAxioms);
+        assertEquals(Collections.singleton(ba), referencing);
+        assertTrue(referencing.contains(ba));
+        assertFalse(referencing.contains(ab));
+    }
+}
@@ -0,0 +1,82 @@
+package org.semanticweb.owlapi.api.test.ontology;
+
+import static org.junit.Assert.*;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.util.Set;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.Factory;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.RemoveImport;
+import org.semanticweb.owlapi.model.RemoveOntologyAnnotation;
+
+@SuppressWarnings("javadoc")
+public class SignatureCacheTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test#";
+
+    @Test
+    public void shouldFollowAxiomAndAnnotationChanges() throws Exception {
+        OWLOntologyManager m = Factory.getManager();
+        OWLOntology o = m.createOntology(IRI.create(NS + "signature"));
+        OWLClass a = Class(IRI.create(NS + "A"));
+        OWLClass b = Class(IRI.create(NS + "B"));
+        OWLAnnotationProperty p = AnnotationProperty(IRI.create(NS + "p"));
+        OWLAxiom ab = SubClassOf(a, b);
+        OWLAxiom ba = SubClassOf(b, a);
+        m.addAxiom(o, ab);
+        assertEquals(2, o.getSignature().size());
+        Set<OWLEntity> signature = o.getSignature();
+        // returned sets are not affected by later changes
+        m.addAxiom(o, ba);
+        m.removeAxiom(o, ab);
+        assertEquals(signature, o.getSignature());
+        m.removeAxiom(o, ba);
+        assertTrue(o.getSignature().isEmpty());
+        OWLAnnotation annotation = Annotation(p, Literal("x"));
+        m.applyChange(new AddOntologyAnnotation(o, annotation));
+        m.addAxiom(o, AnnotationAssertion(p, a.getIRI(), Literal("y")));
+        assertTrue(o.getSignature().contains(p));
+        assertTrue(o.getAnnotationPropertiesInSignature().contains(p));
+        m.applyChange(new RemoveOntologyAnnotation(o, annotation));
+        assertTrue(o.getAnnotationPropertiesInSignature().contains(p));
+        m.removeAxiom(o, AnnotationAssertion(p, a.getIRI(), Literal("y")));
+        assertFalse(o.getSignature().contains(p));
+        assertTrue(o.getAnnotationPropertiesInSignature().isEmpty());
+        // callers can modify the returned sets
+        o.getSignature().add(a);
+        assertTrue(o.getSignature().isEmpty());
+    }
+
+    @Test
+    public void shouldInvalidateImportsClosureSignature() throws Exception {
+        OWLOntologyManager m = Factory.getManager();
+        OWLOntology importing = m.createOntology(IRI.create(NS + "importing"));
+        OWLOntology imported = m.createOntology(IRI.create(NS + "imported"));
+        OWLClass a = Class(IRI.create(NS + "A"));
+        OWLClass b = Class(IRI.create(NS + "B"));
+        m.addAxiom(importing, Declaration(a));
+        m.addAxiom(imported, Declaration(b));
+        assertEquals(1, importing.getSignature(true).size());
+        AddImport addImport = new AddImport(importing, ImportsDeclaration(imported
+                .getOntologyID().getOntologyIRI()));
+        m.applyChange(addImport);
+        assertEquals(2, importing.getSignature(true).size());
+        OWLClass c = Class(IRI.create(NS + "C"));
+        m.addAxiom(imported, Declaration(c));
+        assertTrue(importing.getSignature(true).contains(c));
+        m.removeAxiom(imported, Declaration(b));
+        assertFalse(importing.getSignature(true).contains(b));
+        m.applyChange(new RemoveImport(importing, addImport.getImportDeclaration()));
+        assertEquals(1, importing.getSignature(true).size());
+    }
+}
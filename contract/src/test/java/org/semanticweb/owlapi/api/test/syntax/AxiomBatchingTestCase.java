@@ -0,0 +1,112 @@
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.Assert.*;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.coode.owlapi.functionalparser.OWLFunctionalSyntaxOWLParser;
+import org.coode.owlapi.manchesterowlsyntax.ManchesterOWLSyntaxOntologyFormat;
+import org.coode.owlapi.manchesterowlsyntax.ManchesterOWLSyntaxOntologyParser;
+import org.coode.owlapi.owlxmlparser.OWLXMLParser;
+import org.coode.owlapi.rdfxml.parser.RDFXMLParser;
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.Factory;
+import org.semanticweb.owlapi.io.BufferedAxiomSink;
+import org.semanticweb.owlapi.io.OWLFunctionalSyntaxOntologyFormat;
+import org.semanticweb.owlapi.io.OWLParser;
+import org.semanticweb.owlapi.io.OWLXMLOntologyFormat;
+import org.semanticweb.owlapi.io.RDFXMLOntologyFormat;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.io.StringDocumentTarget;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
+import org.semanticweb.owlapi.model.OWLOntologyFormat;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+@SuppressWarnings("javadoc")
+public class AxiomBatchingTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test";
+
+    /** records the number of axioms added by each broadcast */
+    private static List<Integer> recordBatches(OWLOntologyManager m) {
+        final List<Integer> batches = new ArrayList<Integer>();
+        m.addOntologyChangeListener(new OWLOntologyChangeListener() {
+            @Override
+            public void ontologiesChanged(List<? extends OWLOntologyChange> changes) {
+                int added = 0;
+                for (OWLOntologyChange change : changes) {
+                    if (change instanceof AddAxiom) {
+                        added++;
+                    }
+                }
+                if (added > 0) {
+                    batches.add(added);
+                }
+            }
+        });
+        return batches;
+    }
+
+    private static OWLOntology createOntology(OWLOntologyManager m) throws Exception {
+        OWLOntology o = m.createOntology(IRI.create(NS));
+        OWLClass top = Class(IRI.create(NS + "#Top"));
+        m.addAxiom(o, Declaration(top));
+        for (int i = 0; i < 25; i++) {
+            OWLClass c = Class(IRI.create(NS + "#C" + i));
+            m.addAxiom(o, Declaration(c));
+            m.addAxiom(o, SubClassOf(c, top));
+        }
+        return o;
+    }
+
+    @Test
+    public void shouldAddAxiomsInBatches() throws Exception {
+        OWLOntologyManager m = Factory.getManager();
+        OWLOntology o = m.createOntology(IRI.create(NS));
+        List<Integer> batches = recordBatches(m);
+        BufferedAxiomSink sink = new BufferedAxiomSink(o, 3);
+        for (int i = 0; i < 7; i++) {
+            sink.add(Declaration(Class(IRI.create(NS + "#C" + i))));
+        }
+        assertEquals(1, sink.size());
+        assertEquals(6, o.getAxiomCount());
+        sink.flush();
+        assertEquals(0, sink.size());
+        assertEquals(7, o.getAxiomCount());
+        assertEquals(3, batches.size());
+    }
+
+    @Test
+    public void shouldUseConfiguredBatchSize() throws Exception {
+        OWLOntologyFormat[] formats = { new OWLFunctionalSyntaxOntologyFormat(),
+                new OWLXMLOntologyFormat(), new ManchesterOWLSyntaxOntologyFormat(),
+                new RDFXMLOntologyFormat() };
+        OWLParser[] parsers = { new OWLFunctionalSyntaxOWLParser(), new OWLXMLParser(),
+                new ManchesterOWLSyntaxOntologyParser(), new RDFXMLParser() };
+        OWLOntologyLoaderConfiguration config = new OWLOntologyLoaderConfiguration()
+                .setAxiomBatchSize(10);
+        for (int i = 0; i < formats.length; i++) {
+            OWLOntology o = createOntology(Factory.getManager());
+            StringDocumentTarget target = new StringDocumentTarget();
+            o.getOWLOntologyManager().saveOntology(o, formats[i], target);
+            // changes are not broadcast while the manager loads an ontology,
+            // so the parser fills an existing ontology
+            OWLOntologyManager m = Factory.getManager();
+            OWLOntology parsed = m.createOntology();
+            List<Integer> batches = recordBatches(m);
+            parsers[i].parse(new StringDocumentSource(target.toString()), parsed, config);
+            String name = formats[i].getClass().getSimpleName();
+            assertEquals(name, o.getAxioms(), parsed.getAxioms());
+            // 51 axioms: five full batches and the rest at the end
+            assertEquals(name, Arrays.asList(10, 10, 10, 10, 10, 1), batches);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.Assert.*;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.coode.owlapi.functionalparser.OWLFunctionalSyntaxOWLParser;
+import org.coode.owlapi.functionalparser.OWLFunctionalSyntaxParserFactory;
+import org.coode.owlapi.manchesterowlsyntax.ManchesterOWLSyntaxOntologyFormat;
+import org.coode.owlapi.manchesterowlsyntax.ManchesterOWLSyntaxParserFactory;
+import org.coode.owlapi.obo.parser.OBOParserFactory;
+import org.coode.owlapi.owlxmlparser.OWLXMLParserFactory;
+import org.coode.owlapi.rdfxml.parser.RDFXMLParserFactory;
+import org.coode.owlapi.turtle.TurtleOntologyFormat;
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.Factory;
+import org.semanticweb.owlapi.io.DocumentStart;
+import org.semanticweb.owlapi.io.OWLFunctionalSyntaxOntologyFormat;
+import org.semanticweb.owlapi.io.OWLParser;
+import org.semanticweb.owlapi.io.OWLXMLOntologyFormat;
+import org.semanticweb.owlapi.io.RDFXMLOntologyFormat;
+import org.semanticweb.owlapi.io.SniffingOWLParserFactory;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.io.StringDocumentTarget;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyFormat;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+import uk.ac.manchester.cs.owl.owlapi.ParsableOWLOntologyFactory;
+import uk.ac.manchester.cs.owl.owlapi.turtle.parser.TurtleOntologyParserFactory;
+
+@SuppressWarnings("javadoc")
+public class DocumentSniffingTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test";
+    private final SniffingOWLParserFactory rdfxml = new RDFXMLParserFactory();
+    private final SniffingOWLParserFactory owlxml = new OWLXMLParserFactory();
+    private final SniffingOWLParserFactory functional = new OWLFunctionalSyntaxParserFactory();
+    private final SniffingOWLParserFactory manchester = new ManchesterOWLSyntaxParserFactory();
+    private final SniffingOWLParserFactory turtle = new TurtleOntologyParserFactory();
+    private final SniffingOWLParserFactory obo = new OBOParserFactory();
+    private final List<SniffingOWLParserFactory> all = Arrays.asList(rdfxml, owlxml,
+            functional, manchester, turtle, obo);
+
+    private String save(OWLOntologyFormat format) throws Exception {
+        OWLOntologyManager m = Factory.getManager();
+        OWLOntology o = m.createOntology(IRI.create(NS));
+        m.addAxiom(o, SubClassOf(Class(IRI.create(NS + "#A")),
+                Class(IRI.create(NS + "#B"))));
+        StringDocumentTarget target = new StringDocumentTarget();
+        m.saveOntology(o, format, target);
+        return target.toString();
+    }
+
+    private void assertOnlyRecognisedBy(SniffingOWLParserFactory expected,
+            DocumentStart start) {
+        for (SniffingOWLParserFactory f : all) {
+            assertEquals(f.getClass().getSimpleName(), f == expected,
+                    f.recognises(start));
+        }
+    }
+
+    @Test
+    public void shouldRecogniseSavedOntologies() throws Exception {
+        assertOnlyRecognisedBy(rdfxml,
+                new DocumentStart(save(new RDFXMLOntologyFormat()), null));
+        assertOnlyRecognisedBy(owlxml,
+                new DocumentStart(save(new OWLXMLOntologyFormat()), null));
+        assertOnlyRecognisedBy(functional, new DocumentStart(
+                save(new OWLFunctionalSyntaxOntologyFormat()), null));
+        assertOnlyRecognisedBy(manchester, new DocumentStart(
+                save(new ManchesterOWLSyntaxOntologyFormat()), null));
+        assertOnlyRecognisedBy(turtle,
+                new DocumentStart(save(new TurtleOntologyFormat()), null));
+        assertOnlyRecognisedBy(obo, new DocumentStart(
+                "! comment\nformat-version: 1.2\n", null));
+    }
+
+    @Test
+    public void shouldSkipXMLPrologue() {
+        String doc = "\uFEFF<?xml version=\"1.0\"?>\n<!-- comment -->\n"
+                + "<!DOCTYPE rdf:RDF [\n<!ENTITY owl \"http://www.w3.org/2002/07/owl#\" >\n]>\n"
+                + "<rdf:RDF xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\">";
+        DocumentStart start = new DocumentStart(doc, null);
+        assertEquals("rdf:RDF", start.getXMLRootElement());
+        assertOnlyRecognisedBy(rdfxml, start);
+    }
+
+    @Test
+    public void shouldUseExtensionWithoutContent() {
+        assertOnlyRecognisedBy(turtle,
+                new DocumentStart(null, IRI.create("http://example.com/a/b.TTL")));
+        assertOnlyRecognisedBy(functional,
+                new DocumentStart(null, IRI.create("file:/tmp/onto.ofn")));
+        assertNull(new DocumentStart(null, IRI.create("http://example.com/a.b/c"))
+                .getExtension());
+    }
+
+    @Test
+    public void shouldNotRecogniseUnknownContent() {
+        DocumentStart start = new DocumentStart("(DEFINE-CONCEPT A B)",
+                IRI.create("http://example.com/a.ttl"));
+        for (SniffingOWLParserFactory f : all) {
+            assertFalse(f.recognises(start));
+        }
+    }
+
+    @Test
+    public void shouldTryRecognisedParserFirst() throws Exception {
+        OWLOntologyManager m = Factory.getManager();
+        ParsableOWLOntologyFactory factory = new ParsableOWLOntologyFactory();
+        factory.setOWLOntologyManager(m);
+        String doc = save(new OWLFunctionalSyntaxOntologyFormat());
+        List<OWLParser> parsers = factory.getParsers(new StringDocumentSource(doc));
+        assertTrue(parsers.get(0) instanceof OWLFunctionalSyntaxOWLParser);
+        assertEquals(factory.getParsers().size(), parsers.size());
+        OWLOntology o = m.loadOntologyFromOntologyDocument(new StringDocumentSource(doc));
+        assertEquals(1, o.getAxiomCount());
+    }
+}
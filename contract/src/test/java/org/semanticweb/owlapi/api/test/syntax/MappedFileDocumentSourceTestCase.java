@@ -0,0 +1,129 @@
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.Assert.*;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.util.zip.GZIPOutputStream;
+
+import org.coode.owlapi.turtle.TurtleOntologyFormat;
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.Factory;
+import org.semanticweb.owlapi.io.MappedFileDocumentSource;
+import org.semanticweb.owlapi.io.MappedFileReader;
+import org.semanticweb.owlapi.io.OWLFunctionalSyntaxOntologyFormat;
+import org.semanticweb.owlapi.io.StringDocumentTarget;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyFormat;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+@SuppressWarnings("javadoc")
+public class MappedFileDocumentSourceTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test";
+    private static final String TEXT = "\uFEFFa\u00B5b\u20ACc\uD800\uDD92 \\u0041 end";
+
+    private OWLOntology createOntology(OWLOntologyManager m) throws Exception {
+        OWLOntology o = m.createOntology(IRI.create(NS));
+        for (int i = 0; i < 10; i++) {
+            m.addAxiom(o, SubClassOf(Class(IRI.create(NS + "#C" + i)),
+                    Class(IRI.create(NS + "#D"))));
+            m.addAxiom(o, AnnotationAssertion(RDFSLabel(), IRI.create(NS + "#C" + i),
+                    Literal("\u00B5 label " + i, "en")));
+        }
+        return o;
+    }
+
+    private File write(byte[] content) throws Exception {
+        File file = File.createTempFile("mapped", ".txt");
+        OutputStream out = new FileOutputStream(file);
+        out.write(content);
+        out.close();
+        return file;
+    }
+
+    private String save(OWLOntology o, OWLOntologyFormat format) throws Exception {
+        StringDocumentTarget target = new StringDocumentTarget();
+        o.getOWLOntologyManager().saveOntology(o, format, target);
+        return target.toString();
+    }
+
+    private String read(Reader reader, int chunk) throws Exception {
+        StringBuilder b = new StringBuilder();
+        char[] buffer = new char[chunk];
+        int read = 0;
+        while ((read = reader.read(buffer)) > -1) {
+            b.append(buffer, 0, read);
+        }
+        reader.close();
+        return b.toString();
+    }
+
+    @Test
+    public void shouldDecodeAcrossRegions() throws Exception {
+        File file = write(TEXT.getBytes("UTF-8"));
+        try {
+            // regions of 4 and 5 bytes split the multibyte characters
+            for (int region = 4; region < 8; region++) {
+                for (int chunk = 1; chunk < 4; chunk++) {
+                    assertEquals(TEXT, read(new MappedFileReader(file, region), chunk));
+                }
+            }
+            assertEquals(TEXT, read(new MappedFileReader(file), 4096));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void shouldReadEmptyFile() throws Exception {
+        File file = write(new byte[0]);
+        try {
+            assertEquals("", read(new MappedFileReader(file), 16));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void shouldLoadFunctionalAndTurtle() throws Exception {
+        OWLOntology o = createOntology(Factory.getManager());
+        File functional = write(save(o, new OWLFunctionalSyntaxOntologyFormat())
+                .getBytes("UTF-8"));
+        File turtle = write(save(o, new TurtleOntologyFormat()).getBytes("UTF-8"));
+        try {
+            OWLOntology loaded = Factory.getManager().loadOntologyFromOntologyDocument(
+                    new MappedFileDocumentSource(functional));
+            assertEquals(o.getAxioms(), loaded.getAxioms());
+            loaded = Factory.getManager().loadOntologyFromOntologyDocument(
+                    new MappedFileDocumentSource(turtle));
+            // declarations are added when saving to RDF
+            assertEquals(o.getLogicalAxioms(), loaded.getLogicalAxioms());
+            assertEquals(o.getAxioms(AxiomType.ANNOTATION_ASSERTION),
+                    loaded.getAxioms(AxiomType.ANNOTATION_ASSERTION));
+        } finally {
+            functional.delete();
+            turtle.delete();
+        }
+    }
+
+    @Test
+    public void shouldDecompressGzippedFile() throws Exception {
+        OWLOntology o = createOntology(Factory.getManager());
+        File file = File.createTempFile("mapped", ".ofn.gz");
+        try {
+            OutputStream out = new GZIPOutputStream(new FileOutputStream(file));
+            out.write(save(o, new OWLFunctionalSyntaxOntologyFormat()).getBytes("UTF-8"));
+            out.close();
+            OWLOntology loaded = Factory.getManager().loadOntologyFromOntologyDocument(
+                    new MappedFileDocumentSource(file));
+            assertEquals(o.getAxioms(), loaded.getAxioms());
+        } finally {
+            file.delete();
+        }
+    }
+}
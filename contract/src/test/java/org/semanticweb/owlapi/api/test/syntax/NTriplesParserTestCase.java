@@ -0,0 +1,128 @@
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.Assert.*;
+
+import org.coode.owlapi.ntriples.NTriplesOntologyFormat;
+import org.coode.owlapi.ntriples.NTriplesOntologyParser;
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.Factory;
+import org.semanticweb.owlapi.io.OWLParser;
+import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+import uk.ac.manchester.cs.owl.owlapi.turtle.parser.TurtleOntologyParser;
+
+@SuppressWarnings("javadoc")
+public class NTriplesParserTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test#";
+    private static final String RDF = "http://www.w3.org/1999/02/22-rdf-syntax-ns#";
+    private static final String RDFS = "http://www.w3.org/2000/01/rdf-schema#";
+    private static final String OWL = "http://www.w3.org/2002/07/owl#";
+    private static final String XSD = "http://www.w3.org/2001/XMLSchema#";
+
+    private static String iri(String s) {
+        return "<" + s + ">";
+    }
+
+    private static String triple(String s, String p, String o, String graph) {
+        return s + " " + p + " " + o + (graph == null ? "" : " " + graph) + " .\n";
+    }
+
+    /** Declarations, subclass axioms with existential restrictions on blank
+     * nodes, and labels; enough lines for several batches. */
+    private static String document(int classes, String graph) {
+        StringBuilder b = new StringBuilder("# N-Triples test\n\n");
+        b.append(triple(iri(NS), iri(RDF + "type"), iri(OWL + "Ontology"), graph));
+        b.append(triple(iri(NS + "p"), iri(RDF + "type"), iri(OWL + "ObjectProperty"),
+                graph));
+        for (int i = 0; i < classes; i++) {
+            String c = iri(NS + "C" + i);
+            b.append(triple(c, iri(RDF + "type"), iri(OWL + "Class"), graph));
+            b.append(triple(c, iri(RDFS + "subClassOf"), "_:r" + i, graph));
+            b.append(triple("_:r" + i, iri(RDF + "type"), iri(OWL + "Restriction"), graph));
+            b.append(triple("_:r" + i, iri(OWL + "onProperty"), iri(NS + "p"), graph));
+            b.append(triple("_:r" + i, iri(OWL + "someValuesFrom"), c, graph));
+            b.append(triple(c, iri(RDFS + "label"), "\"label \\\"" + i
+                    + "\\\" \\u00B5\"@en", graph));
+            b.append(triple(c, iri(RDFS + "comment"), "\"" + i + "\"^^" + iri(XSD + "integer"),
+                    graph));
+        }
+        return b.toString();
+    }
+
+    private static OWLOntology parse(OWLParser parser, String doc,
+            OWLOntologyLoaderConfiguration configuration) throws Exception {
+        OWLOntologyManager m = Factory.getManager();
+        OWLOntology o = m.createOntology();
+        parser.setOWLOntologyManager(m);
+        parser.parse(new StringDocumentSource(doc), o, configuration);
+        return o;
+    }
+
+    @Test
+    public void shouldParseAsTurtleDoes() throws Exception {
+        String doc = document(3000, null);
+        OWLOntologyLoaderConfiguration config = new OWLOntologyLoaderConfiguration();
+        OWLOntology turtle = parse(new TurtleOntologyParser(), doc, config);
+        OWLOntology sequential = parse(new NTriplesOntologyParser(), doc, config);
+        OWLOntology parallel = parse(new NTriplesOntologyParser(), doc,
+                config.setParsingThreads(4));
+        assertEquals(3000 * 4 + 1, turtle.getAxiomCount());
+        assertEquals(turtle.getAxioms(), sequential.getAxioms());
+        assertEquals(turtle.getAxioms(), parallel.getAxioms());
+    }
+
+    @Test
+    public void shouldIgnoreGraphLabelsInQuads() throws Exception {
+        OWLOntologyLoaderConfiguration config = new OWLOntologyLoaderConfiguration();
+        OWLOntology triples = parse(new NTriplesOntologyParser(), document(10, null),
+                config);
+        OWLOntology quads = parse(new NTriplesOntologyParser(),
+                document(10, iri(NS + "graph")), config.setParsingThreads(2));
+        assertEquals(triples.getAxioms(), quads.getAxioms());
+    }
+
+    @Test
+    public void shouldParseLineBasedTurtle() throws Exception {
+        String doc = "@prefix : <" + NS + "> .\n" + "@prefix owl: <" + OWL + "> .\n"
+                + "@prefix rdfs: <" + RDFS + "> .\n" + "@prefix xsd: <" + XSD + "> .\n"
+                + "<" + NS + "> a owl:Ontology .\n" + ":d a owl:DatatypeProperty .\n"
+                + ":A a owl:Class .\n" + ":A rdfs:subClassOf :B .\n"
+                + ":A rdfs:label \"quoted\"@en . # comment\n"
+                + ":i a owl:NamedIndividual .\n" + ":i :d 42 .\n" + ":i :d -1.5 .\n"
+                + ":i :d true .\n" + ":i :d \"x\"^^xsd:string .\n";
+        OWLOntologyLoaderConfiguration config = new OWLOntologyLoaderConfiguration();
+        OWLOntology turtle = parse(new TurtleOntologyParser(), doc, config);
+        OWLOntology lines = parse(new NTriplesOntologyParser(), doc,
+                config.setParsingThreads(2));
+        assertEquals(turtle.getAxioms(), lines.getAxioms());
+        assertEquals(9, lines.getAxiomCount());
+        // single quoted literals are not understood by the Turtle parser
+        OWLOntology quoted = parse(new NTriplesOntologyParser(),
+                doc.replace("\"quoted\"", "'quoted'"), config);
+        assertEquals(lines.getAxioms(), quoted.getAxioms());
+    }
+
+    @Test
+    public void shouldReportLineOfError() throws Exception {
+        String doc = document(1, null) + triple(iri(NS + "A"), iri(RDF + "type"), "", null);
+        try {
+            parse(new NTriplesOntologyParser(), doc, new OWLOntologyLoaderConfiguration());
+            fail("the last line has no object");
+        } catch (OWLParserException e) {
+            assertEquals(12, e.getLineNumber());
+        }
+    }
+
+    @Test
+    public void shouldBeChosenForNTriplesDocuments() throws Exception {
+        OWLOntologyManager m = Factory.getManager();
+        OWLOntology o = m.loadOntologyFromOntologyDocument(new StringDocumentSource(
+                document(5, null)));
+        assertTrue(m.getOntologyFormat(o) instanceof NTriplesOntologyFormat);
+        assertEquals(5 * 4 + 1, o.getAxiomCount());
+    }
+}
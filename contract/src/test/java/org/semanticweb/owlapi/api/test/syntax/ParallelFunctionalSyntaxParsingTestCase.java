@@ -0,0 +1,105 @@
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.Assert.*;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.io.StringReader;
+
+import org.coode.owlapi.functionalparser.ParallelOWLFunctionalSyntaxParser;
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.Factory;
+import org.semanticweb.owlapi.io.OWLFunctionalSyntaxOntologyFormat;
+import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.io.StringDocumentTarget;
+import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+@SuppressWarnings("javadoc")
+public class ParallelFunctionalSyntaxParsingTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test";
+    private final OWLOntologyLoaderConfiguration parallel = new OWLOntologyLoaderConfiguration()
+            .setParsingThreads(4);
+
+    private OWLOntology createOntology() throws Exception {
+        OWLOntologyManager m = Factory.getManager();
+        OWLOntology o = m.createOntology(IRI.create(NS));
+        OWLClass top = Class(IRI.create(NS + "#Top"));
+        m.addAxiom(o, Declaration(top));
+        OWLAnonymousIndividual anon = AnonymousIndividual();
+        for (int i = 0; i < 200; i++) {
+            OWLClass c = Class(IRI.create(NS + "#C" + i));
+            m.addAxiom(o, SubClassOf(c, top));
+            // parentheses, comment markers and quotes inside literals
+            m.addAxiom(o, AnnotationAssertion(RDFSLabel(), c.getIRI(),
+                    Literal("label ( // \" ) " + i, "en")));
+            m.addAxiom(o, ClassAssertion(c, anon));
+        }
+        m.applyChange(new AddOntologyAnnotation(o,
+                Annotation(RDFSComment(), Literal("header"))));
+        return o;
+    }
+
+    private String save(OWLOntology o) throws Exception {
+        StringDocumentTarget target = new StringDocumentTarget();
+        o.getOWLOntologyManager().saveOntology(o,
+                new OWLFunctionalSyntaxOntologyFormat(), target);
+        return target.toString();
+    }
+
+    @Test
+    public void shouldLoadSameAxiomsAsSequentialParser() throws Exception {
+        OWLOntology o = createOntology();
+        String doc = save(o);
+        OWLOntology sequential = Factory.getManager().loadOntologyFromOntologyDocument(
+                new StringDocumentSource(doc));
+        OWLOntology loaded = Factory.getManager().loadOntologyFromOntologyDocument(
+                new StringDocumentSource(doc), parallel);
+        assertEquals(sequential.getAxioms(), loaded.getAxioms());
+        assertEquals(sequential.getAnnotations(), loaded.getAnnotations());
+        assertEquals(o.getOntologyID(), loaded.getOntologyID());
+    }
+
+    @Test
+    public void shouldSplitIntoSmallChunks() throws Exception {
+        OWLOntology o = createOntology();
+        String doc = "// a comment ( with a parenthesis\n" + save(o)
+                + "\n// trailing comment\n";
+        for (int chunkSize : new int[] { 1, 100, 1000 }) {
+            OWLOntologyManager m = Factory.getManager();
+            OWLOntology loaded = m.createOntology();
+            new ParallelOWLFunctionalSyntaxParser(3, chunkSize).parse(new StringReader(
+                    doc), loaded, new OWLOntologyLoaderConfiguration());
+            assertEquals(o.getAxioms(), loaded.getAxioms());
+        }
+    }
+
+    @Test
+    public void shouldLoadOntologyWithoutAxioms() throws Exception {
+        String doc = "Prefix(:=<" + NS + "#>)\nOntology(<" + NS
+                + ">\nAnnotation(rdfs:comment \"no axioms\"))";
+        OWLOntology loaded = Factory.getManager().loadOntologyFromOntologyDocument(
+                new StringDocumentSource(doc), parallel);
+        assertEquals(0, loaded.getAxiomCount());
+        assertEquals(1, loaded.getAnnotations().size());
+    }
+
+    @Test
+    public void shouldReportErrorPositionInDocument() throws Exception {
+        String doc = "Prefix(:=<" + NS + "#>)\nOntology(<" + NS + ">\n"
+                + "SubClassOf(:A :B)\nSubClassOf(:B :C)\n  SubClassOf(:C)\n)";
+        try {
+            new ParallelOWLFunctionalSyntaxParser(2, 1).parse(new StringReader(doc),
+                    Factory.getManager().createOntology(),
+                    new OWLOntologyLoaderConfiguration());
+            fail("the last axiom is malformed");
+        } catch (OWLParserException e) {
+            assertEquals(5, e.getLineNumber());
+        }
+    }
+}
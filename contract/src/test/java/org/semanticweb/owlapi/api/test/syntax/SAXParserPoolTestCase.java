@@ -0,0 +1,58 @@
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.Assert.*;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import javax.xml.parsers.SAXParser;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.Factory;
+import org.semanticweb.owlapi.io.OWLXMLOntologyFormat;
+import org.semanticweb.owlapi.io.RDFXMLOntologyFormat;
+import org.semanticweb.owlapi.io.SAXParserPool;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.io.StringDocumentTarget;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyFormat;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+@SuppressWarnings("javadoc")
+public class SAXParserPoolTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test";
+
+    @Test
+    public void shouldReuseReleasedParsers() throws Exception {
+        SAXParser first = SAXParserPool.acquire();
+        SAXParser nested = SAXParserPool.acquire();
+        assertNotSame(first, nested);
+        assertTrue(first.isNamespaceAware());
+        SAXParserPool.release(nested);
+        SAXParserPool.release(first);
+        assertSame(first, SAXParserPool.acquire());
+        assertSame(nested, SAXParserPool.acquire());
+    }
+
+    private String save(OWLOntologyFormat format, int i) throws Exception {
+        OWLOntologyManager m = Factory.getManager();
+        OWLOntology o = m.createOntology(IRI.create(NS + i));
+        m.addAxiom(o, SubClassOf(Class(IRI.create(NS + "#A" + i)),
+                Class(IRI.create(NS + "#B"))));
+        StringDocumentTarget target = new StringDocumentTarget();
+        m.saveOntology(o, format, target);
+        return target.toString();
+    }
+
+    @Test
+    public void shouldLoadManyDocuments() throws Exception {
+        OWLOntologyManager m = Factory.getManager();
+        for (int i = 0; i < 20; i++) {
+            OWLOntology owlxml = m.loadOntologyFromOntologyDocument(new StringDocumentSource(
+                    save(new OWLXMLOntologyFormat(), i)));
+            OWLOntology rdfxml = m.loadOntologyFromOntologyDocument(new StringDocumentSource(
+                    save(new RDFXMLOntologyFormat(), i + 100)));
+            assertEquals(1, owlxml.getLogicalAxiomCount());
+            assertEquals(1, rdfxml.getLogicalAxiomCount());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.Assert.*;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.util.zip.GZIPOutputStream;
+
+import org.coode.owlapi.turtle.TurtleOntologyFormat;
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.Factory;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.OWLFunctionalSyntaxOntologyFormat;
+import org.semanticweb.owlapi.io.OWLOntologyInputSourceException;
+import org.semanticweb.owlapi.io.StreamingDocumentSource;
+import org.semanticweb.owlapi.io.StringDocumentTarget;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyFormat;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+@SuppressWarnings("javadoc")
+public class StreamingDocumentSourceTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test";
+
+    private OWLOntology createOntology(OWLOntologyManager m) throws Exception {
+        OWLOntology o = m.createOntology(IRI.create(NS));
+        for (int i = 0; i < 10; i++) {
+            m.addAxiom(o, SubClassOf(Class(IRI.create(NS + "#C" + i)),
+                    Class(IRI.create(NS + "#D"))));
+        }
+        return o;
+    }
+
+    private String save(OWLOntology o, OWLOntologyFormat format) throws Exception {
+        StringDocumentTarget target = new StringDocumentTarget();
+        o.getOWLOntologyManager().saveOntology(o, format, target);
+        return target.toString();
+    }
+
+    private byte[] gzip(String s) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OutputStream gz = new GZIPOutputStream(out);
+        gz.write(s.getBytes("UTF-8"));
+        gz.close();
+        return out.toByteArray();
+    }
+
+    @Test
+    public void shouldLoadGzippedStream() throws Exception {
+        OWLOntology o = createOntology(Factory.getManager());
+        byte[] bytes = gzip(save(o, new OWLFunctionalSyntaxOntologyFormat()));
+        OWLOntology loaded = Factory.getManager().loadOntologyFromOntologyDocument(
+                new StreamingDocumentSource(new ByteArrayInputStream(bytes)));
+        assertEquals(o.getAxioms(), loaded.getAxioms());
+    }
+
+    @Test
+    public void shouldLoadFromReader() throws Exception {
+        OWLOntology o = createOntology(Factory.getManager());
+        String doc = save(o, new TurtleOntologyFormat());
+        OWLOntology loaded = Factory.getManager().loadOntologyFromOntologyDocument(
+                new StreamingDocumentSource(new StringReader(doc), IRI
+                        .create("urn:test:reader")));
+        // declarations are added when saving to RDF
+        assertEquals(o.getLogicalAxioms(), loaded.getLogicalAxioms());
+    }
+
+    @Test
+    public void shouldBeReadOnlyOnce() throws Exception {
+        StreamingDocumentSource source = new StreamingDocumentSource(
+                new ByteArrayInputStream("Prefix(:=<urn:test#>)".getBytes("UTF-8")));
+        assertEquals("Prefix(", source.peek(7));
+        assertEquals("Prefix(:=<urn:test#>)", source.peek(100));
+        assertNotNull(source.getInputStream());
+        assertTrue(source.isConsumed());
+        try {
+            source.getInputStream();
+            fail("a streaming source can be read only once");
+        } catch (OWLOntologyInputSourceException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldDecompressGzippedFile() throws Exception {
+        OWLOntology o = createOntology(Factory.getManager());
+        File file = File.createTempFile("streaming", ".ofn.gz");
+        try {
+            OutputStream out = new FileOutputStream(file);
+            out.write(gzip(save(o, new OWLFunctionalSyntaxOntologyFormat())));
+            out.close();
+            OWLOntology loaded = Factory.getManager().loadOntologyFromOntologyDocument(
+                    new FileDocumentSource(file));
+            assertEquals(o.getAxioms(), loaded.getAxioms());
+        } finally {
+            file.delete();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.semanticweb.owlapi.api.test.syntax.rdfxml;
+
+import static org.junit.Assert.*;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.*;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.Factory;
+import org.semanticweb.owlapi.io.RDFXMLOntologyFormat;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.io.StringDocumentTarget;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.SWRLVariable;
+
+@SuppressWarnings("javadoc")
+public class StreamingRDFParsingTestCase {
+    private static final String NS = "http://www.semanticweb.org/owlapi/test#";
+    private final OWLOntologyLoaderConfiguration streaming = new OWLOntologyLoaderConfiguration()
+            .setStreamingRDF(true);
+
+    private String save(OWLOntology o) throws Exception {
+        StringDocumentTarget target = new StringDocumentTarget();
+        o.getOWLOntologyManager().saveOntology(o, new RDFXMLOntologyFormat(), target);
+        return target.toString();
+    }
+
+    private void assertSameAxioms(String doc) throws Exception {
+        OWLOntology expected = Factory.getManager().loadOntologyFromOntologyDocument(
+                new StringDocumentSource(doc));
+        OWLOntology actual = Factory.getManager().loadOntologyFromOntologyDocument(
+                new StringDocumentSource(doc), streaming);
+        assertEquals(expected.getOntologyID(), actual.getOntologyID());
+        assertEquals(expected.getAxioms(), actual.getAxioms());
+    }
+
+    @Test
+    public void shouldTranslateLikeDefaultMode() throws Exception {
+        OWLOntologyManager m = Factory.getManager();
+        OWLDataFactory df = m.getOWLDataFactory();
+        OWLOntology o = m.createOntology(IRI.create(NS + "streaming"));
+        OWLObjectProperty p = ObjectProperty(IRI.create(NS + "p"));
+        OWLDataProperty d = DataProperty(IRI.create(NS + "d"));
+        OWLAnnotationProperty a = AnnotationProperty(IRI.create(NS + "a"));
+        // Z is rendered after the classes that refer to it
+        OWLClass z = Class(IRI.create(NS + "Z"));
+        Set<OWLAnnotation> comment = Collections.singleton(Annotation(RDFSComment(),
+                Literal("annotated")));
+        m.addAxiom(o, Declaration(z));
+        m.addAxiom(o, Declaration(a));
+        for (int i = 0; i < 1500; i++) {
+            OWLClass c = Class(IRI.create(NS + "C" + i));
+            OWLNamedIndividual x = NamedIndividual(IRI.create(NS + "i" + i));
+            m.addAxiom(o, Declaration(c));
+            m.addAxiom(o, SubClassOf(c, ObjectSomeValuesFrom(p, z)));
+            m.addAxiom(o, SubClassOf(c, ObjectUnionOf(z, ObjectComplementOf(c)), comment));
+            m.addAxiom(o, AnnotationAssertion(RDFSLabel(), c.getIRI(),
+                    Literal("class " + i, "en")));
+            m.addAxiom(o, ClassAssertion(c, x));
+            m.addAxiom(o, ObjectPropertyAssertion(p, x,
+                    NamedIndividual(IRI.create(NS + "i" + (i + 1)))));
+            m.addAxiom(o, DataPropertyAssertion(d, x, Literal(i)));
+            m.addAxiom(o, AnnotationAssertion(a, x.getIRI(), Literal(i)));
+        }
+        m.addAxiom(o, SubClassOf(ObjectIntersectionOf(z, ObjectHasValue(p,
+                NamedIndividual(IRI.create(NS + "i0")))), Class(IRI.create(NS + "C0"))));
+        m.addAxiom(o, DisjointClasses(z, Class(IRI.create(NS + "C1")),
+                Class(IRI.create(NS + "C2"))));
+        m.addAxiom(o, NegativeObjectPropertyAssertion(p,
+                NamedIndividual(IRI.create(NS + "i1")), NamedIndividual(IRI.create(NS + "i0"))));
+        SWRLVariable v = df.getSWRLVariable(IRI.create(NS + "v"));
+        m.addAxiom(o, df.getSWRLRule(
+                Collections.singleton(df.getSWRLClassAtom(Class(IRI.create(NS + "C0")), v)),
+                Collections.singleton(df.getSWRLClassAtom(z, v))));
+        assertSameAxioms(save(o));
+    }
+
+    @Test
+    public void shouldTranslateHandWrittenDocument() throws Exception {
+        // nothing is declared before use, and p is typed at the end
+        String doc = "<?xml version=\"1.0\"?>\n"
+                + "<rdf:RDF xmlns=\"" + NS + "\" xml:base=\"" + NS + "\"\n"
+                + "  xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\"\n"
+                + "  xmlns:rdfs=\"http://www.w3.org/2000/01/rdf-schema#\"\n"
+                + "  xmlns:owl=\"http://www.w3.org/2002/07/owl#\">\n"
+                + "  <owl:Ontology rdf:about=\"" + NS + "hand\"/>\n"
+                + "  <rdf:Description rdf:about=\"#i\"><p rdf:resource=\"#j\"/></rdf:Description>\n"
+                + "  <rdf:Description rdf:about=\"#A\">\n"
+                + "    <rdfs:subClassOf><owl:Restriction><owl:onProperty rdf:resource=\"#p\"/>"
+                + "<owl:someValuesFrom rdf:resource=\"#B\"/></owl:Restriction></rdfs:subClassOf>\n"
+                + "  </rdf:Description>\n"
+                + "  <rdf:Description rdf:about=\"#p\"><rdfs:domain rdf:resource=\"#A\"/></rdf:Description>\n"
+                + "  <owl:Class rdf:about=\"#A\"/>\n"
+                + "  <owl:Class rdf:about=\"#B\"/>\n"
+                + "  <owl:ObjectProperty rdf:about=\"#p\"/>\n"
+                + "</rdf:RDF>";
+        assertSameAxioms(doc);
+    }
+
+    @Test
+    public void shouldTranslatePizza() throws Exception {
+        OWLOntology pizza = Factory.getManager().loadOntologyFromOntologyDocument(
+                new StreamDocumentSource(getClass().getResourceAsStream("/pizza.owl")));
+        assertSameAxioms(save(pizza));
+    }
+}
@@ -4,8 +4,11 @@ import static org.mockito.Mockito.mock;
 import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.IRI;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.junit.Test;
 import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
@@ -315,6 +318,32 @@ public class ContractOwlapi_1Test {
                 return null;
             }
 
+            @Override
+            public <K, V extends OWLAxiom> Set<K> getKeysetView(Pointer<K, V> pointer) {
+                return null;
+            }
+
+            @Override
+            public <K, V extends OWLAxiom> Set<V> getValuesView(Pointer<K, V> pointer,
+                    K key) {
+                return null;
+            }
+
+            @Override
+            public Set<OWLEntity> getSignature() {
+                return null;
+            }
+
+            @Override
+            public Set<OWLAnnotationProperty> getAnnotationPropertiesInSignature() {
+                return null;
+            }
+
+            @Override
+            public int getSignatureVersion() {
+                return 0;
+            }
+
             @Override
             public <T extends OWLAxiom, K> Set<T> filterAxioms(
                     OWLAxiomSearchFilter<T, K> filter, K key) {
@@ -336,6 +365,14 @@ public class ContractOwlapi_1Test {
                 return false;
             }
 
+            @Override
+            public List<OWLAxiom> addAxioms(Collection<? extends OWLAxiom> axioms) {
+                return null;
+            }
+
+            @Override
+            public void initIndexes(ExecutorService executor) {}
+
             @Override
             public boolean removeAxiom(OWLAxiom axiom) {
                 return false;
@@ -58,6 +58,37 @@ public abstract class AbstractInMemOWLOntologyFactory implements OWLOntologyFact
 
 	private static final long serialVersionUID = 30402L;
 	private OWLOntologyManager ontologyManager;
+	private final boolean concurrent;
+
+    /** Creates a factory for ontologies that are not threadsafe. */
+    public AbstractInMemOWLOntologyFactory() {
+        this(false);
+    }
+
+    /**
+     * @param concurrent
+     *            true if the ontologies created should be safe to query and
+     *            change from multiple threads
+     */
+    public AbstractInMemOWLOntologyFactory(boolean concurrent) {
+        this.concurrent = concurrent;
+    }
+
+    /** @return true if the ontologies created are threadsafe */
+    public boolean isConcurrent() {
+        return concurrent;
+    }
+
+    /**
+     * @return the internals for a new ontology, according to the concurrency
+     *         setting of this factory
+     */
+    protected Internals createInternals() {
+        if (concurrent) {
+            return new ConcurrentInternalsImpl();
+        }
+        return new InternalsImpl();
+    }
 
     @Override
     public void setOWLOntologyManager(OWLOntologyManager owlOntologyManager) {
@@ -90,7 +121,8 @@ public abstract class AbstractInMemOWLOntologyFactory implements OWLOntologyFact
 
     @Override
     public OWLOntology createOWLOntology(OWLOntologyID ontologyID, IRI documentIRI, OWLOntologyCreationHandler handler) throws OWLOntologyCreationException {
-        OWLOntology ont = new OWLOntologyImpl(ontologyManager, ontologyID);
+        OWLOntology ont = new OWLOntologyImpl(ontologyManager, ontologyID,
+                createInternals());
 
         handler.ontologyCreated(ont);
         return ont;
@@ -42,6 +42,8 @@ import static org.semanticweb.owlapi.model.AxiomType.*;
 import static uk.ac.manchester.cs.owl.owlapi.InitVisitorFactory.*;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import org.semanticweb.owlapi.model.AxiomType;
@@ -111,6 +113,10 @@ public abstract class AbstractInternalsImpl implements Internals, Serializable {
         return new ClassAxiomByClassPointer(null, null, false, this);
     }
 
+    protected AxiomsIgnoreAnnotationsPointer buildAxiomsIgnoreAnnotations() {
+        return new AxiomsIgnoreAnnotationsPointer(null, null, false, this);
+    }
+
 
     protected final MapPointer<OWLClass, OWLClassAxiom> classAxiomsByClass = buildClassAxiomByClass();
 
@@ -188,11 +194,60 @@ public abstract class AbstractInternalsImpl implements Internals, Serializable {
             SAME_INDIVIDUAL, icollections);
     protected final MapPointer<OWLAnnotationSubject, OWLAnnotationAssertionAxiom> annotationAssertionAxiomsBySubject = buildLazy(
             ANNOTATION_ASSERTION, annotsupernamed);
+    protected final MapPointer<OWLAxiom, OWLAxiom> axiomsIgnoreAnnotations = buildAxiomsIgnoreAnnotations();
+
+    /** @return all lazily built indexes, initialized or not */
+    protected List<MapPointer<?, ?>> getLazyIndexes() {
+        return Arrays.<MapPointer<?, ?>> asList(
+                classAxiomsByClass,
+                subClassAxiomsByLHS,
+                subClassAxiomsByRHS,
+                equivalentClassesAxiomsByClass,
+                disjointClassesAxiomsByClass,
+                disjointUnionAxiomsByClass,
+                hasKeyAxiomsByClass,
+                objectSubPropertyAxiomsByLHS,
+                objectSubPropertyAxiomsByRHS,
+                equivalentObjectPropertyAxiomsByProperty,
+                disjointObjectPropertyAxiomsByProperty,
+                objectPropertyDomainAxiomsByProperty,
+                objectPropertyRangeAxiomsByProperty,
+                functionalObjectPropertyAxiomsByProperty,
+                inverseFunctionalPropertyAxiomsByProperty,
+                symmetricPropertyAxiomsByProperty,
+                asymmetricPropertyAxiomsByProperty,
+                reflexivePropertyAxiomsByProperty,
+                irreflexivePropertyAxiomsByProperty,
+                transitivePropertyAxiomsByProperty,
+                inversePropertyAxiomsByProperty,
+                dataSubPropertyAxiomsByLHS,
+                dataSubPropertyAxiomsByRHS,
+                equivalentDataPropertyAxiomsByProperty,
+                disjointDataPropertyAxiomsByProperty,
+                dataPropertyDomainAxiomsByProperty,
+                dataPropertyRangeAxiomsByProperty,
+                functionalDataPropertyAxiomsByProperty,
+                classAssertionAxiomsByIndividual,
+                classAssertionAxiomsByClass,
+                objectPropertyAssertionsByIndividual,
+                dataPropertyAssertionsByIndividual,
+                negativeObjectPropertyAssertionAxiomsByIndividual,
+                negativeDataPropertyAssertionAxiomsByIndividual,
+                differentIndividualsAxiomsByIndividual,
+                sameIndividualsAxiomsByIndividual,
+                annotationAssertionAxiomsBySubject,
+                axiomsIgnoreAnnotations);
+    }
 
     protected <K, V> Map<K, V> createMap() {
         return CollectionFactory.createMap();
     }
 
+    @Override
+    public MapPointer<OWLAxiom, OWLAxiom> getAxiomsIgnoreAnnotations() {
+        return axiomsIgnoreAnnotations;
+    }
+
     @Override
     public MapPointer<OWLClass, OWLClassAxiom> getClassAxiomsByClass() {
         return classAxiomsByClass;
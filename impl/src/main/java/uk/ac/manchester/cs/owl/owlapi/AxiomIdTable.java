@@ -0,0 +1,186 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+/** A table assigning a dense int id to each axiom. Lookup by axiom uses an
+ * open addressing hash table of ids, so that no entry objects are created per
+ * axiom; lookup by id is an array access. Ids of released axioms are kept in a
+ * free list and reused by later insertions, so that the id space stays as large
+ * as the largest number of axioms held at once rather than growing with every
+ * addition; callers must therefore drop an id from their indexes before
+ * releasing its axiom, as CompactInternalsImpl does.
+ * 
+ * @author ignazio */
+public class AxiomIdTable implements Serializable {
+    private static final long serialVersionUID = 30402L;
+    private static final int EMPTY = 0;
+    private static final int DELETED = -1;
+    private OWLAxiom[] axioms = new OWLAxiom[16];
+    /** slots hold id+1, EMPTY or DELETED */
+    private int[] slots = new int[32];
+    private int nextId = 0;
+    /** released ids, used as a stack */
+    private int[] freeIds = new int[16];
+    private int freeCount = 0;
+    private int size = 0;
+    private int usedSlots = 0;
+
+    /** @param ax
+     *            axiom to look up
+     * @return the id for the axiom, or -1 if the axiom is not in the table */
+    public int getId(OWLAxiom ax) {
+        int mask = slots.length - 1;
+        int index = hash(ax) & mask;
+        while (true) {
+            int slot = slots[index];
+            if (slot == EMPTY) {
+                return -1;
+            }
+            if (slot != DELETED && axioms[slot - 1].equals(ax)) {
+                return slot - 1;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /** @param id
+     *            an id returned by getId() or intern()
+     * @return the axiom with the id, or null if the id is not in use */
+    public OWLAxiom getAxiom(int id) {
+        return axioms[id];
+    }
+
+    /** @param ax
+     *            axiom to add
+     * @return the id for the axiom; a new id is assigned if the axiom is not in
+     *         the table */
+    public int intern(OWLAxiom ax) {
+        int id = getId(ax);
+        if (id >= 0) {
+            return id;
+        }
+        if ((usedSlots + 1) * 2 > slots.length) {
+            rehash();
+        }
+        if (freeCount > 0) {
+            id = freeIds[--freeCount];
+        } else {
+            id = nextId++;
+        }
+        if (id == axioms.length) {
+            axioms = Arrays.copyOf(axioms, axioms.length + (axioms.length >> 1));
+        }
+        axioms[id] = ax;
+        int mask = slots.length - 1;
+        int index = hash(ax) & mask;
+        while (slots[index] != EMPTY && slots[index] != DELETED) {
+            index = (index + 1) & mask;
+        }
+        if (slots[index] == EMPTY) {
+            usedSlots++;
+        }
+        slots[index] = id + 1;
+        size++;
+        return id;
+    }
+
+    /** @param ax
+     *            axiom to remove
+     * @return true if the axiom was in the table */
+    public boolean release(OWLAxiom ax) {
+        int mask = slots.length - 1;
+        int index = hash(ax) & mask;
+        while (true) {
+            int slot = slots[index];
+            if (slot == EMPTY) {
+                return false;
+            }
+            if (slot != DELETED && axioms[slot - 1].equals(ax)) {
+                slots[index] = DELETED;
+                axioms[slot - 1] = null;
+                if (freeCount == freeIds.length) {
+                    freeIds = Arrays.copyOf(freeIds, freeIds.length * 2);
+                }
+                freeIds[freeCount++] = slot - 1;
+                size--;
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /** @return number of axioms in the table */
+    public int size() {
+        return size;
+    }
+
+    private void rehash() {
+        int newLength = slots.length;
+        // grow only if the table is really full, otherwise just clear deleted
+        // slots
+        if ((size + 1) * 4 > newLength) {
+            newLength = newLength * 2;
+        }
+        int[] newSlots = new int[newLength];
+        int mask = newLength - 1;
+        for (int slot : slots) {
+            if (slot != EMPTY && slot != DELETED) {
+                int index = hash(axioms[slot - 1]) & mask;
+                while (newSlots[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                newSlots[index] = slot;
+            }
+        }
+        slots = newSlots;
+        usedSlots = size;
+    }
+
+    private static int hash(OWLAxiom ax) {
+        int h = ax.hashCode();
+        // spread the bits, as java.util.HashMap does
+        h ^= h >>> 20 ^ h >>> 12;
+        return h ^ h >>> 7 ^ h >>> 4;
+    }
+}
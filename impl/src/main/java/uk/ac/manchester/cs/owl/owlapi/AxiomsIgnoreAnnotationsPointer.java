@@ -0,0 +1,74 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLAxiomVisitorEx;
+
+/** an index from annotation-free axioms to the axioms in the ontology that are
+ * equal to them once annotations are ignored. Built lazily from the axioms by
+ * type, then kept up to date by addAxiom and removeAxiom.
+ * 
+ * @author ignazio */
+public class AxiomsIgnoreAnnotationsPointer extends MapPointer<OWLAxiom, OWLAxiom> {
+    private static final long serialVersionUID = 30402L;
+
+    /** @param t
+     *            axiom type (unused, all axioms are indexed)
+     * @param v
+     *            visitor (unused, the key is the axiom without annotations)
+     * @param initialized
+     *            true if the index should not be built from existing axioms
+     * @param i
+     *            internals containing the axioms */
+    public AxiomsIgnoreAnnotationsPointer(AxiomType<?> t, OWLAxiomVisitorEx<?> v,
+            boolean initialized, Internals i) {
+        super(t, v, initialized, i);
+    }
+
+    @Override
+    protected void initMap() {
+        for (AxiomType<?> type : i.getKeyset(i.getAxiomsByType())) {
+            for (OWLAxiom ax : i.getValues(i.getAxiomsByType(), type)) {
+                put(ax.getAxiomWithoutAnnotations(), ax);
+            }
+        }
+    }
+}
@@ -55,11 +55,8 @@ public class ClassAxiomByClassPointer extends MapPointer<OWLClass, OWLClassAxiom
     }
 
     @Override
-    public void init() {
-        if (isInitialized()) {
-            return;
-        }
-        super.init();
+    protected void initMap() {
+        super.initMap();
         // special case: this map needs other maps to be initialized first
         for (OWLClass c : i.getKeyset(i.getEquivalentClassesAxiomsByClass())) {
             for (OWLClassAxiom ax : i.getValues(
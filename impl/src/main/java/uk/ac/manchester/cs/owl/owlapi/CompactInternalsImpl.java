@@ -0,0 +1,95 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLAxiomVisitorEx;
+
+/** An Internals implementation optimised for memory use. Each axiom is
+ * assigned an int id in an AxiomIdTable, and all indexes map their keys to
+ * sorted arrays of axiom ids rather than to sets of axioms; this removes the
+ * per axiom entry objects of hash sets, which dominate the memory footprint of
+ * large ontologies. Queries resolve ids through the table with a linear scan
+ * of the arrays. The behaviour is otherwise the same as InternalsImpl. This
+ * class is not threadsafe. To use it, pass an instance to the OWLOntologyImpl
+ * constructor, e.g., by overriding
+ * AbstractInMemOWLOntologyFactory.createInternals().
+ * 
+ * @author ignazio */
+public class CompactInternalsImpl extends InternalsImpl {
+    private static final long serialVersionUID = 30402L;
+    private final AxiomIdTable axiomIds = new AxiomIdTable();
+
+    /** @return the table of axiom ids shared by all indexes */
+    public AxiomIdTable getAxiomIdTable() {
+        return axiomIds;
+    }
+
+    @Override
+    protected <K, V extends OWLAxiom> MapPointer<K, V> build(AxiomType<?> t,
+            OWLAxiomVisitorEx<?> v) {
+        return new IntArrayMapPointer<K, V>(t, v, true, this);
+    }
+
+    @Override
+    protected <K, V extends OWLAxiom> MapPointer<K, V> buildLazy(AxiomType<?> t,
+            OWLAxiomVisitorEx<?> v) {
+        return new IntArrayMapPointer<K, V>(t, v, false, this);
+    }
+
+    @Override
+    public boolean removeAxiom(OWLAxiom axiom) {
+        if (super.removeAxiom(axiom)) {
+            axiomIds.release(axiom);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int getAxiomCount() {
+        return axiomIds.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return axiomIds.size() == 0 && getOntologyAnnotations().isEmpty();
+    }
+}
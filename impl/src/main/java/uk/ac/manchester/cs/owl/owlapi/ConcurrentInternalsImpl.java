@@ -0,0 +1,434 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClassAxiom;
+import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLLogicalAxiom;
+import org.semanticweb.owlapi.model.OWLSubPropertyChainOfAxiom;
+import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
+
+/** An Internals implementation that can be shared between threads. All
+ * accesses are regulated by a read/write lock: any number of readers can query
+ * the indexes at the same time, while changes are applied one at a time and
+ * exclude readers. Lazily built indexes are safely published by
+ * MapPointer.init(), so multiple readers can trigger their construction. All
+ * sets returned are copies made while holding the read lock, therefore they
+ * are not affected by later changes.
+ * 
+ * @author ignazio */
+public class ConcurrentInternalsImpl extends InternalsImpl {
+    private static final long serialVersionUID = 30402L;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock readLock = lock.readLock();
+    private final Lock writeLock = lock.writeLock();
+
+    /** @return the read/write lock used by this object; useful to apply a
+     *         series of changes or queries atomically */
+    public ReadWriteLock getLock() {
+        return lock;
+    }
+
+    /** each task holds the read lock while building its index, so that no
+     * change can be applied while the indexes are being built; the calling
+     * thread does not hold the lock, which would block the tasks if a writer
+     * were waiting */
+    @Override
+    protected Runnable buildInitTask(final MapPointer<?, ?> index) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    readLock.lock();
+                    index.init();
+                } finally {
+                    readLock.unlock();
+                }
+            }
+        };
+    }
+
+    @Override
+    public <K, V extends OWLAxiom> Set<K> getKeyset(Pointer<K, V> pointer) {
+        try {
+            readLock.lock();
+            return super.getKeyset(pointer);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public <K, V extends OWLAxiom> Set<V> getValues(Pointer<K, V> pointer, K key) {
+        try {
+            readLock.lock();
+            return super.getValues(pointer, key);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /** live views cannot be read safely without holding the lock, so this
+     * returns a copy, as getKeyset() does */
+    @Override
+    public <K, V extends OWLAxiom> Set<K> getKeysetView(Pointer<K, V> pointer) {
+        return getKeyset(pointer);
+    }
+
+    /** live views cannot be read safely without holding the lock, so this
+     * returns a copy, as getValues() does */
+    @Override
+    public <K, V extends OWLAxiom> Set<V> getValuesView(Pointer<K, V> pointer, K key) {
+        return getValues(pointer, key);
+    }
+
+    @Override
+    public <K, V extends OWLAxiom> boolean hasValues(Pointer<K, V> pointer, K key) {
+        try {
+            readLock.lock();
+            return super.hasValues(pointer, key);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public <K, V extends OWLAxiom> boolean contains(Pointer<K, V> p, K k) {
+        try {
+            readLock.lock();
+            return super.contains(p, k);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public <K, V extends OWLAxiom> boolean contains(Pointer<K, V> p, K k, V v) {
+        try {
+            readLock.lock();
+            return super.contains(p, k, v);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public <T extends OWLAxiom, K> Set<T> filterAxioms(OWLAxiomSearchFilter<T, K> filter,
+            K key) {
+        try {
+            readLock.lock();
+            return super.filterAxioms(filter, key);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isDeclared(OWLDeclarationAxiom ax) {
+        try {
+            readLock.lock();
+            return super.isDeclared(ax);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        try {
+            readLock.lock();
+            return super.isEmpty();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public int getAxiomCount() {
+        try {
+            readLock.lock();
+            return super.getAxiomCount();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public <T extends OWLAxiom> int getAxiomCount(AxiomType<T> axiomType) {
+        try {
+            readLock.lock();
+            return super.getAxiomCount(axiomType);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public Set<OWLAxiom> getAxioms() {
+        try {
+            readLock.lock();
+            return super.getAxioms();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public Set<OWLLogicalAxiom> getLogicalAxioms() {
+        try {
+            readLock.lock();
+            return super.getLogicalAxioms();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public int getLogicalAxiomCount() {
+        try {
+            readLock.lock();
+            return super.getLogicalAxiomCount();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public Set<OWLClassAxiom> getGeneralClassAxioms() {
+        try {
+            readLock.lock();
+            return super.getGeneralClassAxioms();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public Set<OWLImportsDeclaration> getImportsDeclarations() {
+        try {
+            readLock.lock();
+            return super.getImportsDeclarations();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public Set<OWLAnnotation> getOntologyAnnotations() {
+        try {
+            readLock.lock();
+            return super.getOntologyAnnotations();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public Set<OWLEntity> getSignature() {
+        try {
+            readLock.lock();
+            return super.getSignature();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public Set<OWLAnnotationProperty> getAnnotationPropertiesInSignature() {
+        try {
+            readLock.lock();
+            return super.getAnnotationPropertiesInSignature();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public int getSignatureVersion() {
+        try {
+            readLock.lock();
+            return super.getSignatureVersion();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean addAxiom(OWLAxiom axiom) {
+        try {
+            writeLock.lock();
+            return super.addAxiom(axiom);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<OWLAxiom> addAxioms(Collection<? extends OWLAxiom> axioms) {
+        try {
+            writeLock.lock();
+            return super.addAxioms(axioms);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean removeAxiom(OWLAxiom axiom) {
+        try {
+            writeLock.lock();
+            return super.removeAxiom(axiom);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public <K, V extends OWLAxiom> boolean add(Pointer<K, V> p, K k, V v) {
+        try {
+            writeLock.lock();
+            return super.add(p, k, v);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public <K, V extends OWLAxiom> boolean remove(Pointer<K, V> pointer, K k, V v) {
+        try {
+            writeLock.lock();
+            return super.remove(pointer, k, v);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean addImportsDeclaration(OWLImportsDeclaration importDeclaration) {
+        try {
+            writeLock.lock();
+            return super.addImportsDeclaration(importDeclaration);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean removeImportsDeclaration(OWLImportsDeclaration importDeclaration) {
+        try {
+            writeLock.lock();
+            return super.removeImportsDeclaration(importDeclaration);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean addOntologyAnnotation(OWLAnnotation ann) {
+        try {
+            writeLock.lock();
+            return super.addOntologyAnnotation(ann);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean removeOntologyAnnotation(OWLAnnotation ann) {
+        try {
+            writeLock.lock();
+            return super.removeOntologyAnnotation(ann);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void addGeneralClassAxioms(OWLClassAxiom ax) {
+        try {
+            writeLock.lock();
+            super.addGeneralClassAxioms(ax);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void removeGeneralClassAxioms(OWLClassAxiom ax) {
+        try {
+            writeLock.lock();
+            super.removeGeneralClassAxioms(ax);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void addPropertyChainSubPropertyAxioms(OWLSubPropertyChainOfAxiom ax) {
+        try {
+            writeLock.lock();
+            super.addPropertyChainSubPropertyAxioms(ax);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void removePropertyChainSubPropertyAxioms(OWLSubPropertyChainOfAxiom ax) {
+        try {
+            writeLock.lock();
+            super.removePropertyChainSubPropertyAxioms(ax);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
@@ -56,6 +56,18 @@ import org.semanticweb.owlapi.model.OWLRuntimeException;
 public class EmptyInMemOWLOntologyFactory extends AbstractInMemOWLOntologyFactory {
     private static final long serialVersionUID = 30402L;
 
+    /** Creates a factory for ontologies that are not threadsafe. */
+    public EmptyInMemOWLOntologyFactory() {
+        super();
+    }
+
+    /** @param concurrent
+     *            true if the ontologies created should be safe to query and
+     *            change from multiple threads */
+    public EmptyInMemOWLOntologyFactory(boolean concurrent) {
+        super(concurrent);
+    }
+
     @Override
     public OWLOntology loadOWLOntology(OWLOntologyDocumentSource documentSource,
             OWLOntologyCreationHandler mediator) throws OWLOntologyCreationException {
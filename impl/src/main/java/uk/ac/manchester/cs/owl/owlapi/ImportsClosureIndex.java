@@ -0,0 +1,274 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.semanticweb.owlapi.util.CollectionFactory.createSet;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
+import org.semanticweb.owlapi.model.RemoveAxiom;
+import org.semanticweb.owlapi.model.RemoveOntologyAnnotation;
+import org.semanticweb.owlapi.util.CollectionFactory;
+import org.semanticweb.owlapi.util.MultiMap;
+
+/** A merged index over the imports closure of an ontology, so that queries
+ * including the imports closure are answered with a single lookup instead of
+ * one query per imported ontology. Axioms and entities are counted, since the
+ * same axiom can appear in more than one ontology in the closure. The index is
+ * built from the ontologies in the closure and then kept in sync by the changes
+ * the ontologies report to their manager, including changes applied directly
+ * to an ontology; the manager discards it when the closure itself changes.
+ * 
+ * @author ignazio */
+public class ImportsClosureIndex implements OWLOntologyChangeListener {
+    private final Set<OWLOntology> closure;
+    private final Map<OWLAxiom, Integer> axioms = new HashMap<OWLAxiom, Integer>();
+    private final MultiMap<OWLAxiom, OWLAxiom> axiomsIgnoreAnnotations = new MultiMap<OWLAxiom, OWLAxiom>();
+    private final Map<OWLEntity, Integer> entityReferences = new HashMap<OWLEntity, Integer>();
+    private final Map<OWLAnnotationProperty, Integer> ontologyAnnotationProperties = new HashMap<OWLAnnotationProperty, Integer>();
+    private Set<OWLEntity> signatureSnapshot;
+
+    /** @param closure
+     *            the imports closure to index */
+    public ImportsClosureIndex(Set<OWLOntology> closure) {
+        this.closure = new HashSet<OWLOntology>(closure);
+        for (OWLOntology ont : this.closure) {
+            for (OWLAxiom ax : ont.getAxioms()) {
+                add(ax);
+            }
+            for (OWLAnnotation ann : ont.getAnnotations()) {
+                increment(ontologyAnnotationProperties, ann.getProperty());
+            }
+        }
+    }
+
+    /** @return the ontologies in the indexed imports closure */
+    public Set<OWLOntology> getImportsClosure() {
+        return Collections.unmodifiableSet(closure);
+    }
+
+    @Override
+    public synchronized void ontologiesChanged(List<? extends OWLOntologyChange> changes) {
+        for (OWLOntologyChange change : changes) {
+            if (!closure.contains(change.getOntology())) {
+                continue;
+            }
+            if (change instanceof AddAxiom) {
+                add(change.getAxiom());
+            } else if (change instanceof RemoveAxiom) {
+                remove(change.getAxiom());
+            } else if (change instanceof AddOntologyAnnotation) {
+                if (increment(ontologyAnnotationProperties,
+                        ((AddOntologyAnnotation) change).getAnnotation().getProperty())) {
+                    signatureSnapshot = null;
+                }
+            } else if (change instanceof RemoveOntologyAnnotation) {
+                if (decrement(ontologyAnnotationProperties,
+                        ((RemoveOntologyAnnotation) change).getAnnotation().getProperty())) {
+                    signatureSnapshot = null;
+                }
+            }
+        }
+    }
+
+    /** @param ontology
+     *            the ontology the axioms were added to
+     * @param added
+     *            the axioms actually added to the ontology */
+    public synchronized void axiomsAdded(OWLOntology ontology, Collection<OWLAxiom> added) {
+        if (closure.contains(ontology)) {
+            for (OWLAxiom ax : added) {
+                add(ax);
+            }
+        }
+    }
+
+    private void add(OWLAxiom ax) {
+        if (increment(axioms, ax)) {
+            axiomsIgnoreAnnotations.put(ax.getAxiomWithoutAnnotations(), ax);
+            for (OWLEntity e : getReferencedEntities(ax)) {
+                if (increment(entityReferences, e)) {
+                    signatureSnapshot = null;
+                }
+            }
+        }
+    }
+
+    private void remove(OWLAxiom ax) {
+        if (decrement(axioms, ax)) {
+            axiomsIgnoreAnnotations.remove(ax.getAxiomWithoutAnnotations(), ax);
+            for (OWLEntity e : getReferencedEntities(ax)) {
+                if (decrement(entityReferences, e)) {
+                    signatureSnapshot = null;
+                }
+            }
+        }
+    }
+
+    /** @return true if the key was not present before */
+    private static <K> boolean increment(Map<K, Integer> map, K key) {
+        Integer i = map.get(key);
+        if (i == null) {
+            map.put(key, 1);
+            return true;
+        }
+        map.put(key, i + 1);
+        return false;
+    }
+
+    /** @return true if the key is no longer present */
+    private static <K> boolean decrement(Map<K, Integer> map, K key) {
+        Integer i = map.get(key);
+        if (i == null) {
+            return false;
+        }
+        if (i.intValue() == 1) {
+            map.remove(key);
+            return true;
+        }
+        map.put(key, i - 1);
+        return false;
+    }
+
+    /** the same entities that are indexed as references by InternalsImpl */
+    private static Set<OWLEntity> getReferencedEntities(OWLAxiom ax) {
+        final Set<OWLEntity> toReturn = new HashSet<OWLEntity>();
+        ax.accept(new AbstractEntityRegistrationManager() {
+            @Override
+            public void visit(OWLClass owlClass) {
+                toReturn.add(owlClass);
+            }
+
+            @Override
+            public void visit(OWLObjectProperty property) {
+                toReturn.add(property);
+            }
+
+            @Override
+            public void visit(OWLDataProperty property) {
+                toReturn.add(property);
+            }
+
+            @Override
+            public void visit(OWLNamedIndividual owlIndividual) {
+                toReturn.add(owlIndividual);
+            }
+
+            @Override
+            public void visit(OWLAnnotationProperty property) {
+                toReturn.add(property);
+            }
+
+            @Override
+            public void visit(OWLDatatype datatype) {
+                toReturn.add(datatype);
+            }
+
+            @Override
+            public void visit(OWLAnonymousIndividual individual) {}
+        });
+        return toReturn;
+    }
+
+    /** @param axiom
+     *            axiom to look for
+     * @return true if any ontology in the closure contains the axiom */
+    public synchronized boolean containsAxiom(OWLAxiom axiom) {
+        return axioms.containsKey(axiom);
+    }
+
+    /** @param axiom
+     *            axiom to look for
+     * @return true if any ontology in the closure contains an axiom equal to
+     *         the input when annotations are ignored */
+    public synchronized boolean containsAxiomIgnoreAnnotations(OWLAxiom axiom) {
+        return axiomsIgnoreAnnotations.containsKey(axiom.getAxiomWithoutAnnotations());
+    }
+
+    /** @param axiom
+     *            axiom to look for
+     * @return the axioms in the closure equal to the input when annotations are
+     *         ignored */
+    public synchronized Set<OWLAxiom> getAxiomsIgnoreAnnotations(OWLAxiom axiom) {
+        return CollectionFactory
+                .getCopyOnRequestSetFromMutableCollection(axiomsIgnoreAnnotations
+                        .get(axiom.getAxiomWithoutAnnotations()));
+    }
+
+    /** @param entity
+     *            entity to look for
+     * @return true if any axiom in the closure references the entity */
+    public synchronized boolean containsEntityInSignature(OWLEntity entity) {
+        return entityReferences.containsKey(entity);
+    }
+
+    /** @return the signature of the imports closure */
+    public synchronized Set<OWLEntity> getSignature() {
+        if (signatureSnapshot == null) {
+            Set<OWLEntity> set = new HashSet<OWLEntity>(entityReferences.keySet());
+            set.addAll(ontologyAnnotationProperties.keySet());
+            signatureSnapshot = Collections.unmodifiableSet(set);
+        }
+        if (signatureSnapshot.isEmpty()) {
+            return createSet();
+        }
+        return CollectionFactory.getCopyOnRequestSetFromImmutableCollection(signatureSnapshot);
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLAxiomVisitorEx;
+import org.semanticweb.owlapi.util.CollectionFactory;
+
+/** A MapPointer that stores, for each key, the sorted ids of the axioms in the
+ * AxiomIdTable of a CompactInternalsImpl. Each array holds its size in the
+ * first position and leaves some free space at the end to amortise insertions.
+ * Values are resolved through the table on each request.
+ * 
+ * @author ignazio
+ * @param <K>
+ *            key type
+ * @param <V>
+ *            value type */
+public class IntArrayMapPointer<K, V extends OWLAxiom> extends MapPointer<K, V> {
+    private static final long serialVersionUID = 30402L;
+    private final Map<K, int[]> ids = CollectionFactory.createMap();
+    /** number of key/value pairs */
+    private int size = 0;
+
+    /** @param t
+     *            type of axioms indexed
+     * @param v
+     *            visitor to compute the keys for lazy initialization
+     * @param initialized
+     *            true if the index does not need building
+     * @param i
+     *            internals; must be a CompactInternalsImpl */
+    public IntArrayMapPointer(AxiomType<?> t, OWLAxiomVisitorEx<?> v,
+            boolean initialized, CompactInternalsImpl i) {
+        super(t, v, initialized, i, null);
+    }
+
+    private AxiomIdTable table() {
+        return ((CompactInternalsImpl) i).getAxiomIdTable();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return CollectionFactory.getCopyOnRequestSetFromMutableCollection(ids.keySet());
+    }
+
+    @Override
+    public Set<V> getValues(K key) {
+        int[] values = ids.get(key);
+        if (values == null) {
+            return Collections.emptySet();
+        }
+        return CollectionFactory.getCopyOnRequestSetFromImmutableCollection(resolve(
+                values, new ArrayList<V>(values[0])));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <C extends List<V>> C resolve(int[] values, C result) {
+        AxiomIdTable table = table();
+        for (int j = 1; j <= values[0]; j++) {
+            OWLAxiom ax = table.getAxiom(values[j]);
+            if (ax != null) {
+                result.add((V) ax);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Set<K> keySetView() {
+        return Collections.unmodifiableSet(ids.keySet());
+    }
+
+    /** values are stored as ids, so the views resolve them into a new
+     * collection on each access */
+    @Override
+    protected Collection<V> getCurrentValues(K key) {
+        int[] values = ids.get(key);
+        if (values == null) {
+            return Collections.emptyList();
+        }
+        return resolve(values, new ArrayList<V>(values[0]));
+    }
+
+    @Override
+    public boolean hasValues(K key) {
+        return ids.containsKey(key);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return ids.containsKey(key);
+    }
+
+    @Override
+    public boolean put(K key, V value) {
+        int id = table().intern(value);
+        int[] values = ids.get(key);
+        if (values == null) {
+            values = new int[] { 1, id };
+            ids.put(key, values);
+            size++;
+            return true;
+        }
+        int length = values[0];
+        int pos = Arrays.binarySearch(values, 1, length + 1, id);
+        if (pos >= 0) {
+            return false;
+        }
+        pos = -pos - 1;
+        if (length + 1 == values.length) {
+            values = Arrays.copyOf(values, values.length + (values.length >> 1) + 1);
+            ids.put(key, values);
+        }
+        System.arraycopy(values, pos, values, pos + 1, length + 1 - pos);
+        values[pos] = id;
+        values[0] = length + 1;
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(K key, V value) {
+        int[] values = ids.get(key);
+        if (values == null) {
+            return false;
+        }
+        int id = table().getId(value);
+        if (id < 0) {
+            return false;
+        }
+        int length = values[0];
+        int pos = Arrays.binarySearch(values, 1, length + 1, id);
+        if (pos < 0) {
+            return false;
+        }
+        if (length == 1) {
+            ids.remove(key);
+        } else {
+            System.arraycopy(values, pos + 1, values, pos, length - pos);
+            values[0] = length - 1;
+        }
+        size--;
+        return true;
+    }
+
+    @Override
+    public boolean contains(K key, V value) {
+        int[] values = ids.get(key);
+        if (values == null) {
+            return false;
+        }
+        int id = table().getId(value);
+        return id >= 0 && Arrays.binarySearch(values, 1, values[0] + 1, id) >= 0;
+    }
+
+    @Override
+    public Set<V> getAllValues() {
+        Set<V> toReturn = CollectionFactory.createSet();
+        for (int[] values : ids.values()) {
+            toReturn.addAll(resolve(values, new ArrayList<V>(values[0])));
+        }
+        return toReturn;
+    }
+
+    /** values are counted once per key, which for indexes with a single key
+     * per axiom, such as axioms by type, is the number of axioms */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return isInitialized() + ids.toString();
+    }
+}
@@ -38,7 +38,10 @@
  */
 package uk.ac.manchester.cs.owl.owlapi;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.OWLAnnotation;
@@ -107,6 +110,10 @@ public interface Internals {
 
     Pointer<AxiomType<?>, OWLAxiom> getAxiomsByType();
 
+    /** @return index from axioms without annotations to the axioms that equal
+     *         them when annotations are ignored */
+    Pointer<OWLAxiom, OWLAxiom> getAxiomsIgnoreAnnotations();
+
     <K, V extends OWLAxiom> boolean add(Pointer<K, V> pointer, K key, V value);
 
     void addGeneralClassAxioms(OWLClassAxiom ax);
@@ -264,6 +271,31 @@ public interface Internals {
 
     <K, V extends OWLAxiom> Set<K> getKeyset(Pointer<K, V> pointer);
 
+    /** @param pointer
+     *            index to use
+     * @param key
+     *            key to look up
+     * @return an unmodifiable view of the values, where the implementation
+     *         allows it; unlike getValues(), no copy is made */
+    <K, V extends OWLAxiom> Set<V> getValuesView(Pointer<K, V> pointer, K key);
+
+    /** @param pointer
+     *            index to use
+     * @return an unmodifiable view of the keys, where the implementation allows
+     *         it; unlike getKeyset(), no copy is made */
+    <K, V extends OWLAxiom> Set<K> getKeysetView(Pointer<K, V> pointer);
+
+    /** @return the entities referenced by axioms or ontology annotations; the
+     *         set is maintained incrementally, not rebuilt at each call */
+    Set<OWLEntity> getSignature();
+
+    /** @return the annotation properties referenced by axioms or ontology
+     *         annotations */
+    Set<OWLAnnotationProperty> getAnnotationPropertiesInSignature();
+
+    /** @return a counter that changes every time the signature changes */
+    int getSignatureVersion();
+
     public <T extends OWLAxiom, K> Set<T> filterAxioms(OWLAxiomSearchFilter<T, K> filter,
             K key);
 
@@ -273,6 +305,22 @@ public interface Internals {
 
     boolean addAxiom(OWLAxiom axiom);
 
+    /** adds many axioms at once, sharing the per-call setup between them
+     * 
+     * @param axioms
+     *            axioms to add
+     * @return the axioms that were actually added, in iteration order */
+    List<OWLAxiom> addAxioms(Collection<? extends OWLAxiom> axioms);
+
+    /** builds all lazily built indexes that have not been built yet, one task
+     * per index on the given executor, and waits for them to complete. The
+     * ontology must not be changed while this method runs, unless the
+     * implementation is thread safe.
+     * 
+     * @param executor
+     *            executor to run the tasks on */
+    void initIndexes(ExecutorService executor);
+
     boolean removeAxiom(OWLAxiom axiom);
 
     void removeGeneralClassAxioms(OWLClassAxiom ax);
@@ -42,9 +42,15 @@ import static org.semanticweb.owlapi.model.AxiomType.AXIOM_TYPES;
 import static org.semanticweb.owlapi.util.CollectionFactory.createSet;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.OWLAnnotation;
@@ -95,6 +101,7 @@ import org.semanticweb.owlapi.model.OWLObjectPropertyDomainAxiom;
 import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLObjectPropertyRangeAxiom;
 import org.semanticweb.owlapi.model.OWLReflexiveObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
 import org.semanticweb.owlapi.model.OWLSameIndividualAxiom;
 import org.semanticweb.owlapi.model.OWLSubAnnotationPropertyOfAxiom;
 import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
@@ -157,6 +164,13 @@ public class InternalsImpl extends AbstractInternalsImpl {
     protected final MapPointer<OWLDatatype, OWLAxiom> owlDatatypeReferences = build();
     protected final MapPointer<OWLAnnotationProperty, OWLAxiom> owlAnnotationPropertyReferences = build();
     protected final MapPointer<OWLEntity, OWLDeclarationAxiom> declarationsByEntity = build();
+    /** entities in the signature, updated when an entity gains its first
+     * reference or loses its last one */
+    protected final Set<OWLEntity> signature = createSet();
+    protected final Set<OWLAnnotationProperty> annotationPropertiesInSignature = createSet();
+    private int signatureVersion = 0;
+    private transient volatile Set<OWLEntity> signatureSnapshot;
+    private transient volatile Set<OWLAnnotationProperty> annotationPropertiesSnapshot;
 
     @Override
     public <K, V extends OWLAxiom> Set<K> getKeyset(Pointer<K, V> pointer) {
@@ -172,6 +186,20 @@ public class InternalsImpl extends AbstractInternalsImpl {
         return mapPointer.getValues(key);
     }
 
+    @Override
+    public <K, V extends OWLAxiom> Set<K> getKeysetView(Pointer<K, V> pointer) {
+        final MapPointer<K, V> mapPointer = (MapPointer<K, V>) pointer;
+        mapPointer.init();
+        return mapPointer.keySetView();
+    }
+
+    @Override
+    public <K, V extends OWLAxiom> Set<V> getValuesView(Pointer<K, V> pointer, K key) {
+        final MapPointer<K, V> mapPointer = (MapPointer<K, V>) pointer;
+        mapPointer.init();
+        return mapPointer.getValuesView(key);
+    }
+
     @Override
     public <K, V extends OWLAxiom> boolean hasValues(Pointer<K, V> pointer, K key) {
         final MapPointer<K, V> mapPointer = (MapPointer<K, V>) pointer;
@@ -192,46 +220,120 @@ public class InternalsImpl extends AbstractInternalsImpl {
     private final AddAxiomVisitor addChangeVisitor = new AddAxiomVisitor();
     private final RemoveAxiomVisitor removeChangeVisitor = new RemoveAxiomVisitor();
 
-    @Override
-    public boolean addAxiom(final OWLAxiom axiom) {
-        if (add(getAxiomsByType(), axiom.getAxiomType(), axiom)) {
-            axiom.accept(addChangeVisitor);
-            axiom.accept(new AbstractEntityRegistrationManager() {
-                @Override
-                public void visit(OWLClass owlClass) {
-                    add(getOwlClassReferences(), owlClass, axiom);
-                }
+    /** registers the entities referenced by an axiom; one instance can be
+     * reused for many axioms */
+    protected class ReferenceAdder extends AbstractEntityRegistrationManager {
+        private OWLAxiom axiom;
 
-                @Override
-                public void visit(OWLObjectProperty property) {
-                    add(getOwlObjectPropertyReferences(), property, axiom);
-                }
+        public void setAxiom(OWLAxiom axiom) {
+            this.axiom = axiom;
+        }
 
-                @Override
-                public void visit(OWLDataProperty property) {
-                    add(getOwlDataPropertyReferences(), property, axiom);
-                }
+        @Override
+        public void visit(OWLClass owlClass) {
+            if (add(getOwlClassReferences(), owlClass, axiom)) {
+                addToSignature(owlClass);
+            }
+        }
 
-                @Override
-                public void visit(OWLNamedIndividual owlIndividual) {
-                    add(getOwlIndividualReferences(), owlIndividual, axiom);
-                }
+        @Override
+        public void visit(OWLObjectProperty property) {
+            if (add(getOwlObjectPropertyReferences(), property, axiom)) {
+                addToSignature(property);
+            }
+        }
 
-                @Override
-                public void visit(OWLAnnotationProperty property) {
-                    add(getOwlAnnotationPropertyReferences(), property, axiom);
-                }
+        @Override
+        public void visit(OWLDataProperty property) {
+            if (add(getOwlDataPropertyReferences(), property, axiom)) {
+                addToSignature(property);
+            }
+        }
 
-                @Override
-                public void visit(OWLDatatype datatype) {
-                    add(getOwlDatatypeReferences(), datatype, axiom);
-                }
+        @Override
+        public void visit(OWLNamedIndividual owlIndividual) {
+            if (add(getOwlIndividualReferences(), owlIndividual, axiom)) {
+                addToSignature(owlIndividual);
+            }
+        }
 
-                @Override
-                public void visit(OWLAnonymousIndividual individual) {
-                    add(getOwlAnonymousIndividualReferences(), individual, axiom);
-                }
-            });
+        @Override
+        public void visit(OWLAnnotationProperty property) {
+            if (add(getOwlAnnotationPropertyReferences(), property, axiom)) {
+                addAnnotationPropertyToSignature(property);
+            }
+        }
+
+        @Override
+        public void visit(OWLDatatype datatype) {
+            if (add(getOwlDatatypeReferences(), datatype, axiom)) {
+                addToSignature(datatype);
+            }
+        }
+
+        @Override
+        public void visit(OWLAnonymousIndividual individual) {
+            add(getOwlAnonymousIndividualReferences(), individual, axiom);
+        }
+    }
+
+    @Override
+    public boolean addAxiom(final OWLAxiom axiom) {
+        return addAxiom(axiom, new ReferenceAdder());
+    }
+
+    @Override
+    public List<OWLAxiom> addAxioms(Collection<? extends OWLAxiom> axioms) {
+        List<OWLAxiom> added = new ArrayList<OWLAxiom>(axioms.size());
+        ReferenceAdder adder = new ReferenceAdder();
+        for (OWLAxiom axiom : axioms) {
+            if (addAxiom(axiom, adder)) {
+                added.add(axiom);
+            }
+        }
+        return added;
+    }
+
+    @Override
+    public void initIndexes(ExecutorService executor) {
+        List<Future<?>> tasks = new ArrayList<Future<?>>();
+        for (MapPointer<?, ?> index : getLazyIndexes()) {
+            if (!index.isInitialized()) {
+                tasks.add(executor.submit(buildInitTask(index)));
+            }
+        }
+        try {
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            // the indexes not built yet will be built on first access
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new OWLRuntimeException(e.getCause());
+        }
+    }
+
+    /** @param index
+     *            the index to build
+     * @return a task that builds the index */
+    protected Runnable buildInitTask(final MapPointer<?, ?> index) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                index.init();
+            }
+        };
+    }
+
+    protected boolean addAxiom(OWLAxiom axiom, ReferenceAdder adder) {
+        if (add(getAxiomsByType(), axiom.getAxiomType(), axiom)) {
+            axiom.accept(addChangeVisitor);
+            if (axiomsIgnoreAnnotations.isInitialized()) {
+                add(axiomsIgnoreAnnotations, axiom.getAxiomWithoutAnnotations(), axiom);
+            }
+            adder.setAxiom(axiom);
+            axiom.accept(adder);
             return true;
         }
         return false;
@@ -241,35 +343,51 @@ public class InternalsImpl extends AbstractInternalsImpl {
     public boolean removeAxiom(final OWLAxiom axiom) {
         if (remove(getAxiomsByType(), axiom.getAxiomType(), axiom)) {
             axiom.accept(removeChangeVisitor);
+            if (axiomsIgnoreAnnotations.isInitialized()) {
+                remove(axiomsIgnoreAnnotations, axiom.getAxiomWithoutAnnotations(),
+                        axiom);
+            }
             AbstractEntityRegistrationManager referenceRemover = new AbstractEntityRegistrationManager() {
                 @Override
                 public void visit(OWLClass owlClass) {
-                    remove(getOwlClassReferences(), owlClass, axiom);
+                    if (remove(getOwlClassReferences(), owlClass, axiom)) {
+                        removeFromSignature(getOwlClassReferences(), owlClass);
+                    }
                 }
 
                 @Override
                 public void visit(OWLObjectProperty property) {
-                    remove(getOwlObjectPropertyReferences(), property, axiom);
+                    if (remove(getOwlObjectPropertyReferences(), property, axiom)) {
+                        removeFromSignature(getOwlObjectPropertyReferences(), property);
+                    }
                 }
 
                 @Override
                 public void visit(OWLDataProperty property) {
-                    remove(getOwlDataPropertyReferences(), property, axiom);
+                    if (remove(getOwlDataPropertyReferences(), property, axiom)) {
+                        removeFromSignature(getOwlDataPropertyReferences(), property);
+                    }
                 }
 
                 @Override
                 public void visit(OWLNamedIndividual owlIndividual) {
-                    remove(getOwlIndividualReferences(), owlIndividual, axiom);
+                    if (remove(getOwlIndividualReferences(), owlIndividual, axiom)) {
+                        removeFromSignature(getOwlIndividualReferences(), owlIndividual);
+                    }
                 }
 
                 @Override
                 public void visit(OWLAnnotationProperty property) {
-                    remove(getOwlAnnotationPropertyReferences(), property, axiom);
+                    if (remove(getOwlAnnotationPropertyReferences(), property, axiom)) {
+                        removeAnnotationPropertyFromSignature(property);
+                    }
                 }
 
                 @Override
                 public void visit(OWLDatatype datatype) {
-                    remove(getOwlDatatypeReferences(), datatype, axiom);
+                    if (remove(getOwlDatatypeReferences(), datatype, axiom)) {
+                        removeFromSignature(getOwlDatatypeReferences(), datatype);
+                    }
                 }
 
                 @Override
@@ -336,12 +454,91 @@ public class InternalsImpl extends AbstractInternalsImpl {
 
     @Override
     public boolean addOntologyAnnotation(OWLAnnotation ann) {
-        return ontologyAnnotations.add(ann);
+        if (ontologyAnnotations.add(ann)) {
+            addAnnotationPropertyToSignature(ann.getProperty());
+            return true;
+        }
+        return false;
     }
 
     @Override
     public boolean removeOntologyAnnotation(OWLAnnotation ann) {
-        return ontologyAnnotations.remove(ann);
+        if (ontologyAnnotations.remove(ann)) {
+            removeAnnotationPropertyFromSignature(ann.getProperty());
+            return true;
+        }
+        return false;
+    }
+
+    protected void addToSignature(OWLEntity e) {
+        if (signature.add(e)) {
+            signatureChanged();
+        }
+    }
+
+    protected <K extends OWLEntity> void removeFromSignature(
+            MapPointer<K, OWLAxiom> references, K e) {
+        if (!references.containsKey(e) && signature.remove(e)) {
+            signatureChanged();
+        }
+    }
+
+    protected void addAnnotationPropertyToSignature(OWLAnnotationProperty p) {
+        annotationPropertiesInSignature.add(p);
+        addToSignature(p);
+    }
+
+    protected void removeAnnotationPropertyFromSignature(OWLAnnotationProperty p) {
+        if (owlAnnotationPropertyReferences.containsKey(p)) {
+            return;
+        }
+        for (OWLAnnotation ann : ontologyAnnotations.set) {
+            if (ann.getProperty().equals(p)) {
+                return;
+            }
+        }
+        annotationPropertiesInSignature.remove(p);
+        if (signature.remove(p)) {
+            signatureChanged();
+        }
+    }
+
+    private void signatureChanged() {
+        signatureVersion++;
+        signatureSnapshot = null;
+        annotationPropertiesSnapshot = null;
+    }
+
+    @Override
+    public Set<OWLEntity> getSignature() {
+        Set<OWLEntity> toReturn = signatureSnapshot;
+        if (toReturn == null) {
+            toReturn = Collections.unmodifiableSet(new HashSet<OWLEntity>(signature));
+            signatureSnapshot = toReturn;
+        }
+        if (toReturn.isEmpty()) {
+            return createSet();
+        }
+        return CollectionFactory.getCopyOnRequestSetFromImmutableCollection(toReturn);
+    }
+
+    @Override
+    public Set<OWLAnnotationProperty> getAnnotationPropertiesInSignature() {
+        Set<OWLAnnotationProperty> toReturn = annotationPropertiesSnapshot;
+        if (toReturn == null) {
+            toReturn = Collections.unmodifiableSet(new HashSet<OWLAnnotationProperty>(
+                    annotationPropertiesInSignature));
+            annotationPropertiesSnapshot = toReturn;
+        }
+        if (toReturn.isEmpty()) {
+            return createSet();
+        }
+        return CollectionFactory.getCopyOnRequestSetFromImmutableCollection(toReturn);
+    }
+
+    @Override
+    public int getSignatureVersion() {
+        return signatureVersion;
     }
 
     @Override
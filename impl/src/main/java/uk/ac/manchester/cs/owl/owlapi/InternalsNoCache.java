@@ -50,6 +50,7 @@ import org.semanticweb.owlapi.model.OWLDatatype;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.util.ConcurrentWeakCache;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 import org.semanticweb.owlapi.vocab.XSDVocabulary;
 
@@ -73,16 +74,32 @@ public class InternalsNoCache implements OWLDataFactoryInternals, Serializable {
     private final OWLLiteral falseLiteral;
     private OWLLiteral negativeFloatZero;
     private final boolean useCompression;
+    private final boolean compactLiterals;
+    private final ConcurrentWeakCache<String> languageTags = new ConcurrentWeakCache<String>();
 
     /** @param f
      *            the factory to refer to
      * @param useCompression
      *            true if compression of literals should be used */
     public InternalsNoCache(OWLDataFactory f, boolean useCompression) {
+        this(f, useCompression, false);
+    }
+
+    /** @param f
+     *            the factory to refer to
+     * @param useCompression
+     *            true if compression of literals should be used
+     * @param compactLiterals
+     *            true if plain literals should use a compact representation
+     *            with shared language tags; takes precedence over compression
+     *            for plain literals */
+    public InternalsNoCache(OWLDataFactory f, boolean useCompression,
+            boolean compactLiterals) {
         factory = f;
         trueLiteral = new OWLLiteralImplBoolean(true);
         falseLiteral = new OWLLiteralImplBoolean(false);
         this.useCompression = useCompression;
+        this.compactLiterals = compactLiterals;
     }
 
     @Override
@@ -125,12 +142,7 @@ public class InternalsNoCache implements OWLDataFactoryInternals, Serializable {
 
     @Override
     public OWLLiteral getOWLLiteral(String value) {
-        if (useCompression) {
-            return new OWLLiteralImpl(value, "",
-                    getOWLDatatype(XSDVocabulary.STRING.getIRI()));
-        }
-        return new OWLLiteralImplNoCompression(value, "",
-                getOWLDatatype(XSDVocabulary.STRING.getIRI()));
+        return getBasicLiteral(value, getOWLDatatype(XSDVocabulary.STRING.getIRI()));
     }
 
     @Override
@@ -141,10 +153,7 @@ public class InternalsNoCache implements OWLDataFactoryInternals, Serializable {
         } else {
             normalisedLang = lang.trim().toLowerCase(Locale.ENGLISH);
         }
-        if (useCompression) {
-            return new OWLLiteralImpl(literal, normalisedLang, null);
-        }
-        return new OWLLiteralImplNoCompression(literal, normalisedLang, null);
+        return getBasicLiteral(literal, normalisedLang, null);
     }
 
     @Override
@@ -230,7 +239,9 @@ public class InternalsNoCache implements OWLDataFactoryInternals, Serializable {
     protected OWLLiteral getBasicLiteral(String lexicalValue, String lang,
             OWLDatatype datatype) {
         OWLLiteral literal = null;
-        if (useCompression) {
+        if (compactLiterals && (datatype == null || datatype.isRDFPlainLiteral())) {
+            literal = new OWLLiteralImplPlain(lexicalValue, getLanguageTag(lang));
+        } else if (useCompression) {
             literal = new OWLLiteralImpl(lexicalValue, lang, datatype);
         } else {
             literal = new OWLLiteralImplNoCompression(lexicalValue, lang, datatype);
@@ -238,6 +249,16 @@ public class InternalsNoCache implements OWLDataFactoryInternals, Serializable {
         return literal;
     }
 
+    /** @param lang
+     *            a normalised language tag
+     * @return the shared instance of the tag */
+    protected String getLanguageTag(String lang) {
+        if (lang == null || lang.length() == 0) {
+            return "";
+        }
+        return languageTags.cache(lang);
+    }
+
     // private boolean isBooleanFalseValue(String lexicalValue) {
     // return lexicalValue.equals("0") || lexicalValue.equals("false");
     // }
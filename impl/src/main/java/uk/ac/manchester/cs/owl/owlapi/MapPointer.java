@@ -1,7 +1,10 @@
 package uk.ac.manchester.cs.owl.owlapi;
 
 import java.io.Serializable;
+import java.util.AbstractSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Set;
 
 import org.semanticweb.owlapi.model.AxiomType;
@@ -20,14 +23,21 @@ public class MapPointer<K, V extends OWLAxiom> implements Internals.Pointer<K, V
     private final MultiMap<K, V> map;
     private final AxiomType<?> type;
     private final OWLAxiomVisitorEx<?> visitor;
-    private boolean initialized;
+    private volatile boolean initialized;
     protected final Internals i;
 
     public MapPointer(AxiomType<?> t, OWLAxiomVisitorEx<?> v, boolean initialized,
             Internals i) {
+        this(t, v, initialized, i, new MultiMap<K, V>());
+    }
+
+    /** for subclasses that keep their own storage and override every method
+     * that reads or writes the map; map can then be null */
+    protected MapPointer(AxiomType<?> t, OWLAxiomVisitorEx<?> v, boolean initialized,
+            Internals i, MultiMap<K, V> map) {
         type = t;
         visitor = v;
-        map = new MultiMap<K, V>();
+        this.map = map;
         this.initialized = initialized;
         this.i = i;
     }
@@ -36,12 +46,25 @@ public class MapPointer<K, V extends OWLAxiom> implements Internals.Pointer<K, V
         return initialized;
     }
 
-    @SuppressWarnings("unchecked")
+    /** builds the index from the axioms by type, if not already built; the
+     * index is only published as initialized once fully built, so that
+     * concurrent readers never observe a partially filled map */
     public void init() {
         if (initialized) {
             return;
         }
-        initialized = true;
+        synchronized (this) {
+            if (initialized) {
+                return;
+            }
+            initMap();
+            initialized = true;
+        }
+    }
+
+    /** fills the map; called at most once, by init() */
+    @SuppressWarnings("unchecked")
+    protected void initMap() {
         if (visitor == null) {
             return;
         }
@@ -49,14 +72,14 @@ public class MapPointer<K, V extends OWLAxiom> implements Internals.Pointer<K, V
             for (V ax : (Set<V>) i.getValues(i.getAxiomsByType(), type)) {
                 K key = ax.accept((InitVisitor<K>) visitor);
                 if (key != null) {
-                    map.put(key, ax);
+                    put(key, ax);
                 }
             }
         } else {
             for (V ax : (Set<V>) i.getValues(i.getAxiomsByType(), type)) {
                 Collection<K> keys = ax.accept((InitCollectionVisitor<K>) visitor);
                 for (K key : keys) {
-                    map.put(key, ax);
+                    put(key, ax);
                 }
             }
         }
@@ -75,6 +98,68 @@ public class MapPointer<K, V extends OWLAxiom> implements Internals.Pointer<K, V
         return CollectionFactory.getCopyOnRequestSetFromMutableCollection(map.get(key));
     }
 
+    /** @return an unmodifiable view of the keys; no copy is made, so the view
+     *         reflects later changes and must not be iterated while the map is
+     *         being changed */
+    public Set<K> keySetView() {
+        return Collections.unmodifiableSet(map.keySet());
+    }
+
+    /** @param key
+     *            key to look up
+     * @return an unmodifiable view of the values for the key; no copy is made,
+     *         so the view reflects later changes to the values, and must not be
+     *         iterated while the map is being changed. The view is bound to the
+     *         key rather than to the current values, so it also reflects values
+     *         added after the key had none. */
+    public Set<V> getValuesView(K key) {
+        return new ValuesView(key);
+    }
+
+    /** @param key
+     *            key to look up
+     * @return the current values for the key, as stored; used by the views
+     *         returned by getValuesView() on each access */
+    protected Collection<V> getCurrentValues(K key) {
+        return map.get(key);
+    }
+
+    /** A read only set that looks up the values for its key on every access,
+     * so that it does not hold on to a collection the map has dropped. */
+    private class ValuesView extends AbstractSet<V> {
+        private final K key;
+
+        ValuesView(K key) {
+            this.key = key;
+        }
+
+        @Override
+        public Iterator<V> iterator() {
+            return Collections.unmodifiableCollection(getCurrentValues(key)).iterator();
+        }
+
+        @Override
+        public int size() {
+            return getCurrentValues(key).size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !hasValues(key);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof OWLAxiom && MapPointer.this.contains(key, (V) o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     public boolean hasValues(K key) {
         return map.containsKey(key);
     }
@@ -31,8 +31,6 @@ import org.semanticweb.owlapi.model.OWLObjectVisitor;
 import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.util.CollectionFactory;
-import org.semanticweb.owlapi.util.HashCode;
-import org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 
 /** Author: Matthew Horridge<br>
@@ -67,6 +65,9 @@ public class OWL2DatatypeImpl implements OWLDatatype {
             throw new NullPointerException("owl2Datatype must not be null");
         }
         this.owl2Datatype = owl2Datatype;
+        // same as OWLDatatypeImpl; MULT is a constant, so this does not
+        // initialise OWLObjectImpl while the instance map is being built
+        hashcode = 269 * OWLObjectImpl.MULT + owl2Datatype.getIRI().hashCode();
     }
 
     /** A factory method which gets an instance of {@link OWLDatatype} for an
@@ -82,6 +83,7 @@ public class OWL2DatatypeImpl implements OWLDatatype {
     }
 
     private final OWL2Datatype owl2Datatype;
+    private final int hashcode;
 
     @Override
     public OWL2Datatype getBuiltInDatatype() {
@@ -376,8 +378,7 @@ public class OWL2DatatypeImpl implements OWLDatatype {
     @Override
     public int compareTo(OWLObject o) {
         if (!(o instanceof OWLDatatype)) {
-            OWLObjectTypeIndexProvider provider = new OWLObjectTypeIndexProvider();
-            return provider.getTypeIndex(o);
+            return OWLObjectImpl.getTypeIndex(o);
         }
         OWLDatatype other = (OWLDatatype) o;
         return getIRI().compareTo(other.getIRI());
@@ -385,6 +386,6 @@ public class OWL2DatatypeImpl implements OWLDatatype {
 
     @Override
     public int hashCode() {
-        return HashCode.hashCode(this);
+        return hashcode;
     }
 }
@@ -66,6 +66,7 @@ public class OWLAnnotationAssertionAxiomImpl extends OWLAxiomImpl implements OWL
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	private final OWLAnnotationSubject subject;
 
@@ -79,6 +80,12 @@ public class OWLAnnotationAssertionAxiomImpl extends OWLAxiomImpl implements OWL
         this.subject = subject;
         this.property = property;
         this.value = value;
+        hashcode = withAnnotations(hash(47, subject, property, value));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -180,6 +187,9 @@ public class OWLAnnotationAssertionAxiomImpl extends OWLAxiomImpl implements OWL
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
     	if(super.equals(obj)) {
     		// superclass is responsible for null, identity, owlaxiom type and annotations
             if (!(obj instanceof OWLAnnotationAssertionAxiom)) {
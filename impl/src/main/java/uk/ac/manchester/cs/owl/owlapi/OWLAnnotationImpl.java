@@ -41,7 +41,6 @@ package uk.ac.manchester.cs.owl.owlapi;
 
 import java.util.HashSet;
 import java.util.Set;
-import java.util.TreeSet;
 
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAnnotationObjectVisitor;
@@ -66,23 +65,30 @@ public class OWLAnnotationImpl extends OWLObjectImpl implements OWLAnnotation {
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	private final OWLAnnotationProperty property;
 
     private final OWLAnnotationValue value;
 
-    private final Set<OWLAnnotation> annotations;
+    private final SortedArraySet<OWLAnnotation> annotations;
 
     public OWLAnnotationImpl(OWLAnnotationProperty property, OWLAnnotationValue value, Set<? extends OWLAnnotation> annotations) {
         super();
         this.property = property;
         this.value = value;
-        this.annotations = CollectionFactory.getCopyOnRequestSetFromMutableCollection(new TreeSet<OWLAnnotation>(annotations));
+        this.annotations = SortedArraySet.create(annotations);
+        hashcode = hash(877, property, value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
     public Set<OWLAnnotation> getAnnotations() {
-        return annotations;
+        return CollectionFactory.getCopyOnRequestSetFromImmutableCollection(annotations);
     }
 
     @Override
@@ -130,6 +136,9 @@ public class OWLAnnotationImpl extends OWLObjectImpl implements OWLAnnotation {
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
 		if (super.equals(obj) && obj instanceof OWLAnnotation) {
 			OWLAnnotation other = (OWLAnnotation) obj;
 			return other.getProperty().equals(property) && other.getValue().equals(value)
@@ -62,6 +62,7 @@ public class OWLAnnotationPropertyDomainAxiomImpl extends OWLAxiomImpl implement
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	private final OWLAnnotationProperty property;
 
@@ -71,6 +72,12 @@ public class OWLAnnotationPropertyDomainAxiomImpl extends OWLAxiomImpl implement
         super(annotations);
         this.domain = domain;
         this.property = property;
+        hashcode = withAnnotations(hash(823, property, domain));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -144,6 +151,9 @@ public class OWLAnnotationPropertyDomainAxiomImpl extends OWLAxiomImpl implement
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
     	if(super.equals(obj)) {
     		// superclass is responsible for null, identity, owlaxiom type and annotations
         if (!(obj instanceof OWLAnnotationPropertyDomainAxiom)) {
@@ -76,11 +76,18 @@ public class OWLAnnotationPropertyImpl extends OWLObjectImpl implements OWLAnnot
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 	private final IRI iri;
 
     public OWLAnnotationPropertyImpl(IRI i) {
         super();
         iri = i;
+        hashcode = hash(857, iri);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
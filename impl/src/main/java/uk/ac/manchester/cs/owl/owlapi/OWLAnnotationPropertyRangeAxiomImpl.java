@@ -62,6 +62,7 @@ public class OWLAnnotationPropertyRangeAxiomImpl extends OWLAxiomImpl implements
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	private final OWLAnnotationProperty property;
 
@@ -71,6 +72,12 @@ public class OWLAnnotationPropertyRangeAxiomImpl extends OWLAxiomImpl implements
         super(annotations);
         this.property = property;
         this.range = range;
+        hashcode = withAnnotations(hash(827, property, range));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -144,6 +151,9 @@ public class OWLAnnotationPropertyRangeAxiomImpl extends OWLAxiomImpl implements
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
     	if(super.equals(obj)) {
     		// superclass is responsible for null, identity, owlaxiom type and annotations
         if (!(obj instanceof OWLAnnotationPropertyRangeAxiom)) {
@@ -63,9 +63,16 @@ public class OWLAsymmetricObjectPropertyAxiomImpl extends OWLObjectPropertyChara
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	public OWLAsymmetricObjectPropertyAxiomImpl(OWLObjectPropertyExpression property, Collection<? extends OWLAnnotation> annotations) {
         super(property, annotations);
+        hashcode = withAnnotations(hash(3, property));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -83,6 +90,9 @@ public class OWLAsymmetricObjectPropertyAxiomImpl extends OWLObjectPropertyChara
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLAsymmetricObjectPropertyAxiom;
     }
 
@@ -38,11 +38,9 @@
  */
 package uk.ac.manchester.cs.owl.owlapi;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 import org.semanticweb.owlapi.model.AxiomType;
@@ -65,17 +63,12 @@ CollectionContainer<OWLAnnotation> {
 
     private static final long serialVersionUID = 30402L;
     private OWLAxiom nnf;
-    private final List<OWLAnnotation> annotations;
+    private final SortedArraySet<OWLAnnotation> annotations;
 
     public OWLAxiomImpl(
             Collection<? extends OWLAnnotation> annotations) {
         super();
-        if (!annotations.isEmpty()) {
-            this.annotations = new ArrayList<OWLAnnotation>(annotations);
-            Collections.sort(this.annotations);
-        } else {
-            this.annotations = Collections.emptyList();
-        }
+        this.annotations = SortedArraySet.create(annotations);
     }
 
     @Override
@@ -102,25 +95,61 @@ CollectionContainer<OWLAnnotation> {
     }
 
 
+    /** Annotations are sorted by property first, so the annotations with a
+     * given property are a contiguous range of the annotation array; the
+     * returned set is a view of that range and no annotations are copied. */
     @Override
     public Set<OWLAnnotation> getAnnotations(OWLAnnotationProperty annotationProperty) {
-        if (annotations.isEmpty()) {
+        final int size = annotations.size();
+        int from = 0;
+        while (from < size
+                && annotations.get(from).getProperty().compareTo(annotationProperty) < 0) {
+            from++;
+        }
+        int to = from;
+        while (to < size && annotations.get(to).getProperty().equals(annotationProperty)) {
+            to++;
+        }
+        if (from == to) {
             return Collections.emptySet();
-        } else {
-            Set<OWLAnnotation> result = new HashSet<OWLAnnotation>();
-            for (OWLAnnotation anno : annotations) {
-                if (anno.getProperty().equals(annotationProperty)) {
-                    result.add(anno);
-                }
-            }
-            return result;
         }
+        return CollectionFactory.getCopyOnRequestSetFromImmutableCollection(annotations
+                .view(from, to));
+    }
+
+    /** @param hashCode
+     *            the hash code of the axiom components
+     * @return the hash code of this axiom: as in HashCode, the annotations are
+     *         combined last */
+    protected int withAnnotations(int hashCode) {
+        return hashCode * MULT + annotations.hashCode();
+    }
+
+    /** @return the hash code of this axiom without its annotations, i.e., the
+     *         hash code of {@link #getAxiomWithoutAnnotations()}, computed
+     *         without creating that axiom */
+    public int hashCodeIgnoreAnnotations() {
+        // see withAnnotations()
+        return hashCode() - annotations.hashCode();
     }
 
     @Override
     public boolean equalsIgnoreAnnotations(OWLAxiom axiom) {
-        return getAxiomWithoutAnnotations().equals(
-                axiom.getAxiomWithoutAnnotations());
+        if (axiom == this) {
+            return true;
+        }
+        if (!(axiom instanceof OWLAxiomImpl)) {
+            return axiom != null
+                    && getAxiomWithoutAnnotations().equals(
+                            axiom.getAxiomWithoutAnnotations());
+        }
+        OWLAxiomImpl other = (OWLAxiomImpl) axiom;
+        if (!getAxiomType().equals(other.getAxiomType())
+                || hashCodeIgnoreAnnotations() != other.hashCodeIgnoreAnnotations()) {
+            return false;
+        }
+        // compareObjectOfSameType only looks at the axiom components
+        return compareObjectOfSameType(other) == 0;
     }
 
     @Override
@@ -147,6 +176,13 @@ CollectionContainer<OWLAnnotation> {
      * @return The annotations
      */
     protected Set<OWLAnnotation> mergeAnnos(Set<OWLAnnotation> annos) {
+        if (annos.isEmpty()) {
+            // SortedArraySet instances are shared by the new axiom, not copied
+            return annotations;
+        }
+        if (annotations.isEmpty()) {
+            return annos;
+        }
         Set<OWLAnnotation> merged = new HashSet<OWLAnnotation>(annos);
         merged.addAll(annotations);
         return merged;
@@ -154,6 +190,9 @@ CollectionContainer<OWLAnnotation> {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (!super.equals(obj)) {
             return false;
         }
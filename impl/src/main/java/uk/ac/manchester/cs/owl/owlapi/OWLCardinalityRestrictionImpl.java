@@ -86,6 +86,9 @@ public abstract class OWLCardinalityRestrictionImpl<R extends OWLPropertyRange,
     @SuppressWarnings("unchecked")
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if(super.equals(obj)) {
             if(!(obj instanceof OWLCardinalityRestriction)) {
                 return false;
@@ -66,6 +66,7 @@ public class OWLClassAssertionImpl extends OWLIndividualAxiomImpl implements OWL
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	private final OWLIndividual individual;
 
@@ -76,6 +77,12 @@ public class OWLClassAssertionImpl extends OWLIndividualAxiomImpl implements OWL
         super(annotations);
         this.individual = individual;
         this.classExpression = classExpression;
+        hashcode = withAnnotations(hash(7, individual, classExpression));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -105,6 +112,9 @@ public class OWLClassAssertionImpl extends OWLIndividualAxiomImpl implements OWL
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLClassAssertionAxiom)) {
                 return false;
@@ -84,6 +84,7 @@ import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
 public class OWLClassImpl extends OWLClassExpressionImpl implements OWLClass,
 Serializable {
     private static final long serialVersionUID = 30402L;
+    private final int hashcode;
     private final IRI iri;
     private final boolean isThing;
     private final boolean isNothing;
@@ -93,6 +94,12 @@ Serializable {
         this.iri = iri;
         isThing = getIRI().equals(OWLRDFVocabulary.OWL_THING.getIRI());
         isNothing = getIRI().equals(OWLRDFVocabulary.OWL_NOTHING.getIRI());
+        hashcode = hash(157, iri);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -415,6 +422,9 @@ Serializable {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLClass)) {
                 return false;
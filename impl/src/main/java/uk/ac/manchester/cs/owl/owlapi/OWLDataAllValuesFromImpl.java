@@ -60,10 +60,17 @@ public class OWLDataAllValuesFromImpl extends OWLQuantifiedDataRestrictionImpl i
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 
 	public OWLDataAllValuesFromImpl(OWLDataPropertyExpression property, OWLDataRange filler) {
         super(property, filler);
+        hashcode = hash(163, property, filler);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -73,6 +80,9 @@ public class OWLDataAllValuesFromImpl extends OWLQuantifiedDataRestrictionImpl i
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             return obj instanceof OWLDataAllValuesFrom;
         }
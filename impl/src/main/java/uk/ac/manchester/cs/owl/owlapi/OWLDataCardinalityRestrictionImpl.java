@@ -77,6 +77,9 @@ public abstract class OWLDataCardinalityRestrictionImpl extends OWLCardinalityRe
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             return obj instanceof OWLDataCardinalityRestriction;
         }
@@ -64,12 +64,19 @@ public class OWLDataComplementOfImpl extends OWLObjectImpl implements OWLDataCom
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 	private final OWLDataRange dataRange;
 
 
     public OWLDataComplementOfImpl(OWLDataRange dataRange) {
         super();
         this.dataRange = dataRange;
+        hashcode = hash(257, dataRange);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -103,6 +110,9 @@ public class OWLDataComplementOfImpl extends OWLObjectImpl implements OWLDataCom
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLDataComplementOf)) {
                 return false;
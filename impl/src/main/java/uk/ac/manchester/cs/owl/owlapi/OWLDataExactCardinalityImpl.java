@@ -57,10 +57,17 @@ import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 public class OWLDataExactCardinalityImpl extends OWLDataCardinalityRestrictionImpl
         implements OWLDataExactCardinality {
     private static final long serialVersionUID = 30402L;
+    private final int hashcode;
 
     public OWLDataExactCardinalityImpl(OWLDataPropertyExpression property,
             int cardinality, OWLDataRange filler) {
         super(property, cardinality, filler);
+        hashcode = hash(167, property, cardinality, filler);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -70,6 +77,9 @@ public class OWLDataExactCardinalityImpl extends OWLDataCardinalityRestrictionIm
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             return obj instanceof OWLDataExactCardinality;
         }
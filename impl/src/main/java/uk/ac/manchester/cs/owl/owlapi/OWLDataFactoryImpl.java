@@ -47,6 +47,7 @@ import java.util.Set;
 
 import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.util.CollectionFactory;
+import org.semanticweb.owlapi.util.ConcurrentWeakCache;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 import org.semanticweb.owlapi.vocab.OWLFacet;
 import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
@@ -129,6 +130,10 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
 
     protected OWLDataFactoryInternals data;
 
+    /** anonymous class expressions and data ranges created so far; null
+     * unless hash consing is enabled */
+    private final ConcurrentWeakCache<OWLObject> interned;
+
     @SuppressWarnings("javadoc")
     public OWLDataFactoryImpl() {
         this(true, false);
@@ -136,11 +141,40 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
 
     @SuppressWarnings("javadoc")
     public OWLDataFactoryImpl(boolean cache, boolean useCompression) {
+        this(cache, useCompression, false);
+    }
+
+    /**
+     * @param cache true if entities and literals should be cached
+     * @param useCompression true if lexical forms of literals should be compressed
+     * @param compactLiterals true if plain literals, such as most rdfs:label
+     *        values, should use a compact representation with shared language
+     *        tags
+     */
+    public OWLDataFactoryImpl(boolean cache, boolean useCompression, boolean compactLiterals) {
+        this(cache, useCompression, compactLiterals, false);
+    }
+
+    /**
+     * @param cache true if entities and literals should be cached
+     * @param useCompression true if lexical forms of literals should be compressed
+     * @param compactLiterals true if plain literals, such as most rdfs:label
+     *        values, should use a compact representation with shared language
+     *        tags
+     * @param hashConsing true if anonymous class expressions and data ranges
+     *        should be interned, so that equal expressions are the same
+     *        object; this saves memory for ontologies with many repeated
+     *        expressions, such as the restrictions in OBO ontologies, at the
+     *        price of a lookup per expression created. Axioms are not
+     *        interned, since an ontology holds each axiom once
+     */
+    public OWLDataFactoryImpl(boolean cache, boolean useCompression, boolean compactLiterals, boolean hashConsing) {
+        interned = hashConsing ? new ConcurrentWeakCache<OWLObject>() : null;
         if (cache) {
-            data = new OWLDataFactoryInternalsImpl(this, useCompression);
+            data = new OWLDataFactoryInternalsImpl(this, useCompression, compactLiterals);
         }
         else {
-            data = new InternalsNoCache(this, useCompression);
+            data = new InternalsNoCache(this, useCompression, compactLiterals);
         }
     }
 
@@ -158,6 +192,25 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
     @Override
     public void purge() {
         data.purge();
+        if (interned != null) {
+            interned.clear();
+        }
+    }
+
+    /**
+     * @return true if this factory interns anonymous class expressions and
+     *         data ranges
+     */
+    public boolean isHashConsing() {
+        return interned != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends OWLObject> T intern(T object) {
+        if (interned == null) {
+            return object;
+        }
+        return (T) interned.cache(object);
     }
 
     private void checkNull(Object o, String name) {
@@ -438,7 +491,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
     @Override
     public OWLDataOneOf getOWLDataOneOf(Set<? extends OWLLiteral> values) {
         checkNull(values, VALUES2);
-        return new OWLDataOneOfImpl(values);
+        return intern(new OWLDataOneOfImpl(values));
     }
 
     @Override
@@ -450,7 +503,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
     @Override
     public OWLDataComplementOf getOWLDataComplementOf(OWLDataRange dataRange) {
         checkNull(dataRange, DATA_RANGE);
-        return new OWLDataComplementOfImpl(dataRange);
+        return intern(new OWLDataComplementOfImpl(dataRange));
     }
 
     @Override
@@ -462,7 +515,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
     @Override
     public OWLDataIntersectionOf getOWLDataIntersectionOf(Set<? extends OWLDataRange> dataRanges) {
         checkNull(dataRanges, DATA_RANGES);
-        return new OWLDataIntersectionOfImpl(dataRanges);
+        return intern(new OWLDataIntersectionOfImpl(dataRanges));
     }
 
     @Override
@@ -474,14 +527,14 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
     @Override
     public OWLDataUnionOf getOWLDataUnionOf(Set<? extends OWLDataRange> dataRanges) {
         checkNull(dataRanges, DATA_RANGES);
-        return new OWLDataUnionOfImpl(dataRanges);
+        return intern(new OWLDataUnionOfImpl(dataRanges));
     }
 
     @Override
     public OWLDatatypeRestriction getOWLDatatypeRestriction(OWLDatatype datatype, Set<OWLFacetRestriction> facets) {
         checkNull(datatype, DATATYPE2);
         checkNull(facets, "facets");
-        return new OWLDatatypeRestrictionImpl(datatype, facets);
+        return intern(new OWLDatatypeRestrictionImpl(datatype, facets));
     }
 
     @Override
@@ -489,7 +542,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
         checkNull(datatype, DATATYPE2);
         checkNull(facet, "facet");
         checkNull(typedConstant, "typedConstant");
-        return new OWLDatatypeRestrictionImpl(datatype, Collections.singleton(getOWLFacetRestriction(facet, typedConstant)));
+        return intern(new OWLDatatypeRestrictionImpl(datatype, Collections.singleton(getOWLFacetRestriction(facet, typedConstant))));
     }
 
     @Override
@@ -577,13 +630,13 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
     public OWLFacetRestriction getOWLFacetRestriction(OWLFacet facet, OWLLiteral facetValue) {
         checkNull(facet, "facet");
         checkNull(facetValue, "facetValue");
-        return new OWLFacetRestrictionImpl(facet, facetValue);
+        return intern(new OWLFacetRestrictionImpl(facet, facetValue));
     }
 
     @Override
     public OWLObjectIntersectionOf getOWLObjectIntersectionOf(Set<? extends OWLClassExpression> operands) {
         checkNull(operands, "operands");
-        return new OWLObjectIntersectionOfImpl(operands);
+        return intern(new OWLObjectIntersectionOfImpl(operands));
     }
 
     @Override
@@ -596,7 +649,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
     public OWLDataAllValuesFrom getOWLDataAllValuesFrom(OWLDataPropertyExpression property, OWLDataRange dataRange) {
         checkNull(dataRange, DATA_RANGE);
         checkNull(property, "property");
-        return new OWLDataAllValuesFromImpl(property, dataRange);
+        return intern(new OWLDataAllValuesFromImpl(property, dataRange));
     }
 
     @Override
@@ -605,7 +658,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
             throw new IllegalArgumentException("cardinality cannot be negative");
         }
         checkNull(property, "property");
-        return new OWLDataExactCardinalityImpl(property, cardinality, getTopDatatype());
+        return intern(new OWLDataExactCardinalityImpl(property, cardinality, getTopDatatype()));
     }
 
     @Override
@@ -615,7 +668,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
         if (cardinality < 0) {
             throw new IllegalArgumentException("cardinality cannot be negative");
         }
-        return new OWLDataExactCardinalityImpl(property, cardinality, dataRange);
+        return intern(new OWLDataExactCardinalityImpl(property, cardinality, dataRange));
     }
 
     @Override
@@ -624,7 +677,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
             throw new IllegalArgumentException("cardinality cannot be negative");
         }
         checkNull(property, "property");
-        return new OWLDataMaxCardinalityImpl(property, cardinality, getTopDatatype());
+        return intern(new OWLDataMaxCardinalityImpl(property, cardinality, getTopDatatype()));
     }
 
     @Override
@@ -634,7 +687,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
         }
         checkNull(property, "property");
         checkNull(dataRange, DATA_RANGE);
-        return new OWLDataMaxCardinalityImpl(property, cardinality, dataRange);
+        return intern(new OWLDataMaxCardinalityImpl(property, cardinality, dataRange));
     }
 
     @Override
@@ -643,7 +696,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
             throw new IllegalArgumentException("cardinality cannot be negative");
         }
         checkNull(property, "property");
-        return new OWLDataMinCardinalityImpl(property, cardinality, getTopDatatype());
+        return intern(new OWLDataMinCardinalityImpl(property, cardinality, getTopDatatype()));
     }
 
     @Override
@@ -653,40 +706,40 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
             throw new IllegalArgumentException("cardinality cannot be negative");
         }
         checkNull(property, "property");
-        return new OWLDataMinCardinalityImpl(property, cardinality, dataRange);
+        return intern(new OWLDataMinCardinalityImpl(property, cardinality, dataRange));
     }
 
     @Override
     public OWLDataSomeValuesFrom getOWLDataSomeValuesFrom(OWLDataPropertyExpression property, OWLDataRange dataRange) {
         checkNull(dataRange, DATA_RANGE);
         checkNull(property, "property");
-        return new OWLDataSomeValuesFromImpl(property, dataRange);
+        return intern(new OWLDataSomeValuesFromImpl(property, dataRange));
     }
 
     @Override
     public OWLDataHasValue getOWLDataHasValue(OWLDataPropertyExpression property, OWLLiteral value) {
         checkNull(property, "property");
         checkNull(value, VALUE2);
-        return new OWLDataHasValueImpl(property, value);
+        return intern(new OWLDataHasValueImpl(property, value));
     }
 
     @Override
     public OWLObjectComplementOf getOWLObjectComplementOf(OWLClassExpression operand) {
         checkNull(operand, "operand");
-        return new OWLObjectComplementOfImpl(operand);
+        return intern(new OWLObjectComplementOfImpl(operand));
     }
 
     @Override
     public OWLObjectAllValuesFrom getOWLObjectAllValuesFrom(OWLObjectPropertyExpression property, OWLClassExpression classExpression) {
         checkNull(classExpression, "classExpression");
         checkNull(property, "property");
-        return new OWLObjectAllValuesFromImpl(property, classExpression);
+        return intern(new OWLObjectAllValuesFromImpl(property, classExpression));
     }
 
     @Override
     public OWLObjectOneOf getOWLObjectOneOf(Set<? extends OWLIndividual> values) {
         checkNull(values, VALUES2);
-        return new OWLObjectOneOfImpl(values);
+        return intern(new OWLObjectOneOfImpl(values));
     }
 
     @Override
@@ -701,7 +754,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
             throw new IllegalArgumentException("cardinality cannot be negative");
         }
         checkNull(property, "property");
-        return new OWLObjectExactCardinalityImpl(property, cardinality, OWL_THING);
+        return intern(new OWLObjectExactCardinalityImpl(property, cardinality, OWL_THING));
     }
 
     @Override
@@ -711,7 +764,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
         if (cardinality < 0) {
             throw new IllegalArgumentException("cardinality cannot be negative");
         }
-        return new OWLObjectExactCardinalityImpl(property, cardinality, classExpression);
+        return intern(new OWLObjectExactCardinalityImpl(property, cardinality, classExpression));
     }
 
     @Override
@@ -720,7 +773,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
             throw new IllegalArgumentException("cardinality cannot be negative");
         }
         checkNull(property, "property");
-        return new OWLObjectMinCardinalityImpl(property, cardinality, OWL_THING);
+        return intern(new OWLObjectMinCardinalityImpl(property, cardinality, OWL_THING));
     }
 
     @Override
@@ -730,7 +783,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
         if (cardinality < 0) {
             throw new IllegalArgumentException("cardinality cannot be negative");
         }
-        return new OWLObjectMinCardinalityImpl(property, cardinality, classExpression);
+        return intern(new OWLObjectMinCardinalityImpl(property, cardinality, classExpression));
     }
 
     @Override
@@ -739,7 +792,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
             throw new IllegalArgumentException("cardinality cannot be negative");
         }
         checkNull(property, "property");
-        return new OWLObjectMaxCardinalityImpl(property, cardinality, OWL_THING);
+        return intern(new OWLObjectMaxCardinalityImpl(property, cardinality, OWL_THING));
     }
 
     @Override
@@ -749,33 +802,33 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
         }
         checkNull(classExpression, "classExpression");
         checkNull(property, "property");
-        return new OWLObjectMaxCardinalityImpl(property, cardinality, classExpression);
+        return intern(new OWLObjectMaxCardinalityImpl(property, cardinality, classExpression));
     }
 
     @Override
     public OWLObjectHasSelf getOWLObjectHasSelf(OWLObjectPropertyExpression property) {
         checkNull(property, "property");
-        return new OWLObjectHasSelfImpl(property);
+        return intern(new OWLObjectHasSelfImpl(property));
     }
 
     @Override
     public OWLObjectSomeValuesFrom getOWLObjectSomeValuesFrom(OWLObjectPropertyExpression property, OWLClassExpression classExpression) {
         checkNull(classExpression, "classExpression");
         checkNull(property, "property");
-        return new OWLObjectSomeValuesFromImpl(property, classExpression);
+        return intern(new OWLObjectSomeValuesFromImpl(property, classExpression));
     }
 
     @Override
     public OWLObjectHasValue getOWLObjectHasValue(OWLObjectPropertyExpression property, OWLIndividual individual) {
         checkNull(property, "property");
         checkNull(individual, "individual");
-        return new OWLObjectHasValueImpl(property, individual);
+        return intern(new OWLObjectHasValueImpl(property, individual));
     }
 
     @Override
     public OWLObjectUnionOf getOWLObjectUnionOf(Set<? extends OWLClassExpression> operands) {
         checkNull(operands, "operands");
-        return new OWLObjectUnionOfImpl(operands);
+        return intern(new OWLObjectUnionOfImpl(operands));
     }
 
     @Override
@@ -1260,7 +1313,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable {
     @Override
     public OWLObjectInverseOf getOWLObjectInverseOf(OWLObjectPropertyExpression property) {
         checkNull(property, "property");
-        return new OWLObjectInverseOfImpl(property);
+        return intern(new OWLObjectInverseOfImpl(property));
     }
 
     @Override
@@ -38,8 +38,6 @@
  */
 package uk.ac.manchester.cs.owl.owlapi;
 
-import java.lang.ref.WeakReference;
-
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotationProperty;
 import org.semanticweb.owlapi.model.OWLClass;
@@ -50,33 +48,27 @@ import org.semanticweb.owlapi.model.OWLEntity;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
-import org.semanticweb.owlapi.util.WeakCache;
-import org.semanticweb.owlapi.util.WeakIndexCache;
+import org.semanticweb.owlapi.util.ConcurrentWeakCache;
+import org.semanticweb.owlapi.util.ConcurrentWeakIndexCache;
 
 @SuppressWarnings("javadoc")
 public class OWLDataFactoryInternalsImpl extends InternalsNoCache {
     private static final long serialVersionUID = 30402L;
 
     protected class BuildableWeakIndexCache<V extends OWLEntity> extends
-    WeakIndexCache<IRI, V> {
+    ConcurrentWeakIndexCache<IRI, V> {
         private static final long serialVersionUID = 30402L;
 
         public V cache(IRI s, Buildable v) {
-            WeakReference<V> w = prefixCache.get(s);
-            if (w != null) {
-                V toReturn = w.get();
-                if (toReturn == null) {
-                    //entry removed - move on
-                }
-                else {
-                    return toReturn;
-                }
+            V toReturn = get(s);
+            if (toReturn != null) {
+                return toReturn;
             }
-            // need to add the new key and return it
+            // need to add the new key and return it; if another thread added
+            // one in the meantime, that one is returned
             @SuppressWarnings("unchecked")
             V value = (V) v.build(s);
-            prefixCache.put(s, new WeakReference<V>(value));
-            return value;
+            return cache(s, value);
         }
     }
 
@@ -92,22 +84,27 @@ public class OWLDataFactoryInternalsImpl extends InternalsNoCache {
 
     private final BuildableWeakIndexCache<OWLAnnotationProperty> annotationPropertiesByURI;
 
-    private final WeakIndexCache<Integer, OWLLiteral> intCache = new WeakIndexCache<Integer, OWLLiteral>();
+    private final ConcurrentWeakIndexCache<Integer, OWLLiteral> intCache = new ConcurrentWeakIndexCache<Integer, OWLLiteral>();
 
-    private final WeakIndexCache<Double, OWLLiteral> doubleCache = new WeakIndexCache<Double, OWLLiteral>();
+    private final ConcurrentWeakIndexCache<Double, OWLLiteral> doubleCache = new ConcurrentWeakIndexCache<Double, OWLLiteral>();
 
-    private final WeakIndexCache<Float, OWLLiteral> floatCache = new WeakIndexCache<Float, OWLLiteral>();
+    private final ConcurrentWeakIndexCache<Float, OWLLiteral> floatCache = new ConcurrentWeakIndexCache<Float, OWLLiteral>();
 
-    private final WeakIndexCache<String, OWLLiteral> stringCache = new WeakIndexCache<String, OWLLiteral>();
+    private final ConcurrentWeakIndexCache<String, OWLLiteral> stringCache = new ConcurrentWeakIndexCache<String, OWLLiteral>();
 
-    private final WeakCache<OWLLiteral> litCache = new WeakCache<OWLLiteral>();
+    private final ConcurrentWeakCache<OWLLiteral> litCache = new ConcurrentWeakCache<OWLLiteral>();
 
     protected <V extends OWLEntity> BuildableWeakIndexCache<V> buildCache() {
         return new BuildableWeakIndexCache<V>();
     }
 
     public OWLDataFactoryInternalsImpl(OWLDataFactory f, boolean useCompression) {
-        super(f, useCompression);
+        this(f, useCompression, false);
+    }
+
+    public OWLDataFactoryInternalsImpl(OWLDataFactory f, boolean useCompression,
+            boolean compactLiterals) {
+        super(f, useCompression, compactLiterals);
         classesByURI = buildCache();
         objectPropertiesByURI = buildCache();
         dataPropertiesByURI = buildCache();
@@ -126,6 +123,11 @@ public class OWLDataFactoryInternalsImpl extends InternalsNoCache {
         return stringCache.cache(value, super.getOWLLiteral(value));
     }
 
+    @Override
+    public OWLLiteral getOWLLiteral(String literal, String lang) {
+        return litCache.cache(super.getOWLLiteral(literal, lang));
+    }
+
     @Override
     public OWLLiteral getOWLLiteral(int value) {
         return intCache.cache(value, super.getOWLLiteral(value));
@@ -59,9 +59,16 @@ public class OWLDataHasValueImpl extends
         OWLValueRestrictionImpl<OWLDataRange, OWLDataPropertyExpression, OWLLiteral>
         implements OWLDataHasValue {
     private static final long serialVersionUID = 30402L;
+    private final int hashcode;
 
     public OWLDataHasValueImpl(OWLDataPropertyExpression property, OWLLiteral value) {
         super(property, value);
+        hashcode = hash(191, property, value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -81,6 +88,9 @@ public class OWLDataHasValueImpl extends
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             return obj instanceof OWLDataHasValue;
         }
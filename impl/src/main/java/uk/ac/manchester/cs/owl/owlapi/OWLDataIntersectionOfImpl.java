@@ -59,10 +59,17 @@ import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 public class OWLDataIntersectionOfImpl extends OWLNaryDataRangeImpl implements OWLDataIntersectionOf {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	@SuppressWarnings("javadoc")
     public OWLDataIntersectionOfImpl(Set<? extends OWLDataRange> operands) {
         super(operands);
+        hashcode = hash(839, this.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -73,7 +80,7 @@ public class OWLDataIntersectionOfImpl extends OWLNaryDataRangeImpl implements O
     @Override
 	protected int compareObjectOfSameType(OWLObject object) {
         OWLDataIntersectionOf other = (OWLDataIntersectionOf) object;
-        return compareSets(getOperands(), other.getOperands());
+        return compareOperands(other);
     }
 
     @Override
@@ -55,11 +55,18 @@ import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 public class OWLDataMaxCardinalityImpl extends OWLDataCardinalityRestrictionImpl
         implements OWLDataMaxCardinality {
     private static final long serialVersionUID = 30402L;
+    private final int hashcode;
 
     @SuppressWarnings("javadoc")
     public OWLDataMaxCardinalityImpl(OWLDataPropertyExpression property, int cardinality,
             OWLDataRange filler) {
         super(property, cardinality, filler);
+        hashcode = hash(173, property, cardinality, filler);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -69,6 +76,9 @@ public class OWLDataMaxCardinalityImpl extends OWLDataCardinalityRestrictionImpl
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             return obj instanceof OWLDataMaxCardinality;
         }
@@ -58,11 +58,18 @@ import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 public class OWLDataMinCardinalityImpl extends OWLDataCardinalityRestrictionImpl implements OWLDataMinCardinality {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 
 	@SuppressWarnings("javadoc")
     public OWLDataMinCardinalityImpl(OWLDataPropertyExpression property, int cardinality, OWLDataRange filler) {
         super(property, cardinality, filler);
+        hashcode = hash(179, property, cardinality, filler);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -72,6 +79,9 @@ public class OWLDataMinCardinalityImpl extends OWLDataCardinalityRestrictionImpl
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             return obj instanceof OWLDataMinCardinality;
         }
@@ -40,7 +40,6 @@
 package uk.ac.manchester.cs.owl.owlapi;
 
 import java.util.Set;
-import java.util.TreeSet;
 
 import org.semanticweb.owlapi.model.DataRangeType;
 import org.semanticweb.owlapi.model.OWLDataOneOf;
@@ -67,12 +66,19 @@ public class OWLDataOneOfImpl extends OWLObjectImpl implements OWLDataOneOf {
 
 
 	private static final long serialVersionUID = 30402L;
-	private final Set<OWLLiteral> values;
+	private final int hashcode;
+	private final SortedArraySet<OWLLiteral> values;
 
     @SuppressWarnings("javadoc")
     public OWLDataOneOfImpl(Set<? extends OWLLiteral> values) {
         super();
-        this.values = new TreeSet<OWLLiteral>(values);
+        this.values = SortedArraySet.create(values);
+        hashcode = hash(263, this.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -106,6 +112,9 @@ public class OWLDataOneOfImpl extends OWLObjectImpl implements OWLDataOneOf {
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLDataOneOf)) {
                 return false;
@@ -150,6 +159,7 @@ public class OWLDataOneOfImpl extends OWLObjectImpl implements OWLDataOneOf {
 
     @Override
 	protected int compareObjectOfSameType(OWLObject object) {
-        return compareSets(values, ((OWLDataOneOf) object).getValues());
+        return compareSets(values, object instanceof OWLDataOneOfImpl ? ((OWLDataOneOfImpl) object).values
+                : ((OWLDataOneOf) object).getValues());
     }
 }
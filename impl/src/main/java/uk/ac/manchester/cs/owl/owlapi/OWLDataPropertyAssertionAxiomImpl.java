@@ -63,10 +63,17 @@ import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 public class OWLDataPropertyAssertionAxiomImpl extends OWLIndividualRelationshipAxiomImpl<OWLDataPropertyExpression, OWLLiteral> implements OWLDataPropertyAssertionAxiom {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	@SuppressWarnings("javadoc")
     public OWLDataPropertyAssertionAxiomImpl(OWLIndividual subject, OWLDataPropertyExpression property, OWLLiteral value, Set<? extends OWLAnnotation> annotations) {
         super(subject, property, value, annotations);
+        hashcode = withAnnotations(hash(11, subject, property, value));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -89,6 +96,9 @@ public class OWLDataPropertyAssertionAxiomImpl extends OWLIndividualRelationship
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLDataPropertyAssertionAxiom;
     }
 
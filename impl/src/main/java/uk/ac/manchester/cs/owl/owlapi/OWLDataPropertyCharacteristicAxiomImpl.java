@@ -73,6 +73,9 @@ public abstract class OWLDataPropertyCharacteristicAxiomImpl extends OWLProperty
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLDataPropertyCharacteristicAxiom)) {
                 return false;
@@ -64,11 +64,18 @@ import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 public class OWLDataPropertyDomainAxiomImpl extends OWLPropertyDomainAxiomImpl<OWLDataPropertyExpression> implements OWLDataPropertyDomainAxiom {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 
 	@SuppressWarnings("javadoc")
     public OWLDataPropertyDomainAxiomImpl(OWLDataPropertyExpression property, OWLClassExpression domain, Set<? extends OWLAnnotation> annotations) {
         super(property, domain, annotations);
+        hashcode = withAnnotations(hash(13, property, domain));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -87,6 +94,9 @@ public class OWLDataPropertyDomainAxiomImpl extends OWLPropertyDomainAxiomImpl<O
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLDataPropertyDomainAxiom;
     }
 
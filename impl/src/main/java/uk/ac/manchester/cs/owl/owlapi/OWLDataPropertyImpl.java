@@ -82,6 +82,7 @@ public class OWLDataPropertyImpl extends OWLPropertyExpressionImpl<OWLDataRange,
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 
 	private final IRI iri;
@@ -94,6 +95,12 @@ public class OWLDataPropertyImpl extends OWLPropertyExpressionImpl<OWLDataRange,
         super();
         this.iri = iri;
         builtin = iri.equals(OWLRDFVocabulary.OWL_TOP_DATA_PROPERTY.getIRI()) || iri.equals(OWLRDFVocabulary.OWL_BOTTOM_DATA_PROPERTY.getIRI());
+        hashcode = hash(283, iri);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -202,6 +209,9 @@ public class OWLDataPropertyImpl extends OWLPropertyExpressionImpl<OWLDataRange,
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLDataProperty)) {
                 return false;
@@ -65,11 +65,18 @@ import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 public class OWLDataPropertyRangeAxiomImpl extends OWLPropertyRangeAxiomImpl<OWLDataPropertyExpression, OWLDataRange> implements OWLDataPropertyRangeAxiom {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 
 	@SuppressWarnings("javadoc")
     public OWLDataPropertyRangeAxiomImpl(OWLDataPropertyExpression property, OWLDataRange range, Set<? extends OWLAnnotation> annotations) {
         super(property, range, annotations);
+        hashcode = withAnnotations(hash(17, property, range));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -87,6 +94,9 @@ public class OWLDataPropertyRangeAxiomImpl extends OWLPropertyRangeAxiomImpl<OWL
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLDataPropertyRangeAxiom;
     }
 
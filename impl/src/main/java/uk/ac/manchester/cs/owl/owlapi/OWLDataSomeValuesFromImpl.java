@@ -55,11 +55,18 @@ import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 public class OWLDataSomeValuesFromImpl extends OWLQuantifiedDataRestrictionImpl implements
         OWLDataSomeValuesFrom {
     private static final long serialVersionUID = 30402L;
+    private final int hashcode;
 
     @SuppressWarnings("javadoc")
     public OWLDataSomeValuesFromImpl(OWLDataPropertyExpression property,
             OWLDataRange filler) {
         super(property, filler);
+        hashcode = hash(181, property, filler);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -69,6 +76,9 @@ public class OWLDataSomeValuesFromImpl extends OWLQuantifiedDataRestrictionImpl
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             return obj instanceof OWLDataSomeValuesFrom;
         }
@@ -59,10 +59,17 @@ import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 public class OWLDataUnionOfImpl extends OWLNaryDataRangeImpl implements OWLDataUnionOf {
 
     private static final long serialVersionUID = 30402L;
+    private final int hashcode;
 
     @SuppressWarnings("javadoc")
     public OWLDataUnionOfImpl(Set<? extends OWLDataRange> operands) {
         super(operands);
+        hashcode = hash(853, this.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -73,7 +80,7 @@ public class OWLDataUnionOfImpl extends OWLNaryDataRangeImpl implements OWLDataU
     @Override
     protected int compareObjectOfSameType(OWLObject object) {
         OWLDataUnionOf other = (OWLDataUnionOf) object;
-        return compareSets(getOperands(), other.getOperands());
+        return compareOperands(other);
     }
 
     @Override
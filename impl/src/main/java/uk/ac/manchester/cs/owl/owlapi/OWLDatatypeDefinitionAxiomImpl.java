@@ -64,6 +64,7 @@ public class OWLDatatypeDefinitionAxiomImpl extends OWLAxiomImpl implements OWLD
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	private final OWLDatatype datatype;
 
@@ -74,6 +75,12 @@ public class OWLDatatypeDefinitionAxiomImpl extends OWLAxiomImpl implements OWLD
         super(annotations);
         this.datatype = datatype;
         this.dataRange = dataRange;
+        hashcode = withAnnotations(hash(897, datatype, dataRange));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -154,6 +161,9 @@ public class OWLDatatypeDefinitionAxiomImpl extends OWLAxiomImpl implements OWLD
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
     	if(super.equals(obj)) {
     		// superclass is responsible for null, identity, owlaxiom type and annotations
         if (!(obj instanceof OWLDatatypeDefinitionAxiom)) {
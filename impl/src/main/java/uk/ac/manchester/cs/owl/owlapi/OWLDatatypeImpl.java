@@ -81,6 +81,7 @@ public class OWLDatatypeImpl extends OWLObjectImpl implements OWLDatatype {
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	private final IRI iri;
 
@@ -93,6 +94,12 @@ public class OWLDatatypeImpl extends OWLObjectImpl implements OWLDatatype {
         this.iri = iri;
         top = iri.equals(OWLRDFVocabulary.RDFS_LITERAL.getIRI());
         builtin = top || OWL2Datatype.isBuiltIn(iri) || iri.equals(OWLRDFVocabulary.RDF_PLAIN_LITERAL.getIRI());
+        hashcode = hash(269, iri);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -193,6 +200,9 @@ public class OWLDatatypeImpl extends OWLObjectImpl implements OWLDatatype {
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
 		if (super.equals(obj) && obj instanceof OWLDatatype) {
 			return ((OWLDatatype) obj).getIRI().equals(getIRI());
 		}
@@ -38,7 +38,6 @@
  */
 package uk.ac.manchester.cs.owl.owlapi;
 
-import java.util.HashSet;
 import java.util.Set;
 
 import org.semanticweb.owlapi.model.DataRangeType;
@@ -63,15 +62,22 @@ import org.semanticweb.owlapi.util.CollectionFactory;
 public class OWLDatatypeRestrictionImpl extends OWLObjectImpl implements
         OWLDatatypeRestriction {
     private static final long serialVersionUID = 30402L;
+    private final int hashcode;
     private final OWLDatatype datatype;
-    private final Set<OWLFacetRestriction> facetRestrictions;
+    private final SortedArraySet<OWLFacetRestriction> facetRestrictions;
 
     @SuppressWarnings("javadoc")
     public OWLDatatypeRestrictionImpl(OWLDatatype datatype,
             Set<OWLFacetRestriction> facetRestrictions) {
         super();
         this.datatype = datatype;
-        this.facetRestrictions = new HashSet<OWLFacetRestriction>(facetRestrictions);
+        this.facetRestrictions = SortedArraySet.create(facetRestrictions);
+        hashcode = hash(271, datatype, this.facetRestrictions);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -107,6 +113,9 @@ public class OWLDatatypeRestrictionImpl extends OWLObjectImpl implements
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLDatatypeRestriction)) {
                 return false;
@@ -155,6 +164,7 @@ public class OWLDatatypeRestrictionImpl extends OWLObjectImpl implements
         if (diff != 0) {
             return diff;
         }
-        return compareSets(facetRestrictions, other.getFacetRestrictions());
+        return compareSets(facetRestrictions, other instanceof OWLDatatypeRestrictionImpl ? ((OWLDatatypeRestrictionImpl) other).facetRestrictions
+                : other.getFacetRestrictions());
     }
 }
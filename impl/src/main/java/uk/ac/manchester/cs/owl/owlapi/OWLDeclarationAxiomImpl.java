@@ -63,12 +63,19 @@ public class OWLDeclarationAxiomImpl extends OWLAxiomImpl implements OWLDeclarat
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 	private final OWLEntity entity;
 
     @SuppressWarnings("javadoc")
     public OWLDeclarationAxiomImpl(OWLEntity entity, Collection<? extends OWLAnnotation> annotations) {
         super(annotations);
         this.entity = entity;
+        hashcode = withAnnotations(hash(23, entity));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
 
@@ -102,6 +109,9 @@ public class OWLDeclarationAxiomImpl extends OWLAxiomImpl implements OWLDeclarat
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
     	if(super.equals(obj)) {
     		// superclass is responsible for null, identity, owlaxiom type and annotations
             if (obj instanceof OWLDeclarationAxiom) {
@@ -65,11 +65,18 @@ import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 public class OWLDifferentIndividualsAxiomImpl extends OWLNaryIndividualAxiomImpl implements OWLDifferentIndividualsAxiom {
 
     private static final long serialVersionUID = 30402L;
+    private final int hashcode;
 
 
     @SuppressWarnings("javadoc")
     public OWLDifferentIndividualsAxiomImpl(Set<? extends OWLIndividual> individuals, Set<? extends OWLAnnotation> annotations) {
         super(individuals, annotations);
+        hashcode = withAnnotations(hash(29, this.individuals));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -111,6 +118,9 @@ public class OWLDifferentIndividualsAxiomImpl extends OWLNaryIndividualAxiomImpl
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLDifferentIndividualsAxiom;
     }
 
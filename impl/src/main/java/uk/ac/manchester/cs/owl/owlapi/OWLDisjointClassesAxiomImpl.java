@@ -63,10 +63,17 @@ import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 public class OWLDisjointClassesAxiomImpl extends OWLNaryClassAxiomImpl implements OWLDisjointClassesAxiom {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	@SuppressWarnings("javadoc")
     public OWLDisjointClassesAxiomImpl(Set<? extends OWLClassExpression> classExpressions, Set<? extends OWLAnnotation> annotations) {
         super(classExpressions, annotations);
+        hashcode = withAnnotations(hash(31, this.classExpressions));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -84,6 +91,9 @@ public class OWLDisjointClassesAxiomImpl extends OWLNaryClassAxiomImpl implement
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLDisjointClassesAxiom;
     }
 
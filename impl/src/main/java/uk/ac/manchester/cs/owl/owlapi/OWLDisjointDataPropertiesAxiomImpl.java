@@ -61,10 +61,17 @@ import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 public class OWLDisjointDataPropertiesAxiomImpl extends OWLNaryPropertyAxiomImpl<OWLDataPropertyExpression> implements OWLDisjointDataPropertiesAxiom {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	@SuppressWarnings("javadoc")
     public OWLDisjointDataPropertiesAxiomImpl(Set<? extends OWLDataPropertyExpression> properties, Collection<? extends OWLAnnotation> annotations) {
         super(properties, annotations);
+        hashcode = withAnnotations(hash(37, this.properties));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -82,6 +89,9 @@ public class OWLDisjointDataPropertiesAxiomImpl extends OWLNaryPropertyAxiomImpl
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLDisjointDataPropertiesAxiom;
     }
 
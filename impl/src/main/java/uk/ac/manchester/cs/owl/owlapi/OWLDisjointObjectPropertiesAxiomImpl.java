@@ -61,10 +61,17 @@ import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 public class OWLDisjointObjectPropertiesAxiomImpl extends OWLNaryPropertyAxiomImpl<OWLObjectPropertyExpression> implements OWLDisjointObjectPropertiesAxiom {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	@SuppressWarnings("javadoc")
     public OWLDisjointObjectPropertiesAxiomImpl(Set<? extends OWLObjectPropertyExpression> properties, Collection<? extends OWLAnnotation> annotations) {
         super(properties, annotations);
+        hashcode = withAnnotations(hash(41, this.properties));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -82,6 +89,9 @@ public class OWLDisjointObjectPropertiesAxiomImpl extends OWLNaryPropertyAxiomIm
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLDisjointObjectPropertiesAxiom;
     }
 
@@ -40,7 +40,6 @@
 package uk.ac.manchester.cs.owl.owlapi;
 
 import java.util.Set;
-import java.util.TreeSet;
 
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.OWLAnnotation;
@@ -67,10 +66,11 @@ public class OWLDisjointUnionAxiomImpl extends OWLClassAxiomImpl implements OWLD
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	private final OWLClass owlClass;
 
-    private final Set<OWLClassExpression> classExpressions;
+    private final SortedArraySet<OWLClassExpression> classExpressions;
     @SuppressWarnings("javadoc")
     public OWLDisjointUnionAxiomImpl(OWLClass owlClass, Set<? extends OWLClassExpression> classExpressions, Set<? extends OWLAnnotation> annotations) {
         super(annotations);
@@ -78,7 +78,13 @@ public class OWLDisjointUnionAxiomImpl extends OWLClassAxiomImpl implements OWLD
 //        if(classExpressions==null || classExpressions.isEmpty()) {
 //        	throw new IllegalArgumentException("the classExpressions set must contain at least one value");
 //        }
-        this.classExpressions = new TreeSet<OWLClassExpression>(classExpressions);
+        this.classExpressions = SortedArraySet.create(classExpressions);
+        hashcode = withAnnotations(hash(43, owlClass, this.classExpressions));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -107,6 +113,9 @@ public class OWLDisjointUnionAxiomImpl extends OWLClassAxiomImpl implements OWLD
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
     	if(super.equals(obj)) {
     		// superclass is responsible for null, identity, owlaxiom type and annotations
             if (!(obj instanceof OWLDisjointUnionAxiom)) {
@@ -162,6 +171,7 @@ public class OWLDisjointUnionAxiomImpl extends OWLClassAxiomImpl implements OWLD
         if (diff != 0) {
             return diff;
         }
-        return compareSets(classExpressions, other.getClassExpressions());
+        return compareSets(classExpressions, other instanceof OWLDisjointUnionAxiomImpl ? ((OWLDisjointUnionAxiomImpl) other).classExpressions
+                : other.getClassExpressions());
     }
 }
@@ -67,6 +67,7 @@ import org.semanticweb.owlapi.util.CollectionFactory;
 public class OWLEquivalentClassesAxiomImpl extends OWLNaryClassAxiomImpl implements
         OWLEquivalentClassesAxiom, Serializable {
     private static final long serialVersionUID = 30402L;
+    private final int hashcode;
     private transient WeakReference<Set<OWLClass>> namedClasses = null;
 
     @SuppressWarnings("javadoc")
@@ -75,6 +76,12 @@ public class OWLEquivalentClassesAxiomImpl extends OWLNaryClassAxiomImpl impleme
             Collection<? extends OWLAnnotation> annotations) {
         super(classExpressions, annotations);
         namedClasses = null;
+        hashcode = withAnnotations(hash(53, this.classExpressions));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -167,6 +174,9 @@ public class OWLEquivalentClassesAxiomImpl extends OWLNaryClassAxiomImpl impleme
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLEquivalentClassesAxiom;
     }
 
@@ -65,11 +65,18 @@ import org.semanticweb.owlapi.model.OWLSubObjectPropertyOfAxiom;
 public class OWLEquivalentObjectPropertiesAxiomImpl extends OWLNaryPropertyAxiomImpl<OWLObjectPropertyExpression> implements OWLEquivalentObjectPropertiesAxiom {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 
 	@SuppressWarnings("javadoc")
     public OWLEquivalentObjectPropertiesAxiomImpl(Set<? extends OWLObjectPropertyExpression> properties, Collection<? extends OWLAnnotation> annotations) {
         super(properties, annotations);
+        hashcode = withAnnotations(hash(61, this.properties));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -87,6 +94,9 @@ public class OWLEquivalentObjectPropertiesAxiomImpl extends OWLNaryPropertyAxiom
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLEquivalentObjectPropertiesAxiom;
     }
 
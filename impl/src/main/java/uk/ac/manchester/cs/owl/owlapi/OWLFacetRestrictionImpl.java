@@ -54,6 +54,7 @@ import org.semanticweb.owlapi.vocab.OWLFacet;
  * <br> */
 public class OWLFacetRestrictionImpl extends OWLObjectImpl implements OWLFacetRestriction {
     private static final long serialVersionUID = 30402L;
+    private final int hashcode;
     private final OWLFacet facet;
     private final OWLLiteral facetValue;
 
@@ -62,6 +63,12 @@ public class OWLFacetRestrictionImpl extends OWLObjectImpl implements OWLFacetRe
         super();
         this.facet = facet;
         this.facetValue = facetValue;
+        hashcode = hash(563, facet, facetValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
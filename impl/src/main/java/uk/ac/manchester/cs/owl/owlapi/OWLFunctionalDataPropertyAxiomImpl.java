@@ -64,11 +64,18 @@ import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 public class OWLFunctionalDataPropertyAxiomImpl extends OWLDataPropertyCharacteristicAxiomImpl implements OWLFunctionalDataPropertyAxiom {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 
 	@SuppressWarnings("javadoc")
     public OWLFunctionalDataPropertyAxiomImpl(OWLDataPropertyExpression property, Collection<? extends OWLAnnotation> annotations) {
         super(property, annotations);
+        hashcode = withAnnotations(hash(67, property));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -86,6 +93,9 @@ public class OWLFunctionalDataPropertyAxiomImpl extends OWLDataPropertyCharacter
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLFunctionalDataPropertyAxiom;
     }
 
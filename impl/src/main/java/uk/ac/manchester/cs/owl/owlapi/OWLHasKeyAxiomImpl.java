@@ -65,15 +65,22 @@ public class OWLHasKeyAxiomImpl extends OWLLogicalAxiomImpl implements OWLHasKey
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	private final OWLClassExpression expression;
 
-    private final Set<OWLPropertyExpression<?,?>> propertyExpressions;
+    private final SortedArraySet<OWLPropertyExpression<?,?>> propertyExpressions;
     @SuppressWarnings("javadoc")
     public OWLHasKeyAxiomImpl(OWLClassExpression expression, Set<? extends OWLPropertyExpression<?,?>> propertyExpressions, Collection<? extends OWLAnnotation> annotations) {
         super(annotations);
         this.expression = expression;
-        this.propertyExpressions = new TreeSet<OWLPropertyExpression<?,?>>(propertyExpressions);
+        this.propertyExpressions = SortedArraySet.create(propertyExpressions);
+        hashcode = withAnnotations(hash(821, expression, this.propertyExpressions));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -142,7 +149,8 @@ public class OWLHasKeyAxiomImpl extends OWLLogicalAxiomImpl implements OWLHasKey
         if (diff != 0) {
             return diff;
         }
-        return compareSets(propertyExpressions, other.getPropertyExpressions());
+        return compareSets(propertyExpressions, other instanceof OWLHasKeyAxiomImpl ? ((OWLHasKeyAxiomImpl) other).propertyExpressions
+                : other.getPropertyExpressions());
     }
 
     @Override
@@ -168,6 +176,9 @@ public class OWLHasKeyAxiomImpl extends OWLLogicalAxiomImpl implements OWLHasKey
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
     	if(super.equals(obj)) {
     		// superclass is responsible for null, identity, owlaxiom type and annotations
         if (!(obj instanceof OWLHasKeyAxiom)) {
@@ -82,6 +82,9 @@ public abstract class OWLIndividualImpl extends OWLObjectImpl implements OWLIndi
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return obj instanceof OWLIndividual;
     }
 
@@ -104,6 +104,9 @@ public abstract class OWLIndividualRelationshipAxiomImpl<P extends OWLPropertyEx
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLPropertyAssertionAxiom)) {
                 return false;
@@ -63,11 +63,18 @@ import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 public class OWLInverseFunctionalObjectPropertyAxiomImpl extends OWLObjectPropertyCharacteristicAxiomImpl implements OWLInverseFunctionalObjectPropertyAxiom {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 
 	@SuppressWarnings("javadoc")
     public OWLInverseFunctionalObjectPropertyAxiomImpl(OWLObjectPropertyExpression property, Collection<? extends OWLAnnotation> annotations) {
         super(property, annotations);
+        hashcode = withAnnotations(hash(79, property));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -85,6 +92,9 @@ public class OWLInverseFunctionalObjectPropertyAxiomImpl extends OWLObjectProper
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLInverseFunctionalObjectPropertyAxiom;
     }
 
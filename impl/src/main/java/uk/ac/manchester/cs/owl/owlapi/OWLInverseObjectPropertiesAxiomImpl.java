@@ -39,11 +39,9 @@
 
 package uk.ac.manchester.cs.owl.owlapi;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.TreeSet;
 
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.OWLAnnotation;
@@ -67,15 +65,22 @@ public class OWLInverseObjectPropertiesAxiomImpl extends OWLNaryPropertyAxiomImp
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	private final OWLObjectPropertyExpression first;
 
     private final OWLObjectPropertyExpression second;
     @SuppressWarnings("javadoc")
     public OWLInverseObjectPropertiesAxiomImpl(OWLObjectPropertyExpression first, OWLObjectPropertyExpression second, Collection<? extends OWLAnnotation> annotations) {
-        super(new TreeSet<OWLObjectPropertyExpression>(Arrays.asList(first, second)), annotations);
+        super(SortedArraySet.create(first, second), annotations);
         this.first = first;
         this.second = second;
+        hashcode = withAnnotations(83 * MULT + first.hashCode() + second.hashCode());
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -128,6 +133,9 @@ public class OWLInverseObjectPropertiesAxiomImpl extends OWLNaryPropertyAxiomImp
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLInverseObjectPropertiesAxiom;
     }
 
@@ -156,6 +156,9 @@ public class OWLLiteralImplBoolean extends OWLObjectImpl implements OWLLiteral {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (obj instanceof OWLLiteralImplBoolean) {
                 OWLLiteralImplBoolean other = (OWLLiteralImplBoolean) obj;
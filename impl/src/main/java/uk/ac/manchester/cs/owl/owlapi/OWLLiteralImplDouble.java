@@ -156,6 +156,9 @@ public class OWLLiteralImplDouble extends OWLObjectImpl implements OWLLiteral {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (obj instanceof OWLLiteralImplDouble) {
                 OWLLiteralImplDouble other = (OWLLiteralImplDouble) obj;
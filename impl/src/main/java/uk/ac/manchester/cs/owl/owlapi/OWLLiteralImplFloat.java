@@ -156,6 +156,9 @@ public class OWLLiteralImplFloat extends OWLObjectImpl implements OWLLiteral {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (obj instanceof OWLLiteralImplFloat) {
                 OWLLiteralImplFloat other = (OWLLiteralImplFloat) obj;
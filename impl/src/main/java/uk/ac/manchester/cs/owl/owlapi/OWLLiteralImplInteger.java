@@ -156,6 +156,9 @@ public class OWLLiteralImplInteger extends OWLObjectImpl implements OWLLiteral {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (obj instanceof OWLLiteralImplInteger) {
                 OWLLiteralImplInteger other = (OWLLiteralImplInteger) obj;
@@ -0,0 +1,264 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
+
+import org.semanticweb.owlapi.model.OWLAnnotationValueVisitor;
+import org.semanticweb.owlapi.model.OWLAnnotationValueVisitorEx;
+import org.semanticweb.owlapi.model.OWLDataVisitor;
+import org.semanticweb.owlapi.model.OWLDataVisitorEx;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectVisitor;
+import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+
+/** A compact implementation for rdf:PlainLiteral literals, the most common
+ * literals in annotation heavy ontologies (e.g., rdfs:label values). The
+ * datatype is implicit, the lexical form is kept as UTF-8 bytes and the
+ * language tag is expected to be shared between literals by the data factory.
+ * Equality and hash codes agree with {@link OWLLiteralImplNoCompression}.
+ * 
+ * @author ignazio */
+public class OWLLiteralImplPlain extends OWLObjectImpl implements OWLLiteral {
+    private static final long serialVersionUID = 30402L;
+    private static final OWLDatatype RDF_PLAIN_LITERAL = OWL2DatatypeImpl
+            .getDatatype(OWL2Datatype.RDF_PLAIN_LITERAL);
+    private final byte[] literal;
+    private final String lang;
+    private final int hashcode;
+
+    /** @param literal
+     *            the lexical form
+     * @param lang
+     *            the language; can be null or an empty string */
+    public OWLLiteralImplPlain(String literal, String lang) {
+        super();
+        try {
+            this.literal = literal.getBytes(OWLLiteralImplNoCompression.utf_8);
+        } catch (UnsupportedEncodingException e) {
+            throw new OWLRuntimeException("Unsupported UTF 8 encoding: broken JVM", e);
+        }
+        this.lang = lang == null ? "" : lang;
+        hashcode = getHashCode(literal);
+    }
+
+    @Override
+    public String getLiteral() {
+        try {
+            return new String(literal, OWLLiteralImplNoCompression.utf_8);
+        } catch (UnsupportedEncodingException e) {
+            throw new OWLRuntimeException("Unsupported UTF 8 encoding: broken JVM", e);
+        }
+    }
+
+    @Override
+    public boolean isRDFPlainLiteral() {
+        return true;
+    }
+
+    @Override
+    public boolean hasLang() {
+        return lang.length() > 0;
+    }
+
+    @Override
+    public boolean isInteger() {
+        return false;
+    }
+
+    @Override
+    public int parseInteger() throws NumberFormatException {
+        return Integer.parseInt(getLiteral());
+    }
+
+    @Override
+    public boolean isBoolean() {
+        return false;
+    }
+
+    @Override
+    public boolean parseBoolean() throws NumberFormatException {
+        final String literal2 = getLiteral();
+        if (literal2.equals("0")) {
+            return false;
+        }
+        if (literal2.equals("1")) {
+            return true;
+        }
+        if (literal2.equals("true")) {
+            return true;
+        }
+        if (literal2.equals("false")) {
+            return false;
+        }
+        return Boolean.parseBoolean(literal2);
+    }
+
+    @Override
+    public boolean isDouble() {
+        return false;
+    }
+
+    @Override
+    public double parseDouble() throws NumberFormatException {
+        return Double.parseDouble(getLiteral());
+    }
+
+    @Override
+    public boolean isFloat() {
+        return false;
+    }
+
+    @Override
+    public float parseFloat() throws NumberFormatException {
+        String literal2 = getLiteral();
+        if ("inf".equalsIgnoreCase(literal2)) {
+            return Float.POSITIVE_INFINITY;
+        }
+        if ("-inf".equalsIgnoreCase(literal2)) {
+            return Float.NEGATIVE_INFINITY;
+        }
+        return Float.parseFloat(literal2);
+    }
+
+    @Override
+    public String getLang() {
+        return lang;
+    }
+
+    @Override
+    public boolean hasLang(String l) {
+        if (l == null) {
+            l = "";
+        }
+        return lang.equalsIgnoreCase(l.trim());
+    }
+
+    @Override
+    public OWLDatatype getDatatype() {
+        return RDF_PLAIN_LITERAL;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
+    }
+
+    /** same computation as OWLLiteralImplNoCompression for a plain literal */
+    private int getHashCode(String lexicalValue) {
+        int hashCode = 277;
+        hashCode = hashCode * 37 + RDF_PLAIN_LITERAL.hashCode();
+        hashCode = hashCode * 37;
+        hashCode += lexicalValue.hashCode() * 65536;
+        if (hasLang()) {
+            hashCode = hashCode * 37 + lang.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (super.equals(obj)) {
+            if (!(obj instanceof OWLLiteral)) {
+                return false;
+            }
+            OWLLiteral other = (OWLLiteral) obj;
+            if (other instanceof OWLLiteralImplPlain) {
+                return Arrays.equals(literal, ((OWLLiteralImplPlain) other).literal)
+                        && lang.equals(other.getLang());
+            }
+            return getLiteral().equals(other.getLiteral())
+                    && RDF_PLAIN_LITERAL.equals(other.getDatatype())
+                    && lang.equals(other.getLang());
+        }
+        return false;
+    }
+
+    @Override
+    public void accept(OWLDataVisitor visitor) {
+        visitor.visit(this);
+    }
+
+    @Override
+    public <O> O accept(OWLDataVisitorEx<O> visitor) {
+        return visitor.visit(this);
+    }
+
+    @Override
+    public void accept(OWLAnnotationValueVisitor visitor) {
+        visitor.visit(this);
+    }
+
+    @Override
+    public <O> O accept(OWLAnnotationValueVisitorEx<O> visitor) {
+        return visitor.visit(this);
+    }
+
+    @Override
+    protected int compareObjectOfSameType(OWLObject object) {
+        OWLLiteral other = (OWLLiteral) object;
+        int diff = getLiteral().compareTo(other.getLiteral());
+        if (diff != 0) {
+            return diff;
+        }
+        diff = RDF_PLAIN_LITERAL.compareTo(other.getDatatype());
+        if (diff != 0) {
+            return diff;
+        }
+        return lang.compareTo(other.getLang());
+    }
+
+    @Override
+    public void accept(OWLObjectVisitor visitor) {
+        visitor.visit(this);
+    }
+
+    @Override
+    public <O> O accept(OWLObjectVisitorEx<O> visitor) {
+        return visitor.visit(this);
+    }
+}
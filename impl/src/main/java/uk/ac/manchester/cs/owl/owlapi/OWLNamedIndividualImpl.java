@@ -70,6 +70,7 @@ public class OWLNamedIndividualImpl extends OWLIndividualImpl implements OWLName
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 	private final IRI iri;
 
     /**
@@ -78,6 +79,12 @@ public class OWLNamedIndividualImpl extends OWLIndividualImpl implements OWLName
     public OWLNamedIndividualImpl(IRI iri) {
         super();
         this.iri = iri;
+        hashcode = hash(311, iri);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
 
@@ -143,6 +150,9 @@ public class OWLNamedIndividualImpl extends OWLIndividualImpl implements OWLName
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLNamedIndividual)) {
                 return false;
@@ -42,7 +42,6 @@ package uk.ac.manchester.cs.owl.owlapi;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.TreeSet;
 
 import org.semanticweb.owlapi.model.OWLClassExpression;
 import org.semanticweb.owlapi.model.OWLNaryBooleanClassExpression;
@@ -60,12 +59,12 @@ public abstract class OWLNaryBooleanClassExpressionImpl extends OWLAnonymousClas
 
 
 	private static final long serialVersionUID = 30402L;
-	private final Set<OWLClassExpression> operands;
+	final SortedArraySet<OWLClassExpression> operands;
 
     @SuppressWarnings("javadoc")
     public OWLNaryBooleanClassExpressionImpl(Set<? extends OWLClassExpression> operands) {
         super();
-        this.operands = new TreeSet<OWLClassExpression>(operands);
+        this.operands = SortedArraySet.create(operands);
     }
 
     @Override
@@ -87,6 +86,9 @@ public abstract class OWLNaryBooleanClassExpressionImpl extends OWLAnonymousClas
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLNaryBooleanClassExpression)) {
                 return false;
@@ -99,6 +101,7 @@ public abstract class OWLNaryBooleanClassExpressionImpl extends OWLAnonymousClas
 
     @Override
 	final protected int compareObjectOfSameType(OWLObject object) {
-        return compareSets(operands, ((OWLNaryBooleanClassExpression) object).getOperands());
+        return compareSets(operands, object instanceof OWLNaryBooleanClassExpressionImpl ? ((OWLNaryBooleanClassExpressionImpl) object).operands
+                : ((OWLNaryBooleanClassExpression) object).getOperands());
     }
 }
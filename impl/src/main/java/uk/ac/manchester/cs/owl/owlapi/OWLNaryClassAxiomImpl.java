@@ -44,7 +44,6 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.TreeSet;
 
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLClassExpression;
@@ -63,12 +62,12 @@ public abstract class OWLNaryClassAxiomImpl extends OWLClassAxiomImpl implements
 
 
 	private static final long serialVersionUID = 30402L;
-	private final Set<OWLClassExpression> classExpressions;
+	final SortedArraySet<OWLClassExpression> classExpressions;
 
     @SuppressWarnings("javadoc")
     public OWLNaryClassAxiomImpl(Set<? extends OWLClassExpression> classExpressions, Collection<? extends OWLAnnotation> annotations) {
         super(annotations);
-        this.classExpressions = new TreeSet<OWLClassExpression>(classExpressions);
+        this.classExpressions = SortedArraySet.create(classExpressions);
     }
 
 
@@ -100,6 +99,9 @@ public abstract class OWLNaryClassAxiomImpl extends OWLClassAxiomImpl implements
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLNaryClassAxiom)) {
                 return false;
@@ -112,6 +114,7 @@ public abstract class OWLNaryClassAxiomImpl extends OWLClassAxiomImpl implements
 
     @Override
 	protected int compareObjectOfSameType(OWLObject object) {
-        return compareSets(classExpressions, ((OWLNaryClassAxiom) object).getClassExpressions());
+        return compareSets(classExpressions, object instanceof OWLNaryClassAxiomImpl ? ((OWLNaryClassAxiomImpl) object).classExpressions
+                : ((OWLNaryClassAxiom) object).getClassExpressions());
     }
 }
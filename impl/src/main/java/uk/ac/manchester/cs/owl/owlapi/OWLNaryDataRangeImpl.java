@@ -40,7 +40,6 @@
 package uk.ac.manchester.cs.owl.owlapi;
 
 import java.util.Set;
-import java.util.TreeSet;
 
 import org.semanticweb.owlapi.model.OWLDataRange;
 import org.semanticweb.owlapi.model.OWLDatatype;
@@ -56,11 +55,11 @@ public abstract class OWLNaryDataRangeImpl extends OWLObjectImpl implements OWLN
 
 
 	private static final long serialVersionUID = 30402L;
-	private final Set<OWLDataRange> operands;
+	final SortedArraySet<OWLDataRange> operands;
 
     protected OWLNaryDataRangeImpl(Set<? extends OWLDataRange> operands) {
         super();
-        this.operands = new TreeSet<OWLDataRange>(operands);
+        this.operands = SortedArraySet.create(operands);
     }
 
     @Override
@@ -68,6 +67,11 @@ public abstract class OWLNaryDataRangeImpl extends OWLObjectImpl implements OWLN
         return CollectionFactory.getCopyOnRequestSetFromImmutableCollection(operands);
     }
 
+    protected int compareOperands(OWLNaryDataRange other) {
+        return compareSets(operands, other instanceof OWLNaryDataRangeImpl ? ((OWLNaryDataRangeImpl) other).operands
+                : other.getOperands());
+    }
+
     @Override
     public boolean isTopDatatype() {
         return false;
@@ -43,7 +43,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
-import java.util.TreeSet;
 
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLIndividual;
@@ -62,12 +61,12 @@ public abstract class OWLNaryIndividualAxiomImpl extends OWLIndividualAxiomImpl
 
 
 	private static final long serialVersionUID = 30402L;
-	private final Set<OWLIndividual> individuals;
+	final SortedArraySet<OWLIndividual> individuals;
 
     @SuppressWarnings("javadoc")
     public OWLNaryIndividualAxiomImpl(Set<? extends OWLIndividual> individuals, Collection<? extends OWLAnnotation> annotations) {
         super(annotations);
-        this.individuals = new TreeSet<OWLIndividual>(individuals);
+        this.individuals = SortedArraySet.create(individuals);
     }
 
 
@@ -83,6 +82,9 @@ public abstract class OWLNaryIndividualAxiomImpl extends OWLIndividualAxiomImpl
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLNaryIndividualAxiom)) {
                 return false;
@@ -95,6 +97,7 @@ public abstract class OWLNaryIndividualAxiomImpl extends OWLIndividualAxiomImpl
 
     @Override
 	protected int compareObjectOfSameType(OWLObject object) {
-        return compareSets(individuals, ((OWLNaryIndividualAxiom) object).getIndividuals());
+        return compareSets(individuals, object instanceof OWLNaryIndividualAxiomImpl ? ((OWLNaryIndividualAxiomImpl) object).individuals
+                : ((OWLNaryIndividualAxiom) object).getIndividuals());
     }
 }
@@ -61,12 +61,12 @@ public abstract class OWLNaryPropertyAxiomImpl<P extends OWLPropertyExpression<?
 
 
 	private static final long serialVersionUID = 30402L;
-	private final Set<P> properties;
+	final SortedArraySet<P> properties;
 
     @SuppressWarnings("javadoc")
     public OWLNaryPropertyAxiomImpl(Set<? extends P> properties, Collection<? extends OWLAnnotation> annotations) {
         super(annotations);
-        this.properties = new TreeSet<P>(properties);
+        this.properties = SortedArraySet.create(properties);
     }
 
 
@@ -84,6 +84,9 @@ public abstract class OWLNaryPropertyAxiomImpl<P extends OWLPropertyExpression<?
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLNaryPropertyAxiom)) {
                 return false;
@@ -96,6 +99,7 @@ public abstract class OWLNaryPropertyAxiomImpl<P extends OWLPropertyExpression<?
 
     @Override
 	final protected int compareObjectOfSameType(OWLObject object) {
-        return compareSets(properties, ((OWLNaryPropertyAxiom<?>) object).getProperties());
+        return compareSets(properties, object instanceof OWLNaryPropertyAxiomImpl ? ((OWLNaryPropertyAxiomImpl<?>) object).properties
+                : ((OWLNaryPropertyAxiom<?>) object).getProperties());
     }
 }
@@ -64,10 +64,17 @@ import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 public class OWLNegativeDataPropertyAssertionImplAxiom extends OWLIndividualRelationshipAxiomImpl<OWLDataPropertyExpression, OWLLiteral> implements OWLNegativeDataPropertyAssertionAxiom {
 
     private static final long serialVersionUID = 30402L;
+    private final int hashcode;
 
     @SuppressWarnings("javadoc")
     public OWLNegativeDataPropertyAssertionImplAxiom(OWLIndividual subject, OWLDataPropertyExpression property, OWLLiteral object, Set<? extends OWLAnnotation> annotations) {
         super(subject, property, object, annotations);
+        hashcode = withAnnotations(hash(97, subject, property, object));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -96,6 +103,9 @@ public class OWLNegativeDataPropertyAssertionImplAxiom extends OWLIndividualRela
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLNegativeDataPropertyAssertionAxiom;
     }
 
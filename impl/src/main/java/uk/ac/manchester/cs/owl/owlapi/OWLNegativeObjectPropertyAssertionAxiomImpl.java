@@ -63,10 +63,17 @@ import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 public class OWLNegativeObjectPropertyAssertionAxiomImpl extends OWLIndividualRelationshipAxiomImpl<OWLObjectPropertyExpression, OWLIndividual> implements OWLNegativeObjectPropertyAssertionAxiom {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	@SuppressWarnings("javadoc")
     public OWLNegativeObjectPropertyAssertionAxiomImpl(OWLIndividual subject, OWLObjectPropertyExpression property, OWLIndividual object, Set<? extends OWLAnnotation> annotations) {
         super(subject, property, object, annotations);
+        hashcode = withAnnotations(hash(101, subject, property, object));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -95,6 +102,9 @@ public class OWLNegativeObjectPropertyAssertionAxiomImpl extends OWLIndividualRe
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLNegativeObjectPropertyAssertionAxiom;
     }
 
@@ -58,11 +58,18 @@ import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 public class OWLObjectAllValuesFromImpl extends OWLQuantifiedObjectRestrictionImpl implements OWLObjectAllValuesFrom {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 
 	@SuppressWarnings("javadoc")
     public OWLObjectAllValuesFromImpl(OWLObjectPropertyExpression property, OWLClassExpression filler) {
         super(property, filler);
+        hashcode = hash(193, property, filler);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -82,6 +89,9 @@ public class OWLObjectAllValuesFromImpl extends OWLQuantifiedObjectRestrictionIm
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             return obj instanceof OWLObjectAllValuesFrom;
         }
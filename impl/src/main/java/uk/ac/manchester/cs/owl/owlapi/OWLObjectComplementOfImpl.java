@@ -58,12 +58,19 @@ public class OWLObjectComplementOfImpl extends OWLAnonymousClassExpressionImpl i
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 	private final OWLClassExpression operand;
 
     @SuppressWarnings("javadoc")
     public OWLObjectComplementOfImpl(OWLClassExpression operand) {
         super();
         this.operand = operand;
+        hashcode = hash(197, operand);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -85,6 +92,9 @@ public class OWLObjectComplementOfImpl extends OWLAnonymousClassExpressionImpl i
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLObjectComplementOf)) {
                 return false;
@@ -59,11 +59,18 @@ import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 public class OWLObjectExactCardinalityImpl extends OWLObjectCardinalityRestrictionImpl implements OWLObjectExactCardinality {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 
 	@SuppressWarnings("javadoc")
     public OWLObjectExactCardinalityImpl(OWLObjectPropertyExpression property, int cardinality, OWLClassExpression filler) {
         super(property, cardinality, filler);
+        hashcode = hash(199, property, cardinality, filler);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -73,6 +80,9 @@ public class OWLObjectExactCardinalityImpl extends OWLObjectCardinalityRestricti
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             return obj instanceof OWLObjectExactCardinality;
         }
@@ -59,10 +59,17 @@ import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 public class OWLObjectHasSelfImpl extends OWLRestrictionImpl<OWLClassExpression, OWLObjectPropertyExpression, OWLObjectPropertyExpression> implements OWLObjectHasSelf {
 
     private static final long serialVersionUID = 30402L;
+    private final int hashcode;
 
     @SuppressWarnings("javadoc")
     public OWLObjectHasSelfImpl(OWLObjectPropertyExpression property) {
         super(property);
+        hashcode = hash(233, property);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -82,6 +89,9 @@ public class OWLObjectHasSelfImpl extends OWLRestrictionImpl<OWLClassExpression,
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             return obj instanceof OWLObjectHasSelf;
         }
@@ -59,11 +59,18 @@ import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 public class OWLObjectHasValueImpl extends OWLValueRestrictionImpl<OWLClassExpression, OWLObjectPropertyExpression, OWLIndividual> implements OWLObjectHasValue {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 
 	@SuppressWarnings("javadoc")
     public OWLObjectHasValueImpl(OWLObjectPropertyExpression property, OWLIndividual value) {
         super(property, value);
+        hashcode = hash(251, property, value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -73,6 +80,9 @@ public class OWLObjectHasValueImpl extends OWLValueRestrictionImpl<OWLClassExpre
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             return obj instanceof OWLObjectHasValue;
         }
@@ -45,7 +45,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.semanticweb.owlapi.io.ToStringRenderer;
 import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
@@ -71,7 +71,7 @@ import org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider;
 public abstract class OWLObjectImpl implements OWLObject, Serializable {
 
     private static final long serialVersionUID = 30402L;
-    private int hashCode = 0;
+    private static final ConcurrentHashMap<Class<?>, Integer> typeIndexes = new ConcurrentHashMap<Class<?>, Integer>();
     private transient WeakReference<Set<OWLEntity>> signature = null;
     private transient WeakReference<Set<OWLAnonymousIndividual>> anons;
 
@@ -186,28 +186,86 @@ public abstract class OWLObjectImpl implements OWLObject, Serializable {
         return obj == this || obj != null && obj instanceof OWLObject;
     }
 
+    /** The classes in this package compute their hash code in their
+     * constructors, with {@link #hash(int, Object)} and friends, and override
+     * this method; other subclasses fall back on {@link HashCode}. */
     @Override
     public int hashCode() {
-        if (hashCode == 0) {
-            hashCode = HashCode.hashCode(this);
-        }
-        return hashCode;
+        return HashCode.hashCode(this);
+    }
+
+    /** multiplier used by {@link HashCode}; the hash codes computed here must
+     * match the ones computed there, so that objects from other OWLObject
+     * implementations can be equal to the objects in this package */
+    static final int MULT = 37;
+
+    /** @param seed
+     *            the seed for the object type, as in {@link HashCode}
+     * @param first
+     *            first component
+     * @return the hash code */
+    protected static int hash(int seed, Object first) {
+        return seed * MULT + first.hashCode();
+    }
+
+    /** @param seed
+     *            the seed for the object type, as in {@link HashCode}
+     * @param first
+     *            first component
+     * @param second
+     *            second component
+     * @return the hash code */
+    protected static int hash(int seed, Object first, Object second) {
+        return hash(seed, first) * MULT + second.hashCode();
+    }
+
+    /** @param seed
+     *            the seed for the object type, as in {@link HashCode}
+     * @param first
+     *            first component
+     * @param second
+     *            second component
+     * @param third
+     *            third component
+     * @return the hash code */
+    protected static int hash(int seed, Object first, Object second, Object third) {
+        return hash(seed, first, second) * MULT + third.hashCode();
     }
 
     @Override
     final public int compareTo(OWLObject o) {
-        OWLObjectTypeIndexProvider typeIndexProvider = new OWLObjectTypeIndexProvider();
-        int thisTypeIndex = typeIndexProvider.getTypeIndex(this);
-        int otherTypeIndex = typeIndexProvider.getTypeIndex(o);
-        int diff = thisTypeIndex - otherTypeIndex;
-        if (diff == 0) {
+        if (o.getClass() == getClass()) {
             // Objects are the same type
             return compareObjectOfSameType(o);
+        }
+        int diff = getTypeIndex(this) - getTypeIndex(o);
+        if (diff == 0) {
+            return compareObjectOfSameType(o);
         } else {
             return diff;
         }
     }
 
+    /** The type index of an object only depends on the OWLObject interface it
+     * implements, so for the classes in this package it is computed once per
+     * class and looked up afterwards; other implementations are visited on
+     * each call.
+     * 
+     * @param o
+     *            the object
+     * @return the type index, as computed by OWLObjectTypeIndexProvider */
+    static int getTypeIndex(OWLObject o) {
+        if (!(o instanceof OWLObjectImpl) && !(o instanceof OWL2DatatypeImpl)) {
+            return new OWLObjectTypeIndexProvider().getTypeIndex(o);
+        }
+        Integer index = typeIndexes.get(o.getClass());
+        if (index == null) {
+            index = new OWLObjectTypeIndexProvider().getTypeIndex(o);
+            typeIndexes.put(o.getClass(), index);
+        }
+        return index.intValue();
+    }
+
     protected abstract int compareObjectOfSameType(OWLObject object);
 
     @Override
@@ -227,18 +285,20 @@ public abstract class OWLObjectImpl implements OWLObject, Serializable {
 
     protected static int compareSets(Set<? extends OWLObject> set1,
             Set<? extends OWLObject> set2) {
-        SortedSet<? extends OWLObject> ss1;
-        if (set1 instanceof SortedSet) {
-            ss1 = (SortedSet<? extends OWLObject>) set1;
-        } else {
-            ss1 = new TreeSet<OWLObject>(set1);
-        }
-        SortedSet<? extends OWLObject> ss2;
-        if (set2 instanceof SortedSet) {
-            ss2 = (SortedSet<? extends OWLObject>) set2;
-        } else {
-            ss2 = new TreeSet<OWLObject>(set2);
+        if (set1 instanceof SortedArraySet && set2 instanceof SortedArraySet) {
+            SortedArraySet<? extends OWLObject> ss1 = (SortedArraySet<? extends OWLObject>) set1;
+            SortedArraySet<? extends OWLObject> ss2 = (SortedArraySet<? extends OWLObject>) set2;
+            int size = ss1.size() < ss2.size() ? ss1.size() : ss2.size();
+            for (int i = 0; i < size; i++) {
+                int diff = ss1.get(i).compareTo(ss2.get(i));
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return ss1.size() - ss2.size();
         }
+        SortedSet<? extends OWLObject> ss1 = sorted(set1);
+        SortedSet<? extends OWLObject> ss2 = sorted(set2);
         int i = 0;
         Iterator<? extends OWLObject> thisIt = ss1.iterator();
         Iterator<? extends OWLObject> otherIt = ss2.iterator();
@@ -254,6 +314,13 @@ public abstract class OWLObjectImpl implements OWLObject, Serializable {
         return ss1.size() - ss2.size();
     }
 
+    private static SortedSet<? extends OWLObject> sorted(Set<? extends OWLObject> set) {
+        if (set instanceof SortedSet && ((SortedSet<?>) set).comparator() == null) {
+            return (SortedSet<? extends OWLObject>) set;
+        }
+        return SortedArraySet.create(set);
+    }
+
     protected static int compareLists(List<? extends OWLObject> list1,
             List<? extends OWLObject> list2) {
         int i = 0;
@@ -60,11 +60,18 @@ import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 public class OWLObjectIntersectionOfImpl extends OWLNaryBooleanClassExpressionImpl implements OWLObjectIntersectionOf {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 
 	@SuppressWarnings("javadoc")
     public OWLObjectIntersectionOfImpl(Set<? extends OWLClassExpression> operands) {
         super(operands);
+        hashcode = hash(211, this.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -74,6 +81,9 @@ public class OWLObjectIntersectionOfImpl extends OWLNaryBooleanClassExpressionIm
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             return obj instanceof OWLObjectIntersectionOf;
         }
@@ -60,12 +60,19 @@ import org.semanticweb.owlapi.model.OWLSubPropertyAxiom;
 public class OWLObjectInverseOfImpl extends OWLObjectPropertyExpressionImpl implements
         OWLObjectInverseOf {
     private static final long serialVersionUID = 30402L;
+    private final int hashcode;
     private final OWLObjectPropertyExpression inverseProperty;
 
     @SuppressWarnings("javadoc")
     public OWLObjectInverseOfImpl(OWLObjectPropertyExpression inverseProperty) {
         super();
         this.inverseProperty = inverseProperty;
+        hashcode = hash(307, inverseProperty);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -75,6 +82,9 @@ public class OWLObjectInverseOfImpl extends OWLObjectPropertyExpressionImpl impl
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLObjectInverseOf)) {
                 return false;
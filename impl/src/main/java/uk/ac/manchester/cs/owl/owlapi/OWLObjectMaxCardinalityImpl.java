@@ -55,11 +55,18 @@ import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 public class OWLObjectMaxCardinalityImpl extends OWLObjectCardinalityRestrictionImpl
         implements OWLObjectMaxCardinality {
     private static final long serialVersionUID = 30402L;
+    private final int hashcode;
 
     @SuppressWarnings("javadoc")
     public OWLObjectMaxCardinalityImpl(OWLObjectPropertyExpression property,
             int cardinality, OWLClassExpression filler) {
         super(property, cardinality, filler);
+        hashcode = hash(223, property, cardinality, filler);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -69,6 +76,9 @@ public class OWLObjectMaxCardinalityImpl extends OWLObjectCardinalityRestriction
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             return obj instanceof OWLObjectMaxCardinality;
         }
@@ -60,12 +60,19 @@ import org.semanticweb.owlapi.util.CollectionFactory;
 public class OWLObjectOneOfImpl extends OWLAnonymousClassExpressionImpl implements
         OWLObjectOneOf {
     private static final long serialVersionUID = 30402L;
-    private final Set<OWLIndividual> values;
+    private final int hashcode;
+    private final SortedArraySet<OWLIndividual> values;
 
     @SuppressWarnings("javadoc")
     public OWLObjectOneOfImpl(Set<? extends OWLIndividual> values) {
         super();
-        this.values = new HashSet<OWLIndividual>(values);
+        this.values = SortedArraySet.create(values);
+        hashcode = hash(229, this.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -98,6 +105,9 @@ public class OWLObjectOneOfImpl extends OWLAnonymousClassExpressionImpl implemen
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLObjectOneOf)) {
                 return false;
@@ -129,6 +139,7 @@ public class OWLObjectOneOfImpl extends OWLAnonymousClassExpressionImpl implemen
 
     @Override
     protected int compareObjectOfSameType(OWLObject object) {
-        return compareSets(values, ((OWLObjectOneOf) object).getIndividuals());
+        return compareSets(values, object instanceof OWLObjectOneOfImpl ? ((OWLObjectOneOfImpl) object).values
+                : ((OWLObjectOneOf) object).getIndividuals());
     }
 }
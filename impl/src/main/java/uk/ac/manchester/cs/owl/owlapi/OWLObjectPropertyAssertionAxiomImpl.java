@@ -63,11 +63,18 @@ import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 public class OWLObjectPropertyAssertionAxiomImpl extends OWLIndividualRelationshipAxiomImpl<OWLObjectPropertyExpression, OWLIndividual> implements OWLObjectPropertyAssertionAxiom {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 
 	@SuppressWarnings("javadoc")
     public OWLObjectPropertyAssertionAxiomImpl(OWLIndividual subject, OWLObjectPropertyExpression property, OWLIndividual object, Set<? extends OWLAnnotation> annotations) {
         super(subject, property, object, annotations);
+        hashcode = withAnnotations(hash(103, subject, property, object));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -90,6 +97,9 @@ public class OWLObjectPropertyAssertionAxiomImpl extends OWLIndividualRelationsh
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLObjectPropertyAssertionAxiom;
     }
 
@@ -74,6 +74,9 @@ public abstract class OWLObjectPropertyCharacteristicAxiomImpl extends OWLProper
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLObjectPropertyCharacteristicAxiom)) {
                 return false;
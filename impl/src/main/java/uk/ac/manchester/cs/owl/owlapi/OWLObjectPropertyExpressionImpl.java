@@ -254,6 +254,9 @@ public abstract class OWLObjectPropertyExpressionImpl extends OWLPropertyExpress
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLObjectPropertyExpression;
     }
 
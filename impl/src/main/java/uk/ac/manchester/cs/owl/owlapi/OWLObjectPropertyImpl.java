@@ -75,6 +75,7 @@ import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
 public class OWLObjectPropertyImpl extends OWLObjectPropertyExpressionImpl implements
         OWLObjectProperty {
     private static final long serialVersionUID = 30402L;
+    private final int hashcode;
     private final IRI iri;
     private final boolean builtin;
 
@@ -84,6 +85,12 @@ public class OWLObjectPropertyImpl extends OWLObjectPropertyExpressionImpl imple
         this.iri = iri;
         builtin = iri.equals(OWLRDFVocabulary.OWL_TOP_OBJECT_PROPERTY.getIRI())
                 || iri.equals(OWLRDFVocabulary.OWL_BOTTOM_OBJECT_PROPERTY.getIRI());
+        hashcode = hash(293, iri);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -128,6 +135,9 @@ public class OWLObjectPropertyImpl extends OWLObjectPropertyExpressionImpl imple
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLObjectProperty)) {
                 return false;
@@ -63,16 +63,26 @@ import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 public class OWLObjectPropertyRangeAxiomImpl extends OWLPropertyRangeAxiomImpl<OWLObjectPropertyExpression, OWLClassExpression> implements OWLObjectPropertyRangeAxiom {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 
 	@SuppressWarnings("javadoc")
     public OWLObjectPropertyRangeAxiomImpl(OWLObjectPropertyExpression property, OWLClassExpression range, Set<? extends OWLAnnotation> annotations) {
         super(property, range, annotations);
+        hashcode = withAnnotations(hash(113, property, range));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLObjectPropertyRangeAxiom;
     }
 
@@ -55,11 +55,18 @@ import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 public class OWLObjectSomeValuesFromImpl extends OWLQuantifiedObjectRestrictionImpl
         implements OWLObjectSomeValuesFrom {
     private static final long serialVersionUID = 30402L;
+    private final int hashcode;
 
     @SuppressWarnings("javadoc")
     public OWLObjectSomeValuesFromImpl(OWLObjectPropertyExpression property,
             OWLClassExpression filler) {
         super(property, filler);
+        hashcode = hash(239, property, filler);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -69,6 +76,9 @@ public class OWLObjectSomeValuesFromImpl extends OWLQuantifiedObjectRestrictionI
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             return obj instanceof OWLObjectSomeValuesFrom;
         }
@@ -57,10 +57,17 @@ import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 public class OWLObjectUnionOfImpl extends OWLNaryBooleanClassExpressionImpl implements
         OWLObjectUnionOf {
     private static final long serialVersionUID = 30402L;
+    private final int hashcode;
 
     @SuppressWarnings("javadoc")
     public OWLObjectUnionOfImpl(Set<? extends OWLClassExpression> operands) {
         super(operands);
+        hashcode = hash(241, this.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -70,6 +77,9 @@ public class OWLObjectUnionOfImpl extends OWLNaryBooleanClassExpressionImpl impl
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             return obj instanceof OWLObjectUnionOf;
         }
@@ -42,9 +42,14 @@ import static org.semanticweb.owlapi.util.CollectionFactory.createSet;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.semanticweb.owlapi.model.AddAxiom;
 import org.semanticweb.owlapi.model.AddImport;
@@ -128,6 +133,7 @@ import org.semanticweb.owlapi.model.RemoveImport;
 import org.semanticweb.owlapi.model.RemoveOntologyAnnotation;
 import org.semanticweb.owlapi.model.SetOntologyID;
 import org.semanticweb.owlapi.model.UnknownOWLOntologyException;
+import org.semanticweb.owlapi.util.CollectionFactory;
 import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
 
 /*
@@ -152,13 +158,27 @@ Serializable {
     //
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////
     protected Internals internals;
+    private transient volatile ImportsClosureSignature importsClosureSignature;
 
     @SuppressWarnings("javadoc")
     public OWLOntologyImpl(OWLOntologyManager manager, OWLOntologyID ontologyID) {
+        this(manager, ontologyID, new InternalsImpl());
+    }
+
+    /** @param manager
+     *            the manager for this ontology
+     * @param ontologyID
+     *            the id for this ontology
+     * @param internals
+     *            the internals to store axioms and indexes in; use
+     *            ConcurrentInternalsImpl for ontologies to be shared between
+     *            threads */
+    public OWLOntologyImpl(OWLOntologyManager manager, OWLOntologyID ontologyID,
+            Internals internals) {
         super();
         this.manager = manager;
         this.ontologyID = ontologyID;
-        internals = new InternalsImpl();
+        this.internals = internals;
     }
 
     @Override
@@ -239,6 +259,27 @@ Serializable {
         return (Set<T>) internals.getValues(internals.getAxiomsByType(), axiomType);
     }
 
+    //XXX not in the interface
+    /** @param axiomType
+     *            type of axioms
+     * @return an unmodifiable live view of the axioms of the given type. Unlike
+     *         getAxioms(AxiomType), no copy is made: the view reflects later
+     *         changes, and must not be iterated while the ontology is being
+     *         changed. */
+    @SuppressWarnings("unchecked")
+    public <T extends OWLAxiom> Set<T> getAxiomsView(AxiomType<T> axiomType) {
+        return (Set<T>) internals.getValuesView(internals.getAxiomsByType(), axiomType);
+    }
+
+    //XXX not in the interface
+    /** @return an unmodifiable live view of the classes in the signature.
+     *         Unlike getClassesInSignature(), no copy is made: the view
+     *         reflects later changes, and must not be iterated while the
+     *         ontology is being changed. */
+    public Set<OWLClass> getClassesInSignatureView() {
+        return internals.getKeysetView(internals.getOwlClassReferences());
+    }
+
     @Override
     public <T extends OWLAxiom> Set<T> getAxioms(AxiomType<T> axiomType,
             boolean includeImportsClosure) {
@@ -322,6 +363,10 @@ Serializable {
         if (!includeImportsClosure) {
             return containsAxiom(axiom);
         }
+        ImportsClosureIndex index = getImportsClosureIndex();
+        if (index != null) {
+            return index.containsAxiom(axiom);
+        }
         for (OWLOntology ont : getImportsClosure()) {
             if (ont.containsAxiom(axiom)) {
                 return true;
@@ -332,14 +377,8 @@ Serializable {
 
     @Override
     public boolean containsAxiomIgnoreAnnotations(OWLAxiom axiom) {
-        Set<OWLAxiom> set = internals.getValues(internals.getAxiomsByType(),
-                axiom.getAxiomType());
-        for (OWLAxiom ax : set) {
-            if (ax.equalsIgnoreAnnotations(axiom)) {
-                return true;
-            }
-        }
-        return false;
+        return internals.hasValues(internals.getAxiomsIgnoreAnnotations(),
+                axiom.getAxiomWithoutAnnotations());
     }
 
     @Override
@@ -348,6 +387,10 @@ Serializable {
         if (!includeImportsClosure) {
             return containsAxiomIgnoreAnnotations(axiom);
         } else {
+            ImportsClosureIndex index = getImportsClosureIndex();
+            if (index != null) {
+                return index.containsAxiomIgnoreAnnotations(axiom);
+            }
             for (OWLOntology ont : getImportsClosure()) {
                 if (ont.containsAxiomIgnoreAnnotations(axiom)) {
                     return true;
@@ -359,18 +402,8 @@ Serializable {
 
     @Override
     public Set<OWLAxiom> getAxiomsIgnoreAnnotations(OWLAxiom axiom) {
-        Set<OWLAxiom> result = createSet();
-        if (containsAxiom(axiom)) {
-            result.add(axiom);
-        }
-        Set<OWLAxiom> set = internals.getValues(internals.getAxiomsByType(),
-                axiom.getAxiomType());
-        for (OWLAxiom ax : set) {
-            if (ax.equalsIgnoreAnnotations(axiom)) {
-                result.add(ax);
-            }
-        }
-        return result;
+        return internals.getValues(internals.getAxiomsIgnoreAnnotations(),
+                axiom.getAxiomWithoutAnnotations());
     }
 
     @Override
@@ -379,6 +412,10 @@ Serializable {
         if (!includeImportsClosure) {
             return getAxiomsIgnoreAnnotations(axiom);
         }
+        ImportsClosureIndex index = getImportsClosureIndex();
+        if (index != null) {
+            return index.getAxiomsIgnoreAnnotations(axiom);
+        }
         Set<OWLAxiom> result = createSet();
         for (OWLOntology ont : getImportsClosure()) {
             result.addAll(ont.getAxiomsIgnoreAnnotations(axiom));
@@ -710,6 +747,10 @@ Serializable {
         if (!includeImportsClosure) {
             return containsEntityInSignature(owlEntity);
         }
+        ImportsClosureIndex index = getImportsClosureIndex();
+        if (index != null) {
+            return index.containsEntityInSignature(owlEntity);
+        }
         for (OWLOntology ont : getImportsClosure()) {
             if (ont.containsEntityInSignature(owlEntity)) {
                 return true;
@@ -756,10 +797,22 @@ Serializable {
 
     @Override
     public Set<OWLAxiom> getReferencingAxioms(OWLEntity owlEntity) {
-        final ReferencedAxiomsCollector referencedAxiomsCollector = new ReferencedAxiomsCollector();
+        final ReferencedAxiomsCollector referencedAxiomsCollector = new ReferencedAxiomsCollector(
+                false);
         return owlEntity.accept(referencedAxiomsCollector);
     }
 
+    //XXX not in the interface
+    /** @param owlEntity
+     *            entity to look for
+     * @return an unmodifiable live view of the axioms referencing the entity.
+     *         Unlike getReferencingAxioms(), no copy is made: the view reflects
+     *         later changes, and must not be iterated while the ontology is
+     *         being changed. */
+    public Set<OWLAxiom> getReferencingAxiomsView(OWLEntity owlEntity) {
+        return owlEntity.accept(new ReferencedAxiomsCollector(true));
+    }
+
     @Override
     public Set<OWLAxiom> getReferencingAxioms(OWLEntity owlEntity,
             boolean includeImportsClosure) {
@@ -875,29 +928,92 @@ Serializable {
 
     @Override
     public Set<OWLEntity> getSignature() {
-        // We might want to cache this for performance reasons,
-        // but I'm not sure right now.
-        Set<OWLEntity> entities = createSet();
-        entities.addAll(getClassesInSignature());
-        entities.addAll(getObjectPropertiesInSignature());
-        entities.addAll(getDataPropertiesInSignature());
-        entities.addAll(getIndividualsInSignature());
-        entities.addAll(getDatatypesInSignature());
-        entities.addAll(getAnnotationPropertiesInSignature());
-        return entities;
+        return internals.getSignature();
     }
 
     @Override
     public Set<OWLEntity> getSignature(boolean includeImportsClosure) {
-        Set<OWLEntity> entities = getSignature();
-        if (includeImportsClosure) {
-            for (OWLOntology ont : getImportsClosure()) {
-                if (!ont.equals(this)) {
-                    entities.addAll(ont.getSignature());
+        if (!includeImportsClosure) {
+            return getSignature();
+        }
+        ImportsClosureIndex index = getImportsClosureIndex();
+        if (index != null) {
+            return index.getSignature();
+        }
+        Set<OWLOntology> closure = getImportsClosure();
+        if (closure.size() == 1) {
+            // the signature of a single ontology is cached by its internals
+            return closure.iterator().next().getSignature();
+        }
+        ImportsClosureSignature cached = importsClosureSignature;
+        if (cached != null && cached.isValid(closure)) {
+            return CollectionFactory
+                    .getCopyOnRequestSetFromImmutableCollection(cached.signature);
+        }
+        cached = new ImportsClosureSignature(closure);
+        if (cached.cacheable) {
+            importsClosureSignature = cached;
+        }
+        return CollectionFactory.getCopyOnRequestSetFromImmutableCollection(cached.signature);
+    }
+
+    /** @return the merged index for the imports closure of this ontology, or
+     *         null if the manager does not provide one */
+    private ImportsClosureIndex getImportsClosureIndex() {
+        if (manager instanceof OWLOntologyManagerImpl) {
+            return ((OWLOntologyManagerImpl) manager).getImportsClosureIndex(this);
+        }
+        return null;
+    }
+
+    //XXX not in the interface
+    /** @return a counter that changes every time the signature of this
+     *         ontology changes */
+    public int getSignatureVersion() {
+        return internals.getSignatureVersion();
+    }
+
+    /** the signature of an imports closure, together with the signature
+     * versions of the ontologies it was computed from; only used when the
+     * manager keeps no merged index for the closure, e.g., for managers of
+     * other implementations. It is valid as long as the imports closure
+     * contains the same ontologies, with the same versions; changes to imports
+     * change the closure, and changes to the signature of any ontology in the
+     * closure change its version. Ontologies of other
+     * implementations have no version, so closures containing them are not
+     * cached. */
+    private static class ImportsClosureSignature {
+        final Map<OWLOntology, Integer> versions = new IdentityHashMap<OWLOntology, Integer>();
+        final Set<OWLEntity> signature = createSet();
+        boolean cacheable = true;
+
+        ImportsClosureSignature(Set<OWLOntology> closure) {
+            for (OWLOntology ont : closure) {
+                if (ont instanceof OWLOntologyImpl) {
+                    // read the version before the signature, so that a
+                    // concurrent change can only make the cache look stale
+                    versions.put(ont, ((OWLOntologyImpl) ont).getSignatureVersion());
+                } else {
+                    cacheable = false;
                 }
+                signature.addAll(ont.getSignature());
             }
         }
-        return entities;
+
+        boolean isValid(Set<OWLOntology> closure) {
+            if (closure.size() != versions.size()) {
+                return false;
+            }
+            for (OWLOntology ont : closure) {
+                Integer version = versions.get(ont);
+                if (version == null
+                        || version.intValue() != ((OWLOntologyImpl) ont)
+                                .getSignatureVersion()) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 
     @Override
@@ -998,12 +1114,7 @@ Serializable {
 
     @Override
     public Set<OWLAnnotationProperty> getAnnotationPropertiesInSignature() {
-        Set<OWLAnnotationProperty> props = createSet(internals.getKeyset(internals
-                .getOwlAnnotationPropertyReferences()));
-        for (OWLAnnotation anno : internals.getOntologyAnnotations()) {
-            props.add(anno.getProperty());
-        }
-        return props;
+        return internals.getAnnotationPropertiesInSignature();
     }
 
     //XXX not in the interface
@@ -1299,9 +1410,60 @@ Serializable {
         } else {
             appliedChanges.addAll(applied);
         }
+        notifyImportsClosureIndexes(appliedChanges);
         return appliedChanges;
     }
 
+    /** the merged imports closure indexes of the manager must see every change,
+     * including changes applied directly to this ontology */
+    private void notifyImportsClosureIndexes(List<OWLOntologyChange> appliedChanges) {
+        if (!appliedChanges.isEmpty() && manager instanceof OWLOntologyManagerImpl) {
+            ((OWLOntologyManagerImpl) manager).importsClosureChanged(appliedChanges);
+        }
+    }
+
+    //XXX not in the interface
+    /** builds all lazily built indexes in parallel, one task per index, so that
+     * the first queries after loading do not pay for building them. The
+     * ontology should not be changed while the indexes are built, unless its
+     * internals are thread safe.
+     * 
+     * @param executor
+     *            the executor to run the tasks on; it is not shut down */
+    public void initIndexes(ExecutorService executor) {
+        internals.initIndexes(executor);
+    }
+
+    //XXX not in the interface
+    /** builds all lazily built indexes in parallel on a temporary pool with a
+     * thread per available processor
+     * 
+     * @see #initIndexes(ExecutorService) */
+    public void initIndexes() {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime
+                .getRuntime().availableProcessors());
+        try {
+            initIndexes(executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    //XXX not in the interface
+    /** adds axioms without going through the change filter one change at a
+     * time; used by the manager to load axioms in bulk
+     * 
+     * @param axioms
+     *            the axioms to add
+     * @return the axioms that were actually added, in iteration order */
+    public List<OWLAxiom> addAxioms(Collection<? extends OWLAxiom> axioms) {
+        List<OWLAxiom> added = internals.addAxioms(axioms);
+        if (!added.isEmpty() && manager instanceof OWLOntologyManagerImpl) {
+            ((OWLOntologyManagerImpl) manager).importsClosureAxiomsAdded(this, added);
+        }
+        return added;
+    }
+
     @Override
     public List<OWLOntologyChange> applyChanges(List<OWLOntologyChange> changes) {
         List<OWLOntologyChange> appliedChanges = new ArrayList<OWLOntologyChange>();
@@ -1311,49 +1473,58 @@ Serializable {
             appliedChanges.addAll(changeFilter.getAppliedChanges());
             changeFilter.reset();
         }
+        notifyImportsClosureIndexes(appliedChanges);
         return appliedChanges;
     }
 
     private final class ReferencedAxiomsCollector implements
             OWLEntityVisitorEx<Set<OWLAxiom>> {
-        public ReferencedAxiomsCollector() {}
+        private final boolean views;
+
+        /** @param views
+         *            true if live views should be returned instead of copies */
+        public ReferencedAxiomsCollector(boolean views) {
+            this.views = views;
+        }
+
+        private <K> Set<OWLAxiom> values(Internals.Pointer<K, OWLAxiom> pointer, K key) {
+            if (views) {
+                return internals.getValuesView(pointer, key);
+            }
+            return internals.getValues(pointer, key);
+        }
+
         @Override
         public Set<OWLAxiom> visit(OWLClass cls) {
-            return internals.getValues(internals.getOwlClassReferences(), cls);
+            return values(internals.getOwlClassReferences(), cls);
         }
 
         @Override
         public Set<OWLAxiom> visit(OWLObjectProperty property) {
-            return internals.getValues(internals.getOwlObjectPropertyReferences(),
-                    property);
+            return values(internals.getOwlObjectPropertyReferences(), property);
         }
 
         @Override
         public Set<OWLAxiom> visit(OWLDataProperty property) {
-            return internals
-                    .getValues(internals.getOwlDataPropertyReferences(), property);
+            return values(internals.getOwlDataPropertyReferences(), property);
         }
 
         @Override
         public Set<OWLAxiom> visit(OWLNamedIndividual individual) {
-            return internals
-                    .getValues(internals.getOwlIndividualReferences(), individual);
+            return values(internals.getOwlIndividualReferences(), individual);
         }
 
         @Override
         public Set<OWLAxiom> visit(OWLDatatype datatype) {
-            return internals.getValues(internals.getOwlDatatypeReferences(), datatype);
+            return values(internals.getOwlDatatypeReferences(), datatype);
         }
 
         @Override
         public Set<OWLAxiom> visit(OWLAnnotationProperty property) {
-            return internals.getValues(internals.getOwlAnnotationPropertyReferences(),
-                    property);
+            return values(internals.getOwlAnnotationPropertyReferences(), property);
         }
     }
 
-
-
     protected class OWLOntologyChangeFilter implements OWLOntologyChangeVisitor,
     Serializable {
 
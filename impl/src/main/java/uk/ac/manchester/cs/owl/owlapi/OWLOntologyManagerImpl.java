@@ -54,6 +54,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
@@ -131,7 +137,9 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
     protected List<OWLOntologyIRIMapper> documentMappers;
     protected List<OWLOntologyFactory> ontologyFactories;
     protected List<OWLOntologyStorer> ontologyStorers;
-    private boolean broadcastChanges;
+    private volatile boolean broadcastChanges;
+    // loadCount and importsLoadCount are guarded by this manager, since
+    // imports loaded on an executor update them concurrently
     protected int loadCount = 0;
     protected int importsLoadCount = 0;
     @Deprecated
@@ -139,6 +147,7 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
     protected final Set<IRI> importedIRIs;
     protected final OWLDataFactory dataFactory;
     protected Map<OWLOntologyID, Set<OWLOntology>> importsClosureCache;
+    protected Map<OWLOntologyID, ImportsClosureIndex> importsClosureIndexes;
     protected final OWLOntologyManagerProperties properties;
     protected List<MissingImportListener> missingImportsListeners;
     protected List<OWLOntologyLoaderListener> loaderListeners;
@@ -146,28 +155,43 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
     protected final AtomicLong autoGeneratedURICounter = new AtomicLong();
     protected OWLOntologyChangeBroadcastStrategy defaultChangeBroadcastStrategy;
     protected final ImpendingOWLOntologyChangeBroadcastStrategy defaultImpendingChangeBroadcastStrategy;
+    /** imports being loaded on the executor of a loader configuration, by IRI */
+    private final Map<IRI, ImportLoad> pendingImports = new ConcurrentHashMap<IRI, ImportLoad>();
+    /** loads in progress on the current thread that load their imports on an
+     * executor, innermost last */
+    private static final ThreadLocal<List<ImportsFrame>> importsFrames = new ThreadLocal<List<ImportsFrame>>() {
+        @Override
+        protected List<ImportsFrame> initialValue() {
+            return new ArrayList<ImportsFrame>();
+        }
+    };
+    /** import load running on the current thread, if any */
+    private static final ThreadLocal<ImportLoad> runningImport = new ThreadLocal<ImportLoad>();
 
     @SuppressWarnings("javadoc")
     public OWLOntologyManagerImpl(OWLDataFactory dataFactory) {
         this.dataFactory = dataFactory;
         properties = new OWLOntologyManagerProperties();
-        ontologiesByID = new HashMap<OWLOntologyID, OWLOntology>();
-        documentIRIsByID = new HashMap<OWLOntologyID, IRI>();
-        ontologyFormatsByOntology = new HashMap<OWLOntologyID, OWLOntologyFormat>();
+        // concurrent maps, so that imports can be registered while they are
+        // loaded on different threads
+        ontologiesByID = new ConcurrentHashMap<OWLOntologyID, OWLOntology>();
+        documentIRIsByID = new ConcurrentHashMap<OWLOntologyID, IRI>();
+        ontologyFormatsByOntology = new ConcurrentHashMap<OWLOntologyID, OWLOntologyFormat>();
         documentMappers = new ArrayList<OWLOntologyIRIMapper>();
         ontologyFactories = new ArrayList<OWLOntologyFactory>();
-        ontologyIDsByImportsDeclaration = new HashMap<OWLImportsDeclaration, OWLOntologyID>();
+        ontologyIDsByImportsDeclaration = new ConcurrentHashMap<OWLImportsDeclaration, OWLOntologyID>();
         installDefaultURIMappers();
         installDefaultOntologyFactories();
         broadcastChanges = true;
         ontologyStorers = new ArrayList<OWLOntologyStorer>();
-        importsClosureCache = new HashMap<OWLOntologyID, Set<OWLOntology>>();
+        importsClosureCache = new ConcurrentHashMap<OWLOntologyID, Set<OWLOntology>>();
+        importsClosureIndexes = new ConcurrentHashMap<OWLOntologyID, ImportsClosureIndex>();
         missingImportsListeners = new ArrayList<MissingImportListener>();
         loaderListeners = new ArrayList<OWLOntologyLoaderListener>();
         progressListeners = new ArrayList<OWLOntologyChangeProgressListener>();
         defaultChangeBroadcastStrategy = new DefaultChangeBroadcastStrategy();
         defaultImpendingChangeBroadcastStrategy = new DefaultImpendingChangeBroadcastStrategy();
-        importedIRIs = new HashSet<IRI>();
+        importedIRIs = Collections.newSetFromMap(new ConcurrentHashMap<IRI, Boolean>());
     }
 
     // XXX not in the interface
@@ -265,6 +289,7 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
 
     @Override
     public OWLOntology getOntology(IRI ontologyIRI) {
+        waitForImport(ontologyIRI);
         OWLOntologyID ontologyID = new OWLOntologyID(ontologyIRI);
         OWLOntology result = ontologiesByID.get(ontologyID);
         if (result == null) {
@@ -327,6 +352,7 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
 
     @Override
     public OWLOntology getImportedOntology(OWLImportsDeclaration declaration) {
+        waitForImport(declaration.getIRI());
         OWLOntologyID ontologyID = ontologyIDsByImportsDeclaration.get(declaration);
         if (ontologyID == null) {
             // No such ontology
@@ -392,6 +418,55 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
         return CollectionFactory.getCopyOnRequestSetFromMutableCollection(ontologies);
     }
 
+    // XXX not in the interface
+    /** @param ontology
+     *            the root of the imports closure
+     * @return a merged index over the imports closure of the ontology, built
+     *         on first request and kept up to date until the imports closure
+     *         changes; null if the ontology is not managed by this manager or
+     *         imports no ontologies, since in that case the ontology indexes
+     *         answer the same queries directly */
+    public ImportsClosureIndex getImportsClosureIndex(OWLOntology ontology) {
+        ImportsClosureIndex index = importsClosureIndexes.get(ontology.getOntologyID());
+        if (index == null) {
+            if (!contains(ontology)) {
+                return null;
+            }
+            Set<OWLOntology> closure = getImportsClosure(ontology);
+            if (closure.size() < 2) {
+                return null;
+            }
+            index = new ImportsClosureIndex(closure);
+            importsClosureIndexes.put(ontology.getOntologyID(), index);
+        }
+        return index;
+    }
+
+    /** Called by the ontologies of this manager with the changes they have
+     * applied, however the changes were applied: the closure indexes are
+     * notified directly rather than through broadcastChanges(), which is
+     * disabled while loading and is bypassed by changes applied straight to an
+     * ontology.
+     * 
+     * @param appliedChanges
+     *            the changes applied to an ontology */
+    void importsClosureChanged(List<? extends OWLOntologyChange> appliedChanges) {
+        for (ImportsClosureIndex index : importsClosureIndexes.values()) {
+            index.ontologiesChanged(appliedChanges);
+        }
+    }
+
+    /** @param ontology
+     *            the ontology the axioms were added to
+     * @param axioms
+     *            the axioms added in bulk
+     * @see #importsClosureChanged(List) */
+    void importsClosureAxiomsAdded(OWLOntology ontology, List<OWLAxiom> axioms) {
+        for (ImportsClosureIndex index : importsClosureIndexes.values()) {
+            index.axiomsAdded(ontology, axioms);
+        }
+    }
+
     /** A recursive method that gets the reflexive transitive closure of the
      * ontologies that are imported by this ontology.
      * 
@@ -501,9 +576,57 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
         for (OWLAxiom ax : axioms) {
             changes.add(new AddAxiom(ont, ax));
         }
+        if (ont instanceof OWLOntologyImpl) {
+            return addAxiomsInBulk((OWLOntologyImpl) ont, changes);
+        }
         return applyChanges(changes);
     }
 
+    /** Adds axioms to an ontology with a single pass through the change
+     * pipeline: impending changes and applied changes are broadcast once for
+     * the whole batch, and the ontology indexes all axioms in one call, which
+     * skips the per change checks for imports and ontology ID changes that do
+     * not apply to axiom additions. Indexes that are built lazily are only
+     * built when first queried.
+     * 
+     * @param ont
+     *            the ontology to add the axioms to
+     * @param changes
+     *            AddAxiom changes for the ontology
+     * @return the changes actually applied */
+    private List<OWLOntologyChange> addAxiomsInBulk(OWLOntologyImpl ont,
+            List<OWLOntologyChange> changes) {
+        try {
+            broadcastImpendingChanges(changes);
+        } catch (OWLOntologyChangeVetoException e) {
+            // Some listener blocked the changes.
+            broadcastOntologyChangesVetoed(changes, e);
+            return Collections.emptyList();
+        }
+        List<OWLAxiom> axioms = new ArrayList<OWLAxiom>(changes.size());
+        for (OWLOntologyChange change : changes) {
+            if (isChangeApplicable(change)) {
+                axioms.add(change.getAxiom());
+            }
+        }
+        fireBeginChanges(changes.size());
+        List<OWLAxiom> added = ont.addAxioms(axioms);
+        List<OWLOntologyChange> appliedChanges = new ArrayList<OWLOntologyChange>(
+                added.size());
+        // added is a subsequence of the axioms in changes, in the same order
+        int next = 0;
+        for (OWLOntologyChange change : changes) {
+            if (next < added.size() && added.get(next) == change.getAxiom()) {
+                appliedChanges.add(change);
+                next++;
+            }
+            fireChangeApplied(change);
+        }
+        fireEndChanges();
+        broadcastChanges(appliedChanges);
+        return appliedChanges;
+    }
+
     @Override
     public List<OWLOntologyChange> removeAxiom(OWLOntology ont, OWLAxiom axiom) {
         return removeAxioms(ont, Collections.singleton(axiom));
@@ -809,14 +932,26 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
             OWLOntologyDocumentSource documentSource,
             OWLOntologyLoaderConfiguration configuration)
             throws OWLOntologyCreationException {
-        if (loadCount != importsLoadCount) {
-            System.err
-                    .println("Runtime Warning: Parsers should load imported ontologies using the makeImportLoadRequest method.");
+        boolean imported;
+        synchronized (this) {
+            // imports loaded on an executor may have counted their import
+            // load but not yet their load
+            if (loadCount > importsLoadCount) {
+                System.err
+                        .println("Runtime Warning: Parsers should load imported ontologies using the makeImportLoadRequest method.");
+            }
+            imported = loadCount > 0;
+            loadCount++;
+            broadcastChanges = false;
         }
         fireStartedLoadingEvent(new OWLOntologyID(ontologyIRI),
-                documentSource.getDocumentIRI(), loadCount > 0);
-        loadCount++;
-        broadcastChanges = false;
+                documentSource.getDocumentIRI(), imported);
+        ImportsFrame importsFrame = null;
+        if (configuration.getImportsLoadingExecutor() != null) {
+            importsFrame = new ImportsFrame(this,
+                    configuration.getImportsLoadingExecutor(), runningImport.get());
+            importsFrames.get().add(importsFrame);
+        }
         OWLOntologyCreationException ex = null;
         OWLOntologyID idOfLoadedOntology = new OWLOntologyID();
         try {
@@ -828,6 +963,11 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
                         // when the ontology is created.
                         OWLOntology ontology = factory.loadOWLOntology(documentSource,
                                 this, configuration);
+                        if (importsFrame != null) {
+                            // the imports closure is complete when the load
+                            // returns
+                            awaitImports(ontology, importsFrame);
+                        }
                         idOfLoadedOntology = ontology.getOntologyID();
                         // Store the ontology to the document IRI mapping
                         documentIRIsByID.put(ontology.getOntologyID(),
@@ -845,13 +985,22 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
             ex = e;
             throw e;
         } finally {
-            loadCount--;
-            if (loadCount == 0) {
-                broadcastChanges = true;
-                // Completed loading ontology and imports
+            if (importsFrame != null) {
+                List<ImportsFrame> frames = importsFrames.get();
+                frames.remove(frames.size() - 1);
+                // if the load failed, imports still loading must not change
+                // the manager after the load has returned
+                awaitImportsQuietly(importsFrame);
+            }
+            synchronized (this) {
+                loadCount--;
+                if (loadCount == 0) {
+                    broadcastChanges = true;
+                    // Completed loading ontology and imports
+                }
             }
             fireFinishedLoadingEvent(idOfLoadedOntology, documentSource.getDocumentIRI(),
-                    loadCount > 0, ex);
+                    imported, ex);
         }
         throw new OWLOntologyFactoryNotFoundException(documentSource.getDocumentIRI());
     }
@@ -919,6 +1068,7 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
 
     protected void resetImportsClosureCache() {
         importsClosureCache.clear();
+        importsClosureIndexes.clear();
     }
 
     // /////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -1218,7 +1368,9 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
     protected OWLOntology loadImports(OWLImportsDeclaration declaration,
             OWLOntologyLoaderConfiguration configuration)
             throws OWLOntologyCreationException {
-        importsLoadCount++;
+        synchronized (this) {
+            importsLoadCount++;
+        }
         OWLOntology ont = null;
         try {
             ont = loadOntology(declaration.getIRI(), true, configuration);
@@ -1235,7 +1387,9 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
                 fireMissingImportEvent(evt);
             }
         } finally {
-            importsLoadCount--;
+            synchronized (this) {
+                importsLoadCount--;
+            }
         }
         return ont;
     }
@@ -1251,6 +1405,13 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
             OWLOntologyLoaderConfiguration configuration)
             throws UnloadableImportException {
         IRI iri = declaration.getIRI();
+        ImportsFrame frame = getImportsFrame();
+        if (frame != null) {
+            if (!configuration.isIgnoredImport(iri)) {
+                requestImportLoad(declaration, configuration, frame);
+            }
+            return;
+        }
         if (!configuration.isIgnoredImport(iri) && !importedIRIs.contains(iri)) {
             importedIRIs.add(iri);
                 try {
@@ -1266,6 +1427,223 @@ public class OWLOntologyManagerImpl implements OWLOntologyManager,
             }
         }
 
+    /** @return the innermost load on this thread that loads its imports on an
+     *         executor, if it belongs to this manager */
+    private ImportsFrame getImportsFrame() {
+        List<ImportsFrame> frames = importsFrames.get();
+        if (frames.isEmpty()) {
+            return null;
+        }
+        ImportsFrame frame = frames.get(frames.size() - 1);
+        return frame.manager == this ? frame : null;
+    }
+
+    private void requestImportLoad(OWLImportsDeclaration declaration,
+            OWLOntologyLoaderConfiguration configuration, ImportsFrame frame) {
+        ImportLoad load;
+        synchronized (pendingImports) {
+            if (!importedIRIs.add(declaration.getIRI())) {
+                // loaded, or being loaded for another ontology
+                return;
+            }
+            load = new ImportLoad(declaration, configuration, frame);
+            pendingImports.put(declaration.getIRI(), load);
+            frame.imports.add(load);
+        }
+        try {
+            frame.executor.execute(load);
+        } catch (RejectedExecutionException e) {
+            // the import is loaded on this thread when the importing
+            // ontology has been parsed
+        }
+    }
+
+    /** Waits for the imports requested while the ontology was parsed, in the
+     * order in which they were requested.
+     * 
+     * @param ontology
+     *            the importing ontology
+     * @param frame
+     *            the imports of the ontology
+     * @throws OWLOntologyCreationException
+     *             if an import could not be loaded; as in sequential loading,
+     *             the importing ontology is removed */
+    private void awaitImports(OWLOntology ontology, ImportsFrame frame)
+            throws OWLOntologyCreationException {
+        UnloadableImportException failure = null;
+        for (ImportLoad load = frame.next(); load != null; load = frame.next()) {
+            try {
+                load.await();
+            } catch (OWLOntologyCreationException e) {
+                if (failure == null) {
+                    failure = new UnloadableImportException(e, load.declaration);
+                }
+            }
+        }
+        if (failure != null) {
+            removeOntology(ontology);
+            throw failure;
+        }
+    }
+
+    private void awaitImportsQuietly(ImportsFrame frame) {
+        for (ImportLoad load = frame.next(); load != null; load = frame.next()) {
+            try {
+                load.await();
+            } catch (OWLOntologyCreationException e) {
+                // the load of the importing ontology failed already
+            } catch (RuntimeException e) {
+                // the load of the importing ontology failed already
+            }
+        }
+    }
+
+    /** Waits for the import of an IRI, if it is being loaded on an executor.
+     * Parsers which use an imported ontology while parsing get here after
+     * requesting the import.
+     * 
+     * @param iri
+     *            the IRI of the import */
+    private void waitForImport(IRI iri) {
+        if (iri == null || pendingImports.isEmpty()) {
+            return;
+        }
+        ImportLoad load = pendingImports.get(iri);
+        if (load != null) {
+            try {
+                load.await();
+            } catch (OWLOntologyCreationException e) {
+                // reported by the load of the importing ontology
+            }
+        }
+    }
+
+    /** A load in progress whose imports are loaded on an executor. Imports can
+     * be added while the frame waits for them, when a cycle is broken, so they
+     * are read one at a time; guarded by pendingImports of the manager. */
+    private static class ImportsFrame {
+        final OWLOntologyManagerImpl manager;
+        final Executor executor;
+        /** the import load this frame belongs to, null for the outermost load */
+        final ImportLoad load;
+        final List<ImportLoad> imports = new ArrayList<ImportLoad>();
+        private int next = 0;
+
+        ImportsFrame(OWLOntologyManagerImpl manager, Executor executor, ImportLoad load) {
+            this.manager = manager;
+            this.executor = executor;
+            this.load = load;
+        }
+
+        /** @return the next import to wait for, or null if all imports have
+         *         been waited for */
+        ImportLoad next() {
+            synchronized (manager.pendingImports) {
+                if (next < imports.size()) {
+                    return imports.get(next++);
+                }
+                imports.clear();
+                next = 0;
+                return null;
+            }
+        }
+    }
+
+    /** An import loaded on an executor. A thread that needs the import before
+     * a thread of the executor has started loading it loads it itself, so
+     * loads never wait for loads that are queued behind them. */
+    private class ImportLoad implements Runnable, Callable<OWLOntology> {
+        final OWLImportsDeclaration declaration;
+        private final OWLOntologyLoaderConfiguration configuration;
+        private final FutureTask<OWLOntology> task = new FutureTask<OWLOntology>(this);
+        /** the load the thread running this load waits for; guarded by
+         * pendingImports */
+        ImportLoad waitingFor;
+        /** the frame that waits for this load; guarded by pendingImports */
+        ImportsFrame owner;
+
+        ImportLoad(OWLImportsDeclaration declaration,
+                OWLOntologyLoaderConfiguration configuration, ImportsFrame owner) {
+            this.declaration = declaration;
+            this.configuration = configuration;
+            this.owner = owner;
+        }
+
+        @Override
+        public void run() {
+            // does nothing if the load has started already
+            task.run();
+        }
+
+        @Override
+        public OWLOntology call() throws OWLOntologyCreationException {
+            ImportLoad outer = runningImport.get();
+            runningImport.set(this);
+            try {
+                OWLOntology ont = loadImports(declaration, configuration);
+                if (ont != null) {
+                    ontologyIDsByImportsDeclaration.put(declaration,
+                            ont.getOntologyID());
+                }
+                return ont;
+            } finally {
+                runningImport.set(outer);
+                pendingImports.remove(declaration.getIRI());
+            }
+        }
+
+        OWLOntology await() throws OWLOntologyCreationException {
+            ImportLoad current = runningImport.get();
+            if (current != null) {
+                synchronized (pendingImports) {
+                    for (ImportLoad l = this; l != null; l = l.waitingFor) {
+                        if (l == current) {
+                            // this load waits for the current one: the
+                            // imports are cyclic, and as in sequential
+                            // loading the cycle is not followed. If the
+                            // frame skipping this load is the one waiting
+                            // for it, the frame waiting for the current
+                            // load waits for it instead, so that the
+                            // outermost load still returns only when the
+                            // whole imports closure has been loaded
+                            if (owner.load == current) {
+                                owner = current.owner;
+                                owner.imports.add(this);
+                            }
+                            return null;
+                        }
+                    }
+                    current.waitingFor = this;
+                }
+            }
+            try {
+                run();
+                return task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OWLOntologyCreationException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof OWLOntologyCreationException) {
+                    throw (OWLOntologyCreationException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new OWLOntologyCreationException(cause);
+            } finally {
+                if (current != null) {
+                    synchronized (pendingImports) {
+                        current.waitingFor = null;
+                    }
+                }
+            }
+        }
+    }
+
 
     @Override
     public void setSilentMissingImportsHandling(boolean b) {
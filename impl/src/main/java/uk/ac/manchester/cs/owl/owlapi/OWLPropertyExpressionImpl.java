@@ -207,6 +207,9 @@ public abstract class OWLPropertyExpressionImpl<R extends OWLPropertyRange, P ex
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             return obj instanceof OWLPropertyExpression;
         }
@@ -76,6 +76,9 @@ public abstract class OWLPropertyRangeAxiomImpl<P extends OWLPropertyExpression<
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLPropertyRangeAxiom)) {
                 return false;
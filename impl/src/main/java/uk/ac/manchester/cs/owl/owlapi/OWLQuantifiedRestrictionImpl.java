@@ -72,6 +72,9 @@ public abstract class OWLQuantifiedRestrictionImpl<R extends OWLPropertyRange, P
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (obj instanceof OWLQuantifiedRestriction) {
                 return ((OWLQuantifiedRestriction<?,?,?>) obj).getFiller().equals(filler);
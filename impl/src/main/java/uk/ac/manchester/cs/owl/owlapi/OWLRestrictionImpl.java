@@ -78,6 +78,9 @@ public abstract class OWLRestrictionImpl<R extends OWLPropertyRange, P extends O
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLRestriction)) {
                 return false;
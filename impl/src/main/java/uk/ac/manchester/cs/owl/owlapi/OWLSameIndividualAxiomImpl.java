@@ -65,10 +65,17 @@ import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 public class OWLSameIndividualAxiomImpl extends OWLNaryIndividualAxiomImpl implements OWLSameIndividualAxiom {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	@SuppressWarnings("javadoc")
     public OWLSameIndividualAxiomImpl(Set<? extends OWLIndividual> individuals, Set<? extends OWLAnnotation> annotations) {
         super(individuals, annotations);
+        hashcode = withAnnotations(hash(137, this.individuals));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -130,6 +137,9 @@ public class OWLSameIndividualAxiomImpl extends OWLNaryIndividualAxiomImpl imple
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLSameIndividualAxiom;
     }
 
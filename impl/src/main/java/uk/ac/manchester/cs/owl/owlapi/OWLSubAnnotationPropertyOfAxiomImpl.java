@@ -62,6 +62,7 @@ public class OWLSubAnnotationPropertyOfAxiomImpl extends OWLAxiomImpl implements
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	private final OWLAnnotationProperty subProperty;
 
@@ -72,6 +73,12 @@ public class OWLSubAnnotationPropertyOfAxiomImpl extends OWLAxiomImpl implements
         super(annotations);
         this.subProperty = subProperty;
         this.superProperty = superProperty;
+        hashcode = withAnnotations(hash(829, subProperty, superProperty));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -152,6 +159,9 @@ public class OWLSubAnnotationPropertyOfAxiomImpl extends OWLAxiomImpl implements
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
     	if(super.equals(obj)) {
     		// superclass is responsible for null, identity, owlaxiom type and annotations
     		if (!(obj instanceof OWLSubAnnotationPropertyOfAxiom)) {
@@ -64,6 +64,7 @@ public class OWLSubClassOfAxiomImpl extends OWLClassAxiomImpl implements OWLSubC
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	private final OWLClassExpression subClass;
 
@@ -74,6 +75,12 @@ public class OWLSubClassOfAxiomImpl extends OWLClassAxiomImpl implements OWLSubC
         super(annotations);
         this.subClass = subClass;
         this.superClass = superClass;
+        hashcode = withAnnotations(hash(139, subClass, superClass));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     //XXX not in the interface
@@ -135,6 +142,9 @@ public class OWLSubClassOfAxiomImpl extends OWLClassAxiomImpl implements OWLSubC
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
     	if (!(obj instanceof OWLSubClassOfAxiom)) {
             return false;
         }
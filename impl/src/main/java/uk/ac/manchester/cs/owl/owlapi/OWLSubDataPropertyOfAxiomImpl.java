@@ -61,11 +61,18 @@ import org.semanticweb.owlapi.model.OWLSubDataPropertyOfAxiom;
 public class OWLSubDataPropertyOfAxiomImpl extends OWLSubPropertyAxiomImpl<OWLDataPropertyExpression> implements OWLSubDataPropertyOfAxiom {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 
 	@SuppressWarnings("javadoc")
     public OWLSubDataPropertyOfAxiomImpl(OWLDataPropertyExpression subProperty, OWLDataPropertyExpression superProperty, Collection<? extends OWLAnnotation> annotations) {
         super(subProperty, superProperty, annotations);
+        hashcode = withAnnotations(hash(19, subProperty, superProperty));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
 
@@ -84,6 +91,9 @@ public class OWLSubDataPropertyOfAxiomImpl extends OWLSubPropertyAxiomImpl<OWLDa
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLSubDataPropertyOfAxiom;
     }
 
@@ -85,6 +85,9 @@ public abstract class OWLSubPropertyAxiomImpl<P extends OWLPropertyExpression<?,
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLSubPropertyAxiom)) {
                 return false;
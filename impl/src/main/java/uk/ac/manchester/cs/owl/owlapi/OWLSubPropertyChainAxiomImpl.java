@@ -65,6 +65,7 @@ public class OWLSubPropertyChainAxiomImpl extends OWLPropertyAxiomImpl implement
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	private final List<OWLObjectPropertyExpression> propertyChain;
 
@@ -75,6 +76,12 @@ public class OWLSubPropertyChainAxiomImpl extends OWLPropertyAxiomImpl implement
         super(annotations);
         this.propertyChain = new ArrayList<OWLObjectPropertyExpression>(propertyChain);
         this.superProperty = superProperty;
+        hashcode = withAnnotations(hash(107, this.propertyChain, superProperty));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -137,6 +144,9 @@ public class OWLSubPropertyChainAxiomImpl extends OWLPropertyAxiomImpl implement
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (!super.equals(obj)) {
             return false;
         }
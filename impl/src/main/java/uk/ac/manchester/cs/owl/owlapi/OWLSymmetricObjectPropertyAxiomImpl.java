@@ -63,10 +63,17 @@ import org.semanticweb.owlapi.model.OWLSymmetricObjectPropertyAxiom;
 public class OWLSymmetricObjectPropertyAxiomImpl extends OWLObjectPropertyCharacteristicAxiomImpl implements OWLSymmetricObjectPropertyAxiom {
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	@SuppressWarnings("javadoc")
     public OWLSymmetricObjectPropertyAxiomImpl(OWLObjectPropertyExpression property, Collection<? extends OWLAnnotation> annotations) {
         super(property, annotations);
+        hashcode = withAnnotations(hash(149, property));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
 
@@ -93,6 +100,9 @@ public class OWLSymmetricObjectPropertyAxiomImpl extends OWLObjectPropertyCharac
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         return super.equals(obj) && obj instanceof OWLSymmetricObjectPropertyAxiom;
     }
 
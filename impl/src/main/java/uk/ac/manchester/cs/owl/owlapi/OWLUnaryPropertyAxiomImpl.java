@@ -74,6 +74,9 @@ public abstract class OWLUnaryPropertyAxiomImpl<P extends OWLPropertyExpression<
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLUnaryPropertyAxiom)) {
                 return false;
@@ -75,6 +75,9 @@ public abstract class OWLValueRestrictionImpl<R extends OWLPropertyRange, P exte
 
     @Override
 	public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof OWLHasValueRestriction<?, ?, ?>)) {
                 return false;
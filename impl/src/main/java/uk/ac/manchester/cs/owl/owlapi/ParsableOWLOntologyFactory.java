@@ -52,12 +52,15 @@ import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
 
+import org.semanticweb.owlapi.io.DocumentStart;
 import org.semanticweb.owlapi.io.OWLOntologyCreationIOException;
 import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
 import org.semanticweb.owlapi.io.OWLParser;
 import org.semanticweb.owlapi.io.OWLParserException;
 import org.semanticweb.owlapi.io.OWLParserFactory;
 import org.semanticweb.owlapi.io.OWLParserFactoryRegistry;
+import org.semanticweb.owlapi.io.SniffingOWLParserFactory;
+import org.semanticweb.owlapi.io.StreamingDocumentSource;
 import org.semanticweb.owlapi.io.UnparsableOntologyException;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLOntology;
@@ -88,6 +91,16 @@ public class ParsableOWLOntologyFactory extends AbstractInMemOWLOntologyFactory
 
     /** Creates an ontology factory. */
     public ParsableOWLOntologyFactory() {
+        this(false);
+    }
+
+    /** Creates an ontology factory.
+     * 
+     * @param concurrent
+     *            true if the ontologies created should be safe to query and
+     *            change from multiple threads */
+    public ParsableOWLOntologyFactory(boolean concurrent) {
+        super(concurrent);
         parsableSchemes = new HashSet<String>();
         parsableSchemes.add("http");
         parsableSchemes.add("https");
@@ -112,6 +125,34 @@ public class ParsableOWLOntologyFactory extends AbstractInMemOWLOntologyFactory
         return new ArrayList<OWLParser>(parsers);
     }
 
+    /** @param documentSource
+     *            the document to parse
+     * @return the parsers that this factory uses to parse the document; parsers
+     *         that recognise the start of the document, or its extension if
+     *         the content cannot be read, come first, followed by all other
+     *         parsers */
+    @SuppressWarnings("deprecation")
+    // XXX not in the interface
+    public List<OWLParser> getParsers(OWLOntologyDocumentSource documentSource) {
+        DocumentStart start = DocumentStart.read(documentSource);
+        List<OWLParser> recognised = new ArrayList<OWLParser>();
+        List<OWLParser> others = new ArrayList<OWLParser>();
+        List<OWLParserFactory> factories = OWLParserFactoryRegistry.getInstance()
+                .getParserFactories();
+        for (OWLParserFactory factory : factories) {
+            OWLParser parser = factory.createParser(getOWLOntologyManager());
+            parser.setOWLOntologyManager(getOWLOntologyManager());
+            if (factory instanceof SniffingOWLParserFactory
+                    && ((SniffingOWLParserFactory) factory).recognises(start)) {
+                recognised.add(parser);
+            } else {
+                others.add(parser);
+            }
+        }
+        recognised.addAll(others);
+        return recognised;
+    }
+
     /** Overriden - We don't create new empty ontologies - this isn't our
      * responsibility
      * 
@@ -176,12 +217,9 @@ public class ParsableOWLOntologyFactory extends AbstractInMemOWLOntologyFactory
             throws OWLOntologyCreationException {
         // Attempt to parse the ontology by looping through the parsers. If the
         // ontology is parsed successfully then we break out and return the
-        // ontology.
-        // I think that this is more reliable than selecting a parser based on a
-        // file extension
-        // for example (perhaps the parser list could be ordered based on most
-        // likely parser, which
-        // could be determined by file extension).
+        // ontology. Parsers that recognise the start of the document are tried
+        // first, so that in most cases the first parser succeeds; the others
+        // are only tried if those fail or if no parser recognises the document.
         Map<OWLParser, OWLParserException> exceptions = new LinkedHashMap<OWLParser, OWLParserException>();
         // Call the super method to create the ontology - this is needed,
         // because
@@ -195,7 +233,7 @@ public class ParsableOWLOntologyFactory extends AbstractInMemOWLOntologyFactory
         OWLOntology ont = super.createOWLOntology(ontologyID,
                 documentSource.getDocumentIRI(), mediator);
         // Now parse the input into the empty ontology that we created
-        for (final OWLParser parser : getParsers()) {
+        for (final OWLParser parser : getParsers(documentSource)) {
             try {
                 if (existingOntology == null && !ont.isEmpty()) {
                     // Junk from a previous parse. We should clear the ont
@@ -219,6 +257,11 @@ public class ParsableOWLOntologyFactory extends AbstractInMemOWLOntologyFactory
             } catch (OWLParserException e) {
                 // Record this attempts and continue trying to parse.
                 exceptions.put(parser, e);
+                if (documentSource instanceof StreamingDocumentSource) {
+                    // the document has been consumed; no other parser can
+                    // read it
+                    break;
+                }
             } catch (RuntimeException e) {
                 // Clean up and rethrow
                 getOWLOntologyManager().removeOntology(ont);
@@ -65,6 +65,7 @@ public class SWRLBuiltInAtomImpl extends SWRLAtomImpl implements SWRLBuiltInAtom
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 	private final List<SWRLDArgument> args;
 
 
@@ -72,6 +73,12 @@ public class SWRLBuiltInAtomImpl extends SWRLAtomImpl implements SWRLBuiltInAtom
 	public SWRLBuiltInAtomImpl(IRI predicate, List<SWRLDArgument> args) {
         super(predicate);
         this.args = new ArrayList<SWRLDArgument>(args);
+        hashcode = hash(659, this.args, predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
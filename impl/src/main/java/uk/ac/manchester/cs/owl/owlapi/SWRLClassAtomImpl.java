@@ -59,10 +59,17 @@ public class SWRLClassAtomImpl extends SWRLUnaryAtomImpl<SWRLIArgument> implemen
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	@SuppressWarnings("javadoc")
 	public SWRLClassAtomImpl(OWLClassExpression predicate, SWRLIArgument arg) {
         super(predicate, arg);
+        hashcode = hash(641, arg, predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
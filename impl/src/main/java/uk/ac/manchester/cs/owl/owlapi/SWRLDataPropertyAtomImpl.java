@@ -59,10 +59,17 @@ public class SWRLDataPropertyAtomImpl extends SWRLBinaryAtomImpl<SWRLIArgument,
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	@SuppressWarnings("javadoc")
 	public SWRLDataPropertyAtomImpl(OWLDataPropertyExpression predicate, SWRLIArgument arg0, SWRLDArgument arg1) {
         super(predicate, arg0, arg1);
+        hashcode = hash(653, arg0, arg1, predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -59,10 +59,17 @@ public class SWRLDataRangeAtomImpl extends SWRLUnaryAtomImpl<SWRLDArgument> impl
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
 	@SuppressWarnings("javadoc")
 	public SWRLDataRangeAtomImpl(OWLDataRange predicate, SWRLDArgument arg) {
         super(predicate, arg);
+        hashcode = hash(643, arg, predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -58,6 +58,7 @@ public class SWRLIndividualArgumentImpl extends OWLObjectImpl implements SWRLInd
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 	private final OWLIndividual individual;
 
 
@@ -65,6 +66,12 @@ public class SWRLIndividualArgumentImpl extends OWLObjectImpl implements SWRLInd
 	public SWRLIndividualArgumentImpl(OWLIndividual individual) {
         super();
         this.individual = individual;
+        hashcode = hash(677, individual);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
 
@@ -58,12 +58,19 @@ public class SWRLLiteralArgumentImpl extends OWLObjectImpl implements SWRLLitera
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
     private final OWLLiteral literal;
 
     @SuppressWarnings("javadoc")
 	public SWRLLiteralArgumentImpl(OWLLiteral literal) {
         super();
         this.literal = literal;
+        hashcode = hash(683, literal);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
 
@@ -58,10 +58,17 @@ public class SWRLObjectPropertyAtomImpl extends SWRLBinaryAtomImpl<SWRLIArgument
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
     @SuppressWarnings("javadoc")
 	public SWRLObjectPropertyAtomImpl(OWLObjectPropertyExpression predicate, SWRLIArgument arg0, SWRLIArgument arg1) {
         super(predicate, arg0, arg1);
+        hashcode = hash(647, arg0, arg1, predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
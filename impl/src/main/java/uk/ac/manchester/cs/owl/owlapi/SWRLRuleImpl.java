@@ -42,7 +42,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.TreeSet;
 
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.OWLAnnotation;
@@ -78,8 +77,9 @@ import org.semanticweb.owlapi.util.SWRLVariableExtractor;
  * <br> */
 public class SWRLRuleImpl extends OWLLogicalAxiomImpl implements SWRLRule {
     private static final long serialVersionUID = 30402L;
-    private final Set<SWRLAtom> head;
-    private final Set<SWRLAtom> body;
+    private final int hashcode;
+    private final SortedArraySet<SWRLAtom> head;
+    private final SortedArraySet<SWRLAtom> body;
     private Set<SWRLVariable> variables;
     private Boolean containsAnonymousClassExpressions = null;
     private Set<OWLClassExpression> classAtomsPredicates;
@@ -88,8 +88,14 @@ public class SWRLRuleImpl extends OWLLogicalAxiomImpl implements SWRLRule {
     public SWRLRuleImpl(Set<? extends SWRLAtom> body, Set<? extends SWRLAtom> head,
             Collection<? extends OWLAnnotation> annotations) {
         super(annotations);
-        this.head = new TreeSet<SWRLAtom>(head);
-        this.body = new TreeSet<SWRLAtom>(body);
+        this.head = SortedArraySet.create(head);
+        this.body = SortedArraySet.create(body);
+        hashcode = withAnnotations(hash(631, this.body, this.head));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -221,6 +227,9 @@ public class SWRLRuleImpl extends OWLLogicalAxiomImpl implements SWRLRule {
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (super.equals(obj)) {
             if (!(obj instanceof SWRLRule)) {
                 return false;
@@ -238,10 +247,18 @@ public class SWRLRuleImpl extends OWLLogicalAxiomImpl implements SWRLRule {
 
     @Override
     protected int compareObjectOfSameType(OWLObject object) {
+        if (object instanceof SWRLRuleImpl) {
+            SWRLRuleImpl other = (SWRLRuleImpl) object;
+            int diff = compareSets(body, other.body);
+            if (diff == 0) {
+                diff = compareSets(head, other.head);
+            }
+            return diff;
+        }
         SWRLRule other = (SWRLRule) object;
-        int diff = compareSets(getBody(), other.getBody());
+        int diff = compareSets(body, other.getBody());
         if (diff == 0) {
-            diff = compareSets(getHead(), other.getHead());
+            diff = compareSets(head, other.getHead());
         }
         return diff;
     }
@@ -59,10 +59,17 @@ public class SWRLSameIndividualAtomImpl extends SWRLBinaryAtomImpl<SWRLIArgument
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
 
     @SuppressWarnings("javadoc")
 	public SWRLSameIndividualAtomImpl(OWLDataFactory dataFactory,SWRLIArgument arg0, SWRLIArgument arg1) {
         super(dataFactory.getOWLObjectProperty(OWLRDFVocabulary.OWL_SAME_AS.getIRI()), arg0, arg1);
+        hashcode = hash(811, arg0, arg1);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
 
@@ -57,12 +57,19 @@ public class SWRLVariableImpl extends OWLObjectImpl implements SWRLVariable {
 
 
 	private static final long serialVersionUID = 30402L;
+	private final int hashcode;
     private final IRI iri;
 
 
     protected SWRLVariableImpl(IRI iri) {
         super();
         this.iri = iri;
+        hashcode = hash(661, iri);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashcode;
     }
 
     @Override
@@ -0,0 +1,411 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedSet;
+
+import org.semanticweb.owlapi.model.OWLObject;
+
+/** An immutable sorted set of OWL objects backed by a plain array, used for the
+ * operands of n-ary objects and for axiom annotations. Elements are kept in
+ * their natural order with duplicates removed, as a {@code TreeSet} would, but
+ * the set costs one array instead of a node per element; {@code contains} is a
+ * binary search, and {@link #get(int)} allows iterating without creating an
+ * iterator. All mutators throw {@code UnsupportedOperationException}.
+ * 
+ * @author ignazio
+ * @param <E>
+ *            the element type */
+public final class SortedArraySet<E extends OWLObject> extends AbstractSet<E> implements
+        SortedSet<E>, Serializable {
+    private static final long serialVersionUID = 30402L;
+    private static final Object[] NO_ELEMENTS = new Object[0];
+    @SuppressWarnings("rawtypes")
+    private static final SortedArraySet EMPTY = new SortedArraySet<OWLObject>(NO_ELEMENTS);
+    private final Object[] elements;
+
+    private SortedArraySet(Object[] elements) {
+        this.elements = elements;
+    }
+
+    /** @return the empty set */
+    @SuppressWarnings("unchecked")
+    public static <E extends OWLObject> SortedArraySet<E> emptySet() {
+        return EMPTY;
+    }
+
+    /** @param source
+     *            the elements; a SortedArraySet is shared rather than copied
+     * @return a sorted array set containing the elements of source */
+    @SuppressWarnings("unchecked")
+    public static <E extends OWLObject> SortedArraySet<E> create(
+            Collection<? extends E> source) {
+        if (source instanceof SortedArraySet) {
+            return (SortedArraySet<E>) source;
+        }
+        if (source.isEmpty()) {
+            return EMPTY;
+        }
+        Object[] array = source.toArray();
+        for (Object o : array) {
+            if (o == null) {
+                throw new NullPointerException("Set elements cannot be null");
+            }
+        }
+        if (!(source instanceof SortedSet && ((SortedSet<?>) source).comparator() == null)) {
+            Arrays.sort(array);
+        }
+        return new SortedArraySet<E>(removeDuplicates(array));
+    }
+
+    /** @param first
+     *            first element
+     * @param second
+     *            second element
+     * @return a sorted array set containing the two elements, or one if they
+     *         are equal */
+    public static <E extends OWLObject> SortedArraySet<E> create(E first, E second) {
+        int diff = first.compareTo(second);
+        if (diff == 0) {
+            return new SortedArraySet<E>(new Object[] { first });
+        }
+        if (diff < 0) {
+            return new SortedArraySet<E>(new Object[] { first, second });
+        }
+        return new SortedArraySet<E>(new Object[] { second, first });
+    }
+
+    /** removes adjacent elements that compare as equal, in place
+     * 
+     * @return the array itself, or a shorter copy */
+    private static Object[] removeDuplicates(Object[] sorted) {
+        int size = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (compare(sorted[size - 1], sorted[i]) != 0) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        if (size == sorted.length) {
+            return sorted;
+        }
+        return Arrays.copyOf(sorted, size);
+    }
+
+    private static int compare(Object o1, Object o2) {
+        return ((OWLObject) o1).compareTo((OWLObject) o2);
+    }
+
+    /** @param o
+     *            the object to look for
+     * @return the index of o, or (-(insertion point) - 1) if o is not in the
+     *         set */
+    private int indexOf(Object o) {
+        return indexOf(elements, 0, elements.length, o);
+    }
+
+    private static int indexOf(Object[] elements, int from, int to, Object o) {
+        int low = from;
+        int high = to - 1;
+        while (low <= high) {
+            int mid = low + high >>> 1;
+            int diff = compare(elements[mid], o);
+            if (diff < 0) {
+                low = mid + 1;
+            } else if (diff > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /** @param from
+     *            first index, inclusive
+     * @param to
+     *            last index, exclusive
+     * @return an immutable view of the elements between the two indexes; the
+     *         backing array is shared rather than copied */
+    public Set<E> view(int from, int to) {
+        if (from == 0 && to == elements.length) {
+            return this;
+        }
+        if (from >= to) {
+            return emptySet();
+        }
+        return new RangeView<E>(elements, from, to);
+    }
+
+    /** @param index
+     *            the position
+     * @return the element at the specified position in sorted order */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elements.length == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof OWLObject) || elements.length == 0) {
+            return false;
+        }
+        try {
+            return indexOf(o) >= 0;
+        } catch (ClassCastException e) {
+            // not comparable with the elements of this set
+            return false;
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public E next() {
+                if (next >= elements.length) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[next++];
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("SortedArraySet is immutable");
+            }
+        };
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements.clone();
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException("SortedArraySet is immutable");
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException("SortedArraySet is immutable");
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException("SortedArraySet is immutable");
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException("SortedArraySet is immutable");
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException("SortedArraySet is immutable");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("SortedArraySet is immutable");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof SortedArraySet) {
+            return Arrays.equals(elements, ((SortedArraySet<?>) o).elements);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int i = 0; i < elements.length; i++) {
+            hashCode += elements[i].hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public Comparator<? super E> comparator() {
+        // natural ordering
+        return null;
+    }
+
+    @Override
+    public E first() {
+        if (elements.length == 0) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    @Override
+    public E last() {
+        if (elements.length == 0) {
+            throw new NoSuchElementException();
+        }
+        return get(elements.length - 1);
+    }
+
+    @Override
+    public SortedSet<E> subSet(E fromElement, E toElement) {
+        if (compare(fromElement, toElement) > 0) {
+            throw new IllegalArgumentException("fromElement > toElement");
+        }
+        return range(start(fromElement), start(toElement));
+    }
+
+    @Override
+    public SortedSet<E> headSet(E toElement) {
+        return range(0, start(toElement));
+    }
+
+    @Override
+    public SortedSet<E> tailSet(E fromElement) {
+        return range(start(fromElement), elements.length);
+    }
+
+    /** @return the index of the first element not smaller than o */
+    private int start(Object o) {
+        int index = indexOf(o);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    /** subsets are copies: this set cannot change, so they are
+     * indistinguishable from views */
+    private SortedSet<E> range(int from, int to) {
+        if (from == 0 && to == elements.length) {
+            return this;
+        }
+        if (from >= to) {
+            return emptySet();
+        }
+        return new SortedArraySet<E>(Arrays.copyOfRange(elements, from, to));
+    }
+
+    /** a read only view of a range of a SortedArraySet, see
+     * {@link SortedArraySet#view(int, int)} */
+    private static final class RangeView<E> extends AbstractSet<E> {
+        private final Object[] elements;
+        private final int from;
+        private final int to;
+
+        RangeView(Object[] elements, int from, int to) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof OWLObject)) {
+                return false;
+            }
+            try {
+                return indexOf(elements, from, to, o) >= 0;
+            } catch (ClassCastException e) {
+                // not comparable with the elements of this set
+                return false;
+            }
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<E>() {
+                private int next = from;
+
+                @Override
+                public boolean hasNext() {
+                    return next < to;
+                }
+
+                @SuppressWarnings("unchecked")
+                @Override
+                public E next() {
+                    if (next >= to) {
+                        throw new NoSuchElementException();
+                    }
+                    return (E) elements[next++];
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException("SortedArraySet is immutable");
+                }
+            };
+        }
+    }
+}
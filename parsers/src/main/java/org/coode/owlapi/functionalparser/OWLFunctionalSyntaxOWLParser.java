@@ -41,6 +41,7 @@ package org.coode.owlapi.functionalparser;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 
 import org.semanticweb.owlapi.io.AbstractOWLParser;
@@ -71,6 +72,16 @@ public class OWLFunctionalSyntaxOWLParser extends AbstractOWLParser {
         Reader reader = null;
         InputStream is = null;
         try {
+            if(configuration.getParsingThreads() > 1) {
+                if(documentSource.isReaderAvailable()) {
+                    reader = documentSource.getReader();
+                }
+                else {
+                    is = documentSource.isInputStreamAvailable() ? documentSource.getInputStream() : getInputStream(documentSource.getDocumentIRI(), configuration);
+                    reader = new InputStreamReader(is, "UTF-8");
+                }
+                return new ParallelOWLFunctionalSyntaxParser(configuration.getParsingThreads()).parse(reader, ontology, configuration);
+            }
             OWLFunctionalSyntaxParser parser;
             if(documentSource.isReaderAvailable()) {
                 reader = documentSource.getReader();
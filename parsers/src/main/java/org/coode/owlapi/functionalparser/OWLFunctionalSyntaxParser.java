@@ -9,8 +9,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.semanticweb.owlapi.io.BufferedAxiomSink;
 import org.semanticweb.owlapi.io.OWLFunctionalSyntaxOntologyFormat;
-import org.semanticweb.owlapi.model.AddAxiom;
 import org.semanticweb.owlapi.model.AddImport;
 import org.semanticweb.owlapi.model.AddOntologyAnnotation;
 import org.semanticweb.owlapi.model.IRI;
@@ -94,6 +94,8 @@ public class OWLFunctionalSyntaxParser implements OWLFunctionalSyntaxParserConst
 
     private Set<OWLAnnotation> currentAnnotations;
 
+    private BufferedAxiomSink axiomSink;
+
     @Deprecated
     public void setUp(OWLOntologyManager man, OWLOntology ontology, OWLOntologyLoaderConfiguration configuration) {
         setUp(ontology, configuration);
@@ -105,6 +107,7 @@ public class OWLFunctionalSyntaxParser implements OWLFunctionalSyntaxParserConst
         this.configuration = configuration;
         dataFactory = man.getOWLDataFactory();
         currentAnnotations = new HashSet<OWLAnnotation>();
+        axiomSink = new BufferedAxiomSink(ontology, configuration);
         if(prefixMap == null) {
             prefixMap = new HashMap<String, String>();
             prefixMap.put("owl:", Namespaces.OWL.toString());
@@ -152,8 +155,7 @@ public class OWLFunctionalSyntaxParser implements OWLFunctionalSyntaxParserConst
 
     protected void addAxiom(OWLAxiom ax) {
         if (!(ax instanceof OWLAnnotationAxiom) || configuration.isLoadAnnotationAxioms()) {
-            AddAxiom addAxiom = new AddAxiom(ontology, ax);
-            applyChange(addAxiom);
+            axiomSink.add(ax);
         }
     }
 
@@ -164,6 +166,12 @@ public class OWLFunctionalSyntaxParser implements OWLFunctionalSyntaxParserConst
         prefixMap.putAll(nsm.getPrefixName2PrefixMap());
     }
 
+    /** Replaces the cache of parsed IRIs; parsers working on parts of the same
+     * document can share a concurrent map. Call after setUp(). */
+    public void setIRICache(Map<String, IRI> cache) {
+        string2IRI = cache;
+    }
+
     final public OWLFunctionalSyntaxOntologyFormat parse() throws ParseException,
             UnloadableImportException {
         label_1:
@@ -230,6 +238,29 @@ public class OWLFunctionalSyntaxParser implements OWLFunctionalSyntaxParserConst
                 currentAnnotations.clear();
             }
             jj_consume_token(CLOSEPAR);
+            axiomSink.flush();
+    }
+
+    /** Parses a sequence of axioms, without prefix declarations and without
+     * the enclosing Ontology(...), and returns them instead of adding them to
+     * the ontology. */
+    final public List<OWLAxiom> Axioms() throws ParseException {
+        List<OWLAxiom> axioms = new ArrayList<OWLAxiom>();
+        OWLAxiom ax;
+        label_axioms:
+            while (true) {
+                if (jj_2_7(2)) {
+                } else {
+                    break label_axioms;
+                }
+                ax = Axiom();
+                if (!(ax instanceof OWLAnnotationAxiom) || configuration.isLoadAnnotationAxioms()) {
+                    axioms.add(ax);
+                }
+                currentAnnotations.clear();
+            }
+        jj_consume_token(0);
+        return axioms;
     }
 
     final public void Prefix() throws ParseException {
@@ -39,8 +39,9 @@
 
 package org.coode.owlapi.functionalparser;
 
+import org.semanticweb.owlapi.io.DocumentStart;
 import org.semanticweb.owlapi.io.OWLParser;
-import org.semanticweb.owlapi.io.OWLParserFactory;
+import org.semanticweb.owlapi.io.SniffingOWLParserFactory;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 
 
@@ -50,9 +51,19 @@ import org.semanticweb.owlapi.model.OWLOntologyManager;
  * Bio-Health Informatics Group<br>
  * Date: 15-Nov-2006<br><br>
  */
-public class OWLFunctionalSyntaxParserFactory implements OWLParserFactory {
+public class OWLFunctionalSyntaxParserFactory implements SniffingOWLParserFactory {
 	  @Override
     public OWLParser createParser(OWLOntologyManager owlOntologyManager) {
         return new OWLFunctionalSyntaxOWLParser();
     }
+
+    @Override
+    public boolean recognises(DocumentStart start) {
+        if (start.isContentAvailable()) {
+            String statement = start.getFirstStatement('#');
+            return DocumentStart.startsWith(statement, "Prefix", '(')
+                    || DocumentStart.startsWith(statement, "Ontology", '(');
+        }
+        return "ofn".equals(start.getExtension());
+    }
 }
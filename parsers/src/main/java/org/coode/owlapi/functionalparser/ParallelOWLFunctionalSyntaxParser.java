@@ -0,0 +1,465 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.coode.owlapi.functionalparser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.semanticweb.owlapi.io.BufferedAxiomSink;
+import org.semanticweb.owlapi.io.OWLFunctionalSyntaxOntologyFormat;
+import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
+import org.semanticweb.owlapi.model.UnloadableImportException;
+
+import uk.ac.manchester.cs.JavaCharStream;
+
+/** Parses a functional syntax document on a number of threads. The prefix
+ * declarations and the ontology header (IRIs, imports and annotations) are
+ * parsed first; the axioms that follow are split into chunks at top level
+ * axiom boundaries, and each chunk is parsed by its own
+ * {@link OWLFunctionalSyntaxParser}. The parsers share the prefixes and a
+ * concurrent IRI cache. Chunks are added to the ontology in document order,
+ * one bulk addition per chunk, and only a bounded number of chunks is held in
+ * memory at any time.<br>
+ * This parser is used by {@link OWLFunctionalSyntaxOWLParser} when
+ * {@link OWLOntologyLoaderConfiguration#getParsingThreads()} is more than one.
+ * 
+ * @author ignazio */
+public class ParallelOWLFunctionalSyntaxParser {
+    /** approximate number of characters in a chunk */
+    public static final int CHUNK_SIZE = 1 << 20;
+    private final int threads;
+    private final int chunkSize;
+
+    /** @param threads
+     *            number of parsing threads */
+    public ParallelOWLFunctionalSyntaxParser(int threads) {
+        this(threads, CHUNK_SIZE);
+    }
+
+    /** @param threads
+     *            number of parsing threads
+     * @param chunkSize
+     *            approximate number of characters in a chunk */
+    public ParallelOWLFunctionalSyntaxParser(int threads, int chunkSize) {
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    /** @param reader
+     *            the document
+     * @param ontology
+     *            the ontology to fill
+     * @param configuration
+     *            loading configuration
+     * @return the format of the document, with its prefixes
+     * @throws OWLParserException
+     *             if the document cannot be parsed
+     * @throws IOException
+     *             if the document cannot be read
+     * @throws UnloadableImportException
+     *             if an import cannot be loaded */
+    public OWLFunctionalSyntaxOntologyFormat parse(Reader reader, OWLOntology ontology,
+            OWLOntologyLoaderConfiguration configuration) throws OWLParserException,
+            IOException, UnloadableImportException {
+        Splitter splitter = new Splitter(reader);
+        Map<String, IRI> iriCache = new ConcurrentHashMap<String, IRI>();
+        // the header is parsed on this thread, so that imports are loaded as
+        // in a sequential parse
+        String header = splitter.readHeader();
+        OWLFunctionalSyntaxParser headerParser = new OWLFunctionalSyntaxParser(
+                new StringReader(splitter.hasAxioms() ? header + ")" : header));
+        headerParser.setUp(ontology, configuration);
+        headerParser.setIRICache(iriCache);
+        OWLFunctionalSyntaxOntologyFormat format;
+        try {
+            format = headerParser.parse();
+        } catch (ParseException e) {
+            throw new OWLParserException(e.getMessage(), e, e.currentToken.beginLine,
+                    e.currentToken.beginColumn);
+        }
+        if (!splitter.hasAxioms()) {
+            return format;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        BufferedAxiomSink sink = new BufferedAxiomSink(ontology, configuration);
+        try {
+            LinkedList<Future<List<OWLAxiom>>> pending = new LinkedList<Future<List<OWLAxiom>>>();
+            Chunk chunk = splitter.readChunk(chunkSize);
+            while (chunk != null) {
+                pending.add(executor.submit(new ChunkParser(chunk, ontology,
+                        configuration, format, iriCache)));
+                // bound the number of chunks held in memory
+                if (pending.size() > threads * 2) {
+                    add(sink, pending.removeFirst());
+                }
+                chunk = splitter.readChunk(chunkSize);
+            }
+            while (!pending.isEmpty()) {
+                add(sink, pending.removeFirst());
+            }
+            sink.flush();
+        } finally {
+            executor.shutdownNow();
+        }
+        return format;
+    }
+
+    private static void add(BufferedAxiomSink sink, Future<List<OWLAxiom>> future)
+            throws OWLParserException {
+        try {
+            sink.addAll(future.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OWLRuntimeException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof OWLParserException) {
+                throw (OWLParserException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new OWLRuntimeException(cause);
+        }
+    }
+
+    /** Text of a sequence of axioms and its position in the document. */
+    static class Chunk {
+        final String text;
+        final int line;
+        final int column;
+
+        Chunk(String text, int line, int column) {
+            this.text = text;
+            this.line = line;
+            this.column = column;
+        }
+    }
+
+    private static class ChunkParser implements Callable<List<OWLAxiom>> {
+        private final Chunk chunk;
+        private final OWLOntology ontology;
+        private final OWLOntologyLoaderConfiguration configuration;
+        private final OWLFunctionalSyntaxOntologyFormat format;
+        private final Map<String, IRI> iriCache;
+
+        ChunkParser(Chunk chunk, OWLOntology ontology,
+                OWLOntologyLoaderConfiguration configuration,
+                OWLFunctionalSyntaxOntologyFormat format, Map<String, IRI> iriCache) {
+            this.chunk = chunk;
+            this.ontology = ontology;
+            this.configuration = configuration;
+            this.format = format;
+            this.iriCache = iriCache;
+        }
+
+        @Override
+        public List<OWLAxiom> call() throws OWLParserException {
+            // the char stream starts at the position of the chunk, so that
+            // errors report positions in the document
+            OWLFunctionalSyntaxParser parser = new OWLFunctionalSyntaxParser(
+                    new OWLFunctionalSyntaxParserTokenManager(new JavaCharStream(
+                            new StringReader(chunk.text), chunk.line, chunk.column)));
+            parser.setUp(ontology, configuration);
+            parser.setPrefixes(format);
+            parser.setIRICache(iriCache);
+            try {
+                return parser.Axioms();
+            } catch (ParseException e) {
+                throw new OWLParserException(e.getMessage(), e,
+                        e.currentToken.beginLine, e.currentToken.beginColumn);
+            }
+        }
+    }
+
+    /** Splits a functional syntax document into the header and chunks of
+     * axioms. Parentheses are counted outside of string literals, full IRIs
+     * and comments; the text is copied verbatim, so that the chunk parsers
+     * see the same characters a sequential parser would see. */
+    static class Splitter {
+        private final BufferedReader in;
+        private final StringBuilder text = new StringBuilder();
+        private int line = 1;
+        private int column = 1;
+        private int chunkLine = 1;
+        private int chunkColumn = 1;
+        private boolean axioms = false;
+        private boolean ended = false;
+
+        Splitter(Reader reader) throws IOException {
+            in = new BufferedReader(reader, JavaCharStream.READ_BUFFER_SIZE);
+            // the char streams drop the byte order mark as well
+            in.mark(1);
+            if (in.read() != '\uFEFF') {
+                in.reset();
+            }
+        }
+
+        /** @return true if the header is followed by at least one axiom */
+        boolean hasAxioms() {
+            return axioms;
+        }
+
+        private int read() throws IOException {
+            int c = in.read();
+            if (c == '\n') {
+                line++;
+                column = 1;
+            } else {
+                column++;
+            }
+            if (c > -1) {
+                text.append((char) c);
+            }
+            return c;
+        }
+
+        private int peek() throws IOException {
+            in.mark(1);
+            int c = in.read();
+            in.reset();
+            return c;
+        }
+
+        /** Skips whitespace and comments.
+         * 
+         * @return the next character, which is not consumed */
+        private int skipSpace() throws IOException {
+            while (true) {
+                int c = peek();
+                if (c == ' ' || c == '\t' || c == '\r' || c == '\n') {
+                    read();
+                } else if (c == '/') {
+                    in.mark(2);
+                    in.read();
+                    boolean comment = in.read() == '/';
+                    in.reset();
+                    if (!comment) {
+                        return c;
+                    }
+                    skipComment();
+                } else {
+                    return c;
+                }
+            }
+        }
+
+        private void skipComment() throws IOException {
+            int c = read();
+            while (c > -1 && c != '\n') {
+                c = read();
+            }
+        }
+
+        /** Reads up to and including the character that closes a string
+         * literal or a full IRI. */
+        private void readUntil(int close) throws IOException {
+            int c = read();
+            while (c > -1 && c != close) {
+                if (c == '\\' && close == '"') {
+                    read();
+                }
+                c = read();
+            }
+        }
+
+        /** Reads a parenthesised list, up to and including the matching
+         * closing parenthesis. */
+        private void readList() throws IOException {
+            int depth = 0;
+            do {
+                int c = read();
+                switch (c) {
+                    case -1:
+                        return;
+                    case '(':
+                        depth++;
+                        break;
+                    case ')':
+                        depth--;
+                        break;
+                    case '"':
+                        readUntil('"');
+                        break;
+                    case '<':
+                        readUntil('>');
+                        break;
+                    case '/':
+                        if (peek() == '/') {
+                            skipComment();
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            } while (depth > 0);
+        }
+
+        /** Reads a keyword, an abbreviated IRI or a node id, and the
+         * parenthesised list following it, if there is one.
+         * 
+         * @return the name read */
+        private String readElement() throws IOException {
+            if (peek() == '<') {
+                read();
+                readUntil('>');
+                return "";
+            }
+            StringBuilder name = new StringBuilder();
+            int c = peek();
+            while (c > -1 && c != '(' && c != ')' && c != '<' && c != '"'
+                    && !Character.isWhitespace(c)) {
+                name.append((char) read());
+                c = peek();
+            }
+            if (name.length() == 0 && c != '(') {
+                // not an element; leave it to the parser to report
+                read();
+            }
+            return name.toString();
+        }
+
+        /** Reads the prefix declarations and the ontology header.
+         * 
+         * @return the text read, which ends just before the first axiom, or
+         *         the whole document if there are no axioms
+         * @throws IOException
+         *             if the document cannot be read */
+        String readHeader() throws IOException {
+            boolean inOntology = false;
+            int c = skipSpace();
+            while (c > -1 && !(inOntology && c == ')')) {
+                int start = text.length();
+                int elementLine = line;
+                int elementColumn = column;
+                String name = readElement();
+                boolean list = skipSpace() == '(';
+                if (!inOntology && list && "Ontology".equals(name)) {
+                    read();
+                    inOntology = true;
+                } else if (inOntology && list && !"Import".equals(name)
+                        && !"Annotation".equals(name)) {
+                    // the first axiom starts the first chunk
+                    readList();
+                    axioms = true;
+                    String header = text.substring(0, start);
+                    text.delete(0, start);
+                    chunkLine = elementLine;
+                    chunkColumn = elementColumn;
+                    return header;
+                } else if (list) {
+                    readList();
+                }
+                c = skipSpace();
+            }
+            // no axioms: the sequential parser takes care of the rest
+            while (read() > -1) {
+                // copy the rest of the document
+            }
+            ended = true;
+            String header = text.toString();
+            text.setLength(0);
+            return header;
+        }
+
+        /** @param size
+         *            approximate size of the chunk
+         * @return the next chunk of axioms, or null at the end of the ontology
+         * @throws OWLParserException
+         *             if the ontology is not closed, or is followed by other
+         *             content
+         * @throws IOException
+         *             if the document cannot be read */
+        Chunk readChunk(int size) throws OWLParserException, IOException {
+            while (!ended && text.length() < size) {
+                int start = text.length();
+                int c = skipSpace();
+                if (c == -1) {
+                    throw new OWLParserException(
+                            "Missing closing parenthesis at the end of the ontology",
+                            line, column);
+                }
+                if (c == ')') {
+                    // the end of the ontology; only whitespace and comments
+                    // can follow
+                    read();
+                    if (skipSpace() > -1) {
+                        throw new OWLParserException(
+                                "Unexpected content after the end of the ontology",
+                                line, column);
+                    }
+                    text.setLength(start);
+                    ended = true;
+                    break;
+                }
+                readElement();
+                if (skipSpace() == '(') {
+                    readList();
+                }
+            }
+            if (text.length() == 0) {
+                return null;
+            }
+            Chunk chunk = new Chunk(text.toString(), chunkLine, chunkColumn);
+            text.setLength(0);
+            chunkLine = line;
+            chunkColumn = column;
+            return chunk;
+        }
+    }
+}
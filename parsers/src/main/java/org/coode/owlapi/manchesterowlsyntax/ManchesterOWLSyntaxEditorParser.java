@@ -55,8 +55,8 @@ import java.util.regex.Pattern;
 import org.semanticweb.owlapi.expression.OWLEntityChecker;
 import org.semanticweb.owlapi.expression.OWLOntologyChecker;
 import org.semanticweb.owlapi.expression.ParserException;
+import org.semanticweb.owlapi.io.BufferedAxiomSink;
 import org.semanticweb.owlapi.io.XMLUtils;
-import org.semanticweb.owlapi.model.AddAxiom;
 import org.semanticweb.owlapi.model.AddImport;
 import org.semanticweb.owlapi.model.AddOntologyAnnotation;
 import org.semanticweb.owlapi.model.AxiomType;
@@ -2669,14 +2669,17 @@ public class ManchesterOWLSyntaxEditorParser {
                         DIFFERENT_INDIVIDUALS, SAME_INDIVIDUAL);
             }
         }
-        List<OWLOntologyChange> changes = new ArrayList<OWLOntologyChange>(axioms.size());
+        List<OWLOntologyChange> changes = new ArrayList<OWLOntologyChange>(imports.size()
+                + ontologyAnnotations.size());
         changes.addAll(imports);
         changes.addAll(ontologyAnnotations);
+        ont.getOWLOntologyManager().applyChanges(changes);
+        BufferedAxiomSink sink = new BufferedAxiomSink(ont, configuration);
         for (OntologyAxiomPair pair : axioms) {
-            changes.add(new AddAxiom(ont, pair.getAxiom()));
+            sink.add(pair.getAxiom());
         }
-        changes.add(new SetOntologyID(ont, ontologyID));
-        ont.getOWLOntologyManager().applyChanges(changes);
+        sink.flush();
+        ont.getOWLOntologyManager().applyChange(new SetOntologyID(ont, ontologyID));
         ManchesterOWLSyntaxOntologyFormat format = new ManchesterOWLSyntaxOntologyFormat();
         format.copyPrefixesFrom(pm);
         return format;
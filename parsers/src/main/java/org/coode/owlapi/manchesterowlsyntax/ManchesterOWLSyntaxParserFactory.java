@@ -39,8 +39,9 @@
 
 package org.coode.owlapi.manchesterowlsyntax;
 
+import org.semanticweb.owlapi.io.DocumentStart;
 import org.semanticweb.owlapi.io.OWLParser;
-import org.semanticweb.owlapi.io.OWLParserFactory;
+import org.semanticweb.owlapi.io.SniffingOWLParserFactory;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 
 
@@ -50,10 +51,20 @@ import org.semanticweb.owlapi.model.OWLOntologyManager;
  * Bio-Health Informatics Group<br>
  * Date: 13-Aug-2007<br><br>
  */
-public class ManchesterOWLSyntaxParserFactory implements OWLParserFactory {
+public class ManchesterOWLSyntaxParserFactory implements SniffingOWLParserFactory {
 
 	  @Override
     public OWLParser createParser(OWLOntologyManager owlOntologyManager) {
         return new ManchesterOWLSyntaxOntologyParser();
     }
+
+    @Override
+    public boolean recognises(DocumentStart start) {
+        if (start.isContentAvailable()) {
+            String statement = start.getFirstStatement('#');
+            return DocumentStart.startsWith(statement, "Prefix", ':')
+                    || DocumentStart.startsWith(statement, "Ontology", ':');
+        }
+        return "omn".equals(start.getExtension());
+    }
 }
@@ -0,0 +1,494 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.coode.owlapi.ntriples;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.NodeID;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
+
+/** Parses single lines of N-Triples, N-Quads, or Turtle written with one triple
+ * per line. Besides N-Triples, the Turtle subset accepts prefixed names,
+ * {@code a} for rdf:type, single quoted strings and numeric and boolean
+ * literals; prefix and base directives are parsed with
+ * {@link #parseDirective(String, int)}. Graph labels in N-Quads are ignored.<br>
+ * Instances are not thread safe; parsers for different batches of lines can
+ * share the IRI cache and the prefixes, as long as the prefixes are not
+ * modified while in use.
+ * 
+ * @author ignazio */
+class NTriplesLineParser {
+    private static final IRI RDF_TYPE = OWLRDFVocabulary.RDF_TYPE.getIRI();
+    private final OWLDataFactory dataFactory;
+    private final Map<String, IRI> iris;
+    private final Map<String, String> prefixes;
+    private String base;
+    private String line;
+    private int pos;
+    private int lineNumber;
+
+    /** @param dataFactory
+     *            the factory for literals; if null, literals are checked but
+     *            not created
+     * @param iris
+     *            cache of absolute IRIs
+     * @param prefixes
+     *            prefix names, including the colon, mapped to prefixes
+     * @param base
+     *            the base for relative IRIs, or null */
+    NTriplesLineParser(OWLDataFactory dataFactory, Map<String, IRI> iris,
+            Map<String, String> prefixes, String base) {
+        this.dataFactory = dataFactory;
+        this.iris = iris;
+        this.prefixes = prefixes;
+        this.base = base;
+    }
+
+    /** @return the prefixes, updated by the directives parsed */
+    Map<String, String> getPrefixes() {
+        return prefixes;
+    }
+
+    /** @return the current base */
+    String getBase() {
+        return base;
+    }
+
+    /** A parsed triple; the object is either an IRI or a literal. */
+    static class Triple {
+        final IRI subject;
+        final IRI predicate;
+        final IRI object;
+        final OWLLiteral literal;
+
+        Triple(IRI subject, IRI predicate, IRI object, OWLLiteral literal) {
+            this.subject = subject;
+            this.predicate = predicate;
+            this.object = object;
+            this.literal = literal;
+        }
+    }
+
+    /** @param text
+     *            a line
+     * @return true if the line is a single N-Triples or N-Quads statement */
+    static boolean isTriple(String text) {
+        try {
+            return new NTriplesLineParser(null, new HashMap<String, IRI>(),
+                    new HashMap<String, String>(), null).parseTriple(text, 1) != null;
+        } catch (OWLParserException e) {
+            return false;
+        }
+    }
+
+    /** @param text
+     *            a line
+     * @return true if the line is a Turtle or SPARQL style prefix or base
+     *         directive */
+    static boolean isDirective(String text) {
+        String s = text.trim();
+        return s.startsWith("@") || startsWithIgnoreCase(s, "PREFIX ")
+                || startsWithIgnoreCase(s, "BASE ");
+    }
+
+    private static boolean startsWithIgnoreCase(String s, String prefix) {
+        return s.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    /** Parses a prefix or base directive, and updates the prefixes or the
+     * base.
+     * 
+     * @param text
+     *            the line
+     * @param number
+     *            the line number
+     * @throws OWLParserException
+     *             if the line is not a directive */
+    void parseDirective(String text, int number) throws OWLParserException {
+        start(text, number);
+        boolean turtle = peek() == '@';
+        if (turtle) {
+            pos++;
+        }
+        String keyword = readName();
+        skipSpace();
+        // Turtle keywords are lower case, SPARQL keywords are case insensitive
+        if (turtle ? keyword.equals("prefix") : keyword.equalsIgnoreCase("prefix")) {
+            int colon = line.indexOf(':', pos);
+            if (colon < 0) {
+                throw error("Prefix name expected");
+            }
+            String name = line.substring(pos, colon + 1);
+            pos = colon + 1;
+            skipSpace();
+            prefixes.put(name, readIRIRef().toString());
+        } else if (turtle ? keyword.equals("base") : keyword.equalsIgnoreCase("base")) {
+            base = readIRIRef().toString();
+        } else {
+            throw error("Unknown directive " + keyword);
+        }
+        skipSpace();
+        if (turtle) {
+            expect('.');
+            skipSpace();
+        }
+        if (!atEnd()) {
+            throw error("Unexpected content after the directive");
+        }
+    }
+
+    /** @param text
+     *            the line
+     * @param number
+     *            the line number
+     * @return the triple on the line, or null if the line is empty or a
+     *         comment
+     * @throws OWLParserException
+     *             if the line is not a single triple */
+    Triple parseTriple(String text, int number) throws OWLParserException {
+        start(text, number);
+        if (atEnd()) {
+            return null;
+        }
+        IRI subject = readResource();
+        skipSpace();
+        IRI predicate;
+        if (peek() == 'a' && isBoundary(pos + 1)) {
+            pos++;
+            predicate = RDF_TYPE;
+        } else {
+            predicate = readResource();
+        }
+        skipSpace();
+        Triple triple;
+        char c = peek();
+        if (c == '"' || c == '\'') {
+            triple = new Triple(subject, predicate, null, readLiteral());
+        } else if (c == '+' || c == '-' || c == '.' || c >= '0' && c <= '9'
+                || c == 't' || c == 'f') {
+            // numbers and booleans; names starting with t or f are prefixed
+            // names, unless they are exactly true or false
+            int mark = pos;
+            OWL2Datatype datatype = getShorthandDatatype(readName());
+            if (datatype != null) {
+                triple = new Triple(subject, predicate, null, getShorthandLiteral(
+                        line.substring(mark, pos), datatype));
+            } else {
+                pos = mark;
+                triple = new Triple(subject, predicate, readResource(), null);
+            }
+        } else {
+            triple = new Triple(subject, predicate, readResource(), null);
+        }
+        skipSpace();
+        if (peek() != '.') {
+            // graph label of a quad
+            readResource();
+            skipSpace();
+        }
+        expect('.');
+        skipSpace();
+        if (!atEnd()) {
+            throw error("Unexpected content after the end of the triple");
+        }
+        return triple;
+    }
+
+    private void start(String text, int number) {
+        line = text;
+        lineNumber = number;
+        pos = 0;
+        skipSpace();
+    }
+
+    private OWLParserException error(String message) {
+        return new OWLParserException(message, lineNumber, pos + 1);
+    }
+
+    private boolean atEnd() {
+        return pos >= line.length();
+    }
+
+    private char peek() {
+        return atEnd() ? 0 : line.charAt(pos);
+    }
+
+    private boolean isBoundary(int i) {
+        return i >= line.length() || Character.isWhitespace(line.charAt(i));
+    }
+
+    private void expect(char c) throws OWLParserException {
+        if (peek() != c) {
+            throw error("'" + c + "' expected");
+        }
+        pos++;
+    }
+
+    /** skips whitespace and a comment to the end of the line */
+    private void skipSpace() {
+        while (!atEnd() && Character.isWhitespace(line.charAt(pos))) {
+            pos++;
+        }
+        if (peek() == '#') {
+            pos = line.length();
+        }
+    }
+
+    /** Reads up to the next whitespace. A final dot followed only by
+     * whitespace or a comment ends the statement, and is not part of the
+     * name. */
+    private String readName() {
+        int start = pos;
+        while (!isBoundary(pos)) {
+            pos++;
+        }
+        if (pos > start + 1 && line.charAt(pos - 1) == '.') {
+            int i = pos;
+            while (i < line.length() && Character.isWhitespace(line.charAt(i))) {
+                i++;
+            }
+            if (i == line.length() || line.charAt(i) == '#') {
+                pos--;
+            }
+        }
+        return line.substring(start, pos);
+    }
+
+    /** @return an IRI, a blank node or a prefixed name */
+    private IRI readResource() throws OWLParserException {
+        if (atEnd()) {
+            throw error("IRI expected");
+        }
+        if (peek() == '<') {
+            return readIRIRef();
+        }
+        String name = readName();
+        if (name.startsWith("_:") && name.length() > 2) {
+            String id = NodeID.isAnonymousNodeID(name) ? name : NodeID
+                    .getIRIFromNodeID(name);
+            return IRI.create(id);
+        }
+        int colon = name.indexOf(':');
+        if (colon < 0) {
+            throw error("IRI expected");
+        }
+        String prefix = prefixes.get(name.substring(0, colon + 1));
+        if (prefix == null) {
+            throw error("Prefix not declared: " + name.substring(0, colon + 1));
+        }
+        return getIRI(prefix + name.substring(colon + 1));
+    }
+
+    private IRI readIRIRef() throws OWLParserException {
+        expect('<');
+        int end = line.indexOf('>', pos);
+        if (end < 0) {
+            throw error("'>' expected");
+        }
+        String s = line.substring(pos, end);
+        if (s.indexOf(' ') > -1) {
+            throw error("Spaces are not allowed in IRIs");
+        }
+        if (s.indexOf('\\') > -1) {
+            s = unescape(s);
+        }
+        pos = end + 1;
+        IRI iri = iris.get(s);
+        if (iri == null) {
+            iri = IRI.create(s);
+            if (!iri.isAbsolute()) {
+                if (base == null) {
+                    return iri;
+                }
+                // relative IRIs are not cached, since the base can change
+                return IRI.create(base.substring(0, base.lastIndexOf('/') + 1) + s);
+            }
+            iris.put(s, iri);
+        }
+        return iri;
+    }
+
+    private IRI getIRI(String s) {
+        IRI iri = iris.get(s);
+        if (iri == null) {
+            iri = IRI.create(s);
+            iris.put(s, iri);
+        }
+        return iri;
+    }
+
+    private OWLLiteral readLiteral() throws OWLParserException {
+        char quote = peek();
+        boolean longString = line.startsWith("" + quote + quote + quote, pos);
+        pos += longString ? 3 : 1;
+        StringBuilder b = new StringBuilder();
+        while (true) {
+            if (atEnd()) {
+                throw error("Unterminated string");
+            }
+            char c = line.charAt(pos);
+            if (c == quote
+                    && (!longString || line.startsWith("" + quote + quote + quote, pos))) {
+                pos += longString ? 3 : 1;
+                break;
+            }
+            if (c == '\\') {
+                pos = unescape(line, pos, b);
+            } else {
+                b.append(c);
+                pos++;
+            }
+        }
+        String lang = null;
+        IRI datatype = null;
+        if (peek() == '@') {
+            int start = ++pos;
+            while (!atEnd()
+                    && (Character.isLetterOrDigit(line.charAt(pos)) || line.charAt(pos) == '-')) {
+                pos++;
+            }
+            if (pos == start) {
+                throw error("Language tag expected");
+            }
+            lang = line.substring(start, pos);
+        } else if (line.startsWith("^^", pos)) {
+            pos += 2;
+            datatype = readResource();
+        }
+        if (dataFactory == null) {
+            return null;
+        }
+        if (datatype != null) {
+            return dataFactory.getOWLLiteral(b.toString(),
+                    dataFactory.getOWLDatatype(datatype));
+        }
+        return dataFactory.getOWLLiteral(b.toString(), lang);
+    }
+
+    private static OWL2Datatype getShorthandDatatype(String token) {
+        if (token.equals("true") || token.equals("false")) {
+            return OWL2Datatype.XSD_BOOLEAN;
+        }
+        if (token.matches("[+-]?[0-9]+")) {
+            return OWL2Datatype.XSD_INTEGER;
+        }
+        if (token.matches("[+-]?[0-9]*\\.[0-9]+")) {
+            return OWL2Datatype.XSD_DECIMAL;
+        }
+        if (token.matches("[+-]?([0-9]+\\.?[0-9]*|\\.[0-9]+)[eE][+-]?[0-9]+")) {
+            return OWL2Datatype.XSD_DOUBLE;
+        }
+        return null;
+    }
+
+    private OWLLiteral getShorthandLiteral(String token, OWL2Datatype datatype) {
+        if (dataFactory == null) {
+            return null;
+        }
+        return dataFactory.getOWLLiteral(token, dataFactory.getOWLDatatype(datatype.getIRI()));
+    }
+
+    private String unescape(String s) throws OWLParserException {
+        StringBuilder b = new StringBuilder(s.length());
+        int i = 0;
+        while (i < s.length()) {
+            if (s.charAt(i) == '\\') {
+                i = unescape(s, i, b);
+            } else {
+                b.append(s.charAt(i));
+                i++;
+            }
+        }
+        return b.toString();
+    }
+
+    /** Appends the character escaped at index i, and returns the index after
+     * the escape sequence. */
+    private int unescape(String s, int i, StringBuilder b) throws OWLParserException {
+        if (i + 1 >= s.length()) {
+            throw error("Incomplete escape sequence");
+        }
+        char c = s.charAt(i + 1);
+        switch (c) {
+            case 't':
+                b.append('\t');
+                return i + 2;
+            case 'b':
+                b.append('\b');
+                return i + 2;
+            case 'n':
+                b.append('\n');
+                return i + 2;
+            case 'r':
+                b.append('\r');
+                return i + 2;
+            case 'f':
+                b.append('\f');
+                return i + 2;
+            case '"':
+            case '\'':
+            case '\\':
+                b.append(c);
+                return i + 2;
+            case 'u':
+            case 'U':
+                int length = c == 'u' ? 4 : 8;
+                if (i + 2 + length > s.length()) {
+                    throw error("Incomplete escape sequence");
+                }
+                try {
+                    b.appendCodePoint(Integer.parseInt(
+                            s.substring(i + 2, i + 2 + length), 16));
+                } catch (NumberFormatException e) {
+                    throw error("Invalid escape sequence");
+                } catch (IllegalArgumentException e) {
+                    throw error("Invalid code point");
+                }
+                return i + 2 + length;
+            default:
+                throw error("Invalid escape sequence \\" + c);
+        }
+    }
+}
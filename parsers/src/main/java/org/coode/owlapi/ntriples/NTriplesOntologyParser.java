@@ -0,0 +1,296 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.coode.owlapi.ntriples;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.coode.owlapi.ntriples.NTriplesLineParser.Triple;
+import org.coode.owlapi.rdfxml.parser.AnonymousNodeChecker;
+import org.coode.owlapi.rdfxml.parser.OWLRDFConsumer;
+import org.coode.owlapi.rdfxml.parser.TranslatedOntologyChangeException;
+import org.coode.owlapi.rdfxml.parser.TranslatedUnloadedImportException;
+import org.semanticweb.owlapi.io.AbstractOWLParser;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.NodeID;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChangeException;
+import org.semanticweb.owlapi.model.OWLOntologyFormat;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
+import org.semanticweb.owlapi.model.UnloadableImportException;
+import org.xml.sax.SAXException;
+
+/** Parser for N-Triples and N-Quads documents, and for Turtle documents written
+ * with one triple per line. Lines are read in batches; when
+ * {@link OWLOntologyLoaderConfiguration#getParsingThreads()} is more than one,
+ * the batches are tokenized, and their IRIs and literals created, on that many
+ * threads. The triples are then handed to an {@link OWLRDFConsumer} in
+ * document order, on the calling thread.
+ * 
+ * @author ignazio */
+public class NTriplesOntologyParser extends AbstractOWLParser implements
+        AnonymousNodeChecker {
+    /** number of lines parsed as one batch */
+    public static final int BATCH_SIZE = 10000;
+
+    @Override
+    public OWLOntologyFormat parse(OWLOntologyDocumentSource documentSource,
+            OWLOntology ontology) throws OWLParserException, IOException,
+            UnloadableImportException {
+        return parse(documentSource, ontology, new OWLOntologyLoaderConfiguration());
+    }
+
+    @Override
+    public OWLOntologyFormat parse(OWLOntologyDocumentSource documentSource,
+            OWLOntology ontology, OWLOntologyLoaderConfiguration configuration)
+            throws OWLParserException, IOException, OWLOntologyChangeException,
+            UnloadableImportException {
+        Reader reader = null;
+        InputStream is = null;
+        try {
+            if (documentSource.isReaderAvailable()) {
+                reader = documentSource.getReader();
+            } else {
+                is = documentSource.isInputStreamAvailable() ? documentSource
+                        .getInputStream() : getInputStream(
+                        documentSource.getDocumentIRI(), configuration);
+                reader = new InputStreamReader(is, "UTF-8");
+            }
+            NTriplesOntologyFormat format = new NTriplesOntologyFormat();
+            OWLRDFConsumer consumer = new OWLRDFConsumer(ontology, this, configuration);
+            consumer.setOntologyFormat(format);
+            new Loader(ontology.getOWLOntologyManager().getOWLDataFactory(), consumer,
+                    format, documentSource.getDocumentIRI().toString(),
+                    configuration.getParsingThreads()).load(new BufferedReader(reader));
+            consumer.endModel();
+            return format;
+        } catch (TranslatedOntologyChangeException e) {
+            throw e.getCause();
+        } catch (TranslatedUnloadedImportException e) {
+            throw e.getCause();
+        } catch (SAXException e) {
+            throw new OWLParserException(e);
+        } finally {
+            if (is != null) {
+                is.close();
+            } else if (reader != null) {
+                reader.close();
+            }
+        }
+    }
+
+    @Override
+    public boolean isAnonymousNode(IRI iri) {
+        return NodeID.isAnonymousNodeIRI(iri);
+    }
+
+    @Override
+    public boolean isAnonymousNode(String iri) {
+        return NodeID.isAnonymousNodeIRI(iri);
+    }
+
+    @Override
+    public boolean isAnonymousSharedNode(String iri) {
+        return NodeID.isAnonymousNodeID(iri);
+    }
+
+    /** Reads the lines, parses them in batches and feeds the triples to the
+     * consumer. */
+    private static class Loader {
+        private final OWLDataFactory dataFactory;
+        private final OWLRDFConsumer consumer;
+        private final NTriplesOntologyFormat format;
+        private final int threads;
+        private final Map<String, IRI> iris = new ConcurrentHashMap<String, IRI>();
+        /** parses the directives; its prefixes are copied for each batch */
+        private final NTriplesLineParser directives;
+        private final LinkedList<Future<List<Triple>>> pending = new LinkedList<Future<List<Triple>>>();
+        private ExecutorService executor;
+
+        Loader(OWLDataFactory dataFactory, OWLRDFConsumer consumer,
+                NTriplesOntologyFormat format, String base, int threads) {
+            this.dataFactory = dataFactory;
+            this.consumer = consumer;
+            this.format = format;
+            this.threads = threads;
+            directives = new NTriplesLineParser(dataFactory, iris,
+                    new HashMap<String, String>(), base);
+        }
+
+        void load(BufferedReader in) throws IOException, OWLParserException,
+                UnloadableImportException {
+            if (threads > 1) {
+                executor = Executors.newFixedThreadPool(threads);
+            }
+            try {
+                List<String> batch = new ArrayList<String>();
+                int lineNumber = 0;
+                int firstLine = 1;
+                String line = in.readLine();
+                if (line != null && line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+                while (line != null) {
+                    lineNumber++;
+                    if (NTriplesLineParser.isDirective(line)) {
+                        // the lines before the directive are parsed with the
+                        // prefixes and base in force before it
+                        submit(batch, firstLine);
+                        batch = new ArrayList<String>();
+                        firstLine = lineNumber + 1;
+                        directives.parseDirective(line, lineNumber);
+                        for (Map.Entry<String, String> e : directives.getPrefixes()
+                                .entrySet()) {
+                            format.setPrefix(e.getKey(), e.getValue());
+                        }
+                    } else {
+                        batch.add(line);
+                        if (batch.size() == BATCH_SIZE) {
+                            submit(batch, firstLine);
+                            batch = new ArrayList<String>();
+                            firstLine = lineNumber + 1;
+                        }
+                    }
+                    line = in.readLine();
+                }
+                submit(batch, firstLine);
+                while (!pending.isEmpty()) {
+                    handle(pending.removeFirst());
+                }
+            } finally {
+                if (executor != null) {
+                    executor.shutdownNow();
+                }
+            }
+        }
+
+        private void submit(List<String> batch, int firstLine)
+                throws OWLParserException, UnloadableImportException {
+            if (batch.isEmpty()) {
+                return;
+            }
+            BatchParser parser = new BatchParser(batch, firstLine,
+                    new NTriplesLineParser(dataFactory, iris, new HashMap<String, String>(
+                            directives.getPrefixes()), directives.getBase()));
+            if (executor == null) {
+                handle(parser.call());
+                return;
+            }
+            pending.add(executor.submit(parser));
+            // bound the number of batches held in memory
+            if (pending.size() > threads * 2) {
+                handle(pending.removeFirst());
+            }
+        }
+
+        private void handle(Future<List<Triple>> future) throws OWLParserException,
+                UnloadableImportException {
+            try {
+                handle(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OWLRuntimeException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof OWLParserException) {
+                    throw (OWLParserException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new OWLRuntimeException(cause);
+            }
+        }
+
+        private void handle(List<Triple> triples) throws UnloadableImportException {
+            for (Triple t : triples) {
+                if (t.literal == null) {
+                    consumer.statementWithResourceValue(t.subject, t.predicate, t.object);
+                } else {
+                    consumer.statementWithLiteralValue(t.subject, t.predicate, t.literal);
+                }
+            }
+        }
+    }
+
+    private static class BatchParser implements Callable<List<Triple>> {
+        private final List<String> lines;
+        private final int firstLine;
+        private final NTriplesLineParser parser;
+
+        BatchParser(List<String> lines, int firstLine, NTriplesLineParser parser) {
+            this.lines = lines;
+            this.firstLine = firstLine;
+            this.parser = parser;
+        }
+
+        @Override
+        public List<Triple> call() throws OWLParserException {
+            List<Triple> triples = new ArrayList<Triple>(lines.size());
+            for (int i = 0; i < lines.size(); i++) {
+                Triple t = parser.parseTriple(lines.get(i), firstLine + i);
+                if (t != null) {
+                    triples.add(t);
+                }
+            }
+            return triples;
+        }
+    }
+}
@@ -83,7 +83,13 @@ public abstract class AbstractTagValueHandler implements TagValueHandler {
     }
 
     public void applyChange(OWLOntologyChange change) {
-        consumer.getOWLOntologyManager().applyChange(change);
+        if (change instanceof AddAxiom) {
+            // axioms are added in batches by the consumer
+            consumer.addAxiom(change.getAxiom());
+        }
+        else {
+            consumer.getOWLOntologyManager().applyChange(change);
+        }
     }
 
     public OBOConsumer getConsumer() {
@@ -49,7 +49,7 @@ import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.io.BufferedAxiomSink;
 import org.semanticweb.owlapi.model.AddImport;
 import org.semanticweb.owlapi.model.AddOntologyAnnotation;
 import org.semanticweb.owlapi.model.IRI;
@@ -128,11 +128,14 @@ public class OBOConsumer implements OBOParserHandler {
 
     private String dataVersionTagValue = "";
 
+    private final BufferedAxiomSink axiomSink;
+
 
     public OBOConsumer(OWLOntology ontology, OWLOntologyLoaderConfiguration configuration, IRI baseIRI) {
         this.configuration = configuration;
         owlOntologyManager = ontology.getOWLOntologyManager();
         this.ontology = ontology;
+        axiomSink = new BufferedAxiomSink(ontology, configuration);
         intersectionOfOperands = new HashSet<OWLClassExpression>();
         unionOfOperands = new HashSet<OWLClassExpression>();
         uriCache = new HashMap<String, IRI>();
@@ -174,6 +177,21 @@ public class OBOConsumer implements OBOParserHandler {
         return ontology;
     }
 
+    /**
+     * Schedules an axiom to be added to the ontology; axioms are added in batches.
+     * @param ax the axiom to add
+     */
+    public void addAxiom(OWLAxiom ax) {
+        axiomSink.add(ax);
+    }
+
+    /**
+     * Adds the axioms still waiting to the ontology; called when all the frames have been parsed.
+     */
+    public void flushAxioms() {
+        axiomSink.flush();
+    }
+
 
     public String getCurrentId() {
         return currentId;
@@ -393,7 +411,7 @@ public class OBOConsumer implements OBOParserHandler {
 
     private void createEquivalentClass(OWLClassExpression classExpression) {
         OWLAxiom ax = getDataFactory().getOWLEquivalentClassesAxiom(CollectionFactory.createSet(getCurrentClass(), classExpression));
-        getOWLOntologyManager().applyChange(new AddAxiom(ontology, ax));
+        addAxiom(ax);
     }
 
 
@@ -428,9 +446,9 @@ public class OBOConsumer implements OBOParserHandler {
                     OWLAnnotationProperty property = getDataFactory().getOWLAnnotationProperty(annotationPropertyIRI);
                     OWLAnnotation anno = getDataFactory().getOWLAnnotation(property, con);
                     OWLAnnotationAssertionAxiom ax = getDataFactory().getOWLAnnotationAssertionAxiom(subject, anno);
-                    owlOntologyManager.addAxiom(ontology, ax);
+                    addAxiom(ax);
                     OWLDeclarationAxiom annotationPropertyDeclaration = getDataFactory().getOWLDeclarationAxiom(property);
-                    owlOntologyManager.addAxiom(ontology, annotationPropertyDeclaration);
+                    addAxiom(annotationPropertyDeclaration);
                 }
             }
 
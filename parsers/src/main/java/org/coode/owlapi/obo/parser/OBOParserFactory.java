@@ -39,8 +39,9 @@
 
 package org.coode.owlapi.obo.parser;
 
+import org.semanticweb.owlapi.io.DocumentStart;
 import org.semanticweb.owlapi.io.OWLParser;
-import org.semanticweb.owlapi.io.OWLParserFactory;
+import org.semanticweb.owlapi.io.SniffingOWLParserFactory;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 
 
@@ -50,10 +51,19 @@ import org.semanticweb.owlapi.model.OWLOntologyManager;
  * Bio-Health Informatics Group<br>
  * Date: 10-Jan-2007<br><br>
  */
-public class OBOParserFactory implements OWLParserFactory {
+public class OBOParserFactory implements SniffingOWLParserFactory {
 
     @Override
     public OWLParser createParser(OWLOntologyManager owlOntologyManager) {
         return new OWLOBOParser();
     }
+
+    @Override
+    public boolean recognises(DocumentStart start) {
+        if (start.isContentAvailable()) {
+            return DocumentStart.startsWith(start.getFirstStatement('!'),
+                    "format-version", ':');
+        }
+        return "obo".equals(start.getExtension());
+    }
 }
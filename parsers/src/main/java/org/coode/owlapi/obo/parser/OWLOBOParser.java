@@ -92,6 +92,7 @@ public class OWLOBOParser extends AbstractOWLParser {
         try {
             parser.parse();
             parseFrames(rawFrameHandler, oboConsumer);
+            oboConsumer.flushAxioms();
         }
         catch (ParseException e) {
             if (e.getCause() != null && e.getCause() instanceof OWLOntologyChangeException) {
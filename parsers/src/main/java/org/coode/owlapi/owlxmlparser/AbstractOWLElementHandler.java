@@ -40,6 +40,7 @@ package org.coode.owlapi.owlxmlparser;
 
 import org.semanticweb.owlapi.io.OWLParserException;
 import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
@@ -101,6 +102,10 @@ public abstract class AbstractOWLElementHandler<O> implements OWLElementHandler<
         return handler.getOntology();
     }
 
+    protected void addAxiom(OWLAxiom axiom) {
+        handler.addAxiom(axiom);
+    }
+
     protected OWLDataFactory getOWLDataFactory() {
         return handler.getDataFactory();
     }
@@ -40,7 +40,6 @@
 package org.coode.owlapi.owlxmlparser;
 
 import org.semanticweb.owlapi.io.OWLParserException;
-import org.semanticweb.owlapi.model.AddAxiom;
 import org.semanticweb.owlapi.model.AddOntologyAnnotation;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAxiom;
@@ -86,7 +85,7 @@ public class OWLOntologyHandler extends AbstractOWLElementHandler<OWLOntology> {
 	public void handleChild(AbstractOWLAxiomElementHandler handler) throws OWLXMLParserException {
         OWLAxiom axiom = handler.getOWLObject();
         if(!axiom.isAnnotationAxiom() || getConfiguration().isLoadAnnotationAxioms()) {
-            getOWLOntologyManager().applyChange(new AddAxiom(getOntology(), axiom));
+            addAxiom(axiom);
         }
     }
 
@@ -39,8 +39,9 @@
 
 package org.coode.owlapi.owlxmlparser;
 
+import org.semanticweb.owlapi.io.DocumentStart;
 import org.semanticweb.owlapi.io.OWLParser;
-import org.semanticweb.owlapi.io.OWLParserFactory;
+import org.semanticweb.owlapi.io.SniffingOWLParserFactory;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 
 
@@ -50,10 +51,18 @@ import org.semanticweb.owlapi.model.OWLOntologyManager;
  * Bio-Health Informatics Group<br>
  * Date: 18-Dec-2006<br><br>
  */
-public class OWLXMLParserFactory implements OWLParserFactory {
+public class OWLXMLParserFactory implements SniffingOWLParserFactory {
 
     @Override
     public OWLParser createParser(OWLOntologyManager owlOntologyManager) {
         return new OWLXMLParser();
     }
+
+    @Override
+    public boolean recognises(DocumentStart start) {
+        if (start.isContentAvailable()) {
+            return "Ontology".equals(start.getXMLRootElementLocalName());
+        }
+        return "owx".equals(start.getExtension());
+    }
 }
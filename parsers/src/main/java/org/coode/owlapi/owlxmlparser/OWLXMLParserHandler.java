@@ -45,14 +45,17 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Stack;
 
+import org.semanticweb.owlapi.io.BufferedAxiomSink;
 import org.semanticweb.owlapi.io.OWLParserException;
 import org.semanticweb.owlapi.io.OWLParserURISyntaxException;
 import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLException;
 import org.semanticweb.owlapi.model.OWLOntology;
@@ -85,7 +88,8 @@ public class OWLXMLParserHandler extends DefaultHandler {
 
     private List<OWLElementHandler<?>> handlerStack;
 
-    private Map<String, OWLElementHandlerFactory> handlerMap;
+    /** element handler factories by element name; shared, since the factories have no state */
+    private static final Map<String, OWLElementHandlerFactory> handlerMap = createHandlerMap();
 
     private Map<String, String> prefixName2PrefixMap = new HashMap<String, String>();
 
@@ -95,6 +99,9 @@ public class OWLXMLParserHandler extends DefaultHandler {
 
     private OWLOntologyLoaderConfiguration configuration;
 
+    /** parsed axioms, added to the ontology in batches */
+    private final BufferedAxiomSink axioms;
+
 
     @Deprecated
     public OWLXMLParserHandler(OWLOntologyManager owlOntologyManager, OWLOntology ontology) {
@@ -164,6 +171,7 @@ public class OWLXMLParserHandler extends DefaultHandler {
         this.ontology = ontology;
         bases = new Stack<URI>();
         this.configuration = configuration;
+        axioms = new BufferedAxiomSink(ontology, configuration);
         handlerStack = new ArrayList<OWLElementHandler<?>>();
         prefixName2PrefixMap = new HashMap<String, String>();
         prefixName2PrefixMap.put("owl:", Namespaces.OWL.toString());
@@ -171,23 +179,128 @@ public class OWLXMLParserHandler extends DefaultHandler {
         if (topHandler != null) {
             handlerStack.add(0, topHandler);
         }
-        handlerMap = new HashMap<String, OWLElementHandlerFactory>();
+    }
+
+    /**
+     * Creates an OWLXML handler with the specified top level handler.  This allows OWL/XML
+     * representations of axioms to be embedded in abitrary XML documents e.g. DIG 2.0 documents.
+     * (The default handler behaviour expects the top level element to be an Ontology
+     * element).
+     *
+     * @param owlOntologyManager The manager that should be used to obtain a data factory,
+     * imported ontologies etc.
+     * @param ontology The ontology object that the XML representation should be parsed into.
+     * @param topHandler The handler for top level elements - may be <code>null</code>, in which
+     * case the parser will expect an Ontology element to be the root element.
+     * @deprecated
+     */
+    @Deprecated
+    public OWLXMLParserHandler(OWLOntologyManager owlOntologyManager, OWLOntology ontology, OWLElementHandler<?> topHandler, OWLOntologyLoaderConfiguration configuration) {
+        this(ontology, topHandler, configuration);
+    }
+
+    public OWLOntologyLoaderConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Gets the line number that the parser is at.
+     *
+     * @return A positive integer that represents the line number or
+     *         -1 if the line number is not known.
+     */
+    public int getLineNumber() {
+        if (locator != null) {
+            return locator.getLineNumber();
+        }
+        else {
+            return -1;
+        }
+    }
+
+    public int getColumnNumber() {
+        if (locator != null) {
+            return locator.getColumnNumber();
+        }
+        else {
+            return -1;
+        }
+    }
+
+    private Map<String, IRI> iriMap = new HashMap<String, IRI>();
+
+    public IRI getIRI(String iriStr) throws OWLParserException {
+        try {
+            IRI iri = iriMap.get(iriStr);
+            if (iri == null) {
+                URI uri = new URI(iriStr);
+                if (!uri.isAbsolute()) {
+                    URI base = getBase();
+                    if (base == null) {
+                        throw new OWLXMLParserException("Unable to resolve relative URI", getLineNumber(), getColumnNumber());
+                    }
+                    iri = IRI.create(base + iriStr);
+                }
+                else {
+                    iri = IRI.create(uri);
+                }
+                iriMap.put(iriStr, iri);
+            }
+            return iri;
+        }
+        catch (URISyntaxException e) {
+            throw new OWLParserURISyntaxException(e, getLineNumber(), getColumnNumber());
+        }
+    }
 
-        addFactory(new AbstractElementHandlerFactory(ONTOLOGY) {
+    private String getNormalisedAbbreviatedIRI(String input) {
+        if (input.indexOf(':') != -1) {
+            return input;
+        }
+        else {
+            return ":" + input;
+        }
+    }
+
+    public IRI getAbbreviatedIRI(String abbreviatedIRI) throws OWLParserException {
+        String normalisedAbbreviatedIRI = getNormalisedAbbreviatedIRI(abbreviatedIRI);
+        int sepIndex = normalisedAbbreviatedIRI.indexOf(':');
+        String prefixName = normalisedAbbreviatedIRI.substring(0, sepIndex + 1);
+        String localName = normalisedAbbreviatedIRI.substring(sepIndex + 1);
+        String base = prefixName2PrefixMap.get(prefixName);
+        if (base == null) {
+            throw new OWLXMLParserException("Prefix name not defined: " + prefixName, getLineNumber(), getColumnNumber());
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(base);
+        sb.append(localName);
+        return getIRI(sb.toString());
+    }
+
+
+    public Map<String, String> getPrefixName2PrefixMap() {
+        return prefixName2PrefixMap;
+    }
+
+
+    private static Map<String, OWLElementHandlerFactory> createHandlerMap() {
+        Map<String, OWLElementHandlerFactory> map = new HashMap<String, OWLElementHandlerFactory>();
+
+        addFactory(map, new AbstractElementHandlerFactory(ONTOLOGY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLOntologyHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(ANNOTATION) {
+        addFactory(map, new AbstractElementHandlerFactory(ANNOTATION) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLAnnotationElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(LITERAL) {
+        addFactory(map, new AbstractElementHandlerFactory(LITERAL) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLLiteralElementHandler(handler);
@@ -195,7 +308,7 @@ public class OWLXMLParserHandler extends DefaultHandler {
         }, "Constant");
 
 
-        addFactory(new AbstractElementHandlerFactory(IMPORT) {
+        addFactory(map, new AbstractElementHandlerFactory(IMPORT) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLImportsHandler(handler);
@@ -203,63 +316,63 @@ public class OWLXMLParserHandler extends DefaultHandler {
         }, "Imports");
 
 
-        addFactory(new AbstractElementHandlerFactory(CLASS) {
+        addFactory(map, new AbstractElementHandlerFactory(CLASS) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLClassElementHandler(handler);
             }
         }, "OWLClass");
 
-        addFactory(new AbstractElementHandlerFactory(ANNOTATION_PROPERTY) {
+        addFactory(map, new AbstractElementHandlerFactory(ANNOTATION_PROPERTY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLAnnotationPropertyElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(ANNOTATION_PROPERTY_DOMAIN) {
+        addFactory(map, new AbstractElementHandlerFactory(ANNOTATION_PROPERTY_DOMAIN) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLAnnotationPropertyDomainElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(ANNOTATION_PROPERTY_RANGE) {
+        addFactory(map, new AbstractElementHandlerFactory(ANNOTATION_PROPERTY_RANGE) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLAnnotationPropertyRangeElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(SUB_ANNOTATION_PROPERTY_OF) {
+        addFactory(map, new AbstractElementHandlerFactory(SUB_ANNOTATION_PROPERTY_OF) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLSubAnnotationPropertyOfElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_PROPERTY) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_PROPERTY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLObjectPropertyElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_INVERSE_OF) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_INVERSE_OF) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLInverseObjectPropertyElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DATA_PROPERTY) {
+        addFactory(map, new AbstractElementHandlerFactory(DATA_PROPERTY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDataPropertyElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(NAMED_INDIVIDUAL) {
+        addFactory(map, new AbstractElementHandlerFactory(NAMED_INDIVIDUAL) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLIndividualElementHandler(handler);
@@ -267,77 +380,77 @@ public class OWLXMLParserHandler extends DefaultHandler {
         }, "Individual");
 
 
-        addFactory(new AbstractElementHandlerFactory(DATA_COMPLEMENT_OF) {
+        addFactory(map, new AbstractElementHandlerFactory(DATA_COMPLEMENT_OF) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDataComplementOfElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DATA_ONE_OF) {
+        addFactory(map, new AbstractElementHandlerFactory(DATA_ONE_OF) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDataOneOfElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DATATYPE) {
+        addFactory(map, new AbstractElementHandlerFactory(DATATYPE) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDatatypeElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DATATYPE_RESTRICTION) {
+        addFactory(map, new AbstractElementHandlerFactory(DATATYPE_RESTRICTION) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDatatypeRestrictionElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DATA_INTERSECTION_OF) {
+        addFactory(map, new AbstractElementHandlerFactory(DATA_INTERSECTION_OF) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDataIntersectionOfElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DATA_UNION_OF) {
+        addFactory(map, new AbstractElementHandlerFactory(DATA_UNION_OF) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDataUnionOfElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(FACET_RESTRICTION) {
+        addFactory(map, new AbstractElementHandlerFactory(FACET_RESTRICTION) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDatatypeFacetRestrictionElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_INTERSECTION_OF) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_INTERSECTION_OF) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLObjectIntersectionOfElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_UNION_OF) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_UNION_OF) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLObjectUnionOfElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_COMPLEMENT_OF) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_COMPLEMENT_OF) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLObjectComplementOfElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_ONE_OF) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_ONE_OF) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLObjectOneOfElementHandler(handler);
@@ -346,49 +459,49 @@ public class OWLXMLParserHandler extends DefaultHandler {
 
         // Object Restrictions
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_SOME_VALUES_FROM) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_SOME_VALUES_FROM) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLObjectSomeValuesFromElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_ALL_VALUES_FROM) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_ALL_VALUES_FROM) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLObjectAllValuesFromElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_HAS_SELF) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_HAS_SELF) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLObjectExistsSelfElementHandler(handler);
             }
         }, "ObjectExistsSelf");
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_HAS_VALUE) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_HAS_VALUE) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLObjectHasValueElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_MIN_CARDINALITY) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_MIN_CARDINALITY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLObjectMinCardinalityElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_EXACT_CARDINALITY) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_EXACT_CARDINALITY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLObjectExactCardinalityElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_MAX_CARDINALITY) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_MAX_CARDINALITY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLObjectMaxCardinalityElementHandler(handler);
@@ -397,42 +510,42 @@ public class OWLXMLParserHandler extends DefaultHandler {
 
         // Data Restrictions
 
-        addFactory(new AbstractElementHandlerFactory(DATA_SOME_VALUES_FROM) {
+        addFactory(map, new AbstractElementHandlerFactory(DATA_SOME_VALUES_FROM) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDataSomeValuesFromElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DATA_ALL_VALUES_FROM) {
+        addFactory(map, new AbstractElementHandlerFactory(DATA_ALL_VALUES_FROM) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDataAllValuesFromElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DATA_HAS_VALUE) {
+        addFactory(map, new AbstractElementHandlerFactory(DATA_HAS_VALUE) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDataHasValueElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DATA_MIN_CARDINALITY) {
+        addFactory(map, new AbstractElementHandlerFactory(DATA_MIN_CARDINALITY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDataMinCardinalityElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DATA_EXACT_CARDINALITY) {
+        addFactory(map, new AbstractElementHandlerFactory(DATA_EXACT_CARDINALITY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDataExactCardinalityElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DATA_MAX_CARDINALITY) {
+        addFactory(map, new AbstractElementHandlerFactory(DATA_MAX_CARDINALITY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDataMaxCardinalityElementHandler(handler);
@@ -441,14 +554,14 @@ public class OWLXMLParserHandler extends DefaultHandler {
 
         // Axioms
 
-        addFactory(new AbstractElementHandlerFactory(SUB_CLASS_OF) {
+        addFactory(map, new AbstractElementHandlerFactory(SUB_CLASS_OF) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLSubClassAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(EQUIVALENT_CLASSES) {
+        addFactory(map, new AbstractElementHandlerFactory(EQUIVALENT_CLASSES) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLEquivalentClassesAxiomElementHandler(handler);
@@ -456,7 +569,7 @@ public class OWLXMLParserHandler extends DefaultHandler {
         });
 
 
-        addFactory(new AbstractElementHandlerFactory(DISJOINT_CLASSES) {
+        addFactory(map, new AbstractElementHandlerFactory(DISJOINT_CLASSES) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDisjointClassesAxiomElementHandler(handler);
@@ -464,14 +577,14 @@ public class OWLXMLParserHandler extends DefaultHandler {
         });
 
 
-        addFactory(new AbstractElementHandlerFactory(DISJOINT_UNION) {
+        addFactory(map, new AbstractElementHandlerFactory(DISJOINT_UNION) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDisjointUnionElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(UNION_OF) {
+        addFactory(map, new AbstractElementHandlerFactory(UNION_OF) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLUnionOfElementHandler(handler);
@@ -479,77 +592,77 @@ public class OWLXMLParserHandler extends DefaultHandler {
         });
 
 
-        addFactory(new AbstractElementHandlerFactory(SUB_OBJECT_PROPERTY_OF) {
+        addFactory(map, new AbstractElementHandlerFactory(SUB_OBJECT_PROPERTY_OF) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLSubObjectPropertyOfAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_PROPERTY_CHAIN) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_PROPERTY_CHAIN) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLSubObjectPropertyChainElementHandler(handler);
             }
         }, "SubObjectPropertyChain");
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_PROPERTY_CHAIN) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_PROPERTY_CHAIN) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLSubObjectPropertyChainElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(EQUIVALENT_OBJECT_PROPERTIES) {
+        addFactory(map, new AbstractElementHandlerFactory(EQUIVALENT_OBJECT_PROPERTIES) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLEquivalentObjectPropertiesAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DISJOINT_OBJECT_PROPERTIES) {
+        addFactory(map, new AbstractElementHandlerFactory(DISJOINT_OBJECT_PROPERTIES) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDisjointObjectPropertiesAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_PROPERTY_DOMAIN) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_PROPERTY_DOMAIN) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLObjectPropertyDomainElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_PROPERTY_RANGE) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_PROPERTY_RANGE) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLObjectPropertyRangeAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(INVERSE_OBJECT_PROPERTIES) {
+        addFactory(map, new AbstractElementHandlerFactory(INVERSE_OBJECT_PROPERTIES) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLInverseObjectPropertiesAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(FUNCTIONAL_OBJECT_PROPERTY) {
+        addFactory(map, new AbstractElementHandlerFactory(FUNCTIONAL_OBJECT_PROPERTY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLFunctionalObjectPropertyAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(INVERSE_FUNCTIONAL_OBJECT_PROPERTY) {
+        addFactory(map, new AbstractElementHandlerFactory(INVERSE_FUNCTIONAL_OBJECT_PROPERTY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLInverseFunctionalObjectPropertyAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(SYMMETRIC_OBJECT_PROPERTY) {
+        addFactory(map, new AbstractElementHandlerFactory(SYMMETRIC_OBJECT_PROPERTY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLSymmetricObjectPropertyAxiomElementHandler(handler);
@@ -557,105 +670,105 @@ public class OWLXMLParserHandler extends DefaultHandler {
         });
 
 
-        addFactory(new AbstractElementHandlerFactory(ASYMMETRIC_OBJECT_PROPERTY) {
+        addFactory(map, new AbstractElementHandlerFactory(ASYMMETRIC_OBJECT_PROPERTY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLAsymmetricObjectPropertyElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(REFLEXIVE_OBJECT_PROPERTY) {
+        addFactory(map, new AbstractElementHandlerFactory(REFLEXIVE_OBJECT_PROPERTY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLReflexiveObjectPropertyAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(IRREFLEXIVE_OBJECT_PROPERTY) {
+        addFactory(map, new AbstractElementHandlerFactory(IRREFLEXIVE_OBJECT_PROPERTY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLIrreflexiveObjectPropertyAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(TRANSITIVE_OBJECT_PROPERTY) {
+        addFactory(map, new AbstractElementHandlerFactory(TRANSITIVE_OBJECT_PROPERTY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLTransitiveObjectPropertyAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(SUB_DATA_PROPERTY_OF) {
+        addFactory(map, new AbstractElementHandlerFactory(SUB_DATA_PROPERTY_OF) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLSubDataPropertyOfAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(EQUIVALENT_DATA_PROPERTIES) {
+        addFactory(map, new AbstractElementHandlerFactory(EQUIVALENT_DATA_PROPERTIES) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLEquivalentDataPropertiesAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DISJOINT_DATA_PROPERTIES) {
+        addFactory(map, new AbstractElementHandlerFactory(DISJOINT_DATA_PROPERTIES) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDisjointDataPropertiesAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DATA_PROPERTY_DOMAIN) {
+        addFactory(map, new AbstractElementHandlerFactory(DATA_PROPERTY_DOMAIN) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDataPropertyDomainAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DATA_PROPERTY_RANGE) {
+        addFactory(map, new AbstractElementHandlerFactory(DATA_PROPERTY_RANGE) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDataPropertyRangeAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(FUNCTIONAL_DATA_PROPERTY) {
+        addFactory(map, new AbstractElementHandlerFactory(FUNCTIONAL_DATA_PROPERTY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLFunctionalDataPropertyAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(SAME_INDIVIDUAL) {
+        addFactory(map, new AbstractElementHandlerFactory(SAME_INDIVIDUAL) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLSameIndividualsAxiomElementHandler(handler);
             }
         }, "SameIndividuals");
 
-        addFactory(new AbstractElementHandlerFactory(DIFFERENT_INDIVIDUALS) {
+        addFactory(map, new AbstractElementHandlerFactory(DIFFERENT_INDIVIDUALS) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDifferentIndividualsAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(CLASS_ASSERTION) {
+        addFactory(map, new AbstractElementHandlerFactory(CLASS_ASSERTION) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLClassAssertionAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_PROPERTY_ASSERTION) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_PROPERTY_ASSERTION) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLObjectPropertyAssertionAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(NEGATIVE_OBJECT_PROPERTY_ASSERTION) {
+        addFactory(map, new AbstractElementHandlerFactory(NEGATIVE_OBJECT_PROPERTY_ASSERTION) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLNegativeObjectPropertyAssertionAxiomElementHandler(handler);
@@ -663,7 +776,7 @@ public class OWLXMLParserHandler extends DefaultHandler {
         });
 
 
-        addFactory(new AbstractElementHandlerFactory(NEGATIVE_DATA_PROPERTY_ASSERTION) {
+        addFactory(map, new AbstractElementHandlerFactory(NEGATIVE_DATA_PROPERTY_ASSERTION) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLNegativeDataPropertyAssertionAxiomElementHandler(handler);
@@ -671,42 +784,42 @@ public class OWLXMLParserHandler extends DefaultHandler {
         });
 
 
-        addFactory(new AbstractElementHandlerFactory(DATA_PROPERTY_ASSERTION) {
+        addFactory(map, new AbstractElementHandlerFactory(DATA_PROPERTY_ASSERTION) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDataPropertyAssertionAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(ANNOTATION_ASSERTION) {
+        addFactory(map, new AbstractElementHandlerFactory(ANNOTATION_ASSERTION) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLAnnotationAssertionElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory("EntityAnnotation") {
+        addFactory(map, new AbstractElementHandlerFactory("EntityAnnotation") {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new LegacyEntityAnnotationElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DECLARATION) {
+        addFactory(map, new AbstractElementHandlerFactory(DECLARATION) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDeclarationAxiomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(IRI_ELEMENT) {
+        addFactory(map, new AbstractElementHandlerFactory(IRI_ELEMENT) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new IRIElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(ABBREVIATED_IRI_ELEMENT) {
+        addFactory(map, new AbstractElementHandlerFactory(ABBREVIATED_IRI_ELEMENT) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new AbbreviatedIRIElementHandler(handler);
@@ -714,7 +827,7 @@ public class OWLXMLParserHandler extends DefaultHandler {
         });
 
 
-        addFactory(new AbstractElementHandlerFactory(ANONYMOUS_INDIVIDUAL) {
+        addFactory(map, new AbstractElementHandlerFactory(ANONYMOUS_INDIVIDUAL) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLAnonymousIndividualElementHandler(handler);
@@ -722,42 +835,42 @@ public class OWLXMLParserHandler extends DefaultHandler {
         });
 
 
-        addFactory(new AbstractElementHandlerFactory(HAS_KEY) {
+        addFactory(map, new AbstractElementHandlerFactory(HAS_KEY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLHasKeyElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DATATYPE_DEFINITION) {
+        addFactory(map, new AbstractElementHandlerFactory(DATATYPE_DEFINITION) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new OWLDatatypeDefinitionElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DL_SAFE_RULE) {
+        addFactory(map, new AbstractElementHandlerFactory(DL_SAFE_RULE) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new SWRLRuleElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(BODY) {
+        addFactory(map, new AbstractElementHandlerFactory(BODY) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new SWRLAtomListElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(HEAD) {
+        addFactory(map, new AbstractElementHandlerFactory(HEAD) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new SWRLAtomListElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(VARIABLE) {
+        addFactory(map, new AbstractElementHandlerFactory(VARIABLE) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new SWRLVariableElementHandler(handler);
@@ -765,161 +878,60 @@ public class OWLXMLParserHandler extends DefaultHandler {
         });
 
 
-        addFactory(new AbstractElementHandlerFactory(CLASS_ATOM) {
+        addFactory(map, new AbstractElementHandlerFactory(CLASS_ATOM) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new SWRLClassAtomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(OBJECT_PROPERTY_ATOM) {
+        addFactory(map, new AbstractElementHandlerFactory(OBJECT_PROPERTY_ATOM) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new SWRLObjectPropertyAtomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DATA_PROPERTY_ATOM) {
+        addFactory(map, new AbstractElementHandlerFactory(DATA_PROPERTY_ATOM) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new SWRLDataPropertyAtomElementHandler(handler);
             }
         });
-        addFactory(new AbstractElementHandlerFactory(DATA_RANGE_ATOM) {
+        addFactory(map, new AbstractElementHandlerFactory(DATA_RANGE_ATOM) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new SWRLDataRangeAtomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(BUILT_IN_ATOM) {
+        addFactory(map, new AbstractElementHandlerFactory(BUILT_IN_ATOM) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new SWRLBuiltInAtomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(DIFFERENT_INDIVIDUALS_ATOM) {
+        addFactory(map, new AbstractElementHandlerFactory(DIFFERENT_INDIVIDUALS_ATOM) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new SWRLDifferentIndividualsAtomElementHandler(handler);
             }
         });
 
-        addFactory(new AbstractElementHandlerFactory(SAME_INDIVIDUAL_ATOM) {
+        addFactory(map, new AbstractElementHandlerFactory(SAME_INDIVIDUAL_ATOM) {
             @Override
             public OWLElementHandler<?> createHandler(OWLXMLParserHandler handler) {
                 return new SWRLSameIndividualAtomElementHandler(handler);
             }
         });
+        return Collections.unmodifiableMap(map);
     }
 
-    /**
-     * Creates an OWLXML handler with the specified top level handler.  This allows OWL/XML
-     * representations of axioms to be embedded in abitrary XML documents e.g. DIG 2.0 documents.
-     * (The default handler behaviour expects the top level element to be an Ontology
-     * element).
-     *
-     * @param owlOntologyManager The manager that should be used to obtain a data factory,
-     * imported ontologies etc.
-     * @param ontology The ontology object that the XML representation should be parsed into.
-     * @param topHandler The handler for top level elements - may be <code>null</code>, in which
-     * case the parser will expect an Ontology element to be the root element.
-     * @deprecated
-     */
-    @Deprecated
-    public OWLXMLParserHandler(OWLOntologyManager owlOntologyManager, OWLOntology ontology, OWLElementHandler<?> topHandler, OWLOntologyLoaderConfiguration configuration) {
-        this(ontology, topHandler, configuration);
-    }
-
-    public OWLOntologyLoaderConfiguration getConfiguration() {
-        return configuration;
-    }
-
-    /**
-     * Gets the line number that the parser is at.
-     *
-     * @return A positive integer that represents the line number or
-     *         -1 if the line number is not known.
-     */
-    public int getLineNumber() {
-        if (locator != null) {
-            return locator.getLineNumber();
-        }
-        else {
-            return -1;
-        }
-    }
-
-    public int getColumnNumber() {
-        if (locator != null) {
-            return locator.getColumnNumber();
-        }
-        else {
-            return -1;
-        }
-    }
-
-    private Map<String, IRI> iriMap = new HashMap<String, IRI>();
-
-    public IRI getIRI(String iriStr) throws OWLParserException {
-        try {
-            IRI iri = iriMap.get(iriStr);
-            if (iri == null) {
-                URI uri = new URI(iriStr);
-                if (!uri.isAbsolute()) {
-                    URI base = getBase();
-                    if (base == null) {
-                        throw new OWLXMLParserException("Unable to resolve relative URI", getLineNumber(), getColumnNumber());
-                    }
-                    iri = IRI.create(base + iriStr);
-                }
-                else {
-                    iri = IRI.create(uri);
-                }
-                iriMap.put(iriStr, iri);
-            }
-            return iri;
-        }
-        catch (URISyntaxException e) {
-            throw new OWLParserURISyntaxException(e, getLineNumber(), getColumnNumber());
-        }
-    }
-
-    private String getNormalisedAbbreviatedIRI(String input) {
-        if (input.indexOf(':') != -1) {
-            return input;
-        }
-        else {
-            return ":" + input;
-        }
-    }
-
-    public IRI getAbbreviatedIRI(String abbreviatedIRI) throws OWLParserException {
-        String normalisedAbbreviatedIRI = getNormalisedAbbreviatedIRI(abbreviatedIRI);
-        int sepIndex = normalisedAbbreviatedIRI.indexOf(':');
-        String prefixName = normalisedAbbreviatedIRI.substring(0, sepIndex + 1);
-        String localName = normalisedAbbreviatedIRI.substring(sepIndex + 1);
-        String base = prefixName2PrefixMap.get(prefixName);
-        if (base == null) {
-            throw new OWLXMLParserException("Prefix name not defined: " + prefixName, getLineNumber(), getColumnNumber());
-        }
-        StringBuilder sb = new StringBuilder();
-        sb.append(base);
-        sb.append(localName);
-        return getIRI(sb.toString());
-    }
-
-
-    public Map<String, String> getPrefixName2PrefixMap() {
-        return prefixName2PrefixMap;
-    }
-
-
-    private void addFactory(OWLElementHandlerFactory factory, String... legacyElementNames) {
-        handlerMap.put(factory.getElementName(), factory);
+    private static void addFactory(Map<String, OWLElementHandlerFactory> map, OWLElementHandlerFactory factory, String... legacyElementNames) {
+        map.put(factory.getElementName(), factory);
         for (String elementName : legacyElementNames) {
-            handlerMap.put(elementName, factory);
+            map.put(elementName, factory);
         }
     }
 
@@ -942,7 +954,17 @@ public class OWLXMLParserHandler extends DefaultHandler {
 
     @Override
     public void endDocument() throws SAXException {
+        axioms.flush();
+    }
 
+
+    /**
+     * Schedules an axiom to be added to the ontology being parsed; axioms are
+     * added in batches, and the last batch when the end of the document is reached.
+     * @param axiom the parsed axiom
+     */
+    public void addAxiom(OWLAxiom axiom) {
+        axioms.add(axiom);
     }
 
 
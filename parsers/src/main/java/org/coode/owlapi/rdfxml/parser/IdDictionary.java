@@ -0,0 +1,158 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.coode.owlapi.rdfxml.parser;
+
+import java.util.Arrays;
+
+/**
+ * Interns objects (IRIs and literals) into dense int ids, so that the triples
+ * and type sets built while parsing RDF can be stored as ints and bits rather
+ * than as maps of objects. Ids are assigned in order from 0 and are stable
+ * until the dictionary is cleared. Like the hash sets it replaces, the
+ * dictionary accepts null.
+ * 
+ * @author ignazio
+ * @param <E>
+ *            type of the interned objects
+ */
+class IdDictionary<E> {
+    static final int NONE = -1;
+    private Object[] values = new Object[64];
+    // open addressing table of ids, NONE for empty cells
+    private int[] table = newTable(128);
+    private int size = 0;
+
+    private static int[] newTable(int capacity) {
+        int[] t = new int[capacity];
+        Arrays.fill(t, NONE);
+        return t;
+    }
+
+    private static int hash(Object o) {
+        if (o == null) {
+            return 0;
+        }
+        int h = o.hashCode() * 0x9E3779B9;
+        return h ^ h >>> 16;
+    }
+
+    private static boolean equal(Object a, Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    /**
+     * @param value
+     *            the object to intern
+     * @return the id of the object, assigning a new one if the object has not
+     *         been seen before
+     */
+    int getId(E value) {
+        int mask = table.length - 1;
+        int i = hash(value) & mask;
+        for (int id = table[i]; id != NONE; id = table[i]) {
+            if (equal(value, values[id])) {
+                return id;
+            }
+            i = i + 1 & mask;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        int id = size++;
+        values[id] = value;
+        table[i] = id;
+        if (size * 2 > table.length) {
+            rehash();
+        }
+        return id;
+    }
+
+    /**
+     * @param value
+     *            the object to look up
+     * @return the id of the object, or {@link #NONE} if the object has not
+     *         been interned; no id is assigned
+     */
+    int lookup(Object value) {
+        int mask = table.length - 1;
+        int i = hash(value) & mask;
+        for (int id = table[i]; id != NONE; id = table[i]) {
+            if (equal(value, values[id])) {
+                return id;
+            }
+            i = i + 1 & mask;
+        }
+        return NONE;
+    }
+
+    /**
+     * @param id
+     *            an id returned by this dictionary
+     * @return the object with the id
+     */
+    @SuppressWarnings("unchecked")
+    E get(int id) {
+        return (E) values[id];
+    }
+
+    /** @return the number of interned objects */
+    int size() {
+        return size;
+    }
+
+    /** forgets all objects; ids handed out before are no longer valid */
+    void clear() {
+        values = new Object[64];
+        table = newTable(128);
+        size = 0;
+    }
+
+    private void rehash() {
+        int[] t = newTable(table.length * 2);
+        int mask = t.length - 1;
+        for (int id = 0; id < size; id++) {
+            int i = hash(values[id]) & mask;
+            while (t[i] != NONE) {
+                i = i + 1 & mask;
+            }
+            t[i] = id;
+        }
+        table = t;
+    }
+}
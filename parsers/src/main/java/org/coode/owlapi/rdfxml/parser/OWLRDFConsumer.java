@@ -42,6 +42,7 @@ package org.coode.owlapi.rdfxml.parser;
 import static org.semanticweb.owlapi.vocab.OWLRDFVocabulary.*;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -53,6 +54,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.semanticweb.owlapi.io.BufferedAxiomSink;
 import org.semanticweb.owlapi.io.RDFLiteral;
 import org.semanticweb.owlapi.io.RDFNode;
 import org.semanticweb.owlapi.io.RDFOntologyFormat;
@@ -144,31 +146,31 @@ public class OWLRDFConsumer implements RDFConsumer {
     // an an owl:Class, or are inferred to be an owl:Class
     // because they are used in some triple whose predicate
     // has the domain or range of owl:Class
-    private Set<IRI> classExpressionIRIs;
+    private final BitSet classExpressionIRIs = new BitSet();
 
     // Same as classExpressionIRIs but for object properties
-    private Set<IRI> objectPropertyExpressionIRIs;
+    private final BitSet objectPropertyExpressionIRIs = new BitSet();
 
     // Same as classExpressionIRIs but for data properties
-    private Set<IRI> dataPropertyExpressionIRIs;
+    private final BitSet dataPropertyExpressionIRIs = new BitSet();
 
     // Same as classExpressionIRIs but for rdf properties
     // things neither typed as a data or object property - bad!
-    private Set<IRI> propertyIRIs;
+    private final BitSet propertyIRIs = new BitSet();
 
 
     // Set of IRIs that are typed by non-system types and
     // also owl:Thing
-    private Set<IRI> individualIRIs;
+    private final BitSet individualIRIs = new BitSet();
 
 
     // Same as classExpressionIRIs but for annotation properties
-    private Set<IRI> annotationPropertyIRIs;
+    private final BitSet annotationPropertyIRIs = new BitSet();
 
-    private Set<IRI> annotationIRIs;
+    private final BitSet annotationIRIs = new BitSet();
 
     // IRIs that had a type triple to rdfs:Datatange
-    private Set<IRI> dataRangeIRIs;
+    private final BitSet dataRangeIRIs = new BitSet();
 
     // The IRI of the first reource that is typed as an ontology
     private IRI firstOntologyIRI;
@@ -177,17 +179,16 @@ public class OWLRDFConsumer implements RDFConsumer {
     private Set<IRI> ontologyIRIs;
 
     // IRIs that had a type triple to owl:Restriction
-    private Set<IRI> restrictionIRIs;
+    private final BitSet restrictionIRIs = new BitSet();
 
-    // Maps rdf:next triple subjects to objects
-    private Map<IRI, IRI> listRestTripleMap;
+    // rdf:first and rdf:rest triples of lists, with resource objects
+    private final TripleTable listTriples = new TripleTable();
 
-    private Map<IRI, IRI> listFirstResourceTripleMap;
+    // rdf:first triples of lists, with literal objects
+    private final TripleTable listLiteralTriples = new TripleTable();
 
-    private Map<IRI, OWLLiteral> listFirstLiteralTripleMap;
 
-
-    private Set<IRI> axioms = new HashSet<IRI>();
+    private final BitSet axioms = new BitSet();
 
     private Map<IRI, Object> sharedAnonymousNodes = new HashMap<IRI, Object>();
 
@@ -293,12 +294,20 @@ public class OWLRDFConsumer implements RDFConsumer {
 
     private TPTypeHandler nonBuiltInTypeHandler;
 
+    private TPImportsHandler importsHandler;
+
+    /** imports being loaded on the executor of the configuration; they are used once all triples have been parsed */
+    private List<OWLImportsDeclaration> pendingImports = new ArrayList<OWLImportsDeclaration>();
+
 
     /**
      * A cache of annotation axioms to be added at the end - saves some peek memory doing this
      */
     private Collection<OWLAnnotationAxiom> parsedAnnotationAxioms = new ArrayList<OWLAnnotationAxiom>();
 
+    /** parsed axioms other than annotation axioms, added to the ontology in batches */
+    private final BufferedAxiomSink axiomSink;
+
     private Collection<OWLAxiom> axiomsToBeRemoved = new ArrayList<OWLAxiom>();
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -311,6 +320,7 @@ public class OWLRDFConsumer implements RDFConsumer {
         dataFactory = owlOntologyManager.getOWLDataFactory();
         anonymousNodeChecker = checker;
         this.configuration = configuration;
+        axiomSink = new BufferedAxiomSink(ontology, configuration);
 
         classExpressionTranslators.add(new NamedClassTranslator(this));
         classExpressionTranslators.add(new ObjectIntersectionOfTranslator(this));
@@ -343,23 +353,14 @@ public class OWLRDFConsumer implements RDFConsumer {
 
 
 
-        classExpressionIRIs = CollectionFactory.createSet();
-        objectPropertyExpressionIRIs = CollectionFactory.createSet();
-        dataPropertyExpressionIRIs = CollectionFactory.createSet();
-        individualIRIs = CollectionFactory.createSet();
-        annotationPropertyIRIs = CollectionFactory.createSet();
         for (IRI iri : OWLRDFVocabulary.BUILT_IN_ANNOTATION_PROPERTY_IRIS) {
-            annotationPropertyIRIs.add(iri);
+            set(annotationPropertyIRIs, iri);
         }
-        annotationIRIs = new HashSet<IRI>();
 
-        dataRangeIRIs = CollectionFactory.createSet();
-        propertyIRIs = CollectionFactory.createSet();
-        restrictionIRIs = CollectionFactory.createSet();
         ontologyIRIs = CollectionFactory.createSet();
-        listFirstLiteralTripleMap = CollectionFactory.createMap();
-        listFirstResourceTripleMap = CollectionFactory.createMap();
-        listRestTripleMap = CollectionFactory.createMap();
+        listTriples.setSingleValued(iriIds.getId(RDF_FIRST.getIRI()));
+        listTriples.setSingleValued(iriIds.getId(RDF_REST.getIRI()));
+        listLiteralTriples.setSingleValued(iriIds.getId(RDF_FIRST.getIRI()));
         classExpressionListTranslator = new OptimisedListTranslator<OWLClassExpression>(this, new ClassExpressionListItemTranslator(this));
         individualListTranslator = new OptimisedListTranslator<OWLIndividual>(this, new IndividualListItemTranslator(this));
         constantListTranslator = new OptimisedListTranslator<OWLLiteral>(this, new TypedConstantListItemTranslator(this));
@@ -397,13 +398,13 @@ public class OWLRDFConsumer implements RDFConsumer {
 
 
         for (OWL2Datatype dt : OWL2Datatype.values()) {
-            dataRangeIRIs.add(dt.getIRI());
+            set(dataRangeIRIs, dt.getIRI());
         }
-        dataRangeIRIs.add(OWLRDFVocabulary.RDFS_LITERAL.getIRI());
+        set(dataRangeIRIs, OWLRDFVocabulary.RDFS_LITERAL.getIRI());
 
         if(!configuration.isStrict()) {
             for(XSDVocabulary vocabulary : XSDVocabulary.values()) {
-                dataRangeIRIs.add(vocabulary.getIRI());
+                set(dataRangeIRIs, vocabulary.getIRI());
             }
         }
 
@@ -417,14 +418,14 @@ public class OWLRDFConsumer implements RDFConsumer {
         swrlSameAsAtoms = new HashSet<IRI>();
         swrlDifferentFromAtoms = new HashSet<IRI>();
 
-        classExpressionIRIs.add(OWLRDFVocabulary.OWL_THING.getIRI());
-        classExpressionIRIs.add(OWLRDFVocabulary.OWL_NOTHING.getIRI());
+        set(classExpressionIRIs, OWLRDFVocabulary.OWL_THING.getIRI());
+        set(classExpressionIRIs, OWLRDFVocabulary.OWL_NOTHING.getIRI());
 
-        objectPropertyExpressionIRIs.add(OWLRDFVocabulary.OWL_TOP_OBJECT_PROPERTY.getIRI());
-        objectPropertyExpressionIRIs.add(OWLRDFVocabulary.OWL_BOTTOM_OBJECT_PROPERTY.getIRI());
+        set(objectPropertyExpressionIRIs, OWLRDFVocabulary.OWL_TOP_OBJECT_PROPERTY.getIRI());
+        set(objectPropertyExpressionIRIs, OWLRDFVocabulary.OWL_BOTTOM_OBJECT_PROPERTY.getIRI());
 
-        dataPropertyExpressionIRIs.add(OWLRDFVocabulary.OWL_TOP_DATA_PROPERTY.getIRI());
-        dataPropertyExpressionIRIs.add(OWLRDFVocabulary.OWL_BOTTOM_DATA_PROPERTY.getIRI());
+        set(dataPropertyExpressionIRIs, OWLRDFVocabulary.OWL_TOP_DATA_PROPERTY.getIRI());
+        set(dataPropertyExpressionIRIs, OWLRDFVocabulary.OWL_BOTTOM_DATA_PROPERTY.getIRI());
 
 
         setupSynonymMap();
@@ -447,8 +448,7 @@ public class OWLRDFConsumer implements RDFConsumer {
     }
 
     private void addSingleValuedResPredicate(OWLRDFVocabulary v) {
-        Map<IRI, IRI> map = CollectionFactory.createMap();
-        singleValuedResTriplesByPredicate.put(v.getIRI(), map);
+        resTriples.setSingleValued(iriIds.getId(v.getIRI()));
     }
 
     private void setupSinglePredicateMaps() {
@@ -708,7 +708,8 @@ public class OWLRDFConsumer implements RDFConsumer {
         nonBuiltInTypeHandler = new TPTypeHandler(this);
         addPredicateHandler(nonBuiltInTypeHandler);
         addPredicateHandler(new TPDistinctMembersHandler(this));
-        addPredicateHandler(new TPImportsHandler(this));
+        importsHandler = new TPImportsHandler(this);
+        addPredicateHandler(importsHandler);
         addPredicateHandler(new TPIntersectionOfHandler(this));
         addPredicateHandler(new TPUnionOfHandler(this));
         addPredicateHandler(new TPComplementOfHandler(this));
@@ -798,22 +799,22 @@ public class OWLRDFConsumer implements RDFConsumer {
         // We also mop up any triples that weren't parsed and consumed in the imports closure.
         for (OWLOntology ont : owlOntologyManager.getImportsClosure(ontology)) {
             for (OWLAnnotationProperty prop : ont.getAnnotationPropertiesInSignature()) {
-                annotationPropertyIRIs.add(prop.getIRI());
+                set(annotationPropertyIRIs, prop.getIRI());
             }
             for (OWLDataProperty prop : ont.getDataPropertiesInSignature()) {
-                dataPropertyExpressionIRIs.add(prop.getIRI());
+                set(dataPropertyExpressionIRIs, prop.getIRI());
             }
             for (OWLObjectProperty prop : ont.getObjectPropertiesInSignature()) {
-                objectPropertyExpressionIRIs.add(prop.getIRI());
+                set(objectPropertyExpressionIRIs, prop.getIRI());
             }
             for (OWLClass cls : ont.getClassesInSignature()) {
-                classExpressionIRIs.add(cls.getIRI());
+                set(classExpressionIRIs, cls.getIRI());
             }
             for (OWLDatatype datatype : ont.getDatatypesInSignature()) {
-                dataRangeIRIs.add(datatype.getIRI());
+                set(dataRangeIRIs, datatype.getIRI());
             }
             for (OWLNamedIndividual ind : ont.getIndividualsInSignature()) {
-                individualIRIs.add(ind.getIRI());
+                set(individualIRIs, ind.getIRI());
             }
 
         }
@@ -926,7 +927,7 @@ public class OWLRDFConsumer implements RDFConsumer {
             }
         }
         else {
-            owlOntologyManager.addAxiom(ontology, axiom);
+            axiomSink.add(axiom);
         }
         lastAddedAxiom = axiom;
     }
@@ -996,23 +997,27 @@ public class OWLRDFConsumer implements RDFConsumer {
         applyChange(new AddImport(ontology, declaration));
     }
 
+    protected void addPendingImport(OWLImportsDeclaration declaration) {
+        pendingImports.add(declaration);
+    }
+
     public OWLAxiom getLastAddedAxiom() {
         return lastAddedAxiom;
     }
 
 
     protected boolean isIndividual(IRI iri) {
-        return individualIRIs.contains(iri);
+        return contains(individualIRIs, iri);
     }
 
 
     protected void addRDFProperty(IRI iri) {
-        propertyIRIs.add(iri);
+        set(propertyIRIs, iri);
     }
 
 
     protected boolean isRDFProperty(IRI iri) {
-        return propertyIRIs.contains(iri);
+        return contains(propertyIRIs, iri);
     }
 
     public void addClassExpression(IRI iri, boolean explicitlyTyped) {
@@ -1020,7 +1025,7 @@ public class OWLRDFConsumer implements RDFConsumer {
     }
 
     public boolean isClassExpression(IRI iri) {
-        return classExpressionIRIs.contains(iri);
+        return contains(classExpressionIRIs, iri);
     }
 
     public void addObjectProperty(IRI iri, boolean explicitlyTyped) {
@@ -1051,28 +1056,37 @@ public class OWLRDFConsumer implements RDFConsumer {
     }
 
 
-    private void addType(IRI iri, Set<IRI> types, boolean explicitlyTyped) {
+    private void addType(IRI iri, BitSet types, boolean explicitlyTyped) {
         if (configuration.isStrict()) {
             if (explicitlyTyped) {
-                types.add(iri);
+                set(types, iri);
             }
         }
         else {
-            types.add(iri);
+            set(types, iri);
         }
     }
 
+    private void set(BitSet types, IRI iri) {
+        types.set(iriIds.getId(iri));
+    }
+
+    private boolean contains(BitSet types, IRI iri) {
+        int id = iriIds.lookup(iri);
+        return id != IdDictionary.NONE && types.get(id);
+    }
+
 
     public boolean isRestriction(IRI iri) {
-        return restrictionIRIs.contains(iri);
+        return contains(restrictionIRIs, iri);
     }
 
     protected void addAnnotationIRI(IRI iri) {
-        annotationIRIs.add(iri);
+        set(annotationIRIs, iri);
     }
 
     protected boolean isAnnotation(IRI iri) {
-        return annotationIRIs.contains(iri);
+        return contains(annotationIRIs, iri);
     }
 
 
@@ -1085,11 +1099,11 @@ public class OWLRDFConsumer implements RDFConsumer {
      *         an annotation property IRI.  Otherwise, <code>false</code>.
      */
     protected boolean isObjectPropertyOnly(IRI iri) {
-        return iri != null && !dataPropertyExpressionIRIs.contains(iri) && !annotationPropertyIRIs.contains(iri) && objectPropertyExpressionIRIs.contains(iri);
+        return iri != null && !contains(dataPropertyExpressionIRIs, iri) && !contains(annotationPropertyIRIs, iri) && contains(objectPropertyExpressionIRIs, iri);
     }
 
     protected boolean isObjectProperty(IRI iri) {
-        return objectPropertyExpressionIRIs.contains(iri);
+        return contains(objectPropertyExpressionIRIs, iri);
     }
 
 
@@ -1102,11 +1116,11 @@ public class OWLRDFConsumer implements RDFConsumer {
      *         an annotation property IRI.  Otherwise, <code>false</code>.
      */
     protected boolean isDataPropertyOnly(IRI iri) {
-        return iri != null && !objectPropertyExpressionIRIs.contains(iri) && !annotationPropertyIRIs.contains(iri) && dataPropertyExpressionIRIs.contains(iri);
+        return iri != null && !contains(objectPropertyExpressionIRIs, iri) && !contains(annotationPropertyIRIs, iri) && contains(dataPropertyExpressionIRIs, iri);
     }
 
     protected boolean isDataProperty(IRI iri) {
-        return dataPropertyExpressionIRIs.contains(iri);
+        return contains(dataPropertyExpressionIRIs, iri);
     }
 
     /**
@@ -1118,11 +1132,11 @@ public class OWLRDFConsumer implements RDFConsumer {
      *         an object property IRI.  Otherwise, <code>false</code>.
      */
     protected boolean isAnnotationPropertyOnly(IRI iri) {
-        return iri != null && !objectPropertyExpressionIRIs.contains(iri) && !dataPropertyExpressionIRIs.contains(iri) && annotationPropertyIRIs.contains(iri);
+        return iri != null && !contains(objectPropertyExpressionIRIs, iri) && !contains(dataPropertyExpressionIRIs, iri) && contains(annotationPropertyIRIs, iri);
     }
 
     protected boolean isAnnotationProperty(IRI iri) {
-        return annotationPropertyIRIs.contains(iri);
+        return contains(annotationPropertyIRIs, iri);
     }
 
 
@@ -1391,39 +1405,18 @@ public class OWLRDFConsumer implements RDFConsumer {
 
     protected void dumpRemainingTriples() {
         if (logger.isLoggable(Level.FINE)) {
-            for (IRI predicate : singleValuedResTriplesByPredicate.keySet()) {
-                Map<IRI, IRI> map = singleValuedResTriplesByPredicate.get(predicate);
-                for (IRI subject : map.keySet()) {
-                    IRI object = map.get(subject);
+            iterateResourceTriples(new ResourceTripleIterator<RuntimeException>() {
+                @Override
+                public void handleResourceTriple(IRI subject, IRI predicate, IRI object) {
                     printTriple(subject, predicate, object);
                 }
-            }
-            for (IRI predicate : singleValuedLitTriplesByPredicate.keySet()) {
-                Map<IRI, OWLLiteral> map = singleValuedLitTriplesByPredicate
-                        .get(predicate);
-                for (IRI subject : map.keySet()) {
-                    OWLLiteral object = map.get(subject);
+            });
+            iterateLiteralTriples(new LiteralTripleIterator<RuntimeException>() {
+                @Override
+                public void handleLiteralTriple(IRI subject, IRI predicate, OWLLiteral object) {
                     printTriple(subject, predicate, object);
                 }
-            }
-            for (IRI subject : new ArrayList<IRI>(resTriplesBySubject.keySet())) {
-                Map<IRI, Collection<IRI>> map = resTriplesBySubject.get(subject);
-                for (IRI predicate : new ArrayList<IRI>(map.keySet())) {
-                    Collection<IRI> objects = map.get(predicate);
-                    for (IRI object : objects) {
-                        printTriple(subject, predicate, object);
-                    }
-                }
-            }
-            for (IRI subject : new ArrayList<IRI>(litTriplesBySubject.keySet())) {
-                Map<IRI, Collection<OWLLiteral>> map = litTriplesBySubject.get(subject);
-                for (IRI predicate : new ArrayList<IRI>(map.keySet())) {
-                    Collection<OWLLiteral> objects = map.get(predicate);
-                    for (OWLLiteral object : objects) {
-                        printTriple(subject, predicate, object);
-                    }
-                }
-            }
+            });
         }
     }
 
@@ -1449,6 +1442,163 @@ public class OWLRDFConsumer implements RDFConsumer {
     @Override
     public void startModel(String string) throws SAXException {
         count = 0;
+        resBlockStart = 0;
+        litBlockStart = 0;
+        countAtRetry = 0;
+    }
+
+    // Streaming mode: first slots of the triple tables that belong to the current subject block
+    private int resBlockStart = 0;
+
+    private int litBlockStart = 0;
+
+    private int swrlNodesAtBlockStart = 0;
+
+    // Streaming mode: number of triples parsed at the last retry of the deferred triples
+    private int countAtRetry = 0;
+
+    // Streaming mode: bound on the nesting of anonymous nodes checked by isResolved
+    private static final int MAX_RESOLVE_DEPTH = 64;
+
+    /**
+     * Called by the RDF/XML parser when a top level node element has ended.  In streaming mode
+     * (see {@link OWLOntologyLoaderConfiguration#isStreamingRDF()}) the triples stored since the
+     * previous call, which all belong to the node element and the anonymous nodes nested in it,
+     * are translated now rather than at the end of parsing, and the memory they used is released.
+     * A triple is only translated early if every named resource it reaches, directly or through
+     * nested anonymous nodes and lists, has already been typed, so that its translation cannot
+     * change with the rest of the document (unless an IRI is typed as more than one kind of property).  The other triples are retried each time more triples
+     * have been parsed than are pending, and whatever is left is translated by {@link #endModel()}:
+     * this includes reified axioms and annotations, SWRL rules, triples about shared anonymous
+     * nodes, and triples about entities that are never declared.
+     * @throws UnloadableImportException if an import cannot be loaded
+     */
+    public void endSubjectBlock() throws UnloadableImportException {
+        if (!configuration.isStreamingRDF() || parsedAllTriples) {
+            return;
+        }
+        int swrlNodes = swrlNodeCount();
+        if (swrlNodes == swrlNodesAtBlockStart) {
+            if (count - countAtRetry > resTriples.size() + litTriples.size() + 1024) {
+                // retry the triples deferred by previous blocks as well
+                translateResolvedTriples(0, 0);
+                countAtRetry = count;
+            }
+            else {
+                translateResolvedTriples(resBlockStart, litBlockStart);
+            }
+        }
+        swrlNodesAtBlockStart = swrlNodes;
+        compact(resTriples);
+        compact(litTriples);
+        compact(listTriples);
+        compact(listLiteralTriples);
+        resBlockStart = resTriples.slots();
+        litBlockStart = litTriples.slots();
+        if (parsedAnnotationAxioms.size() >= configuration.getAxiomBatchSize()) {
+            addAnnotationAxioms();
+        }
+    }
+
+    private void translateResolvedTriples(int resStart, int litStart) throws UnloadableImportException {
+        for (int i = resStart, n = resTriples.slots(); i < n; i++) {
+            if (resTriples.isLive(i)) {
+                IRI subject = iriIds.get(resTriples.getSubject(i));
+                IRI predicate = iriIds.get(resTriples.getPredicate(i));
+                IRI object = iriIds.get(resTriples.getObject(i));
+                if (isTranslatableInBlock(subject, predicate) && isResolved(object, 0)) {
+                    handle(subject, predicate, object);
+                }
+            }
+        }
+        for (int i = litStart, n = litTriples.slots(); i < n; i++) {
+            if (litTriples.isLive(i)) {
+                IRI subject = iriIds.get(litTriples.getSubject(i));
+                IRI predicate = iriIds.get(litTriples.getPredicate(i));
+                if (isTranslatableInBlock(subject, predicate)) {
+                    handle(subject, predicate, literalIds.get(litTriples.getObject(i)));
+                }
+            }
+        }
+    }
+
+    private boolean isTranslatableInBlock(IRI subject, IRI predicate) {
+        if (isAxiom(subject) || isAnnotation(subject)) {
+            return false;
+        }
+        return isResolvedPredicate(predicate) && isResolved(subject, 0);
+    }
+
+    private boolean isResolvedPredicate(IRI predicate) {
+        if (predicate.equals(RDF_TYPE.getIRI()) || !isGeneralPredicate(predicate)) {
+            return true;
+        }
+        // annotation or property assertion: only decidable once the predicate has been typed
+        return isObjectProperty(predicate) || isDataProperty(predicate) || isAnnotationProperty(predicate);
+    }
+
+    /**
+     * Determines whether the translation of a node cannot change with triples that have not been
+     * parsed yet: named nodes must be typed, anonymous nodes must have all their triples (and the
+     * elements of the list they start, if any) resolved.
+     */
+    private boolean isResolved(IRI node, int depth) {
+        if (!isAnonymousNode(node)) {
+            return node.isReservedVocabulary() || isTyped(node);
+        }
+        if (depth > MAX_RESOLVE_DEPTH || isSharedAnonymousNode(node) || isAxiom(node) || isAnnotation(node)) {
+            return false;
+        }
+        int first = iriIds.getId(RDF_FIRST.getIRI());
+        int rest = iriIds.getId(RDF_REST.getIRI());
+        int steps = listTriples.size();
+        for (int s = iriIds.lookup(node); s != IdDictionary.NONE; ) {
+            for (int p : resTriples.getPredicates(s)) {
+                if (!isResolvedPredicate(iriIds.get(p))) {
+                    return false;
+                }
+                for (int o : resTriples.getObjects(s, p)) {
+                    if (o != s && !isResolved(iriIds.get(o), depth + 1)) {
+                        return false;
+                    }
+                }
+            }
+            for (int p : litTriples.getPredicates(s)) {
+                if (!isResolvedPredicate(iriIds.get(p))) {
+                    return false;
+                }
+            }
+            int element = listTriples.getObject(s, first, false);
+            if (element != IdDictionary.NONE && !isResolved(iriIds.get(element), depth + 1)) {
+                return false;
+            }
+            int next = listTriples.getObject(s, rest, false);
+            if (next == IdDictionary.NONE || !isAnonymousNode(iriIds.get(next))) {
+                break;
+            }
+            if (--steps < 0 || isSharedAnonymousNode(iriIds.get(next))) {
+                return false;
+            }
+            s = next;
+        }
+        return true;
+    }
+
+    private boolean isTyped(IRI iri) {
+        int id = iriIds.lookup(iri);
+        return id != IdDictionary.NONE && (classExpressionIRIs.get(id) || objectPropertyExpressionIRIs.get(id) || dataPropertyExpressionIRIs.get(id) || annotationPropertyIRIs.get(id) || dataRangeIRIs.get(id) || individualIRIs.get(id) || isOntology(iri));
+    }
+
+    private int swrlNodeCount() {
+        return swrlRules.size() + swrlIndividualPropertyAtoms.size() + swrlDataValuedPropertyAtoms.size() + swrlClassAtoms.size() + swrlDataRangeAtoms.size() + swrlBuiltInAtoms.size() + swrlVariables.size() + swrlSameAsAtoms.size() + swrlDifferentFromAtoms.size();
+    }
+
+    private static void compact(TripleTable triples) {
+        // amortised: only rebuild when most of the table is consumed triples
+        int dead = triples.slots() - triples.size();
+        if (dead > 1024 && dead > triples.size()) {
+            triples.compact();
+        }
     }
 
     public boolean isParsedAllTriples() {
@@ -1467,6 +1617,12 @@ public class OWLRDFConsumer implements RDFConsumer {
             tripleProcessor.fine("Total number of triples: " + count);
             RDFOntologyFormat format = ontologyFormat;
 
+            // Imports loaded while parsing are needed from here on
+            for (OWLImportsDeclaration declaration : pendingImports) {
+                importsHandler.importLoaded(declaration);
+            }
+            pendingImports.clear();
+
 
             consumeSWRLRules();
 
@@ -1531,6 +1687,7 @@ public class OWLRDFConsumer implements RDFConsumer {
 
             dumpRemainingTriples();
             cleanup();
+            axiomSink.flush();
             addAnnotationAxioms();
             removeAxiomsScheduledForRemoval();
         }
@@ -1540,9 +1697,10 @@ public class OWLRDFConsumer implements RDFConsumer {
     }
 
     private void addAnnotationAxioms() {
-        for(OWLAxiom axiom : parsedAnnotationAxioms) {
-            owlOntologyManager.addAxiom(ontology, axiom);
-        }
+        // in batches, rather than through a copy of all annotation axioms
+        axiomSink.addAll(parsedAnnotationAxioms);
+        axiomSink.flush();
+        parsedAnnotationAxioms.clear();
     }
 
     private void removeAxiomsScheduledForRemoval() {
@@ -1669,14 +1827,12 @@ public class OWLRDFConsumer implements RDFConsumer {
         dataPropertyExpressionIRIs.clear();
         dataRangeIRIs.clear();
         restrictionIRIs.clear();
-        listFirstLiteralTripleMap.clear();
-        listFirstResourceTripleMap.clear();
-        listRestTripleMap.clear();
+        listTriples.clear();
+        listLiteralTriples.clear();
         translatedClassExpression.clear();
-        resTriplesBySubject.clear();
-        litTriplesBySubject.clear();
-        singleValuedLitTriplesByPredicate.clear();
-        singleValuedResTriplesByPredicate.clear();
+        resTriples.clear();
+        litTriples.clear();
+        literalIds.clear();
     }
 
 
@@ -1732,6 +1888,31 @@ public class OWLRDFConsumer implements RDFConsumer {
         }
     }
 
+    /**
+     * Called when a resource triple has been parsed by a parser which creates
+     * the IRIs itself, possibly on other threads.
+     * @param subject The subject of the triple that has been parsed
+     * @param predicate The predicate of the triple that has been parsed
+     * @param object The object of the triple that has been parsed
+     * @throws UnloadableImportException if an import cannot be loaded
+     */
+    public void statementWithResourceValue(IRI subject, IRI predicate, IRI object) throws UnloadableImportException {
+        incrementTripleCount();
+        handleStreaming(subject, getSynonym(predicate), getSynonym(object));
+    }
+
+    /**
+     * Called when a literal triple has been parsed by a parser which creates
+     * the IRIs and the literal itself, possibly on other threads.
+     * @param subject The subject of the triple that has been parsed
+     * @param predicate The predicate of the triple that has been parsed
+     * @param object The literal of the triple that has been parsed
+     */
+    public void statementWithLiteralValue(IRI subject, IRI predicate, OWLLiteral object) {
+        incrementTripleCount();
+        handleStreaming(subject, getSynonym(predicate), object);
+    }
+
     /**
      * Called when a resource triple has been parsed.
      * @param subject The subject of the triple that has been parsed
@@ -1937,7 +2118,7 @@ public class OWLRDFConsumer implements RDFConsumer {
             else {
                 prop = dataFactory.getOWLObjectInverseOf(dataFactory.getOWLObjectProperty(mainNode));
             }
-            objectPropertyExpressionIRIs.add(mainNode);
+            set(objectPropertyExpressionIRIs, mainNode);
             translatedProperties.put(mainNode, prop);
         }
         return prop;
@@ -2115,13 +2296,14 @@ public class OWLRDFConsumer implements RDFConsumer {
 
     public Set<IRI> getPredicatesBySubject(IRI subject) {
         Set<IRI> IRIs = new HashSet<IRI>();
-        Map<IRI, Collection<IRI>> predObjMap = resTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            IRIs.addAll(predObjMap.keySet());
-        }
-        Map<IRI, Collection<OWLLiteral>> predObjMapLit = litTriplesBySubject.get(subject);
-        if (predObjMapLit != null) {
-            IRIs.addAll(predObjMapLit.keySet());
+        int s = iriIds.lookup(subject);
+        if (s != IdDictionary.NONE) {
+            for (int p : resTriples.getPredicates(s)) {
+                IRIs.add(iriIds.get(p));
+            }
+            for (int p : litTriples.getPredicates(s)) {
+                IRIs.add(iriIds.get(p));
+            }
         }
         return IRIs;
     }
@@ -2133,54 +2315,11 @@ public class OWLRDFConsumer implements RDFConsumer {
 
 
     public IRI getResourceObject(IRI subject, IRI predicate, boolean consume) {
-
-        Map<IRI, IRI> subjPredMap = singleValuedResTriplesByPredicate.get(predicate);
-        if (subjPredMap != null) {
-            IRI obj = subjPredMap.get(subject);
-            if (consume) {
-                subjPredMap.remove(subject);
-            }
-            return obj;
-        }
-        Map<IRI, Collection<IRI>> predObjMap = resTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<IRI> objects = predObjMap.get(predicate);
-            if (objects != null) {
-                if (!objects.isEmpty()) {
-                    IRI object = objects.iterator().next();
-                    if (consume) {
-                        objects.remove(object);
-                    }
-                    if (objects.isEmpty()) {
-                        predObjMap.remove(predicate);
-                        if (predObjMap.isEmpty()) {
-                            resTriplesBySubject.remove(subject);
-                        }
-                    }
-                    return object;
-                }
-            }
-        }
-        return null;
+        return getObject(resTriples, iriIds, subject, predicate, consume);
     }
 
     public Set<IRI> getResourceObjects(IRI subject, IRI predicate) {
-        Set<IRI> result = new HashSet<IRI>();
-        Map<IRI, IRI> subjPredMap = singleValuedResTriplesByPredicate.get(predicate);
-        if (subjPredMap != null) {
-            IRI obj = subjPredMap.get(subject);
-            if (obj != null) {
-                result.add(obj);
-            }
-        }
-        Map<IRI, Collection<IRI>> predObjMap = resTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<IRI> objects = predObjMap.get(predicate);
-            if (objects != null) {
-                result.addAll(objects);
-            }
-        }
-        return result;
+        return getObjects(resTriples, iriIds, subject, predicate);
     }
 
     public OWLLiteral getLiteralObject(IRI subject, OWLRDFVocabulary predicate, boolean consume) {
@@ -2188,47 +2327,30 @@ public class OWLRDFConsumer implements RDFConsumer {
     }
 
     public OWLLiteral getLiteralObject(IRI subject, IRI predicate, boolean consume) {
-        Map<IRI, OWLLiteral> subjPredMap = singleValuedLitTriplesByPredicate.get(predicate);
-        if (subjPredMap != null) {
-            OWLLiteral obj = subjPredMap.get(subject);
-            if (consume) {
-                subjPredMap.remove(subject);
-            }
-            return obj;
-        }
-        Map<IRI, Collection<OWLLiteral>> predObjMap = litTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<OWLLiteral> objects = predObjMap.get(predicate);
-            if (objects != null) {
-                if (!objects.isEmpty()) {
-                    OWLLiteral object = objects.iterator().next();
-                    if (consume) {
-                        objects.remove(object);
-                    }
-                    if (objects.isEmpty()) {
-                        predObjMap.remove(predicate);
-                    }
-                    return object;
-                }
-            }
-        }
-        return null;
+        return getObject(litTriples, literalIds, subject, predicate, consume);
     }
 
     public Set<OWLLiteral> getLiteralObjects(IRI subject, IRI predicate) {
-        Set<OWLLiteral> result = new HashSet<OWLLiteral>();
-        Map<IRI, OWLLiteral> subjPredMap = singleValuedLitTriplesByPredicate.get(predicate);
-        if (subjPredMap != null) {
-            OWLLiteral obj = subjPredMap.get(subject);
-            if (obj != null) {
-                result.add(obj);
-            }
+        return getObjects(litTriples, literalIds, subject, predicate);
+    }
+
+    private <O> O getObject(TripleTable triples, IdDictionary<O> objects, IRI subject, IRI predicate, boolean consume) {
+        int s = iriIds.lookup(subject);
+        int p = iriIds.lookup(predicate);
+        if (s == IdDictionary.NONE || p == IdDictionary.NONE) {
+            return null;
         }
-        Map<IRI, Collection<OWLLiteral>> predObjMap = litTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<OWLLiteral> objects = predObjMap.get(predicate);
-            if (objects != null) {
-                result.addAll(objects);
+        int o = triples.getObject(s, p, consume);
+        return o == IdDictionary.NONE ? null : objects.get(o);
+    }
+
+    private <O> Set<O> getObjects(TripleTable triples, IdDictionary<O> objects, IRI subject, IRI predicate) {
+        Set<O> result = new HashSet<O>();
+        int s = iriIds.lookup(subject);
+        int p = iriIds.lookup(predicate);
+        if (s != IdDictionary.NONE && p != IdDictionary.NONE) {
+            for (int o : triples.getObjects(s, p)) {
+                result.add(objects.get(o));
             }
         }
         return result;
@@ -2236,34 +2358,17 @@ public class OWLRDFConsumer implements RDFConsumer {
 
 
     public boolean isTriplePresent(IRI subject, IRI predicate, IRI object, boolean consume) {
-        Map<IRI, IRI> subjPredMap = singleValuedResTriplesByPredicate.get(predicate);
-        if (subjPredMap != null) {
-            IRI obj = subjPredMap.get(subject);
-            if (consume) {
-                subjPredMap.remove(subject);
-            }
-            return obj != null;
-        }
-        Map<IRI, Collection<IRI>> predObjMap = resTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<IRI> objects = predObjMap.get(predicate);
-            if (objects != null) {
-                if (objects.contains(object)) {
-                    if (consume) {
-                        objects.remove(object);
-                        if (objects.isEmpty()) {
-                            predObjMap.remove(predicate);
-                            if (predObjMap.isEmpty()) {
-                                resTriplesBySubject.remove(subject);
-                            }
-                        }
-                    }
-                    return true;
-                }
-                return false;
-            }
+        return isTriplePresent(resTriples, subject, predicate, iriIds.lookup(object), consume);
+    }
+
+    private boolean isTriplePresent(TripleTable triples, IRI subject, IRI predicate, int object, boolean consume) {
+        int s = iriIds.lookup(subject);
+        int p = iriIds.lookup(predicate);
+        if (s == IdDictionary.NONE || p == IdDictionary.NONE) {
+            return false;
         }
-        return false;// searchGeneralResourceTriples(subject, predicate, object, consume) != null;
+        // for single valued predicates the object is not compared
+        return triples.contains(s, p, object, consume);
     }
 
 
@@ -2273,100 +2378,49 @@ public class OWLRDFConsumer implements RDFConsumer {
 
 
     public boolean isTriplePresent(IRI subject, IRI predicate, OWLLiteral object, boolean consume) {
-        Map<IRI, OWLLiteral> subjPredMap = singleValuedLitTriplesByPredicate.get(predicate);
-        if (subjPredMap != null) {
-            OWLLiteral obj = subjPredMap.get(subject);
-            if (consume) {
-                subjPredMap.remove(subject);
-            }
-            return obj != null;
-        }
-        Map<IRI, Collection<OWLLiteral>> predObjMap = litTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<OWLLiteral> objects = predObjMap.get(predicate);
-            if (objects != null) {
-                if (objects.contains(object)) {
-                    if (consume) {
-                        objects.remove(object);
-                        if (objects.isEmpty()) {
-                            predObjMap.remove(predicate);
-                            if (predObjMap.isEmpty()) {
-                                litTriplesBySubject.remove(subject);
-                            }
-                        }
-                    }
-                    return true;
-                }
-                return false;
-            }
-        }
-        return false;
+        return isTriplePresent(litTriples, subject, predicate, literalIds.lookup(object), consume);
     }
 
 
     public boolean hasPredicate(IRI subject, IRI predicate) {
-        Map<IRI, IRI> resPredMap = singleValuedResTriplesByPredicate.get(predicate);
-        if (resPredMap != null) {
-            return resPredMap.containsKey(subject);
-        }
-        Map<IRI, OWLLiteral> litPredMap = singleValuedLitTriplesByPredicate.get(predicate);
-        if (litPredMap != null) {
-            return litPredMap.containsKey(subject);
-        }
-        Map<IRI, Collection<IRI>> resPredObjMap = resTriplesBySubject.get(subject);
-        if (resPredObjMap != null) {
-            boolean b = resPredObjMap.containsKey(predicate);
-            if (b) {
-                return true;
-            }
-        }
-        Map<IRI, Collection<OWLLiteral>> litPredObjMap = litTriplesBySubject.get(subject);
-        if (litPredObjMap != null) {
-            return litPredObjMap.containsKey(predicate);
+        int s = iriIds.lookup(subject);
+        int p = iriIds.lookup(predicate);
+        if (s == IdDictionary.NONE || p == IdDictionary.NONE) {
+            return false;
         }
-        return false;
+        return resTriples.hasPredicate(s, p) || litTriples.hasPredicate(s, p);
     }
 
 
     ///////////////////////////////////////////////////////////////////////////////////////////////////////
 
     public void addRest(IRI subject, IRI object) {
-        listRestTripleMap.put(subject, object);
+        listTriples.add(iriIds.getId(subject), iriIds.getId(RDF_REST.getIRI()), iriIds.getId(object));
     }
 
 
     public void addFirst(IRI subject, IRI object) {
-        listFirstResourceTripleMap.put(subject, object);
+        listTriples.add(iriIds.getId(subject), iriIds.getId(RDF_FIRST.getIRI()), iriIds.getId(object));
     }
 
 
     public IRI getFirstResource(IRI subject, boolean consume) {
-        if (consume) {
-            return listFirstResourceTripleMap.remove(subject);
-        }
-        else {
-            return listFirstResourceTripleMap.get(subject);
-        }
+        return getObject(listTriples, iriIds, subject, RDF_FIRST.getIRI(), consume);
     }
 
 
     public OWLLiteral getFirstLiteral(IRI subject) {
-        return listFirstLiteralTripleMap.get(subject);
+        return getObject(listLiteralTriples, literalIds, subject, RDF_FIRST.getIRI(), false);
     }
 
 
     public IRI getRest(IRI subject, boolean consume) {
-        if (consume) {
-            return listRestTripleMap.remove(subject);
-        }
-        else {
-            return listRestTripleMap.get(subject);
-        }
+        return getObject(listTriples, iriIds, subject, RDF_REST.getIRI(), consume);
     }
 
 
     public void addFirst(IRI subject, OWLLiteral object) {
-        listFirstLiteralTripleMap.put(subject, object);
+        listLiteralTriples.add(iriIds.getId(subject), iriIds.getId(RDF_FIRST.getIRI()), literalIds.getId(object));
     }
 
 
@@ -2382,17 +2436,17 @@ public class OWLRDFConsumer implements RDFConsumer {
     }
 
     public void addAxiom(IRI axiomIRI) {
-        axioms.add(axiomIRI);
+        set(axioms, axiomIRI);
     }
 
 
     public boolean isAxiom(IRI iri) {
-        return axioms.contains(iri);
+        return contains(axioms, iri);
     }
 
 
     public boolean isDataRange(IRI iri) {
-        return dataRangeIRIs.contains(iri);
+        return contains(dataRangeIRIs, iri);
     }
 
     public OWLOntologyLoaderConfiguration getConfiguration() {
@@ -2427,34 +2481,18 @@ public class OWLRDFConsumer implements RDFConsumer {
     }
 
     public <E extends Throwable> void iterateResourceTriples(ResourceTripleIterator<E> iterator) throws E {
-        for (IRI subject : new ArrayList<IRI>(resTriplesBySubject.keySet())) {
-            Map<IRI, Collection<IRI>> map = resTriplesBySubject.get(subject);
-            if (map == null) {
-                continue;
-            }
-            for (IRI predicate : new ArrayList<IRI>(map.keySet())) {
-                Collection<IRI> objects = map.get(predicate);
-                if (objects == null) {
-                    continue;
-                }
-                for (IRI object : new ArrayList<IRI>(objects)) {
-                    iterator.handleResourceTriple(subject, predicate, object);
-                }
+        // triples added while iterating are not visited
+        for (int i = 0, n = resTriples.slots(); i < n; i++) {
+            if (resTriples.isLive(i)) {
+                iterator.handleResourceTriple(iriIds.get(resTriples.getSubject(i)), iriIds.get(resTriples.getPredicate(i)), iriIds.get(resTriples.getObject(i)));
             }
         }
     }
 
     public <E extends Throwable> void iterateLiteralTriples(LiteralTripleIterator<E> iterator) throws E {
-        for (IRI subject : new ArrayList<IRI>(litTriplesBySubject.keySet())) {
-            Map<IRI, Collection<OWLLiteral>> map = litTriplesBySubject.get(subject);
-            if (map == null) {
-                continue;
-            }
-            for (IRI predicate : new ArrayList<IRI>(map.keySet())) {
-                Collection<OWLLiteral> objects = map.get(predicate);
-                for (OWLLiteral object : new ArrayList<OWLLiteral>(objects)) {
-                    iterator.handleLiteralTriple(subject, predicate, object);
-                }
+        for (int i = 0, n = litTriples.slots(); i < n; i++) {
+            if (litTriples.isLive(i)) {
+                iterator.handleLiteralTriple(iriIds.get(litTriples.getSubject(i)), iriIds.get(litTriples.getPredicate(i)), literalIds.get(litTriples.getObject(i)));
             }
         }
     }
@@ -2462,64 +2500,30 @@ public class OWLRDFConsumer implements RDFConsumer {
     /*
         Originally we had a special Triple class, which was specialised into ResourceTriple and
         LiteralTriple - this was used to store triples.  However, with very large ontologies this
-        proved to be inefficient in terms of memory usage.  Now we just store raw subjects, predicates and
-        object directly in varous maps.
+        proved to be inefficient in terms of memory usage.  After that, raw subjects, predicates and
+        objects were stored in nested maps, which still took more memory than the parsed ontology.
+        Now IRIs and literals are given int ids, and triples are rows of ids in a TripleTable.
      */
 
-    // Resource triples
+    // IRI ids, shared by the triple tables and the type bit sets above
+    private final IdDictionary<IRI> iriIds = new IdDictionary<IRI>();
 
-    // Subject, predicate, object
+    // Literal ids, for the objects of literal triples
+    private final IdDictionary<OWLLiteral> literalIds = new IdDictionary<OWLLiteral>();
 
-    private Map<IRI, Map<IRI, Collection<IRI>>> resTriplesBySubject = CollectionFactory.createMap();
-
-    // Predicate, subject, object
-    private Map<IRI, Map<IRI, IRI>> singleValuedResTriplesByPredicate = CollectionFactory.createMap();
+    // Resource triples; owl:onProperty and owl:someValuesFrom are single valued
+    private final TripleTable resTriples = new TripleTable();
 
     // Literal triples
-    private Map<IRI, Map<IRI, Collection<OWLLiteral>>> litTriplesBySubject = CollectionFactory.createMap();
-
-    // Predicate, subject, object
-    private Map<IRI, Map<IRI, OWLLiteral>> singleValuedLitTriplesByPredicate = CollectionFactory.createMap();
+    private final TripleTable litTriples = new TripleTable();
 
     public void addTriple(IRI subject, IRI predicate, IRI object) {
-        Map<IRI, IRI> subjObjMap = singleValuedResTriplesByPredicate.get(predicate);
-        if (subjObjMap != null) {
-            subjObjMap.put(subject, object);
-        }
-        else {
-            Map<IRI, Collection<IRI>> map = resTriplesBySubject.get(subject);
-            if (map == null) {
-                map = CollectionFactory.createMap();
-                resTriplesBySubject.put(subject, map);
-            }
-            Collection<IRI> objects = map.get(predicate);
-            if (objects == null) {
-                objects = new HashSet<IRI>();
-                map.put(predicate, objects);
-            }
-            objects.add(object);
-        }
+        resTriples.add(iriIds.getId(subject), iriIds.getId(predicate), iriIds.getId(object));
     }
 
 
     public void addTriple(IRI subject, IRI predicate, OWLLiteral con) {
-        Map<IRI, OWLLiteral> subjObjMap = singleValuedLitTriplesByPredicate.get(predicate);
-        if (subjObjMap != null) {
-            subjObjMap.put(subject, con);
-        }
-        else {
-            Map<IRI, Collection<OWLLiteral>> map = litTriplesBySubject.get(subject);
-            if (map == null) {
-                map = CollectionFactory.createMap();
-                litTriplesBySubject.put(subject, map);
-            }
-            Collection<OWLLiteral> objects = map.get(predicate);
-            if (objects == null) {
-                objects = new HashSet<OWLLiteral>();
-                map.put(predicate, objects);
-            }
-            objects.add(con);
-        }
+        litTriples.add(iriIds.getId(subject), iriIds.getId(predicate), literalIds.getId(con));
     }
 
 
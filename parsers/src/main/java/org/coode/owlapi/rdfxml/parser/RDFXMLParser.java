@@ -90,6 +90,15 @@ public class RDFXMLParser extends AbstractOWLParser {
                 public void startElement(String namespaceIRI, String localName, String qName, Attributes atts) throws SAXException {
                     super.startElement(namespaceIRI, localName, qName, atts);
                 }
+
+                @Override
+                protected void endTopLevelNodeElement(String subjectIRI) throws SAXException {
+                    try {
+                        ((OWLRDFConsumer) m_consumer).endSubjectBlock();
+                    } catch (UnloadableImportException e) {
+                        throw new TranslatedUnloadedImportException(e);
+                    }
+                }
             };
             IRIProvider prov = new IRIProvider() {
                 @Override
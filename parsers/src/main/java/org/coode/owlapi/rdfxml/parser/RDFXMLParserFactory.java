@@ -39,8 +39,9 @@
 
 package org.coode.owlapi.rdfxml.parser;
 
+import org.semanticweb.owlapi.io.DocumentStart;
 import org.semanticweb.owlapi.io.OWLParser;
-import org.semanticweb.owlapi.io.OWLParserFactory;
+import org.semanticweb.owlapi.io.SniffingOWLParserFactory;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 
 
@@ -50,10 +51,19 @@ import org.semanticweb.owlapi.model.OWLOntologyManager;
  * Bio-Health Informatics Group<br>
  * Date: 08-Dec-2006<br><br>
  */
-public class RDFXMLParserFactory implements OWLParserFactory {
+public class RDFXMLParserFactory implements SniffingOWLParserFactory {
 
     @Override
     public OWLParser createParser(OWLOntologyManager owlOntologyManager) {
         return new RDFXMLParser();
     }
+
+    @Override
+    public boolean recognises(DocumentStart start) {
+        if (start.isContentAvailable()) {
+            return "RDF".equals(start.getXMLRootElementLocalName());
+        }
+        String extension = start.getExtension();
+        return "rdf".equals(extension) || "owl".equals(extension);
+    }
 }
@@ -87,42 +87,53 @@ public class TPImportsHandler extends TriplePredicateHandler {
         if (!getConsumer().getConfiguration().isIgnoredImport(object)) {
             OWLOntologyManager man = getConsumer().getOWLOntologyManager();
             man.makeLoadImportRequest(importsDeclaration, getConsumer().getConfiguration());
+            if (getConsumer().getConfiguration().getImportsLoadingExecutor() != null) {
+                // the import might still be loading; it is not needed until all triples have been parsed
+                getConsumer().addPendingImport(importsDeclaration);
+            } else {
+                importLoaded(importsDeclaration);
+            }
+        }
 
+    }
 
-            OWLOntology importedOntology = man.getImportedOntology(importsDeclaration);
-            if (importedOntology != null) {
-                OWLOntologyFormat importedOntologyFormat = man.getOntologyFormat(importedOntology);
-                if (importedOntologyFormat instanceof RDFOntologyFormat) {
-                    if (importedOntology.isAnonymous()) {
-                        OWLOntologyLoaderConfiguration.MissingOntologyHeaderStrategy missingOntologyHeaderStrategy = getConsumer().getConfiguration().getMissingOntologyHeaderStrategy();
-                        boolean includeGraph = missingOntologyHeaderStrategy.equals(OWLOntologyLoaderConfiguration.MissingOntologyHeaderStrategy.INCLUDE_GRAPH);
-
-                        if (includeGraph) {
-                            // We should have just included the triples rather than imported them. So,
-                            // we remove the imports statement, add the axioms from the imported ontology to
-                            // out importing ontology and remove the imported ontology.
-                            // WHO EVER THOUGHT THAT THIS WAS A GOOD IDEA?
-                            man.applyChange(new RemoveImport(getConsumer().getOntology(), importsDeclaration));
-
-                            for (OWLImportsDeclaration decl : importedOntology.getImportsDeclarations()) {
-                                man.applyChange(new AddImport(getConsumer().getOntology(), decl));
-                            }
-                            for (OWLAnnotation anno : importedOntology.getAnnotations()) {
-                                man.applyChange(new AddOntologyAnnotation(getConsumer().getOntology(), anno));
-                            }
-                            for (OWLAxiom ax : importedOntology.getAxioms()) {
-                                getConsumer().addAxiom(ax);
-                            }
-                            man.removeOntology(importedOntology);
+    /**
+     * Includes the imported ontology if it has no header, and caches the entities in the imports closure.
+     * @param importsDeclaration the declaration of the loaded import
+     */
+    public void importLoaded(OWLImportsDeclaration importsDeclaration) {
+        OWLOntologyManager man = getConsumer().getOWLOntologyManager();
+        OWLOntology importedOntology = man.getImportedOntology(importsDeclaration);
+        if (importedOntology != null) {
+            OWLOntologyFormat importedOntologyFormat = man.getOntologyFormat(importedOntology);
+            if (importedOntologyFormat instanceof RDFOntologyFormat) {
+                if (importedOntology.isAnonymous()) {
+                    OWLOntologyLoaderConfiguration.MissingOntologyHeaderStrategy missingOntologyHeaderStrategy = getConsumer().getConfiguration().getMissingOntologyHeaderStrategy();
+                    boolean includeGraph = missingOntologyHeaderStrategy.equals(OWLOntologyLoaderConfiguration.MissingOntologyHeaderStrategy.INCLUDE_GRAPH);
+
+                    if (includeGraph) {
+                        // We should have just included the triples rather than imported them. So,
+                        // we remove the imports statement, add the axioms from the imported ontology to
+                        // out importing ontology and remove the imported ontology.
+                        // WHO EVER THOUGHT THAT THIS WAS A GOOD IDEA?
+                        man.applyChange(new RemoveImport(getConsumer().getOntology(), importsDeclaration));
+
+                        for (OWLImportsDeclaration decl : importedOntology.getImportsDeclarations()) {
+                            man.applyChange(new AddImport(getConsumer().getOntology(), decl));
                         }
-
+                        for (OWLAnnotation anno : importedOntology.getAnnotations()) {
+                            man.applyChange(new AddOntologyAnnotation(getConsumer().getOntology(), anno));
+                        }
+                        for (OWLAxiom ax : importedOntology.getAxioms()) {
+                            getConsumer().addAxiom(ax);
+                        }
+                        man.removeOntology(importedOntology);
                     }
+
                 }
             }
-
-            getConsumer().importsClosureChanged();
-
         }
 
+        getConsumer().importsClosureChanged();
     }
 }
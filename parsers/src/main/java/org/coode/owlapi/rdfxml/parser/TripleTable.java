@@ -0,0 +1,376 @@
+/*
+ * This file is part of the OWL API.
+ *
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ *
+ * Copyright (C) 2011, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0
+ * in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ *
+ * Copyright 2011, University of Manchester
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.coode.owlapi.rdfxml.parser;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A table of triples whose subjects, predicates and objects are ids from an
+ * {@link IdDictionary}. Triples are kept in parallel int arrays, one slot per
+ * triple; two indexes link the slots of triples sharing a subject and sharing
+ * a subject and predicate. Consumed triples are marked dead rather than
+ * removed, and are skipped by all lookups. This takes a small fraction of the
+ * memory of nested maps of sets, which matters because the unconsumed triples
+ * of a large RDF document are all held until the end of parsing.
+ * 
+ * @author ignazio
+ */
+class TripleTable {
+    private static final int NONE = IdDictionary.NONE;
+    private static final int[] EMPTY = new int[0];
+    private int[] subjects = EMPTY;
+    private int[] predicates = EMPTY;
+    // object ids, NONE for consumed triples
+    private int[] objects = EMPTY;
+    // next slot with the same subject, in reverse insertion order
+    private int[] nextForSubject = EMPTY;
+    // next slot with the same subject and predicate, in insertion order
+    private int[] nextForKey = EMPTY;
+    private int slots = 0;
+    private int count = 0;
+    // subject id -> most recent slot with that subject
+    private int[] lastForSubject = EMPTY;
+    // open addressing table of the first slot for each subject and predicate
+    private int[] keys = EMPTY;
+    private int keyCount = 0;
+    // predicates for which a new triple replaces the existing one
+    private final BitSet singleValued = new BitSet();
+
+    /**
+     * Declares a predicate as single valued: adding a triple with such a
+     * predicate replaces the object of an unconsumed triple with the same
+     * subject, and presence checks ignore the object.
+     * 
+     * @param predicate
+     *            the predicate id
+     */
+    void setSingleValued(int predicate) {
+        singleValued.set(predicate);
+    }
+
+    /**
+     * @param subject
+     *            subject id
+     * @param predicate
+     *            predicate id
+     * @param object
+     *            object id
+     * @return true if the triple was added, false if it was already present
+     */
+    boolean add(int subject, int predicate, int object) {
+        if (keyCount * 2 >= keys.length) {
+            rehash();
+        }
+        int pos = find(subject, predicate);
+        int last = NONE;
+        if (keys[pos] != NONE) {
+            for (int slot = keys[pos]; slot != NONE; slot = nextForKey[slot]) {
+                if (objects[slot] != NONE) {
+                    if (objects[slot] == object) {
+                        return false;
+                    }
+                    if (singleValued.get(predicate)) {
+                        objects[slot] = object;
+                        return true;
+                    }
+                }
+                last = slot;
+            }
+        }
+        int slot = newSlot(subject, predicate, object);
+        if (last == NONE) {
+            keys[pos] = slot;
+            keyCount++;
+        } else {
+            nextForKey[last] = slot;
+        }
+        return true;
+    }
+
+    /**
+     * @param subject
+     *            subject id
+     * @param predicate
+     *            predicate id
+     * @param consume
+     *            true if the triple should be marked as consumed
+     * @return the object of the first unconsumed triple with the subject and
+     *         predicate, or NONE
+     */
+    int getObject(int subject, int predicate, boolean consume) {
+        int pos = find(subject, predicate);
+        for (int slot = keys[pos]; slot != NONE; slot = nextForKey[slot]) {
+            int object = objects[slot];
+            if (object != NONE) {
+                if (consume) {
+                    consume(pos, slot);
+                }
+                return object;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * @param subject
+     *            subject id
+     * @param predicate
+     *            predicate id
+     * @return the objects of all unconsumed triples with the subject and
+     *         predicate
+     */
+    int[] getObjects(int subject, int predicate) {
+        int[] result = EMPTY;
+        int n = 0;
+        for (int slot = keys[find(subject, predicate)]; slot != NONE; slot = nextForKey[slot]) {
+            if (objects[slot] != NONE) {
+                if (n == result.length) {
+                    result = Arrays.copyOf(result, Math.max(4, n * 2));
+                }
+                result[n++] = objects[slot];
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * @param subject
+     *            subject id
+     * @param predicate
+     *            predicate id
+     * @param object
+     *            object id; ignored for single valued predicates
+     * @param consume
+     *            true if a matching triple should be marked as consumed
+     * @return true if an unconsumed matching triple exists
+     */
+    boolean contains(int subject, int predicate, int object, boolean consume) {
+        if (singleValued.get(predicate)) {
+            return getObject(subject, predicate, consume) != NONE;
+        }
+        int pos = find(subject, predicate);
+        for (int slot = keys[pos]; slot != NONE; slot = nextForKey[slot]) {
+            if (objects[slot] == object && object != NONE) {
+                if (consume) {
+                    consume(pos, slot);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param subject
+     *            subject id
+     * @param predicate
+     *            predicate id
+     * @return true if an unconsumed triple with the subject and predicate
+     *         exists
+     */
+    boolean hasPredicate(int subject, int predicate) {
+        return getObject(subject, predicate, false) != NONE;
+    }
+
+    /**
+     * @param subject
+     *            subject id
+     * @return the predicates of the unconsumed triples with the subject; a
+     *         predicate appears once per triple
+     */
+    int[] getPredicates(int subject) {
+        if (subject >= lastForSubject.length) {
+            return EMPTY;
+        }
+        int[] result = EMPTY;
+        int n = 0;
+        for (int slot = lastForSubject[subject]; slot != NONE; slot = nextForSubject[slot]) {
+            if (objects[slot] != NONE) {
+                if (n == result.length) {
+                    result = Arrays.copyOf(result, Math.max(4, n * 2));
+                }
+                result[n++] = predicates[slot];
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * @return the number of slots in use; slots are numbered from 0 in
+     *         insertion order, and consumed triples keep their slot
+     */
+    int slots() {
+        return slots;
+    }
+
+    /** @return the number of unconsumed triples */
+    int size() {
+        return count;
+    }
+
+    /**
+     * @param slot
+     *            slot number
+     * @return true if the triple in the slot has not been consumed
+     */
+    boolean isLive(int slot) {
+        return objects[slot] != NONE;
+    }
+
+    int getSubject(int slot) {
+        return subjects[slot];
+    }
+
+    int getPredicate(int slot) {
+        return predicates[slot];
+    }
+
+    int getObject(int slot) {
+        return objects[slot];
+    }
+
+    /** removes all triples */
+    void clear() {
+        subjects = EMPTY;
+        predicates = EMPTY;
+        objects = EMPTY;
+        nextForSubject = EMPTY;
+        nextForKey = EMPTY;
+        lastForSubject = EMPTY;
+        keys = EMPTY;
+        slots = 0;
+        count = 0;
+        keyCount = 0;
+    }
+
+    /**
+     * Drops the consumed triples, releasing their memory. The remaining
+     * triples keep their order but are renumbered, so slot numbers obtained
+     * before compacting are no longer valid.
+     */
+    void compact() {
+        int[] oldSubjects = subjects;
+        int[] oldPredicates = predicates;
+        int[] oldObjects = objects;
+        int oldSlots = slots;
+        clear();
+        for (int slot = 0; slot < oldSlots; slot++) {
+            if (oldObjects[slot] != NONE) {
+                add(oldSubjects[slot], oldPredicates[slot], oldObjects[slot]);
+            }
+        }
+    }
+
+    private void consume(int pos, int slot) {
+        objects[slot] = NONE;
+        count--;
+        // skip the consumed head, so that consuming in insertion order
+        // does not rescan dead slots
+        if (keys[pos] == slot && nextForKey[slot] != NONE) {
+            keys[pos] = nextForKey[slot];
+        }
+    }
+
+    private int newSlot(int subject, int predicate, int object) {
+        if (slots == subjects.length) {
+            int capacity = Math.max(16, slots + (slots >> 1));
+            subjects = Arrays.copyOf(subjects, capacity);
+            predicates = Arrays.copyOf(predicates, capacity);
+            objects = Arrays.copyOf(objects, capacity);
+            nextForSubject = Arrays.copyOf(nextForSubject, capacity);
+            nextForKey = Arrays.copyOf(nextForKey, capacity);
+        }
+        if (subject >= lastForSubject.length) {
+            int old = lastForSubject.length;
+            lastForSubject = Arrays.copyOf(lastForSubject,
+                    Math.max(subject + 1, old + (old >> 1)));
+            Arrays.fill(lastForSubject, old, lastForSubject.length, NONE);
+        }
+        int slot = slots++;
+        subjects[slot] = subject;
+        predicates[slot] = predicate;
+        objects[slot] = object;
+        nextForKey[slot] = NONE;
+        nextForSubject[slot] = lastForSubject[subject];
+        lastForSubject[subject] = slot;
+        count++;
+        return slot;
+    }
+
+    private static int hash(int subject, int predicate) {
+        int h = (subject * 31 + predicate) * 0x9E3779B9;
+        return h ^ h >>> 16;
+    }
+
+    /**
+     * @return the position of the subject and predicate in the key table, or
+     *         the empty position where they would go
+     */
+    private int find(int subject, int predicate) {
+        if (keys.length == 0) {
+            rehash();
+        }
+        int mask = keys.length - 1;
+        int i = hash(subject, predicate) & mask;
+        for (int slot = keys[i]; slot != NONE; slot = keys[i]) {
+            if (subjects[slot] == subject && predicates[slot] == predicate) {
+                return i;
+            }
+            i = i + 1 & mask;
+        }
+        return i;
+    }
+
+    private void rehash() {
+        int[] old = keys;
+        keys = new int[Math.max(64, old.length * 2)];
+        Arrays.fill(keys, NONE);
+        int mask = keys.length - 1;
+        for (int slot : old) {
+            if (slot != NONE) {
+                int i = hash(subjects[slot], predicates[slot]) & mask;
+                while (keys[i] != NONE) {
+                    i = i + 1 & mask;
+                }
+                keys[i] = slot;
+            }
+        }
+    }
+}
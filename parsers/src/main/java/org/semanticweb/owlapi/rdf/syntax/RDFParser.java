@@ -59,6 +59,7 @@ import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 
+import org.semanticweb.owlapi.io.SAXParserPool;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.NodeID;
 import org.semanticweb.owlapi.rdf.util.RDFConstants;
@@ -77,6 +78,8 @@ import org.xml.sax.helpers.LocatorImpl;
 @SuppressWarnings({ "unused", "javadoc" })
 public class RDFParser extends DefaultHandler implements RDFConstants {
     protected static final Locator s_nullDocumentLocator = new LocatorImpl();
+    /** @deprecated parsers are now obtained from {@link SAXParserPool} */
+    @Deprecated
     protected static final SAXParserFactory s_parserFactory = SAXParserFactory
             .newInstance();
     private Map<String, String> resolvedIRIs = new HashMap<String, String>();
@@ -121,6 +124,7 @@ public class RDFParser extends DefaultHandler implements RDFConstants {
     public void parse(InputSource source, RDFConsumer consumer) throws SAXException,
             IOException {
         String systemID = source.getSystemId();
+        SAXParser parser = null;
         try {
             m_documentLocator = s_nullDocumentLocator;
             if (systemID != null) {
@@ -131,7 +135,7 @@ public class RDFParser extends DefaultHandler implements RDFConstants {
             }
             m_consumer = consumer;
             m_consumer.startModel(m_baseIRI.toString());
-            SAXParser parser = s_parserFactory.newSAXParser();
+            parser = SAXParserPool.acquire();
             parser.parse(source, this);
             m_consumer.endModel();
         } catch (ParserConfigurationException e) {
@@ -140,6 +144,7 @@ public class RDFParser extends DefaultHandler implements RDFConstants {
             throw new SAXException("Invalid SystemID '" + systemID
                     + "'of the supplied input source.");
         } finally {
+            SAXParserPool.release(parser);
             m_state = null;
             m_states.clear();
             m_documentLocator = null;
@@ -259,6 +264,16 @@ public class RDFParser extends DefaultHandler implements RDFConstants {
         }
     }
 
+    /** Called when a node element directly inside rdf:RDF ends; all the
+     * statements about the node and about the nodes nested in it have been
+     * passed to the consumer. Does nothing by default.
+     * 
+     * @param subjectIRI
+     *            the IRI of the node
+     * @throws SAXException
+     *             if the consumer fails */
+    protected void endTopLevelNodeElement(String subjectIRI) throws SAXException {}
+
     /** Pushes a new state on the state stack.
      * 
      * @param state
@@ -757,6 +772,9 @@ public class RDFParser extends DefaultHandler implements RDFConstants {
         public void endElement(String namespaceIRI, String localName, String qName)
                 throws SAXException {
             popState();
+            if (m_state instanceof NodeElementList) {
+                endTopLevelNodeElement(m_subjectIRI);
+            }
         }
 
         @Override
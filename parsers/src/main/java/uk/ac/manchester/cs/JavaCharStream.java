@@ -46,11 +46,16 @@ import java.io.UnsupportedEncodingException;
 
 import org.semanticweb.owlapi.model.OWLRuntimeException;
 
-/** JavaCC generated JavaCharStream with added treatment for BOMs */
+/** JavaCC generated JavaCharStream with added treatment for BOMs. The input
+ * is read in chunks of {@link #READ_BUFFER_SIZE} characters, and the token
+ * buffer grows geometrically, so that large documents and long tokens do not
+ * cause many small reads and copies. */
 @SuppressWarnings("javadoc")
 public class JavaCharStream {
     /** Whether parser is static. */
     public static final boolean staticFlag = false;
+    /** Number of characters requested from the reader at once. */
+    public static final int READ_BUFFER_SIZE = 1 << 16;
 
     private static final int hexval(char c) throws IOException {
         switch (c) {
@@ -124,9 +129,12 @@ public class JavaCharStream {
     }
 
     private void ExpandBuff(boolean wrapAround) {
-        char[] newbuffer = new char[bufsize + 2048];
-        int newbufline[] = new int[bufsize + 2048];
-        int newbufcolumn[] = new int[bufsize + 2048];
+        // double the buffer rather than growing it by a fixed amount, so that
+        // long literals are copied a logarithmic number of times
+        int increment = Math.max(bufsize, 2048);
+        char[] newbuffer = new char[bufsize + increment];
+        int newbufline[] = new int[bufsize + increment];
+        int newbufcolumn[] = new int[bufsize + increment];
             if (wrapAround) {
                 System.arraycopy(buffer, tokenBegin, newbuffer, 0, bufsize - tokenBegin);
                 System.arraycopy(buffer, 0, newbuffer, bufsize - tokenBegin, bufpos);
@@ -150,17 +158,18 @@ public class JavaCharStream {
                 bufpos -= tokenBegin;
             }
 
-        available = bufsize += 2048;
+        available = bufsize += increment;
         tokenBegin = 0;
     }
 
     private void FillBuff() throws IOException {
         int i;
-        if (maxNextCharInd == 4096) {
+        if (maxNextCharInd == READ_BUFFER_SIZE) {
             maxNextCharInd = nextCharInd = 0;
         }
         try {
-            if ((i = inputStream.read(nextCharBuf, maxNextCharInd, 4096 - maxNextCharInd)) == -1) {
+            if ((i = inputStream.read(nextCharBuf, maxNextCharInd,
+                    READ_BUFFER_SIZE - maxNextCharInd)) == -1) {
                 inputStream.close();
                 throw new IOException();
             } else {
@@ -168,8 +177,10 @@ public class JavaCharStream {
             }
             // this treats the BOM problem; when the parser is regenerated,
             // this needs to be applied again
-            if (beginning && nextCharBuf[0] == '\uFEFF') {
-                nextCharInd++;
+            if (beginning) {
+                if (nextCharBuf[0] == '\uFEFF') {
+                    nextCharInd++;
+                }
                 beginning = false;
             }
             return;
@@ -367,7 +378,7 @@ public class JavaCharStream {
         buffer = new char[buffersize];
         bufline = new int[buffersize];
         bufcolumn = new int[buffersize];
-        nextCharBuf = new char[4096];
+        nextCharBuf = new char[READ_BUFFER_SIZE];
     }
 
     /** Constructor. */
@@ -385,7 +396,7 @@ public class JavaCharStream {
             buffer = new char[buffersize];
             bufline = new int[buffersize];
             bufcolumn = new int[buffersize];
-            nextCharBuf = new char[4096];
+            nextCharBuf = new char[READ_BUFFER_SIZE];
         }
         prevCharIsLF = prevCharIsCR = false;
         tokenBegin = inBuf = maxNextCharInd = 0;
@@ -46,6 +46,7 @@ import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.model.OWLRuntimeException;
+import org.semanticweb.owlapi.model.UnloadableImportException;
 import org.xml.sax.SAXException;
 
 /**
@@ -86,10 +87,9 @@ public class OWLRDFConsumerAdapter extends OWLRDFConsumer implements TripleHandl
     @Override
     public void handleTriple(IRI subject, IRI predicate, IRI object) {
         try {
-            // XXX inefficient?
-            statementWithResourceValue(subject.toString(), predicate.toString(), object.toString());
+            statementWithResourceValue(subject, predicate, object);
         }
-        catch (SAXException e) {
+        catch (UnloadableImportException e) {
             throw new OWLRuntimeException(e);
         }
     }
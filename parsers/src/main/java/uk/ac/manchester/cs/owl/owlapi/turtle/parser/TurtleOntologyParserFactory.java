@@ -39,8 +39,9 @@
 
 package uk.ac.manchester.cs.owl.owlapi.turtle.parser;
 
+import org.semanticweb.owlapi.io.DocumentStart;
 import org.semanticweb.owlapi.io.OWLParser;
-import org.semanticweb.owlapi.io.OWLParserFactory;
+import org.semanticweb.owlapi.io.SniffingOWLParserFactory;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 
 
@@ -50,11 +51,20 @@ import org.semanticweb.owlapi.model.OWLOntologyManager;
  * Bio-Health Informatics Group<br>
  * Date: 24-Feb-2008<br><br>
  */
-public class TurtleOntologyParserFactory implements OWLParserFactory {
+public class TurtleOntologyParserFactory implements SniffingOWLParserFactory {
 
 
     @Override
 	public OWLParser createParser(OWLOntologyManager owlOntologyManager) {
         return new TurtleOntologyParser();
     }
+
+    @Override
+    public boolean recognises(DocumentStart start) {
+        if (start.isContentAvailable()) {
+            String statement = start.getFirstStatement('#');
+            return statement.startsWith("@prefix") || statement.startsWith("@base");
+        }
+        return "ttl".equals(start.getExtension());
+    }
 }